@@ -0,0 +1,64 @@
+// k6 load test of the redirect endpoint.
+//
+// Creates a set of short links through the API, then requests them at a constant arrival rate without
+// following the redirects. Run it once against an instance started with platform threads and once against
+// an instance started with the "virtual" profile, and compare the http_reqs rate and the p(99) of
+// http_req_duration in the summaries. See the "Load testing" section of the README.
+
+import http from 'k6/http';
+import { check, fail } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/url-shortener';
+const EMAIL = __ENV.EMAIL || 'user1@example.com';
+const PASSWORD = __ENV.PASSWORD || 'Pass1234';
+const LONG_URL = __ENV.LONG_URL || 'https://www.google.com';
+const LINKS = parseInt(__ENV.LINKS || '100');
+
+export const options = {
+    scenarios: {
+        redirects: {
+            executor: 'constant-arrival-rate',
+            rate: parseInt(__ENV.RATE || '2000'),
+            timeUnit: '1s',
+            duration: __ENV.DURATION || '2m',
+            preAllocatedVUs: parseInt(__ENV.VUS || '200'),
+            maxVUs: parseInt(__ENV.MAX_VUS || '2000'),
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        checks: ['rate>0.99'],
+    },
+};
+
+export function setup() {
+    const login = http.post(`${BASE_URL}/api/V1/auth/login`,
+        JSON.stringify({ email: EMAIL, password: PASSWORD }),
+        { headers: { 'Content-Type': 'application/json' } });
+    if (login.status !== 200) {
+        fail(`login failed with status ${login.status}`);
+    }
+    const headers = {
+        'Content-Type': 'application/json',
+        Authorization: `Bearer ${login.json('jwtToken')}`,
+    };
+
+    const shortLinks = [];
+    for (let i = 0; i < LINKS; i++) {
+        const created = http.post(`${BASE_URL}/api/V1/link/create`,
+            JSON.stringify({ longLink: LONG_URL }), { headers });
+        if (created.status !== 200) {
+            fail(`link creation failed with status ${created.status}`);
+        }
+        shortLinks.push(created.json('shortLink'));
+    }
+    return { shortLinks };
+}
+
+export default function (data) {
+    const shortLink = data.shortLinks[Math.floor(Math.random() * data.shortLinks.length)];
+    const response = http.get(`${BASE_URL}/${shortLink}`, { redirects: 0, tags: { name: 'redirect' } });
+    check(response, {
+        'is 302': (r) => r.status === 302,
+    });
+}
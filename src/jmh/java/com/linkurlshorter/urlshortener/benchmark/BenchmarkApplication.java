@@ -0,0 +1,62 @@
+package com.linkurlshorter.urlshortener.benchmark;
+
+import com.linkurlshorter.urlshortener.UrlShortenerApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Starts the application for benchmarks: without the web server, on the in-memory H2 database of the
+ * {@code dev} profile and with the {@link InMemoryJedisPool} in place of Redis.
+ *
+ * <p>Scheduled jobs are pushed out of the measurement window.
+ */
+@Configuration(proxyBeanMethods = false)
+public class BenchmarkApplication {
+
+    /**
+     * Creates the in-memory Redis stand-in, used instead of the pool configured in
+     * {@link com.linkurlshorter.urlshortener.config.JedisConfig}.
+     *
+     * @return the in-memory pool
+     */
+    @Bean
+    @Primary
+    public InMemoryJedisPool inMemoryJedisPool() {
+        return new InMemoryJedisPool();
+    }
+
+    /**
+     * Starts the application context.
+     *
+     * @param args additional command line arguments, e.g. {@code --link.codes.strategy=sequence}
+     * @return the started context
+     */
+    public static ConfigurableApplicationContext start(String... args) {
+        List<String> arguments = new ArrayList<>(List.of("--spring.profiles.active=dev",
+                "--redis.pool.min-idle=0",
+                "--link.clicks.flush-interval-ms=3600000",
+                "--link.clicks.reconcile-interval-ms=3600000",
+                "--logging.level.root=WARN"));
+        arguments.addAll(List.of(args));
+        return new SpringApplicationBuilder(UrlShortenerApplication.class, BenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(arguments.toArray(String[]::new));
+    }
+
+    /**
+     * Returns the in-memory pool of a context started by {@link #start()}.
+     *
+     * @param context the started context
+     * @return the in-memory pool
+     */
+    public static InMemoryJedisPool jedisPool(ConfigurableApplicationContext context) {
+        return context.getBean(InMemoryJedisPool.class);
+    }
+}
@@ -0,0 +1,134 @@
+package com.linkurlshorter.urlshortener.benchmark;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.args.BitOP;
+import redis.clients.jedis.params.SetParams;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory stand-in for a Redis connection, used by the benchmarks instead of a Redis server.
+ *
+ * <p>Only the key-value commands used on the redirect path and the {@code OR} and {@code u1} bit commands of the
+ * short link Bloom filter are implemented; expiration times are ignored.
+ * Every other command fails, because the connection is never opened.
+ */
+public class InMemoryJedis extends Jedis {
+
+    private final ConcurrentMap<ByteBuffer, byte[]> values = new ConcurrentHashMap<>();
+
+    @Override
+    public byte[] get(byte[] key) {
+        return values.get(ByteBuffer.wrap(key));
+    }
+
+    @Override
+    public String set(byte[] key, byte[] value) {
+        values.put(ByteBuffer.wrap(key.clone()), value);
+        return "OK";
+    }
+
+    @Override
+    public String set(byte[] key, byte[] value, SetParams params) {
+        return set(key, value);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return values.containsKey(wrap(key));
+    }
+
+    @Override
+    public String rename(String oldKey, String newKey) {
+        byte[] value = values.remove(wrap(oldKey));
+        if (value != null) {
+            values.put(wrap(newKey), value);
+        }
+        return "OK";
+    }
+
+    @Override
+    public long unlink(String key) {
+        return values.remove(wrap(key)) == null ? 0 : 1;
+    }
+
+    @Override
+    public long del(String key) {
+        return unlink(key);
+    }
+
+    /**
+     * Reads and sets single bits ({@code u1} fields) of a bitmap.
+     */
+    @Override
+    public List<Long> bitfield(String key, String... arguments) {
+        List<Long> results = new ArrayList<>();
+        synchronized (values) {
+            byte[] bitmap = values.getOrDefault(wrap(key), new byte[0]);
+            for (int i = 0; i < arguments.length; i += 3) {
+                long offset = Long.parseLong(arguments[i + 2]);
+                int index = (int) (offset >>> 3);
+                int mask = 0x80 >>> (offset & 7);
+                results.add(index < bitmap.length && (bitmap[index] & mask) != 0 ? 1L : 0L);
+                if ("SET".equalsIgnoreCase(arguments[i])) {
+                    if (index >= bitmap.length) {
+                        bitmap = Arrays.copyOf(bitmap, index + 1);
+                    }
+                    bitmap[index] |= (byte) mask;
+                    i++;
+                }
+            }
+            values.put(wrap(key), bitmap);
+        }
+        return results;
+    }
+
+    @Override
+    public long bitop(BitOP op, String destKey, String... srcKeys) {
+        synchronized (values) {
+            byte[] result = new byte[0];
+            for (String srcKey : srcKeys) {
+                byte[] source = values.getOrDefault(wrap(srcKey), new byte[0]);
+                if (source.length > result.length) {
+                    result = Arrays.copyOf(result, source.length);
+                }
+                for (int i = 0; i < source.length; i++) {
+                    result[i] |= source[i];
+                }
+            }
+            values.put(wrap(destKey), result);
+            return result.length;
+        }
+    }
+
+    @Override
+    public long bitcount(String key) {
+        long count = 0;
+        for (byte value : values.getOrDefault(wrap(key), new byte[0])) {
+            count += Integer.bitCount(value & 0xFF);
+        }
+        return count;
+    }
+
+    /**
+     * Removes all stored values.
+     */
+    public void clear() {
+        values.clear();
+    }
+
+    @Override
+    public void close() {
+        // the connection is shared and never opened
+    }
+
+    private static ByteBuffer wrap(String key) {
+        return ByteBuffer.wrap(key.getBytes(StandardCharsets.UTF_8));
+    }
+}
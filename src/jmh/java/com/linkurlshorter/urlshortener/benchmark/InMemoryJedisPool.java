@@ -0,0 +1,27 @@
+package com.linkurlshorter.urlshortener.benchmark;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+
+/**
+ * Pool handing out a single shared {@link InMemoryJedis}, so benchmarks measure the application code rather
+ * than the network round trip to Redis.
+ */
+public class InMemoryJedisPool extends JedisPool {
+
+    private final InMemoryJedis jedis = new InMemoryJedis();
+
+    @Override
+    public Jedis getResource() {
+        return jedis;
+    }
+
+    /**
+     * Returns the shared in-memory connection.
+     *
+     * @return the in-memory connection
+     */
+    public InMemoryJedis jedis() {
+        return jedis;
+    }
+}
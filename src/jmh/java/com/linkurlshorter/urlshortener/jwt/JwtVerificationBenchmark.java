@@ -0,0 +1,157 @@
+package com.linkurlshorter.urlshortener.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the verification of a JWT token with a parser built for every token, as done before, with a shared
+ * parser and with the {@link JwtVerifier} and its cache of verified tokens.
+ *
+ * <p>Each invocation verifies the next of {@code tokens} distinct tokens, so the hit ratio of the cache depends on
+ * the number of tokens compared to the cache size. The cache hits and misses of the verifier in each iteration are
+ * reported as the {@code cacheHits} and {@code cacheMisses} secondary results of {@link #cachedVerifier}, the hit
+ * ratio being {@code cacheHits / (cacheHits + cacheMisses)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtVerificationBenchmark {
+
+    private static final int CACHE_SIZE = 10_000;
+
+    @Param({"100", "100000"})
+    private int tokens;
+
+    private SecretKey key;
+    private JwtParser sharedParser;
+    private JwtVerifier verifier;
+    private MeterRegistry registry;
+    private String[] signedTokens;
+    private int next;
+
+    /**
+     * Signs the tokens and creates the parser and the verifier.
+     */
+    @Setup
+    public void setUp() {
+        key = Jwts.SIG.HS256.key().build();
+        sharedParser = Jwts.parser().verifyWith(key).build();
+        String keys = "k1:" + Base64.getEncoder().encodeToString(key.getEncoded());
+        verifier = new JwtVerifier(new JwtKeyRing(keys, "", Duration.ofMinutes(35)), CACHE_SIZE);
+        registry = new SimpleMeterRegistry();
+        verifier.bindTo(registry);
+        signedTokens = new String[tokens];
+        for (int i = 0; i < tokens; i++) {
+            signedTokens[i] = Jwts.builder()
+                    .header().keyId("k1").and()
+                    .subject("user" + i + "@example.com")
+                    .claim("uid", UUID.randomUUID().toString())
+                    .claim("role", "USER")
+                    .issuedAt(new Date())
+                    .expiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                    .signWith(key)
+                    .compact();
+        }
+    }
+
+    /**
+     * Verifies a token with a parser built for the token.
+     *
+     * @return the claims of the token
+     */
+    @Benchmark
+    public Claims newParser() {
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(nextToken()).getPayload();
+    }
+
+    /**
+     * Verifies a token with a shared parser.
+     *
+     * @return the claims of the token
+     */
+    @Benchmark
+    public Claims sharedParser() {
+        return sharedParser.parseSignedClaims(nextToken()).getPayload();
+    }
+
+    /**
+     * Verifies a token with the verifier, answering tokens verified before from its cache.
+     *
+     * @param counters the cache hits and misses of the iteration
+     * @return the claims of the token
+     */
+    @Benchmark
+    public Claims cachedVerifier(CacheCounters counters) {
+        return verifier.verify(nextToken());
+    }
+
+    private String nextToken() {
+        String token = signedTokens[next];
+        next = next + 1 == tokens ? 0 : next + 1;
+        return token;
+    }
+
+    private long cacheGets(String result) {
+        return (long) registry.get("cache.gets").tag("result", result).functionCounter().count();
+    }
+
+    /**
+     * Cache hits and misses of the verifier in an iteration, taken from its cache meters so that counting them
+     * adds nothing to the measured invocations. The cache is shared, so they are exact with a single thread.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class CacheCounters {
+
+        public long cacheHits;
+        public long cacheMisses;
+
+        private long startHits;
+        private long startMisses;
+
+        /**
+         * Remembers the cache hits and misses before the iteration.
+         *
+         * @param benchmark the benchmark holding the verifier
+         */
+        @Setup(Level.Iteration)
+        public void start(JwtVerificationBenchmark benchmark) {
+            cacheHits = 0;
+            cacheMisses = 0;
+            startHits = benchmark.cacheGets("hit");
+            startMisses = benchmark.cacheGets("miss");
+        }
+
+        /**
+         * Counts the cache hits and misses of the iteration.
+         *
+         * @param benchmark the benchmark holding the verifier
+         */
+        @TearDown(Level.Iteration)
+        public void stop(JwtVerificationBenchmark benchmark) {
+            cacheHits = benchmark.cacheGets("hit") - startHits;
+            cacheMisses = benchmark.cacheGets("miss") - startMisses;
+        }
+    }
+}
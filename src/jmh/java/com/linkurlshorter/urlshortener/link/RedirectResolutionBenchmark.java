@@ -0,0 +1,98 @@
+package com.linkurlshorter.urlshortener.link;
+
+import com.linkurlshorter.urlshortener.benchmark.BenchmarkApplication;
+import com.linkurlshorter.urlshortener.benchmark.InMemoryJedis;
+import com.linkurlshorter.urlshortener.link.cache.LinkCache;
+import com.linkurlshorter.urlshortener.link.model.Link;
+import com.linkurlshorter.urlshortener.user.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the full resolution of a short link by {@link LinkService#getLongLinkFromShortLink(String)},
+ * from each cache level.
+ *
+ * <p>The application runs on the in-memory H2 database with an in-memory stand-in for Redis, see
+ * {@link BenchmarkApplication}, so the results show the cost of the application code on each path rather
+ * than of the network.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RedirectResolutionBenchmark {
+
+    private static final String SHORT_LINK = "benchmark1";
+
+    private ConfigurableApplicationContext context;
+    private LinkService linkService;
+    private LinkCache linkCache;
+    private InMemoryJedis jedis;
+
+    /**
+     * Starts the application and creates the link to resolve.
+     */
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        linkService = context.getBean(LinkService.class);
+        linkCache = context.getBean(LinkCache.class);
+        jedis = BenchmarkApplication.jedisPool(context).jedis();
+        linkService.save(Link.builder()
+                .longLink("https://www.youtube.com")
+                .shortLink(SHORT_LINK)
+                .expirationTime(LocalDateTime.now().plusDays(30))
+                .user(context.getBean(UserRepository.class).findByEmail("user1@example.com").orElseThrow())
+                .build());
+    }
+
+    /**
+     * Stops the application.
+     */
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Resolves a link found in the in-process cache.
+     *
+     * @return the long link
+     */
+    @Benchmark
+    public String resolveFromInProcessCache() {
+        return linkService.getLongLinkFromShortLink(SHORT_LINK);
+    }
+
+    /**
+     * Resolves a link found in Redis but not in the in-process cache.
+     *
+     * @return the long link
+     */
+    @Benchmark
+    public String resolveFromRedis() {
+        linkCache.invalidate(SHORT_LINK);
+        return linkService.getLongLinkFromShortLink(SHORT_LINK);
+    }
+
+    /**
+     * Resolves a link that is not cached at all and is loaded from the database.
+     *
+     * @return the long link
+     */
+    @Benchmark
+    public String resolveFromDatabase() {
+        linkCache.invalidate(SHORT_LINK);
+        jedis.unlink(SHORT_LINK);
+        return linkService.getLongLinkFromShortLink(SHORT_LINK);
+    }
+}
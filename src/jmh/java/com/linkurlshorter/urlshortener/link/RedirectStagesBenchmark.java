@@ -0,0 +1,73 @@
+package com.linkurlshorter.urlshortener.link;
+
+import com.linkurlshorter.urlshortener.benchmark.InMemoryJedisPool;
+import com.linkurlshorter.urlshortener.link.cache.CachedLink;
+import com.linkurlshorter.urlshortener.link.model.LinkStatus;
+import com.linkurlshorter.urlshortener.link.statistics.ClickAggregator;
+import com.linkurlshorter.urlshortener.link.statistics.RedisClickCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the individual stages of a redirect that run after the redirect data has been loaded:
+ * the status and expiration checks and the statistics update.
+ *
+ * <p>Decoding of the cached redirect data is measured by
+ * {@link com.linkurlshorter.urlshortener.link.cache.CachedLinkCodecBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RedirectStagesBenchmark {
+
+    private static final String SHORT_LINK = "qK8fW2xZ";
+
+    private CachedLink cachedLink;
+    private ClickAggregator clickAggregator;
+
+    /**
+     * Prepares the redirect data and the click aggregator.
+     */
+    @Setup
+    public void setUp() {
+        cachedLink = new CachedLink("https://www.youtube.com", LinkStatus.ACTIVE,
+                LocalDateTime.now().plusDays(30), 100);
+        clickAggregator = new ClickAggregator(new RedisClickCounters(new InMemoryJedisPool()), 500);
+    }
+
+    /**
+     * Checks whether the link may be redirected, as done for every redirect.
+     *
+     * @return true if the link is active and not expired
+     */
+    @Benchmark
+    public boolean checkStatusAndExpiration() {
+        return cachedLink.status() != LinkStatus.INACTIVE && !cachedLink.isExpiredAt(LocalDateTime.now());
+    }
+
+    /**
+     * Records a redirect of a single link from one thread.
+     */
+    @Benchmark
+    public void recordClick() {
+        clickAggregator.record(SHORT_LINK);
+    }
+
+    /**
+     * Records redirects of the same link from several threads at once.
+     */
+    @Benchmark
+    @Threads(4)
+    public void recordClickContended() {
+        clickAggregator.record(SHORT_LINK);
+    }
+}
@@ -0,0 +1,126 @@
+package com.linkurlshorter.urlshortener.link.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkurlshorter.urlshortener.link.model.Link;
+import com.linkurlshorter.urlshortener.link.model.LinkStatus;
+import com.linkurlshorter.urlshortener.user.model.User;
+import com.linkurlshorter.urlshortener.user.model.UserRole;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the binary {@link CachedLinkCodec} with the Jackson serialization of the whole {@link Link} entity
+ * that was previously stored in Redis.
+ *
+ * <p>Both paths start and end with the bytes sent to or received from Redis. The size of a value in each format
+ * is reported as the {@code bytesPerKey} secondary result of its encoding benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CachedLinkCodecBenchmark {
+
+    private ObjectMapper mapper;
+    private Link link;
+    private CachedLink cachedLink;
+    private byte[] json;
+    private byte[] binary;
+
+    /**
+     * Prepares the link and its encoded values.
+     *
+     * @throws JsonProcessingException if the link cannot be serialized
+     */
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        mapper = new ObjectMapper();
+        link = Link.builder()
+                .id(UUID.fromString("3053e49b-6da3-4389-9d06-23b2d57b6f25"))
+                .longLink("https://www.youtube.com/watch?v=dQw4w9WgXcQ")
+                .shortLink("qK8fW2xZ")
+                .user(User.builder()
+                        .id(UUID.fromString("84991c79-f6a9-4b7b-b1b4-0d66c0b92c81"))
+                        .email("user1@example.com")
+                        .password("$2a$12$7Cp4On1DBNyCkz4TaZYc3O.A.CBKi4WXgXnlI4SD0yn7CgBX5Gd6O")
+                        .role(UserRole.USER)
+                        .build())
+                .createdTime(LocalDateTime.of(2024, 4, 13, 10, 0))
+                .expirationTime(LocalDateTime.of(2024, 5, 16, 8, 0))
+                .statistics(100)
+                .status(LinkStatus.ACTIVE)
+                .build();
+        cachedLink = CachedLink.of(link);
+        json = mapper.writeValueAsString(link).getBytes(StandardCharsets.UTF_8);
+        binary = CachedLinkCodec.encode(cachedLink);
+    }
+
+    /**
+     * Serializes the link entity with Jackson.
+     *
+     * @param size the size of the serialized link
+     * @return the serialized link
+     * @throws JsonProcessingException if the link cannot be serialized
+     */
+    @Benchmark
+    public byte[] jacksonEncode(ValueSize size) throws JsonProcessingException {
+        byte[] value = mapper.writeValueAsString(link).getBytes(StandardCharsets.UTF_8);
+        size.bytesPerKey = value.length;
+        return value;
+    }
+
+    /**
+     * Deserializes the link entity with Jackson and takes the redirect data from it.
+     *
+     * @return the redirect data of the link
+     * @throws JsonProcessingException if the link cannot be deserialized
+     */
+    @Benchmark
+    public CachedLink jacksonDecode() throws JsonProcessingException {
+        return CachedLink.of(mapper.readValue(new String(json, StandardCharsets.UTF_8), Link.class));
+    }
+
+    /**
+     * Encodes the redirect data with the binary codec.
+     *
+     * @param size the size of the encoded redirect data
+     * @return the encoded redirect data
+     */
+    @Benchmark
+    public byte[] binaryEncode(ValueSize size) {
+        byte[] value = CachedLinkCodec.encode(cachedLink);
+        size.bytesPerKey = value.length;
+        return value;
+    }
+
+    /**
+     * Decodes the redirect data with the binary codec.
+     *
+     * @return the decoded redirect data
+     */
+    @Benchmark
+    public CachedLink binaryDecode() {
+        return CachedLinkCodec.decode(binary);
+    }
+
+    /**
+     * Size of the value stored in Redis per cached link, as encoded by the last invocation.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ValueSize {
+
+        public long bytesPerKey;
+    }
+}
@@ -0,0 +1,85 @@
+package com.linkurlshorter.urlshortener.link.generator;
+
+import com.linkurlshorter.urlshortener.benchmark.BenchmarkApplication;
+import com.linkurlshorter.urlshortener.link.LinkService;
+import com.linkurlshorter.urlshortener.link.model.Link;
+import com.linkurlshorter.urlshortener.user.UserRepository;
+import com.linkurlshorter.urlshortener.user.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the short code strategies selected by the {@code link.codes.strategy} property: random codes from
+ * the {@link ShortCodePool} and sequence-based codes from the {@link SequenceShortCodeSource}.
+ *
+ * <p>Reports the number of generated codes and of created links per second. The application runs on the
+ * in-memory H2 database of the {@code dev} profile, see {@link BenchmarkApplication}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ShortLinkGeneratorBenchmark {
+
+    @Param({"pool", "sequence"})
+    private String strategy;
+
+    private ConfigurableApplicationContext context;
+    private ShortLinkGenerator shortLinkGenerator;
+    private LinkService linkService;
+    private User user;
+
+    /**
+     * Starts the application with the short code strategy under test.
+     */
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start("--link.codes.strategy=" + strategy);
+        shortLinkGenerator = context.getBean(ShortLinkGenerator.class);
+        linkService = context.getBean(LinkService.class);
+        user = context.getBean(UserRepository.class).findByEmail("user1@example.com").orElseThrow();
+    }
+
+    /**
+     * Stops the application.
+     */
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Generates a short link.
+     *
+     * @return the generated short link
+     */
+    @Benchmark
+    public String generate() {
+        return shortLinkGenerator.generate();
+    }
+
+    /**
+     * Creates a link with a generated short link, as done by the create endpoint.
+     *
+     * @return the created link
+     */
+    @Benchmark
+    public Link create() {
+        return linkService.save(Link.builder()
+                .longLink("https://www.youtube.com")
+                .shortLink(shortLinkGenerator.generate())
+                .expirationTime(LocalDateTime.now().plusDays(30))
+                .user(user)
+                .build());
+    }
+}
@@ -0,0 +1,98 @@
+package com.linkurlshorter.urlshortener.validation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the validation of the create and register requests with {@link String#matches(String)}, as the
+ * validators did before, with precompiled patterns and with the {@link FormatValidation} scanners.
+ *
+ * <p>A create request validates a long URL and a short code, a register request an email and a password.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FormatValidationBenchmark {
+
+    private static final String EMAIL_REGEX =
+            "^[A-Za-z0-9]+[._+-]?[A-Za-z0-9]+@[A-Za-z0-9]+[._-]?[A-Za-z0-9]+\\.[A-Za-z]{2,}$";
+    private static final String PASSWORD_REGEX = "^(?=.*\\d)(?=.*[a-z])(?=.*[A-Z])[^ ]{8,64}$";
+    private static final String LONG_URL_REGEX = "https?://[\\w.-]+\\.(?:[a-zA-Z]{2,4})(?:/.*)?";
+    private static final String SHORT_CODE_REGEX = "^[a-zA-Z0-9]+$";
+    private static final Pattern EMAIL = Pattern.compile(EMAIL_REGEX);
+    private static final Pattern PASSWORD = Pattern.compile(PASSWORD_REGEX);
+    private static final Pattern LONG_URL = Pattern.compile(LONG_URL_REGEX);
+    private static final Pattern SHORT_CODE = Pattern.compile(SHORT_CODE_REGEX);
+
+    private final String longUrl = "https://www.youtube.com/watch?v=dQw4w9WgXcQ";
+    private final String shortCode = "qK8fW2xZ";
+    private final String email = "user1@example.com";
+    private final String password = "Pa55w0rdSecret";
+
+    /**
+     * Validates a create request with {@link String#matches(String)}.
+     *
+     * @return true if the request is valid
+     */
+    @Benchmark
+    public boolean createRegex() {
+        return longUrl.matches(LONG_URL_REGEX) && shortCode.matches(SHORT_CODE_REGEX);
+    }
+
+    /**
+     * Validates a create request with precompiled patterns.
+     *
+     * @return true if the request is valid
+     */
+    @Benchmark
+    public boolean createPattern() {
+        return LONG_URL.matcher(longUrl).matches() && SHORT_CODE.matcher(shortCode).matches();
+    }
+
+    /**
+     * Validates a create request with the scanners.
+     *
+     * @return true if the request is valid
+     */
+    @Benchmark
+    public boolean createScanner() {
+        return FormatValidation.isValidLongUrl(longUrl) && FormatValidation.isValidShortCode(shortCode);
+    }
+
+    /**
+     * Validates a register request with {@link String#matches(String)}.
+     *
+     * @return true if the request is valid
+     */
+    @Benchmark
+    public boolean registerRegex() {
+        return email.matches(EMAIL_REGEX) && password.matches(PASSWORD_REGEX);
+    }
+
+    /**
+     * Validates a register request with precompiled patterns.
+     *
+     * @return true if the request is valid
+     */
+    @Benchmark
+    public boolean registerPattern() {
+        return EMAIL.matcher(email).matches() && PASSWORD.matcher(password).matches();
+    }
+
+    /**
+     * Validates a register request with the scanners.
+     *
+     * @return true if the request is valid
+     */
+    @Benchmark
+    public boolean registerScanner() {
+        return FormatValidation.isValidEmail(email) && FormatValidation.isValidPassword(password);
+    }
+}
@@ -2,13 +2,17 @@ package com.linkurlshorter.urlshortener.auth;
 
 import com.linkurlshorter.urlshortener.auth.dto.AuthRequest;
 import com.linkurlshorter.urlshortener.auth.dto.AuthResponse;
+import com.linkurlshorter.urlshortener.auth.dto.AuthTokens;
+import com.linkurlshorter.urlshortener.auth.dto.RefreshTokenRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -30,6 +34,9 @@ public class AuthController {
 
     private static final String LOGIN_MESSAGE = "User logged in successfully!";
     private static final String REGISTRATION_MESSAGE = "User registered successfully!";
+    private static final String REFRESH_MESSAGE = "Tokens refreshed successfully!";
+    private static final String LOGOUT_MESSAGE = "User logged out successfully!";
+    private static final String BEARER_PREFIX = "Bearer ";
 
     private final AuthService authService;
 
@@ -37,25 +44,57 @@ public class AuthController {
      * Handles the POST request for user login.
      *
      * @param authRequest the authentication request containing user credentials
-     * @return a ResponseEntity containing the authentication response, including a JWT token
+     * @return a ResponseEntity containing the authentication response, including a JWT token and a refresh token
      */
     @Operation(summary = "Log In")
     @PostMapping("/login")
     public ResponseEntity<AuthResponse> login(@RequestBody @Valid AuthRequest authRequest) {
-        String token = authService.loginUser(authRequest);
-        return ResponseEntity.ok(new AuthResponse(LOGIN_MESSAGE, token));
+        AuthTokens tokens = authService.loginUser(authRequest);
+        return ResponseEntity.ok(new AuthResponse(LOGIN_MESSAGE, tokens.accessToken(), tokens.refreshToken()));
     }
 
     /**
      * Handles the POST request for user registration.
      *
      * @param authRequest the registration request containing user credentials
-     * @return a ResponseEntity containing the registration response, including a JWT token
+     * @return a ResponseEntity containing the registration response, including a JWT token and a refresh token
      */
     @Operation(summary = "Registration")
     @PostMapping("/register")
     public ResponseEntity<AuthResponse> register(@RequestBody @Valid AuthRequest authRequest) {
-        String token = authService.registerUser(authRequest);
-        return ResponseEntity.ok(new AuthResponse(REGISTRATION_MESSAGE, token));
+        AuthTokens tokens = authService.registerUser(authRequest);
+        return ResponseEntity.ok(new AuthResponse(REGISTRATION_MESSAGE, tokens.accessToken(), tokens.refreshToken()));
+    }
+
+    /**
+     * Handles the POST request for refreshing the tokens of a user.
+     *
+     * @param refreshTokenRequest the request containing the refresh token
+     * @return a ResponseEntity containing the refresh response, including a new JWT token and a new refresh token
+     */
+    @Operation(summary = "Refresh tokens")
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@RequestBody @Valid RefreshTokenRequest refreshTokenRequest) {
+        AuthTokens tokens = authService.refreshTokens(refreshTokenRequest.getRefreshToken());
+        return ResponseEntity.ok(new AuthResponse(REFRESH_MESSAGE, tokens.accessToken(), tokens.refreshToken()));
+    }
+
+    /**
+     * Handles the POST request for user logout, revoking the refresh token and the JWT token of the request.
+     *
+     * @param refreshTokenRequest the request containing the refresh token
+     * @param authorization       the Authorization header carrying the JWT token, if any
+     * @return a ResponseEntity containing the logout response
+     */
+    @Operation(summary = "Log Out")
+    @PostMapping("/logout")
+    public ResponseEntity<AuthResponse> logout(@RequestBody @Valid RefreshTokenRequest refreshTokenRequest,
+                                               @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false)
+                                               String authorization) {
+        String jwtToken = authorization != null && authorization.startsWith(BEARER_PREFIX)
+                ? authorization.substring(BEARER_PREFIX.length())
+                : null;
+        authService.logoutUser(refreshTokenRequest.getRefreshToken(), jwtToken);
+        return ResponseEntity.ok(new AuthResponse(LOGOUT_MESSAGE, null, null));
     }
 }
@@ -1,8 +1,13 @@
 package com.linkurlshorter.urlshortener.auth;
 
 import com.linkurlshorter.urlshortener.auth.dto.AuthRequest;
+import com.linkurlshorter.urlshortener.auth.dto.AuthTokens;
 import com.linkurlshorter.urlshortener.auth.exception.EmailAlreadyTakenException;
+import com.linkurlshorter.urlshortener.auth.exception.InvalidRefreshTokenException;
+import com.linkurlshorter.urlshortener.jwt.JwtPrincipal;
 import com.linkurlshorter.urlshortener.jwt.JwtUtil;
+import com.linkurlshorter.urlshortener.jwt.TokenRevocationList;
+import com.linkurlshorter.urlshortener.security.SecurityUserDetails;
 import com.linkurlshorter.urlshortener.user.model.User;
 import com.linkurlshorter.urlshortener.user.UserRepository;
 import com.linkurlshorter.urlshortener.user.model.UserRole;
@@ -13,15 +18,23 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
 /**
  * Service class providing operations for user authentication and registration.
  *
  * <p>This class allows for user login and registration functionality,
- * including JWT token generation for authenticated users.
+ * including JWT token generation for authenticated users. Authenticated users also get a refresh token, which
+ * is exchanged for new tokens without verifying the password again. All tokens of a user are revoked when the
+ * credentials of the user change.
  *
  * @author Egor Sivenko
  * @see com.linkurlshorter.urlshortener.jwt.JwtUtil
  * @see com.linkurlshorter.urlshortener.user.UserRepository
+ * @see RefreshTokenService
+ * @see TokenRevocationList
  */
 @Service
 @RequiredArgsConstructor
@@ -29,39 +42,104 @@ public class AuthService {
 
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationList tokenRevocationList;
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
 
     /**
-     * Authenticates a user and generates a JWT token.
+     * Authenticates a user and generates a JWT token and a refresh token.
      *
      * @param authRequest the authentication request containing user credentials
-     * @return the JWT token generated for the authenticated user
+     * @return the tokens generated for the authenticated user
      */
-    public String loginUser(AuthRequest authRequest) {
+    public AuthTokens loginUser(AuthRequest authRequest) {
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         authRequest.getEmail(), authRequest.getPassword()));
 
-        return jwtUtil.generateToken(authentication);
+        return issueTokens(authentication);
     }
 
     /**
-     * Registers a new user and generates a JWT token.
+     * Registers a new user and generates a JWT token and a refresh token.
+     *
+     * <p>The token is issued for the saved user directly: the password has just been hashed, so verifying it again
+     * through the authentication manager would only reload the user and hash the password a second time.
      *
      * @param authRequest the registration request containing user credentials
-     * @return the JWT token generated for the registered user
+     * @return the tokens generated for the registered user
      * @throws EmailAlreadyTakenException if the user with the provided email is already registered
      */
-    public String registerUser(AuthRequest authRequest) {
+    public AuthTokens registerUser(AuthRequest authRequest) {
         String email = authRequest.getEmail();
 
         if (userRepository.findByEmail(email).isPresent()) {
             throw new EmailAlreadyTakenException(email);
         }
-        saveNewUser(authRequest);
-        return loginUser(authRequest);
+        SecurityUserDetails userDetails = new SecurityUserDetails(saveNewUser(authRequest));
+        return issueTokens(UsernamePasswordAuthenticationToken.authenticated(
+                userDetails, null, userDetails.getAuthorities()));
+    }
+
+    /**
+     * Exchanges a refresh token for a new JWT token and a new refresh token.
+     *
+     * <p>The user is read from the refresh token, so neither the user is loaded nor a password is verified.
+     *
+     * @param refreshToken the refresh token
+     * @return the new tokens of the user
+     * @throws InvalidRefreshTokenException if the refresh token is unknown, expired, revoked or used already
+     */
+    public AuthTokens refreshTokens(String refreshToken) {
+        RefreshTokenService.RotatedRefreshToken rotated = refreshTokenService.rotate(refreshToken);
+        JwtPrincipal principal = rotated.principal();
+        String accessToken = jwtUtil.generateToken(UsernamePasswordAuthenticationToken.authenticated(
+                principal, null, principal.getAuthorities()));
+        return new AuthTokens(accessToken, rotated.refreshToken());
+    }
+
+    /**
+     * Logs a user out by revoking the refresh token and the JWT token.
+     *
+     * @param refreshToken the refresh token
+     * @param jwtToken     the JWT token, or null if the request carried none
+     */
+    public void logoutUser(String refreshToken, String jwtToken) {
+        refreshTokenService.revoke(refreshToken);
+        if (Objects.nonNull(jwtToken)) {
+            jwtUtil.revokeToken(jwtToken);
+        }
+    }
+
+    /**
+     * Revokes all JWT tokens and refresh tokens issued to a user so far, e.g. after the password or the email of
+     * the user has changed.
+     *
+     * @param userId the ID of the user
+     * @return the issue time of the JWT token replacing the revoked ones
+     * @see JwtUtil#generateToken(Authentication, Instant)
+     */
+    public Instant revokeAllTokens(UUID userId) {
+        Instant issuedAt = tokenRevocationList.revokeUser(userId);
+        refreshTokenService.revokeAll(userId);
+        return issuedAt;
+    }
+
+    /**
+     * Issues a new JWT token and a new refresh token to a user whose tokens have been revoked by
+     * {@link #revokeAllTokens(UUID)}.
+     *
+     * @param principal the user, with the email the tokens are issued for
+     * @param issuedAt  the issue time returned by {@link #revokeAllTokens(UUID)}
+     * @return the new tokens of the user
+     */
+    public AuthTokens issueReplacementTokens(JwtPrincipal principal, Instant issuedAt) {
+        String refreshToken = refreshTokenService.issue(principal);
+        String accessToken = jwtUtil.generateToken(UsernamePasswordAuthenticationToken.authenticated(
+                principal, null, principal.getAuthorities()), issuedAt);
+        return new AuthTokens(accessToken, refreshToken);
     }
 
     /**
@@ -71,13 +149,27 @@ public class AuthService {
      * sets the user's email, encrypted password, and {@link UserRole#USER USER} role, and saves the user to the database.
      *
      * @param authRequest the registration request containing user credentials
+     * @return the saved user
      */
-    private void saveNewUser(AuthRequest authRequest) {
+    private User saveNewUser(AuthRequest authRequest) {
         User user = new User();
         user.setEmail(authRequest.getEmail());
         user.setPassword(passwordEncoder.encode(authRequest.getPassword()));
         user.setRole(UserRole.USER);
 
-        userRepository.save(user);
+        return userRepository.save(user);
+    }
+
+    /**
+     * Generates a JWT token and a refresh token for an authenticated user.
+     *
+     * @param authentication the authentication of the user, with {@link SecurityUserDetails} as principal
+     * @return the tokens of the user
+     */
+    private AuthTokens issueTokens(Authentication authentication) {
+        SecurityUserDetails userDetails = (SecurityUserDetails) authentication.getPrincipal();
+        String refreshToken = refreshTokenService.issue(
+                new JwtPrincipal(userDetails.getId(), userDetails.getUsername(), userDetails.getRole()));
+        return new AuthTokens(jwtUtil.generateToken(authentication), refreshToken);
     }
 }
@@ -0,0 +1,263 @@
+package com.linkurlshorter.urlshortener.auth;
+
+import com.linkurlshorter.urlshortener.auth.exception.InvalidRefreshTokenException;
+import com.linkurlshorter.urlshortener.jwt.JwtPrincipal;
+import com.linkurlshorter.urlshortener.user.model.UserRole;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Pipeline;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Service issuing, rotating and revoking the long-lived refresh tokens that new access tokens are minted with.
+ *
+ * <p>A refresh token is a random, opaque value. Only its SHA-256 digest is stored, in Redis under
+ * {@value #TOKEN_KEY_PREFIX}{@code <digest>}, as a hash of the ID, the email and the role of the user, so a new
+ * access token is minted from a single Redis call, without loading the user or hashing a password. Tokens expire
+ * after {@code auth.refresh-token.ttl}, and the digests of the tokens of a user are kept in the
+ * {@value #USER_KEY_PREFIX}{@code <user ID>} set so all of them can be revoked at once.
+ *
+ * <p>A refresh token is used once: rotating it deletes it and issues a new one in a single script, and the digest
+ * of the used token is remembered until it would have expired. Presenting a used token again means it has been
+ * copied, so all refresh tokens of the user are revoked. Revoking all tokens of a user is a single script as well,
+ * so a token rotated concurrently is either revoked along with the others or not rotated at all.
+ *
+ * <p>Issued and rotated tokens are published as the {@code auth.refresh.issued} and {@code auth.refresh.rotated}
+ * counters, tokens rejected as unknown, expired or revoked as the {@code auth.refresh.rejected} counter and reused
+ * tokens as the {@code auth.refresh.reused} counter.
+ */
+@Service
+public class RefreshTokenService implements MeterBinder {
+
+    /**
+     * Prefix of the hashes holding the user of each refresh token.
+     */
+    static final String TOKEN_KEY_PREFIX = "auth:refresh:";
+
+    /**
+     * Prefix of the keys remembering the user of each used refresh token.
+     */
+    static final String USED_KEY_PREFIX = "auth:refresh:used:";
+
+    /**
+     * Prefix of the sets holding the digests of the refresh tokens of each user.
+     */
+    static final String USER_KEY_PREFIX = "auth:refresh:user:";
+
+    private static final String USER_ID_FIELD = "uid";
+    private static final String EMAIL_FIELD = "email";
+    private static final String ROLE_FIELD = "role";
+    private static final String REUSED = "reused";
+    private static final int TOKEN_BYTES = 32;
+
+    /**
+     * Deletes the token, marks it used and stores the new token with the same fields, returning the fields of the
+     * token, {@code reused} and the ID of the user if the token has been used already, or nothing if the token is
+     * unknown.
+     */
+    private static final String ROTATE_SCRIPT = """
+            local fields = redis.call('hgetall', KEYS[1])
+            if #fields == 0 then
+              local owner = redis.call('get', KEYS[2])
+              if owner then return {'reused', owner} end
+              return {}
+            end
+            local owner = redis.call('hget', KEYS[1], 'uid')
+            local userKey = ARGV[2] .. owner
+            redis.call('del', KEYS[1])
+            redis.call('set', KEYS[2], owner, 'EX', ARGV[1])
+            redis.call('srem', userKey, ARGV[3])
+            redis.call('hset', KEYS[3], unpack(fields))
+            redis.call('expire', KEYS[3], ARGV[1])
+            redis.call('sadd', userKey, ARGV[4])
+            redis.call('expire', userKey, ARGV[1])
+            return fields
+            """;
+
+    /**
+     * Deletes all tokens of the user and the set of their digests, returning the number of deleted tokens.
+     */
+    private static final String REVOKE_ALL_SCRIPT = """
+            local digests = redis.call('smembers', KEYS[1])
+            for _, digest in ipairs(digests) do
+              redis.call('del', ARGV[1] .. digest)
+            end
+            redis.call('del', KEYS[1])
+            return #digests
+            """;
+
+    private final JedisPool jedisPool;
+    private final long ttlSeconds;
+    private final SecureRandom random = new SecureRandom();
+    private final LongAdder issued = new LongAdder();
+    private final LongAdder rotated = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder reused = new LongAdder();
+
+    /**
+     * Creates the service.
+     *
+     * @param jedisPool the pool of Redis connections
+     * @param ttl       the lifetime of a refresh token
+     */
+    public RefreshTokenService(JedisPool jedisPool, @Value("${auth.refresh-token.ttl:14d}") Duration ttl) {
+        this.jedisPool = jedisPool;
+        this.ttlSeconds = ttl.toSeconds();
+    }
+
+    /**
+     * Issues a new refresh token for a user.
+     *
+     * @param principal the user
+     * @return the refresh token
+     */
+    public String issue(JwtPrincipal principal) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            return issue(jedis, principal);
+        }
+    }
+
+    /**
+     * Exchanges a refresh token for a new one.
+     *
+     * @param refreshToken the refresh token
+     * @return the user of the token and the new refresh token
+     * @throws InvalidRefreshTokenException if the token is unknown, expired, revoked or used already
+     */
+    public RotatedRefreshToken rotate(String refreshToken) {
+        String digest = digest(refreshToken);
+        String newRefreshToken = newToken();
+        String newDigest = digest(newRefreshToken);
+        try (Jedis jedis = jedisPool.getResource()) {
+            List<?> result = (List<?>) jedis.eval(ROTATE_SCRIPT,
+                    List.of(TOKEN_KEY_PREFIX + digest, USED_KEY_PREFIX + digest, TOKEN_KEY_PREFIX + newDigest),
+                    List.of(String.valueOf(ttlSeconds), USER_KEY_PREFIX, digest, newDigest));
+            if (result.isEmpty() || REUSED.equals(result.get(0))) {
+                if (!result.isEmpty()) {
+                    reused.increment();
+                    revokeAll(jedis, (String) result.get(1));
+                }
+                rejected.increment();
+                throw new InvalidRefreshTokenException();
+            }
+            Map<String, String> fields = new HashMap<>();
+            for (int i = 0; i + 1 < result.size(); i += 2) {
+                fields.put((String) result.get(i), (String) result.get(i + 1));
+            }
+            JwtPrincipal principal = new JwtPrincipal(UUID.fromString(fields.get(USER_ID_FIELD)),
+                    fields.get(EMAIL_FIELD), UserRole.valueOf(fields.get(ROLE_FIELD)));
+            rotated.increment();
+            issued.increment();
+            return new RotatedRefreshToken(principal, newRefreshToken);
+        }
+    }
+
+    /**
+     * Revokes a refresh token, e.g. when the user logs out.
+     *
+     * @param refreshToken the refresh token
+     */
+    public void revoke(String refreshToken) {
+        String digest = digest(refreshToken);
+        try (Jedis jedis = jedisPool.getResource()) {
+            String userId = jedis.hget(TOKEN_KEY_PREFIX + digest, USER_ID_FIELD);
+            Pipeline pipeline = jedis.pipelined();
+            pipeline.del(TOKEN_KEY_PREFIX + digest);
+            if (Objects.nonNull(userId)) {
+                pipeline.srem(USER_KEY_PREFIX + userId, digest);
+            }
+            pipeline.sync();
+        }
+    }
+
+    /**
+     * Revokes all refresh tokens of a user.
+     *
+     * @param userId the ID of the user
+     */
+    public void revokeAll(UUID userId) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            revokeAll(jedis, userId.toString());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("auth.refresh.issued", issued, LongAdder::sum)
+                .description("Refresh tokens issued")
+                .register(registry);
+        FunctionCounter.builder("auth.refresh.rotated", rotated, LongAdder::sum)
+                .description("Refresh tokens exchanged for new access and refresh tokens")
+                .register(registry);
+        FunctionCounter.builder("auth.refresh.rejected", rejected, LongAdder::sum)
+                .description("Refresh tokens rejected as unknown, expired, revoked or used already")
+                .register(registry);
+        FunctionCounter.builder("auth.refresh.reused", reused, LongAdder::sum)
+                .description("Used refresh tokens presented again, revoking all refresh tokens of the user")
+                .register(registry);
+    }
+
+    private String issue(Jedis jedis, JwtPrincipal principal) {
+        String refreshToken = newToken();
+        String digest = digest(refreshToken);
+        String tokenKey = TOKEN_KEY_PREFIX + digest;
+        String userKey = USER_KEY_PREFIX + principal.id();
+        Pipeline pipeline = jedis.pipelined();
+        pipeline.hset(tokenKey, Map.of(
+                USER_ID_FIELD, principal.id().toString(),
+                EMAIL_FIELD, principal.email(),
+                ROLE_FIELD, principal.role().name()));
+        pipeline.expire(tokenKey, ttlSeconds);
+        pipeline.sadd(userKey, digest);
+        pipeline.expire(userKey, ttlSeconds);
+        pipeline.sync();
+        issued.increment();
+        return refreshToken;
+    }
+
+    private String newToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static void revokeAll(Jedis jedis, String userId) {
+        jedis.eval(REVOKE_ALL_SCRIPT, List.of(USER_KEY_PREFIX + userId), List.of(TOKEN_KEY_PREFIX));
+    }
+
+    private static String digest(String refreshToken) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(refreshToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * The result of the rotation of a refresh token.
+     *
+     * @param principal    the user of the token
+     * @param refreshToken the new refresh token
+     */
+    public record RotatedRefreshToken(JwtPrincipal principal, String refreshToken) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.linkurlshorter.urlshortener.auth.dto;
+
+/**
+ * The tokens issued to an authenticated user.
+ *
+ * @param accessToken  the short-lived JWT token authenticating the requests of the user
+ * @param refreshToken the long-lived token new access tokens are requested with
+ */
+public record AuthTokens(
+        String accessToken,
+        String refreshToken
+) {}
@@ -0,0 +1,18 @@
+package com.linkurlshorter.urlshortener.auth.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a request object carrying a refresh token, to refresh the tokens of a user or to log the user out.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshTokenRequest {
+
+    @NotBlank(message = "Refresh token must not be null or empty!")
+    private String refreshToken;
+}
@@ -0,0 +1,12 @@
+package com.linkurlshorter.urlshortener.auth.exception;
+
+/**
+ * Exception thrown when a refresh token is unknown, expired, revoked or has been used already.
+ */
+public class InvalidRefreshTokenException extends RuntimeException {
+    private static final String MSG = "Invalid refresh token";
+
+    public InvalidRefreshTokenException() {
+        super(MSG);
+    }
+}
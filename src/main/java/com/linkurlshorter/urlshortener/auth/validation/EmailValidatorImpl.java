@@ -1,26 +1,20 @@
 package com.linkurlshorter.urlshortener.auth.validation;
 
+import com.linkurlshorter.urlshortener.validation.FormatValidation;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
-import java.util.regex.Pattern;
-
 /**
  * The EmailValidatorImpl class implements {@link ConstraintValidator} the ConstraintValidator interface to
- * validate email addresses. It checks whether an email address is valid according to a specified regular
- * expression pattern.
+ * validate email addresses. It checks whether an email address is valid according to the email format of
+ * {@link FormatValidation#isValidEmail(String)}.
  *
  * @author Vlas Pototskyi
  */
 public class EmailValidatorImpl implements ConstraintValidator<EmailValidator, String> {
-    /**
-     * Regular expression pattern for validating email addresses.
-     */
-    private static final Pattern EMAIL_PATTERN = Pattern.
-            compile("^[A-Za-z0-9]+[._+-]?[A-Za-z0-9]+@[A-Za-z0-9]+[._-]?[A-Za-z0-9]+\\.[A-Za-z]{2,}$");
 
     /**
-     * Checks if the specified email address matches the specified regular expression pattern.
+     * Checks if the specified email address matches the email format.
      *
      * @param email   The email address to be validated.
      * @param context The ConstraintValidatorContext for applying custom constraints.
@@ -31,7 +25,7 @@ public class EmailValidatorImpl implements ConstraintValidator<EmailValidator, S
         if (email == null) {
             return false;
         }
-        if (!email.matches(EMAIL_PATTERN.pattern())) {
+        if (!FormatValidation.isValidEmail(email)) {
             if (context != null) {
                 context.buildConstraintViolationWithTemplate(context.getDefaultConstraintMessageTemplate())
                         .addConstraintViolation();
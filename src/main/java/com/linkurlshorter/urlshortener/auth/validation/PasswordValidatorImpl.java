@@ -1,23 +1,17 @@
 
 package com.linkurlshorter.urlshortener.auth.validation;
 
+import com.linkurlshorter.urlshortener.validation.FormatValidation;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
-import java.util.regex.Pattern;
-
 /**
  * Implementation {@link ConstraintValidator} of a validator to check the password format.
- * Validates password format using a regular expression.
+ * Validates password format with {@link FormatValidation#isValidPassword(String)}.
  *
  * @author Vlas Pototskyi
  */
 public class PasswordValidatorImpl implements ConstraintValidator<PasswordValidator, String> {
-    /**
-     * Regular expression pattern for validating password format.
-     */
-    private static final Pattern PASSWORD_PATTERN = Pattern.
-            compile("^(?=.*\\d)(?=.*[a-z])(?=.*[A-Z])[^ ]{8,64}$");
 
     /**
      * Checks if the entered string matches the password format.
@@ -31,7 +25,7 @@ public class PasswordValidatorImpl implements ConstraintValidator<PasswordValida
         if (password == null) {
             return false;
         }
-        if (!password.matches(PASSWORD_PATTERN.pattern())) {
+        if (!FormatValidation.isValidPassword(password)) {
             if (context != null) {
                 context.buildConstraintViolationWithTemplate(context.getDefaultConstraintMessageTemplate())
                         .addConstraintViolation();
@@ -17,6 +17,10 @@ import java.time.Duration;
  * such as maximum total connections, maximum idle connections, and eviction settings to optimize
  * connection management and performance.
  *
+ * <p>The pool size and the maximum time a caller waits for a free connection are configurable, so the pool
+ * can be sized together with the request threads, e.g. raised when requests run on virtual threads and the pool
+ * becomes the only limit of concurrent Redis calls.
+ *
  * @author Egor Sivenko
  * @see redis.clients.jedis.JedisPool
  * @see redis.clients.jedis.JedisPoolConfig
@@ -30,6 +34,18 @@ public class JedisConfig {
     @Value("${REDIS_PORT:6379}")
     private int port;
 
+    @Value("${redis.pool.max-total:128}")
+    private int maxTotal;
+
+    @Value("${redis.pool.max-idle:128}")
+    private int maxIdle;
+
+    @Value("${redis.pool.min-idle:16}")
+    private int minIdle;
+
+    @Value("${redis.pool.max-wait:2s}")
+    private Duration maxWait;
+
     /**
      * Creates and configures a JedisPool bean for managing Redis connections.
      *
@@ -47,9 +63,9 @@ public class JedisConfig {
      */
     private JedisPoolConfig buildPoolConfig() {
         JedisPoolConfig poolConfig = new JedisPoolConfig();
-        poolConfig.setMaxTotal(128);
-        poolConfig.setMaxIdle(128);
-        poolConfig.setMinIdle(16);
+        poolConfig.setMaxTotal(maxTotal);
+        poolConfig.setMaxIdle(maxIdle);
+        poolConfig.setMinIdle(minIdle);
         poolConfig.setTestOnBorrow(true);
         poolConfig.setTestOnReturn(true);
         poolConfig.setTestWhileIdle(true);
@@ -57,6 +73,7 @@ public class JedisConfig {
         poolConfig.setTimeBetweenEvictionRuns(Duration.ofSeconds(30));
         poolConfig.setNumTestsPerEvictionRun(3);
         poolConfig.setBlockWhenExhausted(true);
+        poolConfig.setMaxWait(maxWait);
         poolConfig.setJmxEnabled(false);
         return poolConfig;
     }
@@ -0,0 +1,53 @@
+package com.linkurlshorter.urlshortener.config;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration class for setting up the shared OkHttp client used to check whether long links are alive.
+ *
+ * <p>All calls share one dispatcher and connection pool. The dispatcher runs at most
+ * {@code link.liveness.max-concurrent} calls at a time, at most {@code link.liveness.max-concurrent-per-host} of
+ * them to the same host, and every call, redirects included, is cut off after {@code link.liveness.timeout}.
+ *
+ * @see com.linkurlshorter.urlshortener.link.liveness.UrlLivenessChecker
+ */
+@Configuration
+public class OkHttpConfig {
+
+    @Value("${link.liveness.timeout:2s}")
+    private Duration timeout;
+
+    @Value("${link.liveness.max-concurrent:64}")
+    private int maxConcurrent;
+
+    @Value("${link.liveness.max-concurrent-per-host:4}")
+    private int maxConcurrentPerHost;
+
+    /**
+     * Creates and configures the shared OkHttpClient bean.
+     *
+     * @return the configured OkHttpClient bean
+     */
+    @Bean
+    public OkHttpClient okHttpClient() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxConcurrent);
+        dispatcher.setMaxRequestsPerHost(maxConcurrentPerHost);
+        return new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(maxConcurrent, 1, TimeUnit.MINUTES))
+                .connectTimeout(timeout)
+                .readTimeout(timeout)
+                .callTimeout(timeout)
+                .retryOnConnectionFailure(false)
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package com.linkurlshorter.urlshortener.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration class enabling the execution of {@link org.springframework.scheduling.annotation.Scheduled}
+ * background jobs, such as flushing the aggregated link statistics.
+ *
+ * @see com.linkurlshorter.urlshortener.link.statistics.ClickAggregator
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,12 +1,17 @@
 package com.linkurlshorter.urlshortener.exception;
 
 import com.linkurlshorter.urlshortener.auth.exception.EmailAlreadyTakenException;
+import com.linkurlshorter.urlshortener.auth.exception.InvalidRefreshTokenException;
 import com.linkurlshorter.urlshortener.link.exception.DeletedLinkException;
 import com.linkurlshorter.urlshortener.link.exception.ForbiddenException;
 import com.linkurlshorter.urlshortener.link.exception.InactiveLinkException;
 import com.linkurlshorter.urlshortener.link.exception.InternalServerLinkException;
+import com.linkurlshorter.urlshortener.link.exception.LinkBatchRejectedException;
+import com.linkurlshorter.urlshortener.link.exception.LinkBatchTooLargeException;
 import com.linkurlshorter.urlshortener.link.exception.LinkStatusException;
+import com.linkurlshorter.urlshortener.link.exception.LinkTransferInProgressException;
 import com.linkurlshorter.urlshortener.link.exception.NoLinkFoundByShortLinkException;
+import com.linkurlshorter.urlshortener.security.exception.PasswordHashingRejectedException;
 import com.linkurlshorter.urlshortener.user.exception.NoSuchEmailFoundException;
 import com.linkurlshorter.urlshortener.user.exception.NoUserFoundByEmailException;
 import com.linkurlshorter.urlshortener.user.exception.NoUserFoundByIdException;
@@ -47,8 +52,16 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
     }
 
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRefreshTokenException(
+            InvalidRefreshTokenException ex, HttpServletRequest request) {
+        ErrorResponse errorResponse = buildErrorResponse(HttpStatus.UNAUTHORIZED,
+                ex.getMessage(), request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
+    }
+
     @ExceptionHandler({EmailAlreadyTakenException.class, LinkStatusException.class,
-            DeletedLinkException.class, InactiveLinkException.class})
+            DeletedLinkException.class, InactiveLinkException.class, LinkBatchTooLargeException.class})
     public ResponseEntity<ErrorResponse> handleBadRequestExceptions(
             RuntimeException ex, HttpServletRequest request) {
         ErrorResponse errorResponse = buildErrorResponse(HttpStatus.BAD_REQUEST,
@@ -73,6 +86,15 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
     }
 
+    @ExceptionHandler({LinkBatchRejectedException.class, LinkTransferInProgressException.class,
+            PasswordHashingRejectedException.class})
+    public ResponseEntity<ErrorResponse> handleTooManyRequestsExceptions(
+            RuntimeException ex, HttpServletRequest request) {
+        ErrorResponse errorResponse = buildErrorResponse(HttpStatus.TOO_MANY_REQUESTS,
+                ex.getMessage(), request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(errorResponse);
+    }
+
     @ExceptionHandler(InternalServerLinkException.class)
     public ResponseEntity<ErrorResponse> handleInternalServerLinkException(
             InternalServerLinkException ex, HttpServletRequest request) {
@@ -0,0 +1,283 @@
+package com.linkurlshorter.urlshortener.jwt;
+
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.Locator;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.security.InvalidKeyException;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.WeakKeyException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The keys JWT tokens are signed and verified with, shared by all nodes so a token issued by one node is accepted
+ * by every other node and survives restarts.
+ *
+ * <p>Keys are read from the {@code jwt.keys} property, or from the file named by {@code jwt.keys-file}, which is
+ * read again every {@code jwt.keys-reload-interval-ms} so keys are rotated without a restart. Each key is written
+ * as {@code <id>:<base64 secret>[:<active from>]}, keys being separated by commas or new lines; the secret holds
+ * at least 256 bits and the optional activation time is an ISO-8601 instant. Lines of the file starting with
+ * {@code #} are ignored.
+ *
+ * <p>New tokens are signed with the key activated last and carry its ID in their {@code kid} header. A key is
+ * accepted for verification as soon as it is loaded, so it is rolled out to all nodes before its activation time
+ * and a node with a clock slightly ahead does not issue tokens the others reject. Once the next key is activated,
+ * a key stays accepted for {@code jwt.keys-grace-period}, at least the lifetime of the tokens it signed, and is
+ * retired afterwards. Rotating a key thus means adding the new key with a future activation time, and removing the
+ * old key once it has been retired.
+ *
+ * <p>The keys are decoded once per load and kept in memory, so verifying a token looks its key up in a map.
+ * Without any configured key, a random key is generated, which only suits a single node.
+ *
+ * <p>The number of keys accepted for verification is published as the {@code jwt.keys} gauge, the tokens rejected
+ * for an unknown or retired key as the {@code jwt.keys.rejected} counter.
+ *
+ * @see JwtUtil
+ * @see JwtVerifier
+ */
+@Slf4j
+@Component
+public class JwtKeyRing implements Locator<Key>, MeterBinder {
+
+    /**
+     * ID of the key generated when no key is configured.
+     */
+    private static final String GENERATED_KEY_ID = "generated-" + UUID.randomUUID();
+
+    private final String keysFile;
+    private final Duration gracePeriod;
+    private final Clock clock;
+    private final LongAdder rejected = new LongAdder();
+    private volatile KeySet keySet;
+
+    /**
+     * Creates the key ring and loads the keys.
+     *
+     * @param keys        the keys, used when no file is given
+     * @param keysFile    the path of the file holding the keys, or blank to use the keys of the property
+     * @param gracePeriod how long a key is accepted for after the next key has been activated
+     * @throws IllegalArgumentException if a key is malformed, too short or given twice
+     */
+    @Autowired
+    public JwtKeyRing(@Value("${jwt.keys:}") String keys,
+                      @Value("${jwt.keys-file:}") String keysFile,
+                      @Value("${jwt.keys-grace-period:35m}") Duration gracePeriod) {
+        this(keys, keysFile, gracePeriod, Clock.systemUTC());
+    }
+
+    JwtKeyRing(String keys, String keysFile, Duration gracePeriod, Clock clock) {
+        this.keysFile = keysFile;
+        this.gracePeriod = gracePeriod;
+        this.clock = clock;
+        if (!keysFile.isBlank()) {
+            this.keySet = load(readKeysFile());
+        } else if (!keys.isBlank()) {
+            this.keySet = load(keys);
+        } else {
+            log.warn("No JWT signing keys configured, generated a random key: tokens are rejected by other nodes "
+                    + "and after a restart");
+            this.keySet = buildKeySet(List.of(new RingKey(GENERATED_KEY_ID, Jwts.SIG.HS256.key().build(),
+                    Instant.EPOCH)));
+        }
+    }
+
+    /**
+     * Returns the key new tokens are signed with: the key activated last.
+     *
+     * @return the signing key
+     */
+    public SigningKey signingKey() {
+        Instant now = clock.instant();
+        List<RingKey> keys = keySet.keys();
+        RingKey signing = keys.get(0);
+        for (RingKey key : keys) {
+            if (!key.activeFrom().isAfter(now)) {
+                signing = key;
+            }
+        }
+        return new SigningKey(signing.id(), signing.secret());
+    }
+
+    /**
+     * Returns the key a token is verified with, located by the {@code kid} header of the token.
+     *
+     * @param header the header of the token
+     * @return the verification key
+     * @throws InvalidKeyException if the token has no key ID, or if the key is unknown or retired
+     */
+    @Override
+    public Key locate(Header header) {
+        String keyId = header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null;
+        RingKey key = Objects.isNull(keyId) ? null : keySet.byId().get(keyId);
+        if (Objects.isNull(key) || isRetired(key)) {
+            rejected.increment();
+            throw new InvalidKeyException("Unknown or retired JWT signing key: " + keyId);
+        }
+        return key.secret();
+    }
+
+    /**
+     * Tells whether tokens signed with a key are still accepted.
+     *
+     * @param keyId the ID of the key
+     * @return true if the key is known and not retired, false otherwise
+     */
+    public boolean isAccepted(String keyId) {
+        RingKey key = keySet.byId().get(keyId);
+        return Objects.nonNull(key) && !isRetired(key);
+    }
+
+    /**
+     * Reads the keys file again, keeping the current keys if the file cannot be read or is invalid.
+     */
+    @Scheduled(fixedDelayString = "${jwt.keys-reload-interval-ms:60000}")
+    public void reload() {
+        if (keysFile.isBlank()) {
+            return;
+        }
+        try {
+            KeySet reloaded = load(readKeysFile());
+            if (!reloaded.byId().keySet().equals(keySet.byId().keySet())) {
+                log.info("Reloaded JWT signing keys {}", reloaded.byId().keySet());
+            }
+            keySet = reloaded;
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            log.error("Failed to reload the JWT signing keys from {}, keeping the current keys", keysFile, e);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("jwt.keys", this, JwtKeyRing::acceptedKeyCount)
+                .description("Number of keys JWT tokens are accepted with")
+                .register(registry);
+        FunctionCounter.builder("jwt.keys.rejected", rejected, LongAdder::sum)
+                .description("Number of JWT tokens rejected for an unknown or retired key")
+                .register(registry);
+    }
+
+    private long acceptedKeyCount() {
+        return keySet.keys().stream().filter(key -> !isRetired(key)).count();
+    }
+
+    private boolean isRetired(RingKey key) {
+        return !clock.instant().isBefore(key.retiresAt());
+    }
+
+    private String readKeysFile() {
+        try {
+            return Files.readString(Path.of(keysFile), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read the JWT signing keys from " + keysFile, e);
+        }
+    }
+
+    private KeySet load(String source) {
+        List<RingKey> keys = new ArrayList<>();
+        for (String line : source.split("[,\\n]")) {
+            String entry = line.strip();
+            if (!entry.isEmpty() && !entry.startsWith("#")) {
+                keys.add(parseKey(entry));
+            }
+        }
+        if (keys.isEmpty()) {
+            throw new IllegalArgumentException("No JWT signing key found");
+        }
+        return buildKeySet(keys);
+    }
+
+    private static RingKey parseKey(String entry) {
+        String[] parts = entry.split(":", 3);
+        if (parts.length < 2 || parts[0].isBlank()) {
+            throw new IllegalArgumentException("JWT signing keys are written as <id>:<base64 secret>[:<active from>]");
+        }
+        String id = parts[0].strip();
+        try {
+            SecretKey secret = Keys.hmacShaKeyFor(Base64.getDecoder().decode(parts[1].strip()));
+            Instant activeFrom = parts.length == 3 ? Instant.parse(parts[2].strip()) : Instant.EPOCH;
+            return new RingKey(id, secret, activeFrom);
+        } catch (IllegalArgumentException | DateTimeParseException | WeakKeyException e) {
+            throw new IllegalArgumentException("Invalid JWT signing key " + id + ": " + e.getMessage(), e);
+        }
+    }
+
+    private KeySet buildKeySet(List<RingKey> keys) {
+        List<RingKey> sorted = new ArrayList<>(keys);
+        sorted.sort(Comparator.comparing(RingKey::activeFrom));
+        List<RingKey> retiring = new ArrayList<>(sorted.size());
+        Map<String, RingKey> byId = new LinkedHashMap<>();
+        for (int i = 0; i < sorted.size(); i++) {
+            RingKey key = sorted.get(i);
+            Instant retiresAt = i + 1 < sorted.size()
+                    ? sorted.get(i + 1).activeFrom().plus(gracePeriod)
+                    : Instant.MAX;
+            RingKey withRetirement = new RingKey(key.id(), key.secret(), key.activeFrom(), retiresAt);
+            if (Objects.nonNull(byId.put(key.id(), withRetirement))) {
+                throw new IllegalArgumentException("Duplicate JWT signing key " + key.id());
+            }
+            retiring.add(withRetirement);
+        }
+        return new KeySet(List.copyOf(retiring), Map.copyOf(byId));
+    }
+
+    /**
+     * A key new tokens are signed with.
+     *
+     * @param id  the ID of the key, written to the {@code kid} header of the tokens
+     * @param key the secret key
+     */
+    public record SigningKey(String id, SecretKey key) {
+    }
+
+    /**
+     * A loaded key.
+     *
+     * @param id         the ID of the key
+     * @param secret     the secret key
+     * @param activeFrom the time new tokens are signed with the key from
+     * @param retiresAt  the time tokens signed with the key are rejected from
+     */
+    private record RingKey(String id, SecretKey secret, Instant activeFrom, Instant retiresAt) {
+
+        RingKey(String id, SecretKey secret, Instant activeFrom) {
+            this(id, secret, activeFrom, Instant.MAX);
+        }
+    }
+
+    /**
+     * An immutable snapshot of the loaded keys.
+     *
+     * @param keys the keys ordered by activation time
+     * @param byId the keys by ID
+     */
+    private record KeySet(List<RingKey> keys, Map<String, RingKey> byId) {
+    }
+}
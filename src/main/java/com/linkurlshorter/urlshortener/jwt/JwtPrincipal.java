@@ -0,0 +1,44 @@
+package com.linkurlshorter.urlshortener.jwt;
+
+import com.linkurlshorter.urlshortener.user.model.UserRole;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.security.Principal;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.UUID;
+
+/**
+ * The authenticated user of an API request, built from the verified claims of its JWT token alone.
+ *
+ * <p>The name of the principal is the email of the user, so
+ * {@link org.springframework.security.core.Authentication#getName()} keeps returning the email, while the ID and
+ * the role are available without loading the user.
+ *
+ * @param id    the ID of the user
+ * @param email the email of the user
+ * @param role  the role of the user
+ * @see JwtUtil#getPrincipalFromToken(String)
+ */
+public record JwtPrincipal(UUID id, String email, UserRole role) implements Principal {
+
+    /**
+     * Returns the email of the user.
+     *
+     * @return the email of the user
+     */
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    /**
+     * Returns the authorities granted to the user.
+     *
+     * @return a collection containing the role of the user
+     */
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return Collections.singleton(new SimpleGrantedAuthority(role.name()));
+    }
+}
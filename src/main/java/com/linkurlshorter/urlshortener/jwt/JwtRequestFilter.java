@@ -1,6 +1,5 @@
 package com.linkurlshorter.urlshortener.jwt;
 
-import com.linkurlshorter.urlshortener.security.CustomUserDetailsService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,24 +7,25 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Objects;
 
 /**
  * Filter class for JWT authentication.
  *
  * <p>This class intercepts incoming requests, extracts JWT tokens, and authenticates users
- * based on the token information.
+ * based on the token information. The authentication is built from the verified claims of the token alone,
+ * with a {@link JwtPrincipal} carrying the ID, the email and the role of the user, so authenticating a request
+ * does not query the database. Revoked tokens are rejected by {@link JwtUtil#getPrincipalFromToken(String)} from
+ * the revocations the {@link TokenRevocationList} mirrors in memory, so that does not query Redis either.
  *
  * @author Egor Sivenko
  * @see org.springframework.web.filter.OncePerRequestFilter
  * @see com.linkurlshorter.urlshortener.jwt.JwtUtil
- * @see com.linkurlshorter.urlshortener.security.CustomUserDetailsService
  */
 @Component
 @RequiredArgsConstructor
@@ -36,11 +36,6 @@ public class JwtRequestFilter extends OncePerRequestFilter {
      */
     private final JwtUtil jwtUtil;
 
-    /**
-     * Custom implementation of UserDetailsService for loading user details.
-     */
-    private final CustomUserDetailsService customUserDetailsService;
-
     /**
      * Filters incoming HTTP requests and performs JWT authentication.
      *
@@ -57,12 +52,11 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         String token = request.getHeader("Authorization");
 
         if (token != null && token.startsWith("Bearer ")) {
-            String email = jwtUtil.getEmailFromToken(token.substring(7));
+            JwtPrincipal principal = jwtUtil.getPrincipalFromToken(token.substring(7));
 
-            if (StringUtils.hasText(email)) {
-                UserDetails userDetails = customUserDetailsService.loadUserByUsername(email);
-                UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
-                        userDetails.getUsername(), userDetails.getPassword(), userDetails.getAuthorities());
+            if (Objects.nonNull(principal)) {
+                UsernamePasswordAuthenticationToken authenticationToken = UsernamePasswordAuthenticationToken
+                        .authenticated(principal, null, principal.getAuthorities());
 
                 authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authenticationToken);
@@ -1,25 +1,41 @@
 package com.linkurlshorter.urlshortener.jwt;
 
+import com.linkurlshorter.urlshortener.security.SecurityUserDetails;
+import com.linkurlshorter.urlshortener.user.model.UserRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
+import java.time.Instant;
 import java.util.Date;
+import java.util.Objects;
+import java.util.UUID;
 
 /**
  * Utility class for JWT (JSON Web Token) generation and parsing.
  *
  * <p>This class provides methods for generating JWT tokens based on authentication information,
- * as well as extracting email from a JWT token.
+ * as well as extracting email from a JWT token. Tokens carry the ID and the role of the user as claims,
+ * so API requests are authenticated from the token alone, without loading the user. Tokens are verified by a
+ * {@link JwtVerifier}, which remembers the claims of verified tokens until they expire. Tokens are signed with the
+ * current key of the {@link JwtKeyRing} shared by all nodes, so any node accepts the tokens of the others.
+ * Every token carries a unique ID in its {@code jti} claim, and tokens revoked before they expire are rejected by
+ * the {@link TokenRevocationList}, from memory.
  *
  * @author Egor Sivenko
- * @see javax.crypto.SecretKey
+ * @see JwtKeyRing
+ * @see TokenRevocationList
  * @see io.jsonwebtoken.Jwts
  * @see org.springframework.security.core.Authentication
  */
 @Component
-public class JwtUtil {
+public class JwtUtil implements MeterBinder {
 
     /**
      * Expiration time for JWT tokens in milliseconds.
@@ -27,22 +43,86 @@ public class JwtUtil {
     private static final int EXPIRATION_TIME = 30 * 60 * 1000;
 
     /**
-     * Secret key for signing JWT tokens.
+     * Name of the claim holding the ID of the user.
      */
-    private static final SecretKey SECRET_KEY = Jwts.SIG.HS256.key().build();
+    private static final String USER_ID_CLAIM = "uid";
 
     /**
-     * Generates a JWT token based on the provided authentication.
+     * Name of the claim holding the role of the user.
+     */
+    private static final String ROLE_CLAIM = "role";
+
+    /**
+     * Keys for signing JWT tokens, shared by all nodes.
+     */
+    private final JwtKeyRing keyRing;
+
+    /**
+     * Tokens revoked before they expire.
+     */
+    private final TokenRevocationList revocationList;
+
+    /**
+     * Verifier of the tokens signed with the keys of the key ring.
+     */
+    private final JwtVerifier jwtVerifier;
+
+    /**
+     * Creates the utility.
+     *
+     * @param keyRing                the keys for signing and verifying tokens
+     * @param revocationList         the tokens revoked before they expire
+     * @param verifiedTokenCacheSize the maximum number of verified tokens remembered
+     */
+    public JwtUtil(JwtKeyRing keyRing,
+                   TokenRevocationList revocationList,
+                   @Value("${jwt.verified-cache.maximum-size:10000}") long verifiedTokenCacheSize) {
+        this.keyRing = keyRing;
+        this.revocationList = revocationList;
+        this.jwtVerifier = new JwtVerifier(keyRing, verifiedTokenCacheSize);
+    }
+
+    /**
+     * Generates a JWT token based on the provided authentication. The token is issued now, or at the watermark of
+     * the user if the user's tokens were revoked within the current second, so that it is not revoked already.
      *
      * @param authentication the authentication object containing user details
      * @return the generated JWT token
      */
     public String generateToken(Authentication authentication) {
-        return Jwts.builder()
+        Instant now = Instant.now();
+        UUID userId = userId(authentication.getPrincipal());
+        Instant issuedAt = Objects.isNull(userId)
+                ? now
+                : revocationList.watermark(userId).filter(now::isBefore).orElse(now);
+        return generateToken(authentication, issuedAt);
+    }
+
+    /**
+     * Generates a JWT token based on the provided authentication, issued at the provided time, e.g. the time
+     * returned by {@link TokenRevocationList#revokeUser(UUID)} for the token replacing the revoked ones.
+     *
+     * @param authentication the authentication object containing user details
+     * @param issuedAt       the issue time of the token
+     * @return the generated JWT token
+     */
+    public String generateToken(Authentication authentication, Instant issuedAt) {
+        JwtBuilder builder = Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(authentication.getName())
-                .issuedAt(new Date())
-                .expiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
-                .signWith(SECRET_KEY)
+                .issuedAt(Date.from(issuedAt))
+                .expiration(Date.from(issuedAt.plusMillis(EXPIRATION_TIME)));
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof SecurityUserDetails userDetails) {
+            builder.claim(USER_ID_CLAIM, userDetails.getId().toString())
+                    .claim(ROLE_CLAIM, userDetails.getRole().name());
+        } else if (principal instanceof JwtPrincipal jwtPrincipal) {
+            builder.claim(USER_ID_CLAIM, jwtPrincipal.id().toString())
+                    .claim(ROLE_CLAIM, jwtPrincipal.role().name());
+        }
+        JwtKeyRing.SigningKey signingKey = keyRing.signingKey();
+        return builder.header().keyId(signingKey.id()).and()
+                .signWith(signingKey.key())
                 .compact();
     }
 
@@ -53,11 +133,63 @@ public class JwtUtil {
      * @return the email extracted from the token
      */
     public String getEmailFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(SECRET_KEY)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+        return parseClaims(token).getSubject();
+    }
+
+    /**
+     * Builds the authenticated user from the verified claims of a JWT token.
+     *
+     * @param token the JWT token
+     * @return the user the token was issued to, or null if the token does not carry the ID and the role of the user
+     * or has been revoked
+     */
+    public JwtPrincipal getPrincipalFromToken(String token) {
+        Claims claims = parseClaims(token);
+        String userId = claims.get(USER_ID_CLAIM, String.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (Objects.isNull(claims.getSubject()) || Objects.isNull(userId) || Objects.isNull(role)) {
+            return null;
+        }
+        UUID id = UUID.fromString(userId);
+        if (revocationList.isRevoked(id, claims.getId(), claims.getIssuedAt())) {
+            return null;
+        }
+        return new JwtPrincipal(id, claims.getSubject(), UserRole.valueOf(role));
+    }
+
+    /**
+     * Revokes a JWT token before it expires. Invalid or expired tokens and tokens without an ID are ignored.
+     *
+     * @param token the JWT token
+     */
+    public void revokeToken(String token) {
+        Claims claims;
+        try {
+            claims = parseClaims(token);
+        } catch (JwtException e) {
+            return;
+        }
+        if (Objects.nonNull(claims.getId())) {
+            revocationList.revokeToken(claims.getId());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        jwtVerifier.bindTo(registry);
+    }
+
+    private Claims parseClaims(String token) {
+        return jwtVerifier.verify(token);
+    }
+
+    private static UUID userId(Object principal) {
+        if (principal instanceof SecurityUserDetails userDetails) {
+            return userDetails.getId();
+        }
+        if (principal instanceof JwtPrincipal jwtPrincipal) {
+            return jwtPrincipal.id();
+        }
+        return null;
     }
 }
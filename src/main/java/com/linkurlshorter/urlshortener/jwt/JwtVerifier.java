@@ -0,0 +1,165 @@
+package com.linkurlshorter.urlshortener.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Verifies JWT tokens and remembers the claims of verified tokens until they expire.
+ *
+ * <p>Tokens are verified by a single immutable parser, built once, which looks the key of each token up in the
+ * {@link JwtKeyRing} by its {@code kid} header. The same client sends its token with every request for the whole
+ * lifetime of the token, so the claims of verified tokens are cached, keyed by the SHA-256 digest of the token,
+ * and a token seen before is neither verified nor parsed again. Each entry expires when its token does, so an
+ * expired token is always verified again and rejected. Tokens that fail verification are not cached. A cached
+ * token signed with a key retired or removed since is verified again, and rejected.
+ *
+ * <p>The cache is published under the {@code cache.*} meters tagged with {@code cache=jwt-verified-tokens}, the
+ * verifications of tokens not found in the cache as the {@code jwt.verification} timer.
+ */
+public class JwtVerifier implements MeterBinder {
+
+    private static final String CACHE_NAME = "jwt-verified-tokens";
+
+    /**
+     * Maximum lifetime of cached claims, also used for tokens without an expiration time.
+     */
+    private static final Duration MAX_TTL = Duration.ofMinutes(30);
+
+    private final JwtKeyRing keyRing;
+    private final JwtParser parser;
+    private final Cache<ByteBuffer, VerifiedToken> verifiedTokens;
+    private final MessageDigest digestPrototype;
+    private final LongAdder verifications = new LongAdder();
+    private final LongAdder verificationNanos = new LongAdder();
+
+    /**
+     * Creates the verifier.
+     *
+     * @param keyRing     the keys the tokens are signed with
+     * @param maximumSize the maximum number of verified tokens remembered
+     */
+    public JwtVerifier(JwtKeyRing keyRing, long maximumSize) {
+        this.keyRing = keyRing;
+        this.parser = Jwts.parser().keyLocator(keyRing).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        try {
+            this.digestPrototype = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Returns the claims of a token, verifying the token unless it has been verified before and not expired since.
+     *
+     * @param token the JWT token
+     * @return the verified claims of the token
+     * @throws JwtException if the token is invalid, e.g. malformed, expired or not signed with an accepted key
+     */
+    public Claims verify(String token) {
+        ByteBuffer key = digest(token);
+        VerifiedToken verified = verifiedTokens.getIfPresent(key);
+        if (Objects.nonNull(verified) && keyRing.isAccepted(verified.keyId())) {
+            return verified.claims();
+        }
+        Jws<Claims> jws;
+        long start = System.nanoTime();
+        try {
+            jws = parser.parseSignedClaims(token);
+        } finally {
+            verifications.increment();
+            verificationNanos.add(System.nanoTime() - start);
+        }
+        verifiedTokens.put(key, new VerifiedToken(jws.getHeader().getKeyId(), jws.getPayload()));
+        return jws.getPayload();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, verifiedTokens, CACHE_NAME);
+        FunctionTimer.builder("jwt.verification", this,
+                        verifier -> verifier.verifications.sum(),
+                        verifier -> verifier.verificationNanos.sum(),
+                        TimeUnit.NANOSECONDS)
+                .description("Time spent verifying JWT tokens not found in the cache")
+                .register(registry);
+    }
+
+    /**
+     * Returns the share of tokens answered from the cache since the verifier was created.
+     *
+     * @return the hit ratio of the cache
+     */
+    public double hitRatio() {
+        return verifiedTokens.stats().hitRate();
+    }
+
+    private ByteBuffer digest(String token) {
+        MessageDigest digest;
+        try {
+            digest = (MessageDigest) digestPrototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("SHA-256 digests cannot be cloned", e);
+        }
+        return ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * The verified claims of a token.
+     *
+     * @param keyId  the ID of the key the token is signed with
+     * @param claims the claims of the token
+     */
+    private record VerifiedToken(String keyId, Claims claims) {
+    }
+
+    /**
+     * Expires the claims of a token at the expiration time of the token.
+     */
+    private static final class TokenExpiry implements Expiry<ByteBuffer, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, VerifiedToken token, long currentTime) {
+            Date expiration = token.claims().getExpiration();
+            if (Objects.isNull(expiration)) {
+                return MAX_TTL.toNanos();
+            }
+            long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, Math.min(remainingMillis, MAX_TTL.toMillis())));
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
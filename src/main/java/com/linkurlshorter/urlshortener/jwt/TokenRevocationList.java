@@ -0,0 +1,333 @@
+package com.linkurlshorter.urlshortener.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPubSub;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.resps.ScanResult;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The JWT tokens revoked before they expire, checked on every authenticated request without leaving the node.
+ *
+ * <p>Two kinds of revocations are kept. Revoking all tokens of a user, e.g. when the password or the email
+ * changes, sets a watermark at the start of the next second: tokens of the user issued before it are rejected,
+ * including those issued in the second of the revocation, e.g. by a concurrent refresh, since {@code iat} claims
+ * only hold whole seconds. The replacement tokens are issued at the watermark. Revoking a single token,
+ * e.g. on logout, adds its {@code jti} claim to a denylist. Both are stored in Redis, under
+ * {@value #USER_KEY_PREFIX}{@code <user ID>} and {@value #TOKEN_KEY_PREFIX}{@code <jti>}, for
+ * {@code jwt.revocation.retention}, at least the lifetime of a token, after which the revoked tokens have expired
+ * anyway.
+ *
+ * <p>Every node mirrors the revocations in memory, so checking a token takes two map lookups. A revocation is
+ * applied to the mirror of the node that made it at once and published on the {@value #CHANNEL} channel, whose
+ * subscriber applies it on the other nodes. Each time the subscription is established, the mirror is reloaded from
+ * Redis, so revocations published while a node was not subscribed are not missed. The subscription holds one
+ * connection of the pool.
+ *
+ * <p>The time from the publication of a revocation to its arrival on a node is published as the
+ * {@code jwt.revocation.propagation} timer, measured with the clocks of both nodes. Revocations made by the node
+ * are published as the {@code jwt.revocation.revoked} counter, rejected tokens as the
+ * {@code jwt.revocation.rejected} counter, and whether the node is subscribed as the
+ * {@code jwt.revocation.subscribed} gauge; while it is not, revocations made by other nodes do not reach it.
+ *
+ * @see JwtUtil
+ */
+@Slf4j
+@Component
+public class TokenRevocationList implements MeterBinder {
+
+    /**
+     * Channel the revocations are published on.
+     */
+    static final String CHANNEL = "jwt:revocations";
+
+    /**
+     * Prefix of the keys holding the watermark of each user, in epoch seconds.
+     */
+    static final String USER_KEY_PREFIX = "jwt:revoked:user:";
+
+    /**
+     * Prefix of the keys marking each revoked token.
+     */
+    static final String TOKEN_KEY_PREFIX = "jwt:revoked:token:";
+
+    private static final String USER_MESSAGE = "user";
+    private static final String TOKEN_MESSAGE = "token";
+    private static final String REVOKED = "1";
+    private static final int SCAN_COUNT = 1000;
+    private static final long RESUBSCRIBE_DELAY_MILLIS = 5000;
+
+    private final JedisPool jedisPool;
+    private final long retentionSeconds;
+    private final Cache<UUID, Long> watermarks;
+    private final Cache<String, Boolean> revokedTokens;
+    private final LongAdder revoked = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private volatile Timer propagation;
+    private volatile RevocationSubscriber subscriber;
+    private volatile boolean running;
+    private Thread subscriberThread;
+
+    /**
+     * Creates the revocation list.
+     *
+     * @param jedisPool the pool of Redis connections
+     * @param retention the time revocations are kept, at least the lifetime of a token
+     */
+    public TokenRevocationList(JedisPool jedisPool,
+                               @Value("${jwt.revocation.retention:35m}") Duration retention) {
+        this.jedisPool = jedisPool;
+        this.retentionSeconds = retention.toSeconds();
+        this.watermarks = Caffeine.newBuilder().expireAfterWrite(retention).build();
+        this.revokedTokens = Caffeine.newBuilder().expireAfterWrite(retention).build();
+    }
+
+    /**
+     * Starts the thread subscribing to the revocations published by all nodes.
+     */
+    @PostConstruct
+    public void start() {
+        running = true;
+        subscriberThread = new Thread(this::subscribe, "jwt-revocations");
+        subscriberThread.setDaemon(true);
+        subscriberThread.start();
+    }
+
+    /**
+     * Stops the subscription when the application shuts down.
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        RevocationSubscriber current = subscriber;
+        if (Objects.nonNull(current) && current.isSubscribed()) {
+            try {
+                current.unsubscribe();
+            } catch (RuntimeException e) {
+                log.debug("Failed to unsubscribe from JWT revocations", e);
+            }
+        }
+        if (Objects.nonNull(subscriberThread)) {
+            subscriberThread.interrupt();
+        }
+    }
+
+    /**
+     * Revokes all tokens of a user issued so far, including those issued in the current second.
+     *
+     * @param userId the ID of the user
+     * @return the issue time of the replacement tokens of the user, the start of the next second
+     */
+    public Instant revokeUser(UUID userId) {
+        long watermark = System.currentTimeMillis() / 1000 + 1;
+        applyWatermark(userId, watermark);
+        publish(USER_KEY_PREFIX + userId, String.valueOf(watermark),
+                String.join(" ", USER_MESSAGE, userId.toString(), String.valueOf(watermark)));
+        return Instant.ofEpochSecond(watermark);
+    }
+
+    /**
+     * Returns the time before which all tokens of a user are revoked, as far as this node knows. A token issued to
+     * the user in the same second as a revocation must not be issued before this time, or it is revoked already.
+     *
+     * @param userId the ID of the user
+     * @return the start of the second after the last revocation of the user, empty if the user was not revoked
+     */
+    public Optional<Instant> watermark(UUID userId) {
+        return Optional.ofNullable(watermarks.getIfPresent(userId)).map(Instant::ofEpochSecond);
+    }
+
+    /**
+     * Revokes a single token.
+     *
+     * @param tokenId the {@code jti} claim of the token
+     */
+    public void revokeToken(String tokenId) {
+        revokedTokens.put(tokenId, Boolean.TRUE);
+        publish(TOKEN_KEY_PREFIX + tokenId, REVOKED, String.join(" ", TOKEN_MESSAGE, tokenId));
+    }
+
+    /**
+     * Tells whether a token has been revoked, from the revocations mirrored in memory.
+     *
+     * @param userId   the ID of the user the token was issued to
+     * @param tokenId  the {@code jti} claim of the token, null if it has none
+     * @param issuedAt the {@code iat} claim of the token, null if it has none
+     * @return true if the token has been revoked
+     */
+    public boolean isRevoked(UUID userId, String tokenId, Date issuedAt) {
+        boolean tokenRevoked = Objects.nonNull(tokenId) && Objects.nonNull(revokedTokens.getIfPresent(tokenId));
+        if (!tokenRevoked) {
+            Long watermark = watermarks.getIfPresent(userId);
+            tokenRevoked = Objects.nonNull(watermark)
+                    && (Objects.isNull(issuedAt) || issuedAt.getTime() / 1000 < watermark);
+        }
+        if (tokenRevoked) {
+            rejected.increment();
+        }
+        return tokenRevoked;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        propagation = Timer.builder("jwt.revocation.propagation")
+                .description("Time from the publication of a token revocation to its arrival on this node")
+                .register(registry);
+        FunctionCounter.builder("jwt.revocation.revoked", revoked, LongAdder::sum)
+                .description("Users and tokens revoked by this node")
+                .register(registry);
+        FunctionCounter.builder("jwt.revocation.rejected", rejected, LongAdder::sum)
+                .description("JWT tokens rejected as revoked")
+                .register(registry);
+        Gauge.builder("jwt.revocation.subscribed", this, TokenRevocationList::subscribedValue)
+                .description("Whether this node receives the token revocations of the other nodes")
+                .register(registry);
+    }
+
+    /**
+     * Applies a revocation received on the channel to the mirror.
+     *
+     * @param message the revocation, {@code user <user ID> <watermark> <published at>} or
+     *                {@code token <jti> <published at>}, the publication time in epoch milliseconds
+     */
+    void onMessage(String message) {
+        String[] parts = message.split(" ");
+        try {
+            if (USER_MESSAGE.equals(parts[0]) && parts.length == 4) {
+                applyWatermark(UUID.fromString(parts[1]), Long.parseLong(parts[2]));
+            } else if (TOKEN_MESSAGE.equals(parts[0]) && parts.length == 3) {
+                revokedTokens.put(parts[1], Boolean.TRUE);
+            } else {
+                log.warn("Ignoring malformed JWT revocation '{}'", message);
+                return;
+            }
+            recordPropagation(Long.parseLong(parts[parts.length - 1]));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed JWT revocation '{}'", message, e);
+        }
+    }
+
+    /**
+     * Loads all revocations kept in Redis into the mirror.
+     */
+    void reload() {
+        try (Jedis jedis = jedisPool.getResource()) {
+            ScanParams scanParams = new ScanParams().match(USER_KEY_PREFIX + "*").count(SCAN_COUNT);
+            String cursor = ScanParams.SCAN_POINTER_START;
+            do {
+                ScanResult<String> scanResult = jedis.scan(cursor, scanParams);
+                List<String> keys = scanResult.getResult();
+                if (!keys.isEmpty()) {
+                    List<String> values = jedis.mget(keys.toArray(String[]::new));
+                    for (int i = 0; i < keys.size(); i++) {
+                        if (Objects.nonNull(values.get(i))) {
+                            applyWatermark(UUID.fromString(keys.get(i).substring(USER_KEY_PREFIX.length())),
+                                    Long.parseLong(values.get(i)));
+                        }
+                    }
+                }
+                cursor = scanResult.getCursor();
+            } while (!ScanParams.SCAN_POINTER_START.equals(cursor));
+
+            scanParams = new ScanParams().match(TOKEN_KEY_PREFIX + "*").count(SCAN_COUNT);
+            do {
+                ScanResult<String> scanResult = jedis.scan(cursor, scanParams);
+                scanResult.getResult().forEach(key ->
+                        revokedTokens.put(key.substring(TOKEN_KEY_PREFIX.length()), Boolean.TRUE));
+                cursor = scanResult.getCursor();
+            } while (!ScanParams.SCAN_POINTER_START.equals(cursor));
+        }
+    }
+
+    private void publish(String key, String value, String message) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            Pipeline pipeline = jedis.pipelined();
+            pipeline.setex(key, retentionSeconds, value);
+            pipeline.publish(CHANNEL, message + " " + System.currentTimeMillis());
+            pipeline.sync();
+        }
+        revoked.increment();
+    }
+
+    private void applyWatermark(UUID userId, long watermark) {
+        watermarks.asMap().merge(userId, watermark, Math::max);
+    }
+
+    private void recordPropagation(long publishedAtMillis) {
+        Timer timer = propagation;
+        if (Objects.nonNull(timer)) {
+            timer.record(Math.max(0, System.currentTimeMillis() - publishedAtMillis), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private double subscribedValue() {
+        RevocationSubscriber current = subscriber;
+        return Objects.nonNull(current) && current.isSubscribed() ? 1 : 0;
+    }
+
+    private void subscribe() {
+        while (running) {
+            try (Jedis jedis = jedisPool.getResource()) {
+                subscriber = new RevocationSubscriber();
+                jedis.subscribe(subscriber, CHANNEL);
+            } catch (RuntimeException e) {
+                if (running) {
+                    log.warn("Lost the subscription to JWT revocations, resubscribing in {} ms",
+                            RESUBSCRIBE_DELAY_MILLIS, e);
+                }
+            }
+            if (running) {
+                try {
+                    Thread.sleep(RESUBSCRIBE_DELAY_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies the revocations published on the channel, reloading all revocations once subscribed.
+     */
+    private final class RevocationSubscriber extends JedisPubSub {
+
+        @Override
+        public void onSubscribe(String channel, int subscribedChannels) {
+            try {
+                reload();
+            } catch (RuntimeException e) {
+                log.warn("Failed to load the JWT revocations, resubscribing", e);
+                unsubscribe();
+            }
+        }
+
+        @Override
+        public void onMessage(String channel, String message) {
+            TokenRevocationList.this.onMessage(message);
+        }
+    }
+}
@@ -1,31 +1,36 @@
 package com.linkurlshorter.urlshortener.link;
 
+import com.linkurlshorter.urlshortener.link.batch.LinkBatchService;
+import com.linkurlshorter.urlshortener.link.dto.BatchLinkResultDto;
 import com.linkurlshorter.urlshortener.link.dto.LinkInfoDto;
 import com.linkurlshorter.urlshortener.link.dto.LinkInfoDtoMapper;
 import com.linkurlshorter.urlshortener.link.dto.LinkStatisticsDto;
 import com.linkurlshorter.urlshortener.link.exception.DeletedLinkException;
 import com.linkurlshorter.urlshortener.link.exception.ForbiddenException;
 import com.linkurlshorter.urlshortener.link.exception.InternalServerLinkException;
+import com.linkurlshorter.urlshortener.link.exception.LinkBatchRejectedException;
+import com.linkurlshorter.urlshortener.link.exception.LinkBatchTooLargeException;
 import com.linkurlshorter.urlshortener.link.exception.LinkStatusException;
 import com.linkurlshorter.urlshortener.link.generator.ShortLinkGenerator;
+import com.linkurlshorter.urlshortener.link.liveness.UrlLivenessChecker;
 import com.linkurlshorter.urlshortener.link.model.Link;
 import com.linkurlshorter.urlshortener.link.model.LinkStatus;
+import com.linkurlshorter.urlshortener.link.request.BatchCreateLinkRequest;
 import com.linkurlshorter.urlshortener.link.request.CreateLinkRequest;
 import com.linkurlshorter.urlshortener.link.request.EditLinkContentRequest;
+import com.linkurlshorter.urlshortener.link.response.BatchCreateLinkResponse;
 import com.linkurlshorter.urlshortener.link.response.CreateLinkResponse;
 import com.linkurlshorter.urlshortener.link.response.LinkInfoResponse;
 import com.linkurlshorter.urlshortener.link.response.LinkModifyingResponse;
 import com.linkurlshorter.urlshortener.link.response.LinkStatisticsResponse;
+import com.linkurlshorter.urlshortener.lookup.EntityLookupContext;
 import com.linkurlshorter.urlshortener.user.model.User;
-import com.linkurlshorter.urlshortener.user.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -37,6 +42,7 @@ import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -54,9 +60,11 @@ public class LinkController {
     private static final String OPERATION_FORBIDDEN_MSG = "Operation forbidden!";
 
     private final LinkService linkService;
-    private final UserService userService;
     private final LinkInfoDtoMapper linkDtoMapper;
     private final ShortLinkGenerator linkGenerator;
+    private final LinkBatchService linkBatchService;
+    private final UrlLivenessChecker urlLivenessChecker;
+    private final EntityLookupContext entityLookupContext;
 
     /**
      * Controller method for creating a new link.
@@ -65,6 +73,9 @@ public class LinkController {
      * in the request body and generates a new short URL for the provided long URL. The short URL is then
      * associated with the authenticated user and stored in the database. Upon successful creation of the link,
      * a {@link CreateLinkResponse} containing the newly generated short URL is returned with a status of 200 (OK).
+     * If the request asks for deduplication and the user already has an active link to the long URL, its short URL
+     * is returned instead and no link is created. If the liveness of the long URL is verified after the link has been
+     * created, the link is deactivated once the long URL is found dead.
      * If any errors occur during the process, an {@link InternalServerLinkException} is thrown.
      * </p>
      *
@@ -80,12 +91,18 @@ public class LinkController {
     @SecurityRequirement(name = "JWT")
     @Operation(summary = "Create new link")
     public ResponseEntity<CreateLinkResponse> createLink(@RequestBody @Valid CreateLinkRequest createRequest) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        User user = userService.findByEmail(authentication.getName());
+        User user = entityLookupContext.currentUserReference();
         String newShortUrl;
         if (Objects.nonNull(createRequest.getShortLinkName())) {
             newShortUrl = createRequest.getShortLinkName();
         } else {
+            if (createRequest.isDeduplicate()) {
+                Optional<String> existingShortUrl = linkService.findActiveShortLink(user.getId(),
+                        createRequest.getLongLink());
+                if (existingShortUrl.isPresent()) {
+                    return ResponseEntity.ok(new CreateLinkResponse("ok", existingShortUrl.get()));
+                }
+            }
             newShortUrl = linkGenerator.generate();
         }
         try {
@@ -100,9 +117,40 @@ public class LinkController {
         } catch (Exception e) {
             throw new InternalServerLinkException();
         }
+        if (Objects.isNull(createRequest.getShortLinkName())) {
+            linkGenerator.markUsed(List.of(newShortUrl));
+        }
+        urlLivenessChecker.whenDead(createRequest.getLongLink(),
+                () -> linkService.deactivateByShortLink(newShortUrl));
         return ResponseEntity.ok(new CreateLinkResponse("ok", newShortUrl));
     }
 
+    /**
+     * Controller method for creating many links at once.
+     * <p>
+     * This method handles POST requests to create the links of a {@link BatchCreateLinkRequest} for the
+     * authenticated user. Each link is validated and created on its own, so the response contains one result per
+     * requested link, in the order of the request, with either the new short link or the reason the link was not
+     * created. The size of a batch and the number of batches created at the same time are limited.
+     * </p>
+     *
+     * @param batchRequest the request object containing the long URLs to be shortened
+     * @return a ResponseEntity containing the result of each requested link
+     * @throws LinkBatchTooLargeException if the request contains more links than allowed
+     * @throws LinkBatchRejectedException if too many batches are being created at the moment
+     * @see LinkBatchService
+     */
+    @PostMapping("/create-batch")
+    @SecurityRequirement(name = "JWT")
+    @Operation(summary = "Create many links at once")
+    public ResponseEntity<BatchCreateLinkResponse> createLinks(
+            @RequestBody @Valid BatchCreateLinkRequest batchRequest) {
+        User user = entityLookupContext.currentUserReference();
+        List<BatchLinkResultDto> results = linkBatchService.createAll(user, batchRequest.getLinks(),
+                LocalDateTime.now().plusDays(SHORT_LINK_LIFETIME_IN_DAYS));
+        return ResponseEntity.ok(new BatchCreateLinkResponse(results, "ok"));
+    }
+
     /**
      * Handles a request to delete a link.
      *
@@ -135,13 +183,14 @@ public class LinkController {
     @Operation(summary = "Edit link content")
     public ResponseEntity<LinkModifyingResponse> editLinkContent(@RequestBody @Valid EditLinkContentRequest request) {
         if (doesUserHaveRightsForLinkByShortLink(request.getOldShortLink())) {
-            Link link = linkService.findByShortLink(request.getOldShortLink());
+            Link link = entityLookupContext.findByShortLink(request.getOldShortLink());
             if (link.getStatus() != LinkStatus.ACTIVE) {
                 throw new LinkStatusException();
             }
             link.setShortLink(request.getNewShortLink());
-            linkService.updateRedisShortLink(request.getOldShortLink(), request.getNewShortLink());
             linkService.update(link);
+            linkService.updateRedisShortLink(request.getOldShortLink(), request.getNewShortLink());
+            linkService.updateRedisLink(request.getNewShortLink(), link);
             return ResponseEntity.ok(new LinkModifyingResponse("ok"));
         } else {
             throw new ForbiddenException(OPERATION_FORBIDDEN_MSG);
@@ -161,14 +210,14 @@ public class LinkController {
     @Operation(summary = "Refresh link expiration time")
     public ResponseEntity<LinkModifyingResponse> refreshLink(@RequestParam String shortLink) {
         if (doesUserHaveRightsForLinkByShortLink(shortLink)) {
-            Link link = linkService.findByShortLink(shortLink);
+            Link link = entityLookupContext.findByShortLink(shortLink);
             if (link.getStatus() == LinkStatus.DELETED) {
                 throw new DeletedLinkException();
             }
             link.setExpirationTime(LocalDateTime.now().plusDays(SHORT_LINK_LIFETIME_IN_DAYS));
             link.setStatus(LinkStatus.ACTIVE);
-            linkService.updateRedisLink(shortLink, link);
             linkService.update(link);
+            linkService.updateRedisLink(shortLink, link);
             return ResponseEntity.ok(new LinkModifyingResponse("ok"));
         } else {
             throw new ForbiddenException(OPERATION_FORBIDDEN_MSG);
@@ -187,7 +236,7 @@ public class LinkController {
     @Operation(summary = "Get link info")
     public ResponseEntity<LinkInfoResponse> getInfoByShortLink(@RequestParam String shortLink) {
         if (doesUserHaveRightsForLinkByShortLink(shortLink)) {
-            Link link = linkService.findByShortLink(shortLink);
+            Link link = entityLookupContext.findByShortLink(shortLink);
             LinkInfoDto dto = linkDtoMapper.mapLinkToDto(link);
             LinkInfoResponse response = new LinkInfoResponse(List.of(dto), "ok");
             return ResponseEntity.ok(response);
@@ -205,8 +254,7 @@ public class LinkController {
     @SecurityRequirement(name = "JWT")
     @Operation(summary = "Get all User's links info")
     public ResponseEntity<LinkInfoResponse> getAllLinksForUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        UUID requesterUserId = userService.findByEmail(authentication.getName()).getId();
+        UUID requesterUserId = entityLookupContext.currentUserId();
         List<LinkInfoDto> linksDto = linkService
                 .findAllByUserId(requesterUserId)
                 .stream()
@@ -218,14 +266,14 @@ public class LinkController {
 
     /**
      * Retrieves a list of active links associated with the currently authenticated user.
-     * This method first fetches the user ID of the currently authenticated user using the UserService.
+     * This method first takes the user ID of the currently authenticated user from the EntityLookupContext.
      * Then, it calls the LinkService to retrieve all active links associated with the user identified by the user ID.
      *
      * @return A list of active LinkDto objects associated with the currently authenticated user.
      */
     @GetMapping("/active-links")
     public List<LinkInfoDto> getOnlyActiveLinks(){
-        UUID userId = userService.findByEmail(SecurityContextHolder.getContext().getAuthentication().getName()).getId();
+        UUID userId = entityLookupContext.currentUserId();
         return linkService
                 .findAllActiveByUserId(userId)
                 .stream()
@@ -243,23 +291,23 @@ public class LinkController {
     @SecurityRequirement(name = "JWT")
     @Operation(summary = "Get all links usage statistics")
     public ResponseEntity<LinkStatisticsResponse> getLinksStatsForUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        User requesterUser = userService.findByEmail(authentication.getName());
-        List<LinkStatisticsDto> stats = linkService.getLinkUsageStatsByUserId(requesterUser.getId());
+        UUID requesterUserId = entityLookupContext.currentUserId();
+        List<LinkStatisticsDto> stats = linkService.getLinkUsageStatsByUserId(requesterUserId);
         stats.sort(Comparator.comparing(LinkStatisticsDto::getUsageStatistics).reversed());
         return ResponseEntity.ok(new LinkStatisticsResponse(stats, "ok"));
     }
 
     /**
-     * Checks if the authenticated user has rights to perform operations on a given link.
+     * Checks if the authenticated user has rights to perform operations on a given link. The link is looked up
+     * through the {@link EntityLookupContext}, so the handler and the validators of the request reuse it instead of
+     * querying it again, and the ID of the user is taken from the authentication.
      *
      * @param shortLink the String short link of the link to check
      * @return true if the user has rights, false otherwise
      */
     private boolean doesUserHaveRightsForLinkByShortLink(String shortLink) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        UUID linkUserId = linkService.findByShortLink(shortLink).getUser().getId();
-        UUID currentUserId = userService.findByEmail(authentication.getName()).getId();
+        UUID linkUserId = entityLookupContext.findByShortLink(shortLink).getUser().getId();
+        UUID currentUserId = entityLookupContext.currentUserId();
         return linkUserId.equals(currentUserId);
     }
 }
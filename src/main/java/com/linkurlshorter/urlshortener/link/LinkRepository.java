@@ -2,11 +2,13 @@ package com.linkurlshorter.urlshortener.link;
 
 import com.linkurlshorter.urlshortener.link.dto.LinkStatisticsDto;
 import com.linkurlshorter.urlshortener.link.model.Link;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -31,6 +33,14 @@ public interface LinkRepository extends JpaRepository<Link, UUID> {
      */
     Optional<Link> findByShortLink(String shortLink);
 
+    /**
+     * Checks whether a link with the specified short link exists, without loading the link entity.
+     *
+     * @param shortLink The short link to check.
+     * @return true if a link with the specified short link exists, deleted links included; false otherwise.
+     */
+    boolean existsByShortLink(String shortLink);
+
     /**
      * Retrieves a list of links associated with the specified user ID, excluding those with a status of 'DELETED'.
      * This method executes a JPQL query to fetch all links associated with the given user ID,
@@ -68,6 +78,26 @@ public interface LinkRepository extends JpaRepository<Link, UUID> {
             " FROM Link l WHERE l.user.id = :userId AND l.status <> 'DELETED'")
     List<LinkStatisticsDto> getLinkUsageStatsForUser(@Param(value = "userId") UUID userId);
 
+    /**
+     * Retrieves the short links of the active, unexpired links of a user to the specified long link, the links
+     * expiring last first. The links are looked up by the indexed hash of the long link.
+     *
+     * @param userId       The ID of the user whose links are to be searched.
+     * @param longLinkHash The {@link com.linkurlshorter.urlshortener.link.model.LongLinkHash} of the long link.
+     * @param longLink     The long link.
+     * @param now          The current time; links expiring before it are left out.
+     * @param pageable     The page of short links to retrieve.
+     * @return A list of short links of the user's active links to the long link.
+     */
+    @Query("SELECT l.shortLink FROM Link l WHERE l.user.id = :userId AND l.longLinkHash = :longLinkHash"
+            + " AND l.longLink = :longLink AND l.status = 'ACTIVE' AND l.expirationTime > :now"
+            + " ORDER BY l.expirationTime DESC")
+    List<String> findActiveShortLinks(@Param("userId") UUID userId,
+                                      @Param("longLinkHash") long longLinkHash,
+                                      @Param("longLink") String longLink,
+                                      @Param("now") LocalDateTime now,
+                                      Pageable pageable);
+
     /**
      * Deletes a link entity by its ID.
      *
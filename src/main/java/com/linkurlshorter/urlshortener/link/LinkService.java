@@ -1,6 +1,11 @@
 package com.linkurlshorter.urlshortener.link;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkurlshorter.urlshortener.link.cache.CachedLink;
+import com.linkurlshorter.urlshortener.link.cache.CachedLinkCodec;
+import com.linkurlshorter.urlshortener.link.cache.LinkCache;
+import com.linkurlshorter.urlshortener.link.cache.LinkLoadCoalescer;
+import com.linkurlshorter.urlshortener.link.cache.NegativeLinkCache;
+import com.linkurlshorter.urlshortener.link.cache.ShortLinkBloomFilter;
 import com.linkurlshorter.urlshortener.link.dto.LinkStatisticsDto;
 import com.linkurlshorter.urlshortener.link.exception.DeletedLinkException;
 import com.linkurlshorter.urlshortener.link.exception.InactiveLinkException;
@@ -8,93 +13,180 @@ import com.linkurlshorter.urlshortener.link.exception.NoLinkFoundByShortLinkExce
 import com.linkurlshorter.urlshortener.link.exception.NullLinkPropertyException;
 import com.linkurlshorter.urlshortener.link.model.Link;
 import com.linkurlshorter.urlshortener.link.model.LinkStatus;
-import com.linkurlshorter.urlshortener.link.validation.EndTimeLinkValidator;
+import com.linkurlshorter.urlshortener.link.model.LongLinkHash;
+import com.linkurlshorter.urlshortener.link.statistics.ClickAggregator;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Service class for managing link entities.
+ *
+ * <p>Saved and updated links are written through to the Redis cache on a best-effort basis: the link is already
+ * committed, so a failed write is logged and published as the {@code link.cache.write-through.failed} counter
+ * rather than failing the request, and the redirect path caches the link from the database again.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
-public class LinkService {
+public class LinkService implements MeterBinder {
 
     private final LinkRepository linkRepository;
     private final JedisPool jedisPool;
-    private final ObjectMapper mapper;
+    private final LinkCache linkCache;
+    private final ClickAggregator clickAggregator;
+    private final NegativeLinkCache negativeLinkCache;
+    private final LinkLoadCoalescer linkLoadCoalescer;
+    private final ShortLinkBloomFilter shortLinkBloomFilter;
+    private final LongAdder writeThroughFailures = new LongAdder();
 
     /**
      * Retrieves the long link associated with the provided short link.
      *
-     * <p>This method first attempts to fetch the long link from the Redis cache using the provided short link.
-     * If the short link exists in the cache, it deserializes the stored link object using the ObjectMapper
-     * and returns the long link. If the short link is not found in the cache, it queries the LinkRepository
-     * to fetch the link from the database. After retrieving the link, it checks if the link status is active,
-     * updates link statistics, and saves the link to the Redis cache. Finally, it returns the long link.
+     * <p>This method first looks the short link up in the in-process {@link LinkCache}, so hot links are served
+     * without a Redis round trip. On a miss it fetches the link from the Redis cache with a single GET,
+     * decoding the stored value with the {@link CachedLinkCodec}, and falls back to the LinkRepository if the
+     * short link is not cached in Redis either. Concurrent misses of the same short link are coalesced by the
+     * {@link LinkLoadCoalescer} into a single load. Unknown and deleted short links are answered from the
+     * {@link NegativeLinkCache} without querying the database. After retrieving the link, it checks if the link
+     * status is active and records the redirect in the link statistics. Finally, it returns the long link.
      *
-     * <p>The method is annotated with {@link SneakyThrows} to suppress checked exceptions from the ObjectMapper.
+     * <p>Cached expiration times are not moved on every redirect, so a link that looks expired according to
+     * the cache is re-checked against the database before it is marked as inactive.
      *
      * @param shortLink the short link for which to retrieve the long link
      * @return the long link associated with the short link
-     * @throws InactiveLinkException if the retrieved link is inactive
+     * @throws InactiveLinkException           if the retrieved link is inactive
+     * @throws NoLinkFoundByShortLinkException if no link is found with the given short link
+     * @throws DeletedLinkException            if the link has been marked as deleted
      */
-    @SneakyThrows
     public String getLongLinkFromShortLink(String shortLink) {
+        CachedLink cachedLink = linkCache.get(shortLink);
+        if (Objects.isNull(cachedLink)) {
+            cachedLink = linkLoadCoalescer.load(shortLink, this::loadCachedLink);
+            linkCache.put(shortLink, cachedLink);
+        }
+        if (cachedLink.status() == LinkStatus.INACTIVE) {
+            throw new InactiveLinkException(shortLink);
+        }
+        if (cachedLink.isExpiredAt(LocalDateTime.now())) {
+            cachedLink = revalidateExpiredLink(shortLink);
+        }
+        updateLinkStats(shortLink);
+        return cachedLink.longLink();
+    }
+
+    /**
+     * Loads the redirect data of the short link from Redis, or from the database if it is not cached in Redis.
+     * Short links the {@link ShortLinkBloomFilter} does not contain are not looked up in the database.
+     * Links loaded from the database are written to Redis, unknown and deleted short links are written to Redis
+     * as negative entries. Values that cannot be decoded, e.g. written in an older format, are treated as misses.
+     *
+     * @param shortLink the short link to load
+     * @return the redirect data of the link
+     */
+    private CachedLink loadCachedLink(String shortLink) {
+        byte[] key = redisKey(shortLink);
         try (Jedis jedis = jedisPool.getResource()) {
-            Link link = jedis.exists(shortLink)
-                    ? mapper.readValue(jedis.get(shortLink), Link.class)
-                    : findByShortLink(shortLink);
-            if (link.getStatus() == LinkStatus.INACTIVE) {
-                throw new InactiveLinkException(shortLink);
+            byte[] cachedValue = jedis.get(key);
+            if (Objects.nonNull(cachedValue)) {
+                negativeLinkCache.rejectIfNegative(cachedValue);
+                CachedLink cachedLink = CachedLinkCodec.decode(cachedValue);
+                if (Objects.nonNull(cachedLink)) {
+                    return cachedLink;
+                }
             }
-            if (link.getExpirationTime().isBefore(LocalDateTime.now())) {
-                link.setStatus(LinkStatus.INACTIVE);
-                jedis.set(link.getShortLink(), mapper.writeValueAsString(link));
-                save(link);
-                throw new InactiveLinkException(shortLink);
+            if (!shortLinkBloomFilter.mightContain(jedis, shortLink)) {
+                negativeLinkCache.putNotFound(jedis, shortLink);
+                throw new NoLinkFoundByShortLinkException();
+            }
+            negativeLinkCache.recordDatabaseLookup();
+            Link link;
+            try {
+                link = findByShortLink(shortLink);
+            } catch (NoLinkFoundByShortLinkException e) {
+                shortLinkBloomFilter.recordFalsePositive();
+                negativeLinkCache.putNotFound(jedis, shortLink);
+                throw e;
+            } catch (DeletedLinkException e) {
+                negativeLinkCache.putDeleted(jedis, shortLink);
+                throw e;
             }
-            updateLinkStatsAndSave(link, jedis);
-            return link.getLongLink();
+            CachedLink cachedLink = CachedLink.of(link);
+            jedis.set(key, CachedLinkCodec.encode(cachedLink));
+            return cachedLink;
         }
     }
 
     /**
-     * Updates the link statistics, expiration time, and caches the link.
+     * Re-reads a link whose cached copy looks expired from the database. If the link is expired there as well,
+     * it is marked as inactive in the database and in both caches, otherwise the caches are refreshed.
      *
-     * <p>The method is annotated with {@link SneakyThrows} to suppress checked exceptions from the ObjectMapper.
-     *
-     * @param link the link to be updated
+     * @param shortLink the short link to re-validate
+     * @return the fresh redirect data of the link
+     * @throws InactiveLinkException if the link is expired or inactive
      */
-    @SneakyThrows
-    private void updateLinkStatsAndSave(@EndTimeLinkValidator Link link, Jedis jedis) {
-        link.setStatistics(link.getStatistics() + 1);
-        link.setExpirationTime(LocalDateTime.now().plusMonths(1));
+    private CachedLink revalidateExpiredLink(String shortLink) {
+        Link link = findByShortLink(shortLink);
+        if (link.getStatus() == LinkStatus.INACTIVE) {
+            save(link);
+        }
+        CachedLink cachedLink = CachedLink.of(link);
+        try (Jedis jedis = jedisPool.getResource()) {
+            jedis.set(redisKey(shortLink), CachedLinkCodec.encode(cachedLink));
+        }
+        linkCache.put(shortLink, cachedLink);
+        if (link.getStatus() == LinkStatus.INACTIVE) {
+            throw new InactiveLinkException(shortLink);
+        }
+        return cachedLink;
+    }
 
-        jedis.set(link.getShortLink(), mapper.writeValueAsString(link));
-        save(link);
+    /**
+     * Records the redirect in the link statistics. The redirect is counted in memory by the
+     * {@link ClickAggregator}; the statistics and the expiration time of the link are written to the database
+     * asynchronously, through the counters shared by all nodes in Redis.
+     *
+     * @param shortLink the short link of the link that was used
+     */
+    private void updateLinkStats(String shortLink) {
+        clickAggregator.record(shortLink);
     }
 
     /**
-     * Saves a link entity.
+     * Saves a link entity and writes its redirect data through to Redis and the in-process {@link LinkCache}, so
+     * the first redirects of a new link are served from the cache and a negative entry left by an earlier lookup
+     * of the same short link does not hide the saved link. The short link is added to the
+     * {@link ShortLinkBloomFilter} before the link is saved, and the link is not saved if that fails.
      *
      * @param link The link entity to save.
      * @return The saved link entity.
      * @throws NullLinkPropertyException If the 'link' parameter is null.
+     * @throws redis.clients.jedis.exceptions.JedisException If the short link cannot be added to the Bloom filter.
      */
     public Link save(Link link) {
         if (Objects.isNull(link)) {
             throw new NullLinkPropertyException();
         }
-        return linkRepository.save(link);
+        shortLinkBloomFilter.put(link.getShortLink());
+        Link savedLink = linkRepository.save(link);
+        cacheLink(link.getShortLink(), link);
+        return savedLink;
     }
 
     /**
@@ -120,36 +212,42 @@ public class LinkService {
      * Updates the short link stored in Redis with a new short link.
      *
      * <p>This method updates the short link stored in Redis with a new short link. It first checks if the
-     * short link exists in Redis. If the short link exists, it renames the key with the new short link.
+     * short link exists in Redis. If the short link exists, it renames the key with the new short link,
+     * otherwise it removes any negative entry of the new short link. Both short links are removed from the
+     * in-process {@link LinkCache} and the new short link is added to the {@link ShortLinkBloomFilter}. The clicks
+     * of the short link that have not reached the database yet are moved to the new short link by the
+     * {@link ClickAggregator}, so the link has to be renamed in the database before this method is called.
      *
      * @param shortLink    The current short link.
      * @param newShortLink The new short link.
      */
     public void updateRedisShortLink(String shortLink, String newShortLink) {
+        shortLinkBloomFilter.put(newShortLink);
         try (Jedis jedis = jedisPool.getResource()) {
             if (jedis.exists(shortLink)) {
                 jedis.rename(shortLink, newShortLink);
+            } else {
+                jedis.unlink(newShortLink);
             }
         }
+        linkCache.invalidate(shortLink);
+        linkCache.invalidate(newShortLink);
+        clickAggregator.move(shortLink, newShortLink);
     }
 
     /**
      * Updates the link stored in Redis with a new link entity.
      *
-     * <p>This method updates the link stored in Redis with a new link entity. It first checks if the
-     * short link exists in Redis. If the short link exists, it serializes the new link entity using the
-     * ObjectMapper and updates the value associated with the short link key in Redis.
+     * <p>This method encodes the redirect data of the new link entity using the {@link CachedLinkCodec} and
+     * writes it to Redis under the short link, whether the short link was cached before or not, and to the
+     * in-process {@link LinkCache}. It is called once the link has been updated in the database, so the next
+     * redirect of the link is served from the cache.
      *
      * @param shortLink The short link associated with the link entity.
      * @param link      The new link entity.
      */
-    @SneakyThrows
     public void updateRedisLink(String shortLink, Link link) {
-        try (Jedis jedis = jedisPool.getResource()) {
-            if (jedis.exists(shortLink)) {
-                jedis.set(shortLink, mapper.writeValueAsString(link));
-            }
-        }
+        cacheLink(shortLink, link);
     }
 
     /**
@@ -224,7 +322,8 @@ public class LinkService {
     }
 
     /**
-     * Marks a link entity as deleted by its short link.
+     * Marks a link entity as deleted by its short link, removes it from the in-process cache and replaces it
+     * with a negative entry in Redis.
      *
      * @param shortLink The short link of the link entity to mark as deleted.
      * @throws NullLinkPropertyException       If the 'shortLink' parameter is null.
@@ -238,20 +337,89 @@ public class LinkService {
         Link link = findByShortLink(shortLink);
         link.setStatus(LinkStatus.DELETED);
 
+        linkRepository.save(link);
         try (Jedis jedis = jedisPool.getResource()) {
-            jedis.unlink(shortLink);
+            negativeLinkCache.putDeleted(jedis, shortLink);
         }
+        linkCache.invalidate(shortLink);
+    }
+
+    /**
+     * Marks an active link as inactive, e.g. because its long link turned out to be dead, and writes the inactive
+     * link through to Redis and the in-process {@link LinkCache}, so its redirects stop on every node.
+     *
+     * @param shortLink The short link of the link to deactivate.
+     * @throws NullLinkPropertyException       If the 'shortLink' parameter is null.
+     * @throws NoLinkFoundByShortLinkException If no link is found with the given short link.
+     * @throws DeletedLinkException            If the link has been marked as deleted.
+     */
+    public void deactivateByShortLink(String shortLink) {
+        Link link = findByShortLink(shortLink);
+        if (link.getStatus() != LinkStatus.ACTIVE) {
+            return;
+        }
+        link.setStatus(LinkStatus.INACTIVE);
         linkRepository.save(link);
+        cacheLink(shortLink, link);
+    }
+
+    /**
+     * Searches for an active, unexpired link of the user to the long link, with a single lookup of the indexed
+     * hash of the long link.
+     *
+     * @param userId   the ID of the user whose links are to be searched
+     * @param longLink the long link
+     * @return the short link of the user's link to the long link expiring last, or empty if there is none
+     */
+    public Optional<String> findActiveShortLink(UUID userId, String longLink) {
+        return linkRepository.findActiveShortLinks(userId, LongLinkHash.of(longLink), longLink,
+                        LocalDateTime.now(), PageRequest.of(0, 1))
+                .stream()
+                .findFirst();
     }
 
     /**
-     * Searches for a unique existing link by a short link and returns true if such link exists, false otherwise
+     * Searches for a unique existing link by a short link and returns true if such link exists, false otherwise.
+     * Short links the {@link ShortLinkBloomFilter} does not contain are not looked up in the database.
      *
      * @param shortLink A string representing the short link to be searched.
      * @return boolean true if link exists in database
      */
     public boolean doesLinkExist(String shortLink) {
-        return linkRepository.findByShortLink(shortLink).isPresent();
+        if (!shortLinkBloomFilter.mightContain(shortLink)) {
+            return false;
+        }
+        boolean exists = linkRepository.existsByShortLink(shortLink);
+        if (!exists) {
+            shortLinkBloomFilter.recordFalsePositive();
+        }
+        return exists;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("link.cache.write-through.failed", writeThroughFailures, LongAdder::sum)
+                .description("Saved or updated links that could not be written through to Redis")
+                .register(registry);
+    }
+
+    /**
+     * Writes the redirect data of a committed link to Redis and the in-process {@link LinkCache}. A failure to
+     * reach Redis is logged and counted, not thrown, since the link has been saved already.
+     */
+    private void cacheLink(String shortLink, Link link) {
+        CachedLink cachedLink = CachedLink.of(link);
+        try (Jedis jedis = jedisPool.getResource()) {
+            jedis.set(redisKey(shortLink), CachedLinkCodec.encode(cachedLink));
+        } catch (RuntimeException e) {
+            writeThroughFailures.increment();
+            log.warn("Failed to write link {} through to Redis", shortLink, e);
+        }
+        linkCache.put(shortLink, cachedLink);
+    }
+
+    private static byte[] redisKey(String shortLink) {
+        return shortLink.getBytes(StandardCharsets.UTF_8);
     }
 
     private List<Link> fixLinkStatusesAndReturnFixed(List<Link> allActiveByUserId) {
@@ -0,0 +1,78 @@
+package com.linkurlshorter.urlshortener.link.batch;
+
+import com.linkurlshorter.urlshortener.link.model.Link;
+import com.linkurlshorter.urlshortener.link.model.LongLinkHash;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Repository inserting the links of a batch with a single JDBC batch.
+ *
+ * <p>Links whose short link is already taken are skipped by the database instead of failing the batch, so the
+ * remaining links of the batch are still inserted and the caller learns which ones were skipped. If the driver does
+ * not report the row count of each statement ({@link Statement#SUCCESS_NO_INFO}), as PgJDBC does with
+ * {@code reWriteBatchedInserts}, the inserted links are looked up by their identifiers instead.
+ *
+ * @see LinkBatchService
+ */
+@Repository
+@RequiredArgsConstructor
+public class LinkBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO links "
+            + "(id, long_link, long_link_hash, short_link, user_id, created_time, expiration_time, statistics, "
+            + "status) VALUES (?, ?, ?, ?, ?, ?, ?, 0, ?) "
+            + "ON CONFLICT DO NOTHING";
+    private static final String FIND_INSERTED_SQL = "SELECT id FROM links WHERE id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts the links in a single JDBC batch and transaction.
+     *
+     * @param links the links to insert, with their identifiers set
+     * @return for each link, whether it was inserted; links whose short link is already taken are not
+     */
+    @Transactional
+    public boolean[] insert(List<Link> links) {
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, links, links.size(), (ps, link) -> {
+            ps.setObject(1, link.getId());
+            ps.setString(2, link.getLongLink());
+            ps.setLong(3, LongLinkHash.of(link.getLongLink()));
+            ps.setString(4, link.getShortLink());
+            ps.setObject(5, link.getUser().getId());
+            ps.setTimestamp(6, Timestamp.valueOf(link.getCreatedTime()));
+            ps.setTimestamp(7, Timestamp.valueOf(link.getExpirationTime()));
+            ps.setString(8, link.getStatus().name());
+        });
+        boolean[] inserted = new boolean[links.size()];
+        if (Arrays.stream(counts[0]).anyMatch(count -> count == Statement.SUCCESS_NO_INFO)) {
+            Set<UUID> insertedIds = findInserted(links);
+            for (int i = 0; i < links.size(); i++) {
+                inserted[i] = insertedIds.contains(links.get(i).getId());
+            }
+            return inserted;
+        }
+        for (int i = 0; i < links.size(); i++) {
+            inserted[i] = counts[0][i] > 0;
+        }
+        return inserted;
+    }
+
+    private Set<UUID> findInserted(List<Link> links) {
+        String sql = FIND_INSERTED_SQL.formatted(String.join(",", Collections.nCopies(links.size(), "?")));
+        return new HashSet<>(jdbcTemplate.queryForList(sql, UUID.class,
+                links.stream().map(Link::getId).toArray()));
+    }
+}
@@ -0,0 +1,250 @@
+package com.linkurlshorter.urlshortener.link.batch;
+
+import com.linkurlshorter.urlshortener.link.cache.ShortLinkBloomFilter;
+import com.linkurlshorter.urlshortener.link.dto.BatchLinkResultDto;
+import com.linkurlshorter.urlshortener.link.exception.InternalServerLinkException;
+import com.linkurlshorter.urlshortener.link.exception.LinkBatchRejectedException;
+import com.linkurlshorter.urlshortener.link.exception.LinkBatchTooLargeException;
+import com.linkurlshorter.urlshortener.link.generator.ShortLinkGenerator;
+import com.linkurlshorter.urlshortener.link.model.Link;
+import com.linkurlshorter.urlshortener.link.request.BatchLinkItem;
+import com.linkurlshorter.urlshortener.user.model.User;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Service creating many links of a user at once.
+ *
+ * <p>Every link of the batch is validated on its own and gets its own result, so invalid links, short link names that
+ * are already taken and chunks that cannot be inserted do not fail the other links. Short link names that are reserved
+ * for generated short links are looked up with a single query and reported as taken. The short links of the valid links
+ * are generated up front and added to the {@link ShortLinkBloomFilter} in a single pipeline. The links are then
+ * inserted in chunks of {@code link.batch.chunk-size} links, each chunk with one JDBC batch in its own transaction, so
+ * a batch holds a database connection for one chunk at a time. A batch may contain at most {@code link.batch.max-size}
+ * links and at most {@code link.batch.max-concurrent} batches are created at the same time; further batches are
+ * rejected rather than queued, so batches cannot take over the connection pool.
+ *
+ * <p>Created links are published as the {@code link.batch.created} counter, links that could not be created as
+ * the {@code link.batch.failed} counter and rejected batches as the {@code link.batch.rejected} counter.
+ */
+@Slf4j
+@Service
+public class LinkBatchService implements MeterBinder {
+
+    static final String OK = "ok";
+    static final String ALREADY_EXISTS_MSG = "This link already exists!";
+
+    private final LinkBatchRepository linkBatchRepository;
+    private final ShortLinkGenerator shortLinkGenerator;
+    private final ShortLinkBloomFilter shortLinkBloomFilter;
+    private final JedisPool jedisPool;
+    private final Validator validator;
+    private final int maxSize;
+    private final int chunkSize;
+    private final Semaphore permits;
+    private final LongAdder created = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Creates the service.
+     *
+     * @param linkBatchRepository  the repository inserting the links
+     * @param shortLinkGenerator   the generator of short links
+     * @param shortLinkBloomFilter the Bloom filter of existing short links
+     * @param jedisPool            the pool of Redis connections
+     * @param validator            the validator of the links of a batch
+     * @param maxSize              the maximum number of links of a batch
+     * @param chunkSize            the number of links inserted with one JDBC batch
+     * @param maxConcurrent        the maximum number of batches created at the same time
+     */
+    public LinkBatchService(LinkBatchRepository linkBatchRepository,
+                            ShortLinkGenerator shortLinkGenerator,
+                            ShortLinkBloomFilter shortLinkBloomFilter,
+                            JedisPool jedisPool,
+                            Validator validator,
+                            @Value("${link.batch.max-size:1000}") int maxSize,
+                            @Value("${link.batch.chunk-size:200}") int chunkSize,
+                            @Value("${link.batch.max-concurrent:2}") int maxConcurrent) {
+        this.linkBatchRepository = linkBatchRepository;
+        this.shortLinkGenerator = shortLinkGenerator;
+        this.shortLinkBloomFilter = shortLinkBloomFilter;
+        this.jedisPool = jedisPool;
+        this.validator = validator;
+        this.maxSize = maxSize;
+        this.chunkSize = chunkSize;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * Creates the links of the batch for the user.
+     *
+     * @param user           the owner of the links
+     * @param items          the links to create
+     * @param expirationTime the expiration time of the links
+     * @return the result of each link, in the order of the batch
+     * @throws LinkBatchTooLargeException  if the batch contains more links than allowed
+     * @throws LinkBatchRejectedException  if the maximum number of batches is already being created
+     * @throws InternalServerLinkException if no short link can be generated
+     */
+    public List<BatchLinkResultDto> createAll(User user, List<BatchLinkItem> items, LocalDateTime expirationTime) {
+        if (items.size() > maxSize) {
+            throw new LinkBatchTooLargeException(maxSize);
+        }
+        if (!permits.tryAcquire()) {
+            rejected.increment();
+            throw new LinkBatchRejectedException();
+        }
+        try {
+            return create(user, items, expirationTime);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("link.batch.created", created, LongAdder::sum)
+                .description("Links created by batch requests")
+                .register(registry);
+        FunctionCounter.builder("link.batch.failed", failed, LongAdder::sum)
+                .description("Links of batch requests that were invalid or whose short link was taken")
+                .register(registry);
+        FunctionCounter.builder("link.batch.rejected", rejected, LongAdder::sum)
+                .description("Batch requests rejected because too many batches were in progress")
+                .register(registry);
+    }
+
+    private List<BatchLinkResultDto> create(User user, List<BatchLinkItem> items, LocalDateTime expirationTime) {
+        List<BatchLinkResultDto> results = new ArrayList<>(items.size());
+        List<Link> links = new ArrayList<>(items.size());
+        List<BatchLinkResultDto> linkResults = new ArrayList<>(items.size());
+        Set<String> reservedNames = findReservedNames(items);
+        Set<String> generated = new HashSet<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (BatchLinkItem item : items) {
+            BatchLinkResultDto result = BatchLinkResultDto.builder()
+                    .longLink(Objects.isNull(item) ? null : item.getLongLink())
+                    .build();
+            results.add(result);
+            String error = validate(item);
+            if (error != null) {
+                result.setError(error);
+                failed.increment();
+                continue;
+            }
+            if (Objects.nonNull(item.getShortLinkName()) && reservedNames.contains(item.getShortLinkName())) {
+                result.setError(ALREADY_EXISTS_MSG);
+                failed.increment();
+                continue;
+            }
+            String shortLink = item.getShortLinkName();
+            if (Objects.isNull(shortLink)) {
+                shortLink = shortLinkGenerator.generate();
+                generated.add(shortLink);
+            }
+            links.add(Link.builder()
+                    .id(UUID.randomUUID())
+                    .longLink(item.getLongLink())
+                    .shortLink(shortLink)
+                    .user(user)
+                    .createdTime(now)
+                    .expirationTime(expirationTime)
+                    .build());
+            linkResults.add(result);
+        }
+        if (links.isEmpty()) {
+            return results;
+        }
+        shortLinkBloomFilter.putAll(links.stream().map(Link::getShortLink).toList());
+        for (int from = 0; from < links.size(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, links.size());
+            insert(links.subList(from, to), linkResults.subList(from, to), generated);
+        }
+        return results;
+    }
+
+    private Set<String> findReservedNames(List<BatchLinkItem> items) {
+        List<String> names = items.stream()
+                .filter(Objects::nonNull)
+                .map(BatchLinkItem::getShortLinkName)
+                .filter(Objects::nonNull)
+                .toList();
+        return names.isEmpty() ? Set.of() : shortLinkGenerator.findReserved(names);
+    }
+
+    private String validate(BatchLinkItem item) {
+        if (Objects.isNull(item)) {
+            return "Url must not be null or empty!";
+        }
+        Set<ConstraintViolation<BatchLinkItem>> violations = validator.validate(item);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.iterator().next().getMessage();
+    }
+
+    /**
+     * Inserts a chunk of links, tells the generator which generated short links are used now and removes the short
+     * links of the inserted ones from Redis, so that negative entries left by earlier lookups do not hide them.
+     */
+    private void insert(List<Link> links, List<BatchLinkResultDto> linkResults, Set<String> generated) {
+        boolean[] inserted;
+        try {
+            inserted = linkBatchRepository.insert(links);
+        } catch (DataAccessException e) {
+            log.error("Failed to insert a batch of {} links", links.size(), e);
+            String error = new InternalServerLinkException().getMessage();
+            linkResults.forEach(result -> result.setError(error));
+            failed.add(links.size());
+            return;
+        }
+        List<String> insertedShortLinks = new ArrayList<>(links.size());
+        List<String> usedCodes = new ArrayList<>(links.size());
+        for (int i = 0; i < links.size(); i++) {
+            BatchLinkResultDto result = linkResults.get(i);
+            if (inserted[i]) {
+                result.setShortLink(links.get(i).getShortLink());
+                result.setError(OK);
+                insertedShortLinks.add(links.get(i).getShortLink());
+                if (generated.contains(links.get(i).getShortLink())) {
+                    usedCodes.add(links.get(i).getShortLink());
+                }
+                created.increment();
+            } else {
+                result.setError(ALREADY_EXISTS_MSG);
+                failed.increment();
+            }
+        }
+        if (insertedShortLinks.isEmpty()) {
+            return;
+        }
+        if (!usedCodes.isEmpty()) {
+            shortLinkGenerator.markUsed(usedCodes);
+        }
+        try (Jedis jedis = jedisPool.getResource()) {
+            jedis.unlink(insertedShortLinks.toArray(String[]::new));
+        } catch (RuntimeException e) {
+            log.warn("Failed to remove {} new short links from Redis", insertedShortLinks.size(), e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.linkurlshorter.urlshortener.link.cache;
+
+import com.linkurlshorter.urlshortener.link.model.Link;
+import com.linkurlshorter.urlshortener.link.model.LinkStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable snapshot of the link properties needed to serve a redirect.
+ *
+ * <p>Only the long URL, the status, the expiration time and the usage statistics are kept, so entries stay
+ * small and do not hold on to the associated {@link com.linkurlshorter.urlshortener.user.model.User} entity.
+ * The same snapshot is stored in Redis, encoded by the {@link CachedLinkCodec}.
+ *
+ * @param longLink       the original URL to redirect to
+ * @param status         the status of the link at the time it was cached
+ * @param expirationTime the expiration time of the link at the time it was cached
+ * @param statistics     the usage statistics of the link at the time it was cached
+ */
+public record CachedLink(
+        String longLink,
+        LinkStatus status,
+        LocalDateTime expirationTime,
+        int statistics
+) {
+
+    /**
+     * Creates a snapshot of the provided link entity.
+     *
+     * @param link the link entity to snapshot
+     * @return the cached representation of the link
+     */
+    public static CachedLink of(Link link) {
+        return new CachedLink(link.getLongLink(), link.getStatus(), link.getExpirationTime(), link.getStatistics());
+    }
+
+    /**
+     * Checks whether the cached expiration time is before the provided moment.
+     *
+     * @param now the moment to compare the expiration time with
+     * @return true if the link is expired according to the snapshot, false otherwise
+     */
+    public boolean isExpiredAt(LocalDateTime now) {
+        return expirationTime.isBefore(now);
+    }
+}
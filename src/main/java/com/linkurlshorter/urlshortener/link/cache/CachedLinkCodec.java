@@ -0,0 +1,94 @@
+package com.linkurlshorter.urlshortener.link.cache;
+
+import com.linkurlshorter.urlshortener.link.model.LinkStatus;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Compact binary encoding of {@link CachedLink} values stored in Redis.
+ *
+ * <p>Version 1 layout, big-endian:
+ * <pre>
+ * offset  size  field
+ * 0       1     format version (1)
+ * 1       1     status (0 - ACTIVE, 1 - INACTIVE, 2 - DELETED)
+ * 2       8     expiration time, milliseconds since the epoch, taken as UTC
+ * 10      4     usage statistics
+ * 14      n     long link, UTF-8, up to the end of the value
+ * </pre>
+ *
+ * <p>The expiration time is kept with millisecond precision. Values written in an unknown format, including
+ * entries serialized by older versions of the application, are decoded as {@code null}, so that they are treated
+ * as cache misses and overwritten.
+ */
+public final class CachedLinkCodec {
+
+    /**
+     * Version of the format written by {@link #encode(CachedLink)}.
+     */
+    public static final byte VERSION = 1;
+
+    private static final int HEADER_SIZE = Byte.BYTES + Byte.BYTES + Long.BYTES + Integer.BYTES;
+
+    private CachedLinkCodec() {
+    }
+
+    /**
+     * Encodes the provided redirect data.
+     *
+     * @param cachedLink the redirect data to encode
+     * @return the encoded value
+     */
+    public static byte[] encode(CachedLink cachedLink) {
+        byte[] longLink = cachedLink.longLink().getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(HEADER_SIZE + longLink.length)
+                .put(VERSION)
+                .put(encodeStatus(cachedLink.status()))
+                .putLong(cachedLink.expirationTime().toInstant(ZoneOffset.UTC).toEpochMilli())
+                .putInt(cachedLink.statistics())
+                .put(longLink)
+                .array();
+    }
+
+    /**
+     * Decodes redirect data encoded by {@link #encode(CachedLink)}.
+     *
+     * @param value the encoded value
+     * @return the decoded redirect data or null if the value is not written in a known format
+     */
+    public static CachedLink decode(byte[] value) {
+        if (value.length < HEADER_SIZE || value[0] != VERSION) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(value, 1, value.length - 1);
+        LinkStatus status = decodeStatus(buffer.get());
+        if (status == null) {
+            return null;
+        }
+        LocalDateTime expirationTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(buffer.getLong()), ZoneOffset.UTC);
+        int statistics = buffer.getInt();
+        String longLink = new String(value, HEADER_SIZE, value.length - HEADER_SIZE, StandardCharsets.UTF_8);
+        return new CachedLink(longLink, status, expirationTime, statistics);
+    }
+
+    private static byte encodeStatus(LinkStatus status) {
+        return switch (status) {
+            case ACTIVE -> 0;
+            case INACTIVE -> 1;
+            case DELETED -> 2;
+        };
+    }
+
+    private static LinkStatus decodeStatus(byte status) {
+        return switch (status) {
+            case 0 -> LinkStatus.ACTIVE;
+            case 1 -> LinkStatus.INACTIVE;
+            case 2 -> LinkStatus.DELETED;
+            default -> null;
+        };
+    }
+}
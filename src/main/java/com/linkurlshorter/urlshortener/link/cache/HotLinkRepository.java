@@ -0,0 +1,49 @@
+package com.linkurlshorter.urlshortener.link.cache;
+
+import com.linkurlshorter.urlshortener.link.model.LinkStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.function.BiConsumer;
+
+/**
+ * Repository reading the redirect data of the most clicked links.
+ *
+ * <p>Only the columns needed to serve a redirect are read, without loading the link entities and their users.
+ *
+ * @see LinkCacheWarmer
+ */
+@Repository
+@RequiredArgsConstructor
+public class HotLinkRepository {
+
+    private static final String SELECT_MOST_CLICKED_SQL = "SELECT short_link, long_link, status, expiration_time, "
+            + "statistics FROM links WHERE status = 'ACTIVE' AND expiration_time > ? "
+            + "ORDER BY statistics DESC LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Passes the short link and the redirect data of the active, unexpired links with the highest usage
+     * statistics to the consumer, the most clicked link first.
+     *
+     * @param limit    the maximum number of links
+     * @param now      the current time; links expiring before it are left out
+     * @param consumer the consumer of the short links and their redirect data
+     */
+    @Transactional(readOnly = true)
+    public void forEachMostClicked(int limit, LocalDateTime now, BiConsumer<String, CachedLink> consumer) {
+        jdbcTemplate.query(SELECT_MOST_CLICKED_SQL, (RowCallbackHandler) resultSet -> consumer.accept(
+                resultSet.getString(1),
+                new CachedLink(
+                        resultSet.getString(2),
+                        LinkStatus.valueOf(resultSet.getString(3)),
+                        resultSet.getTimestamp(4).toLocalDateTime(),
+                        resultSet.getInt(5))), Timestamp.valueOf(now), limit);
+    }
+}
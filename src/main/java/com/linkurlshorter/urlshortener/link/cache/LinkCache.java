@@ -0,0 +1,90 @@
+package com.linkurlshorter.urlshortener.link.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * In-process (L1) cache of redirect data placed in front of Redis.
+ *
+ * <p>Entries are evicted once the cache grows over the configured maximum size or after the configured
+ * time since they were written. Entries are invalidated explicitly when a link is edited, refreshed or deleted
+ * on this node; the write expiry bounds how long other nodes may keep serving a stale entry.
+ *
+ * <p>Hit, miss and eviction counts are published through Micrometer under the {@code cache.*} meters
+ * tagged with {@code cache=link-l1}.
+ *
+ * @see CachedLink
+ */
+@Component
+public class LinkCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "link-l1";
+
+    private final Cache<String, CachedLink> cache;
+
+    /**
+     * Creates the cache with the provided bounds.
+     *
+     * @param maximumSize      the maximum number of short links kept in memory
+     * @param expireAfterWrite the time after which an entry is evicted since it was written
+     */
+    public LinkCache(@Value("${link.cache.l1.maximum-size:10000}") long maximumSize,
+                     @Value("${link.cache.l1.expire-after-write:60s}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the cached redirect data for the provided short link.
+     *
+     * @param shortLink the short link to look up
+     * @return the cached link or null if it is not present
+     */
+    public CachedLink get(String shortLink) {
+        return cache.getIfPresent(shortLink);
+    }
+
+    /**
+     * Stores the redirect data for the provided short link.
+     *
+     * @param shortLink  the short link used as the key
+     * @param cachedLink the redirect data to store
+     */
+    public void put(String shortLink, CachedLink cachedLink) {
+        cache.put(shortLink, cachedLink);
+    }
+
+    /**
+     * Removes the entry of the provided short link, if any.
+     *
+     * @param shortLink the short link to invalidate
+     */
+    public void invalidate(String shortLink) {
+        cache.invalidate(shortLink);
+    }
+
+    /**
+     * Returns a snapshot of the hit, miss and eviction counters of the cache.
+     *
+     * @return the cache statistics
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+}
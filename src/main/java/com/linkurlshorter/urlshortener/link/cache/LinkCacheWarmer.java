@@ -0,0 +1,135 @@
+package com.linkurlshorter.urlshortener.link.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.params.SetParams;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pre-loads the redirect data of the most clicked links into the caches when the application has started.
+ *
+ * <p>Up to {@code link.cache.warmup.size} active, unexpired links with the highest usage statistics are read
+ * from the database and put into the in-process {@link LinkCache} and, in a single pipeline, into Redis. Links
+ * already cached in Redis are left as they are, since their entries are kept up to date by the nodes that change
+ * the links, so only the first node to start after Redis has been emptied actually writes them.
+ *
+ * <p>The duration of the warm-up is published as the {@code link.cache.warmup.duration} gauge, the number of
+ * links loaded as the {@code link.cache.warmup.links} gauge and the share of redirect lookups since the warm-up
+ * that were answered without querying the database as the {@code link.cache.warmup.hit-ratio} gauge.
+ */
+@Slf4j
+@Component
+public class LinkCacheWarmer implements MeterBinder {
+
+    private static final SetParams IF_ABSENT = SetParams.setParams().nx();
+
+    private final HotLinkRepository hotLinkRepository;
+    private final JedisPool jedisPool;
+    private final LinkCache linkCache;
+    private final NegativeLinkCache negativeLinkCache;
+    private final int size;
+    private volatile long durationNanos;
+    private volatile int links;
+    private volatile CacheStats statsAfterWarmup;
+    private volatile long databaseLookupsAfterWarmup;
+
+    /**
+     * Creates the warmer.
+     *
+     * @param hotLinkRepository the repository reading the most clicked links
+     * @param jedisPool         the pool of Redis connections
+     * @param linkCache         the in-process cache of redirect data
+     * @param negativeLinkCache the negative cache counting the redirect lookups that queried the database
+     * @param size              the number of links to pre-load, 0 to disable the warm-up
+     */
+    public LinkCacheWarmer(HotLinkRepository hotLinkRepository,
+                           JedisPool jedisPool,
+                           LinkCache linkCache,
+                           NegativeLinkCache negativeLinkCache,
+                           @Value("${link.cache.warmup.size:1000}") int size) {
+        this.hotLinkRepository = hotLinkRepository;
+        this.jedisPool = jedisPool;
+        this.linkCache = linkCache;
+        this.negativeLinkCache = negativeLinkCache;
+        this.size = size;
+    }
+
+    /**
+     * Loads the most clicked links into the caches.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (size <= 0) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            Map<String, CachedLink> hotLinks = new LinkedHashMap<>();
+            hotLinkRepository.forEachMostClicked(size, LocalDateTime.now(), hotLinks::put);
+            hotLinks.forEach(linkCache::put);
+            try (Jedis jedis = jedisPool.getResource()) {
+                Pipeline pipeline = jedis.pipelined();
+                hotLinks.forEach((shortLink, cachedLink) -> pipeline.set(
+                        shortLink.getBytes(StandardCharsets.UTF_8), CachedLinkCodec.encode(cachedLink), IF_ABSENT));
+                pipeline.sync();
+            }
+            links = hotLinks.size();
+            log.info("Warmed up the link caches with the {} most clicked links in {} ms", links,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (RuntimeException e) {
+            log.warn("Failed to warm up the link caches", e);
+        } finally {
+            durationNanos = System.nanoTime() - start;
+            databaseLookupsAfterWarmup = negativeLinkCache.databaseLookups();
+            statsAfterWarmup = linkCache.stats();
+        }
+    }
+
+    /**
+     * Returns the share of redirect lookups since the warm-up that were answered by the in-process cache or by
+     * Redis.
+     *
+     * @return the hit ratio, or NaN before the warm-up and as long as there have been no lookups since
+     */
+    public double hitRatioSinceWarmup() {
+        if (Objects.isNull(statsAfterWarmup)) {
+            return Double.NaN;
+        }
+        long lookups = linkCache.stats().minus(statsAfterWarmup).requestCount();
+        if (lookups == 0) {
+            return Double.NaN;
+        }
+        long databaseLookups = negativeLinkCache.databaseLookups() - databaseLookupsAfterWarmup;
+        return Math.max(0, 1 - (double) databaseLookups / lookups);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        TimeGauge.builder("link.cache.warmup.duration", this, TimeUnit.NANOSECONDS, warmer -> warmer.durationNanos)
+                .description("Time taken to pre-load the most clicked links into the caches")
+                .register(registry);
+        Gauge.builder("link.cache.warmup.links", this, warmer -> warmer.links)
+                .description("Links pre-loaded into the caches on startup")
+                .register(registry);
+        Gauge.builder("link.cache.warmup.hit-ratio", this, LinkCacheWarmer::hitRatioSinceWarmup)
+                .description("Share of redirect lookups since the warm-up answered without querying the database")
+                .register(registry);
+    }
+}
@@ -0,0 +1,125 @@
+package com.linkurlshorter.urlshortener.link.cache;
+
+import com.linkurlshorter.urlshortener.link.exception.InternalServerLinkException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent cache-miss loads of the same short link into a single load.
+ *
+ * <p>The first caller that misses the cache for a short link runs the loader; callers that miss the same short
+ * link while that load is in flight wait for its result instead of querying Redis and the database themselves,
+ * so a popular link whose cache entry disappears causes one database query rather than one per redirect.
+ * If the load fails, the waiters get the same exception. Waiters give up after the configured timeout with
+ * an {@link InternalServerLinkException}.
+ *
+ * <p>Loads are published as the {@code link.load} counter, callers that waited for another caller's load as
+ * the {@code link.load.coalesced} counter, callers that gave up as the {@code link.load.timeouts} counter and
+ * the number of callers currently waiting as the {@code link.load.waiting} gauge.
+ */
+@Component
+public class LinkLoadCoalescer implements MeterBinder {
+
+    private final ConcurrentMap<String, CompletableFuture<CachedLink>> inFlight = new ConcurrentHashMap<>();
+    private final long timeoutMillis;
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalescedLoads = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder waiting = new LongAdder();
+
+    /**
+     * Creates the coalescer.
+     *
+     * @param timeout the maximum time a caller waits for the load started by another caller
+     */
+    public LinkLoadCoalescer(@Value("${link.cache.load-timeout:2s}") Duration timeout) {
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    /**
+     * Loads the redirect data of the short link, or waits for the load already in flight for it.
+     *
+     * @param shortLink the short link to load
+     * @param loader    the function loading the redirect data of a short link
+     * @return the redirect data of the link
+     * @throws InternalServerLinkException if the load in flight does not finish in time
+     */
+    public CachedLink load(String shortLink, Function<String, CachedLink> loader) {
+        CompletableFuture<CachedLink> load = new CompletableFuture<>();
+        CompletableFuture<CachedLink> loadInFlight = inFlight.putIfAbsent(shortLink, load);
+        if (loadInFlight != null) {
+            return await(loadInFlight);
+        }
+        loads.increment();
+        try {
+            CachedLink cachedLink = loader.apply(shortLink);
+            load.complete(cachedLink);
+            return cachedLink;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(shortLink, load);
+        }
+    }
+
+    /**
+     * Returns the number of callers currently waiting for a load started by another caller.
+     *
+     * @return the number of waiting callers
+     */
+    public long waitingCallers() {
+        return waiting.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("link.load", loads, LongAdder::sum)
+                .description("Cache-miss loads of short links")
+                .register(registry);
+        FunctionCounter.builder("link.load.coalesced", coalescedLoads, LongAdder::sum)
+                .description("Cache misses served by waiting for a load started by another caller")
+                .register(registry);
+        FunctionCounter.builder("link.load.timeouts", timeouts, LongAdder::sum)
+                .description("Callers that gave up waiting for a load started by another caller")
+                .register(registry);
+        Gauge.builder("link.load.waiting", this, LinkLoadCoalescer::waitingCallers)
+                .description("Callers currently waiting for a load started by another caller")
+                .register(registry);
+    }
+
+    private CachedLink await(CompletableFuture<CachedLink> loadInFlight) {
+        coalescedLoads.increment();
+        waiting.increment();
+        try {
+            return loadInFlight.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new InternalServerLinkException();
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            throw new InternalServerLinkException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalServerLinkException();
+        } finally {
+            waiting.decrement();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.linkurlshorter.urlshortener.link.cache;
+
+import com.linkurlshorter.urlshortener.link.exception.DeletedLinkException;
+import com.linkurlshorter.urlshortener.link.exception.NoLinkFoundByShortLinkException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.params.SetParams;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Negative cache of short links that do not exist or have been deleted.
+ *
+ * <p>Unknown and deleted short links are remembered in Redis under their own key for a short time, as a marker
+ * value stored instead of the encoded link, so that repeated lookups of the same missing short link, e.g. bots
+ * probing random codes, are answered without a database query. The marker is replaced as soon as a link with
+ * that short link is saved, and expires after the configured time otherwise. Markers never start with the version
+ * byte of the {@link CachedLinkCodec} format, so they cannot be mistaken for a cached link.
+ *
+ * <p>The number of redirect lookups that reached the database is published as the {@code link.lookup.database}
+ * counter and the number of lookups answered by a negative entry as the {@code link.lookup.database.avoided}
+ * counter.
+ */
+@Component
+public class NegativeLinkCache implements MeterBinder {
+
+    private static final byte[] NOT_FOUND_MARKER = "!not-found".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] DELETED_MARKER = "!deleted".getBytes(StandardCharsets.US_ASCII);
+
+    private final SetParams markerParams;
+    private final LongAdder databaseLookups = new LongAdder();
+    private final LongAdder avoidedLookups = new LongAdder();
+
+    /**
+     * Creates the negative cache.
+     *
+     * @param ttl the time after which a negative entry expires
+     */
+    public NegativeLinkCache(@Value("${link.cache.negative-ttl:30s}") Duration ttl) {
+        this.markerParams = SetParams.setParams().px(ttl.toMillis());
+    }
+
+    /**
+     * Rejects the lookup if the value cached in Redis is a negative entry.
+     *
+     * @param cachedValue the value stored in Redis under the short link
+     * @throws NoLinkFoundByShortLinkException if the short link is cached as unknown
+     * @throws DeletedLinkException            if the short link is cached as deleted
+     */
+    public void rejectIfNegative(byte[] cachedValue) {
+        if (Arrays.equals(NOT_FOUND_MARKER, cachedValue)) {
+            avoidedLookups.increment();
+            throw new NoLinkFoundByShortLinkException();
+        }
+        if (Arrays.equals(DELETED_MARKER, cachedValue)) {
+            avoidedLookups.increment();
+            throw new DeletedLinkException();
+        }
+    }
+
+    /**
+     * Records a redirect lookup that was not answered by Redis and had to query the database.
+     */
+    public void recordDatabaseLookup() {
+        databaseLookups.increment();
+    }
+
+    /**
+     * Returns the number of redirect lookups that queried the database so far.
+     *
+     * @return the number of database lookups
+     */
+    public long databaseLookups() {
+        return databaseLookups.sum();
+    }
+
+    /**
+     * Remembers that no link exists for the provided short link.
+     *
+     * @param jedis     the Redis connection to use
+     * @param shortLink the unknown short link
+     */
+    public void putNotFound(Jedis jedis, String shortLink) {
+        jedis.set(shortLink.getBytes(StandardCharsets.UTF_8), NOT_FOUND_MARKER, markerParams);
+    }
+
+    /**
+     * Remembers that the link of the provided short link has been deleted.
+     *
+     * @param jedis     the Redis connection to use
+     * @param shortLink the short link of the deleted link
+     */
+    public void putDeleted(Jedis jedis, String shortLink) {
+        jedis.set(shortLink.getBytes(StandardCharsets.UTF_8), DELETED_MARKER, markerParams);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("link.lookup.database", databaseLookups, LongAdder::sum)
+                .description("Redirect lookups that queried the database")
+                .register(registry);
+        FunctionCounter.builder("link.lookup.database.avoided", avoidedLookups, LongAdder::sum)
+                .description("Redirect lookups of unknown or deleted links answered by a negative cache entry")
+                .register(registry);
+    }
+}
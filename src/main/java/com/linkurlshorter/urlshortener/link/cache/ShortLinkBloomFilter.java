@@ -0,0 +1,287 @@
+package com.linkurlshorter.urlshortener.link.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.args.BitOP;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bloom filter of the short links of all links, shared by all nodes through a Redis bitmap.
+ *
+ * <p>A short link the filter does not contain definitely does not exist, so existence checks and redirects of
+ * unknown short links skip the database. A short link the filter may contain still has to be looked up, which
+ * happens for existing links and for a configurable share of the unknown ones, the false positives.
+ *
+ * <p>The bitmap is sized from the {@code link.bloom.expected-links} and {@code link.bloom.false-positive-rate}
+ * properties, limited by {@code link.bloom.max-size}, and kept under a key naming its size and number of hash
+ * functions, so changing the configuration starts a new filter. Short links are added before their links are
+ * saved, and adding them fails if Redis cannot be reached, so no link is saved that the filter would miss. On
+ * startup each node scans the short links of the database into a local bitmap and merges it into the
+ * shared one with {@code BITOP OR}, which keeps the short links added by other nodes in the meantime. The first
+ * bit of the bitmap is set by the rebuild only, and is read along with the bits of every checked short link, so
+ * until the first rebuild has completed, after the bitmap has been lost and whenever Redis cannot be reached,
+ * every short link may be contained.
+ *
+ * <p>The size of the bitmap is published as the {@code link.bloom.size} gauge, the false positive rate expected
+ * from the share of set bits as the {@code link.bloom.false-positive-rate} gauge, short links found absent as the
+ * {@code link.bloom.absent} counter and looked up in vain as the {@code link.bloom.false-positives} counter.
+ */
+@Slf4j
+@Component
+public class ShortLinkBloomFilter implements MeterBinder {
+
+    private static final String KEY_PREFIX = "link:bloom:";
+    private static final long MAX_SIZE_BYTES = DataSize.ofMegabytes(512).toBytes();
+
+    private final JedisPool jedisPool;
+    private final ShortLinkScanRepository shortLinkScanRepository;
+    private final long bits;
+    private final int hashes;
+    private final String key;
+    private final LongAdder absent = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    /**
+     * Creates the filter.
+     *
+     * @param jedisPool               the pool of Redis connections
+     * @param shortLinkScanRepository the repository streaming the short links of the database
+     * @param expectedLinks           the number of links the filter is sized for
+     * @param falsePositiveRate       the share of unknown short links the filter is expected to contain
+     * @param maxSize                 the maximum size of the bitmap, at most 512MB
+     */
+    public ShortLinkBloomFilter(JedisPool jedisPool,
+                                ShortLinkScanRepository shortLinkScanRepository,
+                                @Value("${link.bloom.expected-links:1000000}") long expectedLinks,
+                                @Value("${link.bloom.false-positive-rate:0.01}") double falsePositiveRate,
+                                @Value("${link.bloom.max-size:64MB}") DataSize maxSize) {
+        this.jedisPool = jedisPool;
+        this.shortLinkScanRepository = shortLinkScanRepository;
+        long optimalBits = (long) Math.ceil(-expectedLinks * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        long maxBits = Math.min(maxSize.toBytes(), MAX_SIZE_BYTES) * Byte.SIZE;
+        this.bits = Math.max(Byte.SIZE, Math.min(optimalBits, maxBits) / Byte.SIZE * Byte.SIZE);
+        this.hashes = Math.max(1, (int) Math.round((double) bits / expectedLinks * Math.log(2)));
+        this.key = KEY_PREFIX + bits + ":" + hashes;
+    }
+
+    /**
+     * Checks whether the short link may exist.
+     *
+     * @param shortLink the short link to check
+     * @return false if the short link definitely does not exist, true otherwise
+     */
+    public boolean mightContain(String shortLink) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            return mightContain(jedis, shortLink);
+        } catch (RuntimeException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Checks whether the short link may exist, using the provided connection.
+     *
+     * @param jedis     the Redis connection
+     * @param shortLink the short link to check
+     * @return false if the short link definitely does not exist, true otherwise
+     */
+    public boolean mightContain(Jedis jedis, String shortLink) {
+        List<Long> values;
+        try {
+            values = jedis.bitfield(key, bitfieldArguments("GET", shortLink));
+        } catch (RuntimeException e) {
+            log.debug("Failed to check the short link Bloom filter", e);
+            return true;
+        }
+        if (values.get(0) == 0) {
+            return true;
+        }
+        for (Long value : values) {
+            if (value == 0) {
+                absent.increment();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds the short link to the filter. The link must not be saved if this fails, since the filter would report
+     * its short link as absent.
+     *
+     * @param shortLink the short link to add
+     * @throws JedisException if the short link cannot be added
+     */
+    public void put(String shortLink) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            jedis.bitfield(key, bitfieldArguments("SET", shortLink));
+        } catch (JedisException e) {
+            log.warn("Failed to add short link {} to the Bloom filter", shortLink, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Adds the short links to the filter in a single pipeline. The links must not be saved if this fails, since
+     * the filter would report their short links as absent.
+     *
+     * @param shortLinks the short links to add
+     * @throws JedisException if the short links cannot be added
+     */
+    public void putAll(Collection<String> shortLinks) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            Pipeline pipeline = jedis.pipelined();
+            for (String shortLink : shortLinks) {
+                pipeline.bitfield(key, bitfieldArguments("SET", shortLink));
+            }
+            pipeline.sync();
+        } catch (JedisException e) {
+            log.warn("Failed to add {} short links to the Bloom filter", shortLinks.size(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * Records that a short link the filter may contain was not found in the database.
+     */
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    /**
+     * Scans the short links of the database into the shared bitmap when the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.nanoTime();
+        try {
+            byte[] bitmap = new byte[(int) (bits / Byte.SIZE)];
+            bitmap[0] = (byte) 0x80;
+            LongAdder links = new LongAdder();
+            shortLinkScanRepository.forEachShortLink(shortLink -> {
+                setBits(bitmap, shortLink);
+                links.increment();
+            });
+            String rebuildKey = key + ":rebuild:" + UUID.randomUUID();
+            try (Jedis jedis = jedisPool.getResource()) {
+                jedis.set(rebuildKey.getBytes(StandardCharsets.UTF_8), bitmap);
+                jedis.bitop(BitOP.OR, key, key, rebuildKey);
+                jedis.del(rebuildKey);
+            }
+            log.info("Rebuilt the short link Bloom filter from {} links in {} ms: {} bytes, {} hash functions, "
+                            + "expected false positive rate {}", links.sum(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), bits / Byte.SIZE, hashes,
+                    Math.pow(-Math.expm1(-(double) hashes * links.sum() / bits), hashes));
+        } catch (RuntimeException e) {
+            log.warn("Failed to rebuild the short link Bloom filter", e);
+        }
+    }
+
+    /**
+     * Returns the false positive rate expected from the share of bits set in the shared bitmap.
+     *
+     * @return the expected false positive rate, or NaN if Redis cannot be reached
+     */
+    public double expectedFalsePositiveRate() {
+        try (Jedis jedis = jedisPool.getResource()) {
+            long setBits = Math.max(0, jedis.bitcount(key) - 1);
+            return Math.pow((double) setBits / (bits - 1), hashes);
+        } catch (RuntimeException e) {
+            return Double.NaN;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("link.bloom.size", this, filter -> filter.bits / Byte.SIZE)
+                .description("Size of the short link Bloom filter")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("link.bloom.false-positive-rate", this, ShortLinkBloomFilter::expectedFalsePositiveRate)
+                .description("Share of unknown short links the Bloom filter is expected to contain")
+                .register(registry);
+        FunctionCounter.builder("link.bloom.absent", absent, LongAdder::sum)
+                .description("Short links found absent by the Bloom filter without a database lookup")
+                .register(registry);
+        FunctionCounter.builder("link.bloom.false-positives", falsePositives, LongAdder::sum)
+                .description("Short links the Bloom filter may contain that were not found in the database")
+                .register(registry);
+    }
+
+    /**
+     * Returns the arguments of a {@code BITFIELD} command reading or setting the bits of the short link. Reads
+     * start with the bit marking a rebuilt bitmap.
+     */
+    private String[] bitfieldArguments(String operation, String shortLink) {
+        boolean set = "SET".equals(operation);
+        long[] offsets = offsets(shortLink);
+        String[] arguments = new String[(offsets.length + (set ? 0 : 1)) * (set ? 4 : 3)];
+        int position = 0;
+        if (!set) {
+            arguments[position++] = operation;
+            arguments[position++] = "u1";
+            arguments[position++] = "0";
+        }
+        for (long offset : offsets) {
+            arguments[position++] = operation;
+            arguments[position++] = "u1";
+            arguments[position++] = Long.toString(offset);
+            if (set) {
+                arguments[position++] = "1";
+            }
+        }
+        return arguments;
+    }
+
+    private void setBits(byte[] bitmap, String shortLink) {
+        for (long offset : offsets(shortLink)) {
+            bitmap[(int) (offset >>> 3)] |= (byte) (0x80 >>> (offset & 7));
+        }
+    }
+
+    /**
+     * Returns the bit offsets of the short link, derived from two hashes by double hashing. The offsets are
+     * numbered like Redis numbers the bits of a string, from the most significant bit of the first byte, and
+     * skip the first bit, which marks a rebuilt bitmap.
+     */
+    private long[] offsets(String shortLink) {
+        long first = hash(shortLink, 0xCBF29CE484222325L);
+        long second = hash(shortLink, 0x84222325CBF29CE4L);
+        long[] offsets = new long[hashes];
+        for (int i = 0; i < hashes; i++) {
+            offsets[i] = 1 + Math.floorMod(first + i * second, bits - 1);
+        }
+        return offsets;
+    }
+
+    /**
+     * Hashes the short link with FNV-1a followed by a 64-bit finalizer.
+     */
+    private static long hash(String shortLink, long seed) {
+        long hash = seed;
+        for (int i = 0; i < shortLink.length(); i++) {
+            hash = (hash ^ shortLink.charAt(i)) * 0x100000001B3L;
+        }
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+}
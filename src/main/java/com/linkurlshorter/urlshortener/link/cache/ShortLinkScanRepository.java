@@ -0,0 +1,44 @@
+package com.linkurlshorter.urlshortener.link.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.function.Consumer;
+
+/**
+ * Repository streaming the short links of all links.
+ *
+ * <p>The rows are fetched in chunks of {@link #FETCH_SIZE} within a read-only transaction, which makes the
+ * PostgreSQL driver use a cursor, so the scan never holds more than one chunk in memory.
+ *
+ * @see ShortLinkBloomFilter
+ */
+@Repository
+@RequiredArgsConstructor
+public class ShortLinkScanRepository {
+
+    private static final int FETCH_SIZE = 10_000;
+    private static final String SELECT_SHORT_LINKS_SQL = "SELECT short_link FROM links";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Passes the short link of every link, deleted ones included, to the consumer.
+     *
+     * @param consumer the consumer of the short links
+     */
+    @Transactional(readOnly = true)
+    public void forEachShortLink(Consumer<String> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_SHORT_LINKS_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> consumer.accept(resultSet.getString(1)));
+    }
+}
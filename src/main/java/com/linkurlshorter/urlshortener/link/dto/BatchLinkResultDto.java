@@ -0,0 +1,21 @@
+package com.linkurlshorter.urlshortener.link.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data transfer object (DTO) for representing the result of creating one link of a batch.
+ * This class encapsulates the long link of the request, the short link if the link was created,
+ * and "ok" or the reason the link was not created as the error.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BatchLinkResultDto {
+    private String longLink;
+    private String shortLink;
+    private String error;
+}
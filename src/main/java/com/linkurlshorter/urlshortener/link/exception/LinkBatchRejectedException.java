@@ -0,0 +1,13 @@
+package com.linkurlshorter.urlshortener.link.exception;
+
+/**
+ * Exception thrown when a batch link creation request is rejected because the maximum number of batches is
+ * already being created.
+ */
+public class LinkBatchRejectedException extends RuntimeException {
+    private static final String MSG = "Too many batch requests in progress, try again later";
+
+    public LinkBatchRejectedException() {
+        super(MSG);
+    }
+}
@@ -0,0 +1,12 @@
+package com.linkurlshorter.urlshortener.link.exception;
+
+/**
+ * Exception thrown when a batch link creation request contains more links than allowed.
+ */
+public class LinkBatchTooLargeException extends RuntimeException {
+    private static final String MSG = "Too many links in one request, at most %d are allowed";
+
+    public LinkBatchTooLargeException(int maxSize) {
+        super(MSG.formatted(maxSize));
+    }
+}
@@ -0,0 +1,12 @@
+package com.linkurlshorter.urlshortener.link.exception;
+
+/**
+ * Exception thrown when an export or import of links is requested while another one is running.
+ */
+public class LinkTransferInProgressException extends RuntimeException {
+    private static final String MSG = "Another link transfer is in progress, try again later";
+
+    public LinkTransferInProgressException() {
+        super(MSG);
+    }
+}
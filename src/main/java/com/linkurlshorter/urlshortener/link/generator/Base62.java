@@ -0,0 +1,48 @@
+package com.linkurlshorter.urlshortener.link.generator;
+
+/**
+ * Fixed-width base62 encoding of non-negative numbers with the alphabet {@code 0-9A-Za-z}.
+ */
+public final class Base62 {
+
+    private static final char[] ALPHABET =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+    private static final int BASE = ALPHABET.length;
+
+    private Base62() {
+    }
+
+    /**
+     * Returns the number of values that can be encoded in the provided number of characters.
+     *
+     * @param width the number of characters
+     * @return {@code 62^width}
+     */
+    public static long capacity(int width) {
+        long capacity = 1;
+        for (int i = 0; i < width; i++) {
+            capacity = Math.multiplyExact(capacity, BASE);
+        }
+        return capacity;
+    }
+
+    /**
+     * Encodes the value left-padded with zeros to the provided width.
+     *
+     * @param value the value to encode, from 0 (inclusive) to {@code capacity(width)} (exclusive)
+     * @param width the number of characters
+     * @return the encoded value
+     * @throws IllegalArgumentException if the value does not fit in the width
+     */
+    public static String encode(long value, int width) {
+        if (value < 0 || value >= capacity(width)) {
+            throw new IllegalArgumentException("Value " + value + " does not fit in " + width + " characters");
+        }
+        char[] chars = new char[width];
+        for (int i = width - 1; i >= 0; i--) {
+            chars[i] = ALPHABET[(int) (value % BASE)];
+            value /= BASE;
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,137 @@
+package com.linkurlshorter.urlshortener.link.generator;
+
+import com.linkurlshorter.urlshortener.link.exception.InternalServerLinkException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * Source of short codes encoded from a database sequence.
+ *
+ * <p>Each node leases ranges of {@link ShortCodeSequenceRepository#RANGE_SIZE} numbers from the shared sequence
+ * and hands them out one by one, so codes are unique by construction and only one create in a range queries the
+ * database. Numbers are encoded in base62 as {@value #CODE_LENGTH} characters, one less than the codes of the
+ * {@link ShortCodePool}, so the codes of both strategies never collide. Short links of {@value #CODE_LENGTH}
+ * letters and digits are reserved for these codes, whichever strategy is selected, and rejected as names given by
+ * users (see {@link #isReserved(String)}). Links given such names before they were reserved may still exist, so
+ * the codes of a leased range that are already used by a link are looked up once per range and skipped. Unless
+ * switched off with the {@code link.codes.sequence.scramble} property, the numbers are scrambled with a keyed
+ * bijection first, so consecutive codes do not reveal each other. Scrambling requires a key other than the
+ * default {@code 0}, since codes scrambled with a known key are as predictable as unscrambled ones.
+ *
+ * <p>Leased ranges are published as the {@code link.codes.leases} counter and skipped codes as the
+ * {@code link.codes.rejected} counter.
+ */
+@Component
+@ConditionalOnProperty(name = "link.codes.strategy", havingValue = "sequence")
+public class SequenceShortCodeSource implements ShortCodeSource, MeterBinder {
+
+    static final int CODE_LENGTH = 7;
+
+    /**
+     * Regular expression matching the short links reserved for the codes of this source.
+     */
+    public static final String CODE_REGEXP = "[A-Za-z0-9]{" + CODE_LENGTH + "}";
+
+    private static final long CAPACITY = Base62.capacity(CODE_LENGTH);
+    private static final long DEFAULT_SCRAMBLE_KEY = 0;
+    private static final Pattern CODE_PATTERN = Pattern.compile(CODE_REGEXP);
+
+    private final ShortCodeSequenceRepository shortCodeSequenceRepository;
+    private final ShortCodeScrambler scrambler;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<String> codes = new ArrayDeque<>();
+    private final LongAdder leases = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Creates the source.
+     *
+     * @param shortCodeSequenceRepository the repository leasing ranges of the sequence
+     * @param scramble                    whether the numbers are scrambled before they are encoded
+     * @param scrambleKey                 the key of the scrambling; must be the same on all nodes
+     * @throws IllegalStateException if the numbers are scrambled with the default key
+     */
+    public SequenceShortCodeSource(ShortCodeSequenceRepository shortCodeSequenceRepository,
+                                   @Value("${link.codes.sequence.scramble:true}") boolean scramble,
+                                   @Value("${link.codes.sequence.scramble-key:0}") long scrambleKey) {
+        if (scramble && scrambleKey == DEFAULT_SCRAMBLE_KEY) {
+            throw new IllegalStateException("link.codes.sequence.scramble-key (SHORT_CODE_SCRAMBLE_KEY) must be set "
+                    + "to a secret non-zero key, short codes scrambled with the default key are predictable");
+        }
+        this.shortCodeSequenceRepository = shortCodeSequenceRepository;
+        this.scrambler = scramble ? new ShortCodeScrambler(scrambleKey, CAPACITY) : null;
+    }
+
+    /**
+     * Tells whether a short link has the format of the codes of this source. Such short links are reserved for
+     * generated codes and must not be given to links by users.
+     *
+     * @param shortLink the short link to check
+     * @return true if the short link consists of {@value #CODE_LENGTH} letters and digits
+     */
+    public static boolean isReserved(String shortLink) {
+        return shortLink != null && CODE_PATTERN.matcher(shortLink).matches();
+    }
+
+    @Override
+    public String next() {
+        lock.lock();
+        try {
+            while (codes.isEmpty()) {
+                leaseRange();
+            }
+            return codes.poll();
+        } catch (DataAccessException e) {
+            throw new InternalServerLinkException();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("link.codes.leases", leases, LongAdder::sum)
+                .description("Ranges of the short code sequence leased by this node")
+                .register(registry);
+        FunctionCounter.builder("link.codes.rejected", rejected, LongAdder::sum)
+                .description("Codes of leased ranges skipped because a link already uses them")
+                .register(registry);
+    }
+
+    /**
+     * Leases the next range of the sequence and queues its codes that are not used by a link yet.
+     */
+    private void leaseRange() {
+        long start = shortCodeSequenceRepository.nextRangeStart();
+        long end = Math.min(start + ShortCodeSequenceRepository.RANGE_SIZE, CAPACITY);
+        if (start >= end) {
+            throw new InternalServerLinkException();
+        }
+        leases.increment();
+        List<String> range = new ArrayList<>((int) (end - start));
+        for (long value = start; value < end; value++) {
+            range.add(Base62.encode(scrambler == null ? value : scrambler.scramble(value), CODE_LENGTH));
+        }
+        Set<String> used = shortCodeSequenceRepository.findUsed(range);
+        for (String code : range) {
+            if (!used.contains(code)) {
+                codes.add(code);
+            }
+        }
+        rejected.add(used.size());
+    }
+}
@@ -0,0 +1,245 @@
+package com.linkurlshorter.urlshortener.link.generator;
+
+import com.linkurlshorter.urlshortener.link.exception.InternalServerLinkException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory pool of short codes reserved in advance for this node.
+ *
+ * <p>Random codes are reserved in batches through the {@link ShortCodeRepository}, which guarantees that a code
+ * is neither used by a link nor reserved by another node, so handing a code out is a queue poll and link creation
+ * does not query the database for existing links. The pool is topped up on a fixed delay whenever it holds fewer
+ * codes than the refill level. If it runs empty, the caller reserves a batch itself, or waits for the batch being
+ * reserved by another caller, and gets an {@link InternalServerLinkException} if no code arrives in time.
+ * Codes left in the pool are released on shutdown. This is the default {@link ShortCodeSource}.
+ *
+ * <p>A reservation lasts until its code is used by a saved link, when it is deleted, or until it is released.
+ * Custom short link names that are reserved by any node are rejected, so a user cannot take a code that a node is
+ * about to hand out. The pool renews the reservations of the codes it holds on a fixed delay and deletes the
+ * reservations of all nodes that were not renewed within {@code link.codes.reservation-ttl}, which reclaims the
+ * codes of nodes that stopped without releasing them as well as of codes handed out for links that were never
+ * saved.
+ *
+ * <p>The number of codes in the pool is published as the {@code link.codes.available} gauge, reserved batches as
+ * the {@code link.codes.refills} counter, random candidates that were already taken as the
+ * {@code link.codes.rejected} counter, codes requested from an empty pool as the {@code link.codes.exhausted}
+ * counter and deleted stale reservations as the {@code link.codes.reclaimed} counter.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "link.codes.strategy", havingValue = "pool", matchIfMissing = true)
+public class ShortCodePool implements ShortCodeSource, MeterBinder {
+
+    static final int CODE_LENGTH = 8;
+    private static final Pattern CODE_PATTERN = Pattern.compile("[A-Za-z0-9]{" + CODE_LENGTH + "}");
+
+    private final ShortCodeRepository shortCodeRepository;
+    private final int batchSize;
+    private final int refillLevel;
+    private final long takeTimeoutMillis;
+    private final Duration reservationTtl;
+    private final String nodeId;
+    private final BlockingQueue<String> codes = new LinkedBlockingQueue<>();
+    private final ReentrantLock refillLock = new ReentrantLock();
+    private final LongAdder refills = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+    private final LongAdder reclaimed = new LongAdder();
+
+    /**
+     * Creates the pool.
+     *
+     * @param shortCodeRepository the repository reserving the codes
+     * @param batchSize           the number of codes reserved at once
+     * @param refillLevel         the number of available codes below which the pool is topped up
+     * @param takeTimeout         the maximum time a caller waits for a code when the pool is empty
+     * @param reservationTtl      the time after which reservations that were not renewed are deleted
+     * @param nodeId              the identifier the codes are reserved for; a random one is used if blank
+     */
+    public ShortCodePool(ShortCodeRepository shortCodeRepository,
+                         @Value("${link.codes.batch-size:1000}") int batchSize,
+                         @Value("${link.codes.refill-level:250}") int refillLevel,
+                         @Value("${link.codes.take-timeout:2s}") Duration takeTimeout,
+                         @Value("${link.codes.reservation-ttl:1h}") Duration reservationTtl,
+                         @Value("${link.codes.node-id:${HOSTNAME:}}") String nodeId) {
+        this.shortCodeRepository = shortCodeRepository;
+        this.batchSize = batchSize;
+        this.refillLevel = refillLevel;
+        this.takeTimeoutMillis = takeTimeout.toMillis();
+        this.reservationTtl = reservationTtl;
+        this.nodeId = nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+    }
+
+    /**
+     * Hands out an unused short code.
+     *
+     * @return the short code
+     * @throws InternalServerLinkException if no code becomes available in time
+     */
+    @Override
+    public String next() {
+        String code = codes.poll();
+        if (code != null) {
+            return code;
+        }
+        exhausted.increment();
+        refillIfNeeded();
+        try {
+            code = codes.poll(takeTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (code == null) {
+            throw new InternalServerLinkException();
+        }
+        return code;
+    }
+
+    /**
+     * Reserves a batch of codes if the pool holds fewer codes than the refill level. Does nothing if a batch is
+     * being reserved already.
+     */
+    @Scheduled(fixedDelayString = "${link.codes.refill-interval-ms:1000}")
+    public void refillIfNeeded() {
+        if (codes.size() >= refillLevel || !refillLock.tryLock()) {
+            return;
+        }
+        try {
+            List<String> reserved = shortCodeRepository.reserve(randomCodes(), nodeId);
+            codes.addAll(reserved);
+            refills.increment();
+            rejected.add(batchSize - reserved.size());
+        } catch (RuntimeException e) {
+            log.warn("Failed to reserve short codes", e);
+        } finally {
+            refillLock.unlock();
+        }
+    }
+
+    /**
+     * Renews the reservations of the codes in the pool and deletes the reservations that were not renewed within
+     * the reservation TTL, whichever node made them.
+     */
+    @Scheduled(fixedDelayString = "${link.codes.renew-interval-ms:600000}")
+    public void renewReservations() {
+        List<String> held = new ArrayList<>(codes);
+        try {
+            if (!held.isEmpty()) {
+                shortCodeRepository.renew(held, nodeId);
+            }
+            reclaimed.add(shortCodeRepository.deleteStale(LocalDateTime.now().minus(reservationTtl)));
+        } catch (RuntimeException e) {
+            log.warn("Failed to renew short code reservations", e);
+        }
+    }
+
+    /**
+     * Returns the names that have the format of the codes of the pool and are reserved by any node.
+     *
+     * @param names the short link names requested by users
+     * @return the reserved names
+     */
+    @Override
+    public Set<String> findReserved(Collection<String> names) {
+        List<String> candidates = names.stream()
+                .filter(name -> CODE_PATTERN.matcher(name).matches())
+                .toList();
+        return candidates.isEmpty() ? Set.of() : shortCodeRepository.findReserved(candidates);
+    }
+
+    /**
+     * Deletes the reservations of codes that are used by saved links. Reservations that cannot be deleted are left
+     * to expire.
+     *
+     * @param used the codes handed out by the pool that are now used by links
+     */
+    @Override
+    public void markUsed(Collection<String> used) {
+        if (used.isEmpty()) {
+            return;
+        }
+        try {
+            shortCodeRepository.release(List.copyOf(used), nodeId);
+        } catch (RuntimeException e) {
+            log.warn("Failed to delete the reservations of {} used short codes", used.size(), e);
+        }
+    }
+
+    /**
+     * Releases the codes that were not handed out when the application shuts down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        List<String> unused = new ArrayList<>();
+        codes.drainTo(unused);
+        if (unused.isEmpty()) {
+            return;
+        }
+        try {
+            shortCodeRepository.release(unused, nodeId);
+        } catch (RuntimeException e) {
+            log.warn("Failed to release {} short codes", unused.size(), e);
+        }
+    }
+
+    /**
+     * Returns the number of codes that can be handed out without reserving more.
+     *
+     * @return the number of available codes
+     */
+    public int available() {
+        return codes.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("link.codes.available", this, ShortCodePool::available)
+                .description("Short codes reserved by this node and not handed out yet")
+                .register(registry);
+        FunctionCounter.builder("link.codes.refills", refills, LongAdder::sum)
+                .description("Batches of short codes reserved")
+                .register(registry);
+        FunctionCounter.builder("link.codes.rejected", rejected, LongAdder::sum)
+                .description("Random short codes not reserved because they were already taken")
+                .register(registry);
+        FunctionCounter.builder("link.codes.exhausted", exhausted, LongAdder::sum)
+                .description("Short codes requested while the pool was empty")
+                .register(registry);
+        FunctionCounter.builder("link.codes.reclaimed", reclaimed, LongAdder::sum)
+                .description("Stale short code reservations deleted")
+                .register(registry);
+    }
+
+    private List<String> randomCodes() {
+        Set<String> candidates = new LinkedHashSet<>(batchSize);
+        while (candidates.size() < batchSize) {
+            candidates.add(RandomStringUtils.randomAlphanumeric(CODE_LENGTH));
+        }
+        return new ArrayList<>(candidates);
+    }
+}
@@ -0,0 +1,143 @@
+package com.linkurlshorter.urlshortener.link.generator;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Repository of the short codes reserved by the nodes of the application.
+ *
+ * <p>A code is reserved by inserting it into the {@code short_codes} table. The primary key of the table makes
+ * a reservation exclusive, so two nodes never hand out the same code, and codes already used by a link are not
+ * inserted at all. Both checks are done by the database within a single JDBC batch. If the driver does not report
+ * the row count of each statement ({@link Statement#SUCCESS_NO_INFO}), the codes reserved by the batch are looked
+ * up by node and reservation time instead. A reservation is deleted
+ * once its code is used by a link or released; reservations that are no longer renewed by their node, because
+ * the node is gone, are deleted once they are older than the reservation TTL.
+ *
+ * @see ShortCodePool
+ */
+@Repository
+@RequiredArgsConstructor
+public class ShortCodeRepository {
+
+    private static final String RESERVE_SQL = "INSERT INTO short_codes (code, node_id, reserved_at) "
+            + "SELECT CAST(? AS VARCHAR(50)), CAST(? AS VARCHAR(100)), CAST(? AS TIMESTAMP) "
+            + "WHERE NOT EXISTS (SELECT 1 FROM links WHERE short_link = ?) "
+            + "ON CONFLICT DO NOTHING";
+    private static final String RELEASE_SQL = "DELETE FROM short_codes WHERE code = ? AND node_id = ?";
+    private static final String RENEW_SQL = "UPDATE short_codes SET reserved_at = ? WHERE code = ? AND node_id = ?";
+    private static final String DELETE_STALE_SQL = "DELETE FROM short_codes WHERE reserved_at < ?";
+    private static final String FIND_RESERVED_SQL = "SELECT code FROM short_codes WHERE code IN (%s)";
+    private static final String FIND_RESERVED_BY_NODE_SQL = "SELECT code FROM short_codes "
+            + "WHERE node_id = ? AND reserved_at = ? AND code IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Reserves the provided codes for the node in a single JDBC batch.
+     *
+     * @param codes  the candidate codes
+     * @param nodeId the identifier of the reserving node
+     * @return the codes reserved for the node; codes already reserved or used by a link are left out
+     */
+    @Transactional
+    public List<String> reserve(List<String> codes, String nodeId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        int[][] counts = jdbcTemplate.batchUpdate(RESERVE_SQL, codes, codes.size(), (ps, code) -> {
+            ps.setString(1, code);
+            ps.setString(2, nodeId);
+            ps.setTimestamp(3, now);
+            ps.setString(4, code);
+        });
+        if (Arrays.stream(counts[0]).anyMatch(count -> count == Statement.SUCCESS_NO_INFO)) {
+            Set<String> reservedByBatch = findReservedByNode(codes, nodeId, now);
+            return codes.stream().filter(reservedByBatch::contains).toList();
+        }
+        List<String> reserved = new ArrayList<>(codes.size());
+        for (int i = 0; i < codes.size(); i++) {
+            if (counts[0][i] > 0) {
+                reserved.add(codes.get(i));
+            }
+        }
+        return reserved;
+    }
+
+    /**
+     * Releases codes reserved by the node, either because they were never handed out or because they are used by
+     * a link now.
+     *
+     * @param codes  the codes to release
+     * @param nodeId the identifier of the node that reserved them
+     */
+    @Transactional
+    public void release(List<String> codes, String nodeId) {
+        jdbcTemplate.batchUpdate(RELEASE_SQL, codes, codes.size(), (ps, code) -> {
+            ps.setString(1, code);
+            ps.setString(2, nodeId);
+        });
+    }
+
+    /**
+     * Renews the reservations of codes the node still holds, so that they are not deleted as stale.
+     *
+     * @param codes  the codes held by the node
+     * @param nodeId the identifier of the node that reserved them
+     */
+    @Transactional
+    public void renew(List<String> codes, String nodeId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(RENEW_SQL, codes, codes.size(), (ps, code) -> {
+            ps.setTimestamp(1, now);
+            ps.setString(2, code);
+            ps.setString(3, nodeId);
+        });
+    }
+
+    /**
+     * Deletes the reservations that were made or last renewed before the provided time, whichever node made them.
+     *
+     * @param reservedBefore the time before which reservations are stale
+     * @return the number of reservations deleted
+     */
+    @Transactional
+    public int deleteStale(LocalDateTime reservedBefore) {
+        return jdbcTemplate.update(DELETE_STALE_SQL, Timestamp.valueOf(reservedBefore));
+    }
+
+    /**
+     * Returns the provided codes that are reserved by any node.
+     *
+     * @param codes the codes to look up
+     * @return the reserved codes
+     */
+    public Set<String> findReserved(Collection<String> codes) {
+        if (codes.isEmpty()) {
+            return Set.of();
+        }
+        String sql = FIND_RESERVED_SQL.formatted(String.join(",", Collections.nCopies(codes.size(), "?")));
+        return new HashSet<>(jdbcTemplate.queryForList(sql, String.class, codes.toArray()));
+    }
+
+    private Set<String> findReservedByNode(List<String> codes, String nodeId, Timestamp reservedAt) {
+        String sql = FIND_RESERVED_BY_NODE_SQL.formatted(String.join(",", Collections.nCopies(codes.size(), "?")));
+        List<Object> args = new ArrayList<>(codes.size() + 2);
+        args.add(nodeId);
+        args.add(reservedAt);
+        args.addAll(codes);
+        return new HashSet<>(jdbcTemplate.queryForList(sql, String.class, args.toArray()));
+    }
+}
@@ -0,0 +1,69 @@
+package com.linkurlshorter.urlshortener.link.generator;
+
+/**
+ * Keyed bijective permutation of the numbers from 0 to a domain size, used to make sequential short codes
+ * look random.
+ *
+ * <p>The numbers are permuted with a four-round Feistel network over the smallest even number of bits that covers
+ * the domain. Results that fall outside the domain are permuted again (cycle walking), which keeps the mapping
+ * a bijection of the domain onto itself, so distinct inputs always give distinct outputs.
+ */
+public class ShortCodeScrambler {
+
+    private static final int ROUNDS = 4;
+
+    private final long domain;
+    private final int halfBits;
+    private final long halfMask;
+    private final long[] roundKeys = new long[ROUNDS];
+
+    /**
+     * Creates the scrambler.
+     *
+     * @param key    the key selecting the permutation
+     * @param domain the number of values to permute, at most {@code 2^62}
+     */
+    public ShortCodeScrambler(long key, long domain) {
+        int bits = 64 - Long.numberOfLeadingZeros(domain - 1);
+        this.domain = domain;
+        this.halfBits = (bits + 1) / 2;
+        this.halfMask = (1L << halfBits) - 1;
+        long state = key;
+        for (int i = 0; i < ROUNDS; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            roundKeys[i] = mix(state);
+        }
+    }
+
+    /**
+     * Maps the value to its scrambled counterpart.
+     *
+     * @param value the value, from 0 (inclusive) to the domain size (exclusive)
+     * @return the scrambled value, from 0 (inclusive) to the domain size (exclusive)
+     */
+    public long scramble(long value) {
+        long scrambled = value;
+        do {
+            scrambled = permute(scrambled);
+        } while (scrambled >= domain);
+        return scrambled;
+    }
+
+    private long permute(long value) {
+        long left = value >>> halfBits;
+        long right = value & halfMask;
+        for (long roundKey : roundKeys) {
+            long next = left ^ (mix(right ^ roundKey) & halfMask);
+            left = right;
+            right = next;
+        }
+        return (left << halfBits) | right;
+    }
+
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,58 @@
+package com.linkurlshorter.urlshortener.link.generator;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Repository leasing ranges of the {@code short_code_sequence} database sequence.
+ *
+ * <p>The sequence is incremented by {@link #RANGE_SIZE}, so a single {@code nextval} call leases a whole range
+ * of numbers to the calling node and no two nodes ever get the same number. Codes of a range that are already
+ * used by a link are looked up in one query.
+ *
+ * @see SequenceShortCodeSource
+ */
+@Repository
+@RequiredArgsConstructor
+public class ShortCodeSequenceRepository {
+
+    /**
+     * The number of values leased at once; the increment of the sequence.
+     */
+    public static final int RANGE_SIZE = 1000;
+
+    private static final String NEXT_RANGE_SQL = "SELECT nextval('short_code_sequence')";
+    private static final String FIND_USED_SQL = "SELECT short_link FROM links WHERE short_link IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Leases the next range of the sequence.
+     *
+     * @return the first value of the leased range; the range spans {@link #RANGE_SIZE} values
+     */
+    public long nextRangeStart() {
+        return jdbcTemplate.queryForObject(NEXT_RANGE_SQL, Long.class);
+    }
+
+    /**
+     * Finds the codes already used as the short link of a link, e.g. names given by users before the codes of the
+     * sequence were reserved, in a single query.
+     *
+     * @param codes the codes of a leased range
+     * @return the codes used by a link
+     */
+    public Set<String> findUsed(List<String> codes) {
+        if (codes.isEmpty()) {
+            return Set.of();
+        }
+        String sql = FIND_USED_SQL.formatted(String.join(",", Collections.nCopies(codes.size(), "?")));
+        return new HashSet<>(jdbcTemplate.queryForList(sql, String.class, codes.toArray()));
+    }
+}
@@ -0,0 +1,47 @@
+package com.linkurlshorter.urlshortener.link.generator;
+
+import com.linkurlshorter.urlshortener.link.exception.InternalServerLinkException;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Source of short codes for new links that were not given a name by the user.
+ *
+ * <p>The source is selected with the {@code link.codes.strategy} property: {@code pool} for random codes
+ * reserved in advance ({@link ShortCodePool}, the default) or {@code sequence} for codes encoded from leased
+ * ranges of a database sequence ({@link SequenceShortCodeSource}). Either way every code handed out is unique,
+ * so creating a link needs no lookup of existing links.
+ *
+ * <p>A source that keeps track of the codes it handed out is told which of them ended up in a saved link with
+ * {@link #markUsed(Collection)}, and reports the codes it has handed out or may still hand out with
+ * {@link #findReserved(Collection)}, so that a user cannot name a link after such a code.
+ */
+public interface ShortCodeSource {
+
+    /**
+     * Hands out an unused short code.
+     *
+     * @return the short code
+     * @throws InternalServerLinkException if no code can be handed out
+     */
+    String next();
+
+    /**
+     * Returns the names that this source has reserved for generated links and that users must not take.
+     *
+     * @param names the short link names requested by users
+     * @return the reserved names; none by default
+     */
+    default Set<String> findReserved(Collection<String> names) {
+        return Set.of();
+    }
+
+    /**
+     * Tells the source that links with the provided codes were saved. Does nothing by default.
+     *
+     * @param codes the codes handed out by this source that are now used by links
+     */
+    default void markUsed(Collection<String> codes) {
+    }
+}
@@ -1,23 +1,59 @@
 package com.linkurlshorter.urlshortener.link.generator;
 
-import com.linkurlshorter.urlshortener.link.LinkService;
 import com.linkurlshorter.urlshortener.link.exception.InternalServerLinkException;
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.lang3.RandomStringUtils;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generates short links for new links that were not given a name by the user.
+ *
+ * @see ShortCodeSource
+ */
 @Service
 @RequiredArgsConstructor
 public class ShortLinkGenerator {
-    private final LinkService linkService;
+    private final ShortCodeSource shortCodeSource;
 
+    /**
+     * Returns a short link that is not used by any link.
+     *
+     * @return the generated short link
+     * @throws InternalServerLinkException if no short link can be generated in time
+     */
     public String generate() {
-        for (int i = 0; i < 5; i++) {
-            String newShortLink = RandomStringUtils.randomAlphanumeric(8);
-            if (!linkService.doesLinkExist(newShortLink)) {
-                return newShortLink;
-            }
-        }
-        throw new InternalServerLinkException();
+        return shortCodeSource.next();
+    }
+
+    /**
+     * Checks whether the name is reserved for a generated short link.
+     *
+     * @param name the short link name requested by a user
+     * @return true if a user must not take the name, false otherwise
+     */
+    public boolean isReserved(String name) {
+        return !shortCodeSource.findReserved(List.of(name)).isEmpty();
+    }
+
+    /**
+     * Returns the names that are reserved for generated short links.
+     *
+     * @param names the short link names requested by users
+     * @return the names users must not take
+     */
+    public Set<String> findReserved(Collection<String> names) {
+        return shortCodeSource.findReserved(names);
+    }
+
+    /**
+     * Tells the source of the short links that links with the provided generated short links were saved.
+     *
+     * @param shortLinks the generated short links of the saved links
+     */
+    public void markUsed(Collection<String> shortLinks) {
+        shortCodeSource.markUsed(shortLinks);
     }
 }
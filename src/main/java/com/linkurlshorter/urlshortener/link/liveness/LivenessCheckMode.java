@@ -0,0 +1,23 @@
+package com.linkurlshorter.urlshortener.link.liveness;
+
+/**
+ * Modes of the liveness check of the long links of new links, selected with the {@code link.liveness.mode}
+ * property.
+ *
+ * @see UrlLivenessChecker
+ */
+public enum LivenessCheckMode {
+    /**
+     * The link is created only once its long link has answered, or was recently found alive.
+     */
+    BLOCKING,
+    /**
+     * The link is created right away unless its long link was recently found dead, and deactivated if the check
+     * started with the creation finds it dead.
+     */
+    ACCEPT_THEN_VERIFY,
+    /**
+     * Long links are not checked.
+     */
+    DISABLED
+}
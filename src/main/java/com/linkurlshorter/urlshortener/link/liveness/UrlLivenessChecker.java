@@ -0,0 +1,290 @@
+package com.linkurlshorter.urlshortener.link.liveness;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Checks whether long links are alive, i.e. answer a GET request with a successful status.
+ *
+ * <p>Checks run asynchronously on the shared {@link OkHttpClient}, so they neither create clients nor occupy the
+ * request threads. Definitive results, a successful status, {@code 404 Not Found}, {@code 410 Gone} or a host that
+ * cannot be resolved, are cached for {@code link.liveness.cache-ttl}. Failures that may be temporary, such as
+ * timeouts, refused connections and other error statuses, count as dead too but are only cached for
+ * {@code link.liveness.transient-ttl}, so a host that is briefly down does not get new links rejected for long.
+ * Concurrent checks of the same long link share one request. Hosts that cannot be resolved or connected to are
+ * remembered in the same way, so the other long links of such a host are found dead without a request. At most
+ * {@code link.liveness.max-pending} checks are running or queued at a time; further long links are not checked
+ * and count as alive, so a backlog of slow hosts never blocks link creation.
+ *
+ * <p>How new links wait for the check depends on the {@link LivenessCheckMode} of {@code link.liveness.mode}.
+ * Actions waiting for a check run on the application task executor, never on the threads of the HTTP client.
+ *
+ * <p>Checks are published as the {@code link.liveness.checks} counter tagged with the result {@code alive} or
+ * {@code dead}, long links left unchecked as the {@code link.liveness.rejected} counter and running checks as the
+ * {@code link.liveness.pending} gauge. The result cache is published under the {@code cache.*} meters tagged with
+ * {@code cache=link-liveness}.
+ */
+@Slf4j
+@Component
+public class UrlLivenessChecker implements MeterBinder {
+
+    private static final String CACHE_NAME = "link-liveness";
+    private static final int NOT_FOUND = 404;
+    private static final int GONE = 410;
+
+    private final OkHttpClient httpClient;
+    private final LivenessCheckMode mode;
+    private final Duration timeout;
+    private final int maxPending;
+    private final Semaphore pending;
+    private final Executor callbackExecutor;
+    private final AsyncCache<String, Liveness> results;
+    private final Cache<String, Liveness> deadHosts;
+    private final LongAdder alive = new LongAdder();
+    private final LongAdder dead = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Creates the checker.
+     *
+     * @param httpClient       the shared HTTP client
+     * @param mode             the way new links wait for the check
+     * @param timeout          the maximum time a blocking check waits for the long link
+     * @param cacheTtl         the time definitive results of long links and unresolvable hosts are remembered
+     * @param transientTtl     the time failures that may be temporary are remembered
+     * @param cacheSize        the maximum number of long links whose result is remembered
+     * @param maxPending       the maximum number of checks running or queued at a time
+     * @param callbackExecutor the executor running the actions waiting for a check
+     */
+    public UrlLivenessChecker(OkHttpClient httpClient,
+                              @Value("${link.liveness.mode:blocking}") LivenessCheckMode mode,
+                              @Value("${link.liveness.timeout:2s}") Duration timeout,
+                              @Value("${link.liveness.cache-ttl:5m}") Duration cacheTtl,
+                              @Value("${link.liveness.transient-ttl:30s}") Duration transientTtl,
+                              @Value("${link.liveness.cache-size:10000}") long cacheSize,
+                              @Value("${link.liveness.max-pending:1000}") int maxPending,
+                              @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                              Executor callbackExecutor) {
+        this.httpClient = httpClient;
+        this.mode = mode;
+        this.timeout = timeout;
+        this.maxPending = maxPending;
+        this.pending = new Semaphore(maxPending);
+        this.callbackExecutor = callbackExecutor;
+        this.results = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfter(expiry(cacheTtl, transientTtl))
+                .recordStats()
+                .buildAsync();
+        this.deadHosts = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfter(expiry(cacheTtl, transientTtl))
+                .build();
+    }
+
+    /**
+     * Tells whether a new link to the long link has to be rejected because the long link is dead.
+     *
+     * <p>In {@link LivenessCheckMode#BLOCKING} mode this waits for the check for at most
+     * {@code link.liveness.timeout}; a long link that does not answer in time is dead. In
+     * {@link LivenessCheckMode#ACCEPT_THEN_VERIFY} mode the check is started, but only a result that is already
+     * known rejects the link.
+     *
+     * @param url the long link
+     * @return true if the long link is dead, false if it is alive or not checked
+     */
+    public boolean isDead(String url) {
+        if (mode == LivenessCheckMode.DISABLED) {
+            return false;
+        }
+        CompletableFuture<Boolean> result = check(url);
+        if (mode == LivenessCheckMode.ACCEPT_THEN_VERIFY) {
+            return result.isDone() && !result.isCompletedExceptionally() && !result.join();
+        }
+        try {
+            return !result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return true;
+        } catch (ExecutionException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Runs the action on the application task executor once the long link of a new link is found dead. Only in
+     * {@link LivenessCheckMode#ACCEPT_THEN_VERIFY} mode, since in the other modes the long link has either been
+     * checked already or is not checked at all.
+     *
+     * @param url    the long link
+     * @param action the action to run if the long link is dead, e.g. deactivating the link
+     */
+    public void whenDead(String url, Runnable action) {
+        if (mode != LivenessCheckMode.ACCEPT_THEN_VERIFY) {
+            return;
+        }
+        check(url).thenAcceptAsync(isAlive -> {
+            if (!isAlive) {
+                action.run();
+            }
+        }, callbackExecutor).exceptionally(e -> {
+            log.warn("Failed to verify the long link {}", url, e);
+            return null;
+        });
+    }
+
+    /**
+     * Checks whether the long link is alive, reusing a cached or running check of the same long link.
+     *
+     * @param url the long link
+     * @return the future result of the check, true if the long link is alive; completed exceptionally with a
+     * {@link RejectedExecutionException} if too many checks are pending
+     */
+    public CompletableFuture<Boolean> check(String url) {
+        return results.get(url, (key, executor) -> probe(key)).thenApply(liveness -> liveness == Liveness.ALIVE);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, results.synchronous(), CACHE_NAME);
+        FunctionCounter.builder("link.liveness.checks", alive, LongAdder::sum)
+                .description("Long links checked for liveness")
+                .tag("result", "alive")
+                .register(registry);
+        FunctionCounter.builder("link.liveness.checks", dead, LongAdder::sum)
+                .description("Long links checked for liveness")
+                .tag("result", "dead")
+                .register(registry);
+        FunctionCounter.builder("link.liveness.rejected", rejected, LongAdder::sum)
+                .description("Long links not checked because too many checks were pending")
+                .register(registry);
+        Gauge.builder("link.liveness.pending", pending, permits -> maxPending - permits.availablePermits())
+                .description("Liveness checks running or queued")
+                .register(registry);
+    }
+
+    private CompletableFuture<Liveness> probe(String url) {
+        HttpUrl httpUrl = HttpUrl.parse(url);
+        Liveness hostLiveness = Objects.isNull(httpUrl) ? Liveness.DEAD : deadHosts.getIfPresent(hostKey(httpUrl));
+        if (Objects.nonNull(hostLiveness)) {
+            dead.increment();
+            return CompletableFuture.completedFuture(hostLiveness);
+        }
+        if (!pending.tryAcquire()) {
+            rejected.increment();
+            return CompletableFuture.failedFuture(new RejectedExecutionException("Too many pending liveness checks"));
+        }
+        CompletableFuture<Liveness> result = new CompletableFuture<>();
+        Request request = new Request.Builder().url(httpUrl).get().build();
+        httpClient.newCall(request).enqueue(new Callback() {
+            @Override
+            public void onResponse(Call call, Response response) {
+                try (response) {
+                    complete(result, liveness(response));
+                }
+            }
+
+            @Override
+            public void onFailure(Call call, IOException e) {
+                Liveness liveness = e instanceof UnknownHostException ? Liveness.DEAD : Liveness.UNAVAILABLE;
+                if (e instanceof UnknownHostException || e instanceof ConnectException) {
+                    deadHosts.put(hostKey(httpUrl), liveness);
+                }
+                log.debug("Liveness check of {} failed", url, e);
+                complete(result, liveness);
+            }
+        });
+        return result;
+    }
+
+    private static String hostKey(HttpUrl httpUrl) {
+        return httpUrl.host() + ":" + httpUrl.port();
+    }
+
+    private static Liveness liveness(Response response) {
+        if (response.isSuccessful()) {
+            return Liveness.ALIVE;
+        }
+        return response.code() == NOT_FOUND || response.code() == GONE ? Liveness.DEAD : Liveness.UNAVAILABLE;
+    }
+
+    private void complete(CompletableFuture<Liveness> result, Liveness liveness) {
+        pending.release();
+        (liveness == Liveness.ALIVE ? alive : dead).increment();
+        result.complete(liveness);
+    }
+
+    /**
+     * Expires definitive results after the cache TTL and failures that may be temporary after the transient TTL.
+     */
+    private static <K> Expiry<K, Liveness> expiry(Duration ttl, Duration transientTtl) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(K key, Liveness liveness, long currentTime) {
+                return (liveness == Liveness.UNAVAILABLE ? transientTtl : ttl).toNanos();
+            }
+
+            @Override
+            public long expireAfterUpdate(K key, Liveness liveness, long currentTime, long currentDuration) {
+                return expireAfterCreate(key, liveness, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(K key, Liveness liveness, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    /**
+     * Result of a liveness check.
+     */
+    private enum Liveness {
+        /**
+         * The long link answered with a successful status.
+         */
+        ALIVE,
+        /**
+         * The long link is gone or its host does not exist.
+         */
+        DEAD,
+        /**
+         * The long link could not be checked or answered with an error that may be temporary.
+         */
+        UNAVAILABLE
+    }
+}
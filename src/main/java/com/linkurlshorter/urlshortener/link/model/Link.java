@@ -14,6 +14,8 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -30,6 +32,9 @@ import java.util.UUID;
  * <p>Encapsulates information about a short link, including its unique identifier, long URL,
  * short URL, associated user, creation time, expiration time, usage statistics, and status. Created on: 13.04.2024
  *
+ * <p>The {@link LongLinkHash} of the long URL is kept up to date whenever the link is saved, so links can be
+ * looked up by their long URL.
+ *
  * @author Artem Poliakov
  * @version 1.0
  * @see User
@@ -49,6 +54,8 @@ public class Link {
     private UUID id;
     @Column(name = "long_link")
     private String longLink;
+    @Column(name = "long_link_hash")
+    private Long longLinkHash;
     @Column(name = "short_link")
     private String shortLink;
     @ManyToOne
@@ -69,4 +76,10 @@ public class Link {
     @Builder.Default
     @Enumerated(EnumType.STRING)
     private LinkStatus status = LinkStatus.ACTIVE;
+
+    @PrePersist
+    @PreUpdate
+    void updateLongLinkHash() {
+        longLinkHash = longLink == null ? null : LongLinkHash.of(longLink);
+    }
 }
@@ -0,0 +1,37 @@
+package com.linkurlshorter.urlshortener.link.model;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Computes the hash of a long link stored in the indexed {@code long_link_hash} column of the links table.
+ *
+ * <p>The {@code long_link} column is too wide to be indexed for equality lookups, so links are looked up by the
+ * hash instead and the long link is compared only for the few rows with the same hash. The hash is the first
+ * 8 bytes of the SHA-256 digest of the UTF-8 encoded long link, read as a big-endian signed number, which
+ * PostgreSQL computes as
+ * <pre>{@code ('x' || left(encode(sha256(convert_to(long_link, 'UTF8')), 'hex'), 16))::bit(64)::bigint}</pre>
+ */
+public final class LongLinkHash {
+
+    private LongLinkHash() {
+    }
+
+    /**
+     * Computes the hash of the long link.
+     *
+     * @param longLink the long link
+     * @return the hash of the long link
+     */
+    public static long of(String longLink) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+        return ByteBuffer.wrap(digest.digest(longLink.getBytes(StandardCharsets.UTF_8))).getLong();
+    }
+}
@@ -0,0 +1,105 @@
+package com.linkurlshorter.urlshortener.link.redirect;
+
+import com.linkurlshorter.urlshortener.link.LinkService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Servlet filter serving public redirects before the Spring Security filter chain.
+ *
+ * <p>{@code GET /{shortLink}} is open to everyone, so it does not need the security filters, the JWT filter or
+ * the dispatch through Spring MVC into a {@link org.springframework.web.servlet.view.RedirectView}. This filter
+ * is ordered right before the security filter chain, resolves the short link through the {@link LinkService} and
+ * writes the 302 status and the {@code Location} header directly. A short link that cannot be served, e.g.
+ * because it is unknown or inactive, is answered here as well: the exception is rendered by the global exception
+ * handler through the {@link HandlerExceptionResolver} of Spring MVC, so the short link is resolved only once and
+ * the error response is the one {@link LinkRedirectController} would produce. Only requests for other paths,
+ * including the paths of the console, the API documentation and the actuator, continue down the regular chain.
+ *
+ * <p>The filter can be switched off with the {@code link.redirect.fast-path.enabled} property.
+ *
+ * @see LinkRedirectController
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+@ConditionalOnProperty(name = "link.redirect.fast-path.enabled", havingValue = "true", matchIfMissing = true)
+public class RedirectFastPathFilter extends OncePerRequestFilter {
+
+    private static final Pattern SHORT_LINK_PATH = Pattern.compile("^/[A-Za-z0-9-]{3,20}$");
+    private static final Set<String> RESERVED_PATHS = Set.of("/actuator", "/error", "/h2-console", "/swagger-ui",
+            "/swagger-resources", "/api-docs", "/webjars", "/api");
+
+    private final LinkService linkService;
+    private final HandlerExceptionResolver handlerExceptionResolver;
+
+    /**
+     * Creates the filter.
+     *
+     * @param linkService              the service resolving short links
+     * @param handlerExceptionResolver the resolver rendering exceptions through the global exception handler
+     */
+    public RedirectFastPathFilter(LinkService linkService,
+                                  @Qualifier("handlerExceptionResolver")
+                                  HandlerExceptionResolver handlerExceptionResolver) {
+        this.linkService = linkService;
+        this.handlerExceptionResolver = handlerExceptionResolver;
+    }
+
+    /**
+     * Serves the redirect of the requested short link, or the error response if it cannot be served.
+     *
+     * @param request     the HTTP request
+     * @param response    the HTTP response
+     * @param filterChain the filter chain
+     * @throws IOException      if an I/O error occurs during filtering
+     * @throws ServletException if a servlet error occurs during filtering
+     * @throws RuntimeException if resolving the short link fails with an exception the global exception handler
+     *                          does not handle, e.g. because the database is unavailable
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws IOException, ServletException {
+        String longLink;
+        try {
+            longLink = linkService.getLongLinkFromShortLink(request.getServletPath().substring(1));
+        } catch (RuntimeException e) {
+            if (Objects.isNull(handlerExceptionResolver.resolveException(request, response, null, e))) {
+                throw e;
+            }
+            return;
+        }
+        response.setStatus(HttpServletResponse.SC_FOUND);
+        response.setHeader(HttpHeaders.LOCATION, longLink);
+    }
+
+    /**
+     * Skips every request other than a GET of a single path segment that may be a short link.
+     *
+     * @param request the HTTP request
+     * @return true if the request is not a redirect, false otherwise
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getServletPath();
+        return !HttpMethod.GET.matches(request.getMethod())
+                || !SHORT_LINK_PATH.matcher(path).matches()
+                || RESERVED_PATHS.contains(path);
+    }
+}
@@ -0,0 +1,25 @@
+package com.linkurlshorter.urlshortener.link.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Represents a request object for creating many links at once.
+ * <p>
+ * Each link is validated on its own, so an invalid link is reported in its result instead of failing the
+ * whole request.
+ * </p>
+ *
+ * @see BatchLinkItem
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchCreateLinkRequest {
+    @NotEmpty(message = "Links must not be empty!")
+    private List<BatchLinkItem> links;
+}
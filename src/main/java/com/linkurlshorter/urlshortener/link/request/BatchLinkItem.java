@@ -0,0 +1,34 @@
+package com.linkurlshorter.urlshortener.link.request;
+
+import com.linkurlshorter.urlshortener.link.generator.SequenceShortCodeSource;
+import com.linkurlshorter.urlshortener.link.validation.UrlLongSyntaxValidator;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a single link of a {@link BatchCreateLinkRequest}.
+ * <p>
+ * The long URL and the optional short link name are checked for their format only, the long URL with
+ * {@link UrlLongSyntaxValidator}. Unlike {@link CreateLinkRequest}, the long URL is not requested to check that it
+ * is active and the short link name is not looked up, an existing short link is reported when the link is inserted.
+ * As for {@link CreateLinkRequest}, short link names of 7 letters and digits are rejected, they are reserved for
+ * generated short links.
+ * </p>
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchLinkItem {
+    @NotBlank(message = "Url must not be null or empty!")
+    @Size(max = 1000, message = "Url is too long!")
+    @UrlLongSyntaxValidator
+    private String longLink;
+    @Pattern(regexp = "[a-zA-Z0-9]{3,20}", message = "Invalid short link format!")
+    @Pattern(regexp = "(?!" + SequenceShortCodeSource.CODE_REGEXP + "$).*",
+            message = "Short links of 7 letters and digits are reserved for generated links!")
+    private String shortLinkName;
+}
@@ -20,6 +20,11 @@ import lombok.NoArgsConstructor;
  * The long URL provided in the request is validated using the {@link UrlLongFormatValidator} annotation.
  * </p>
  *
+ * <p>
+ * If {@code deduplicate} is set and no short link name is given, an active link of the user to the same long URL
+ * is returned instead of creating a new one.
+ * </p>
+ *
  * @author Artem Poliakov
  * @version 1.0
  */
@@ -31,4 +36,15 @@ public class CreateLinkRequest {
     private String longLink;
     @UrlNewShortValidator
     private String shortLinkName;
+    private boolean deduplicate;
+
+    /**
+     * Creates a request that does not reuse existing links.
+     *
+     * @param longLink      the long URL to shorten
+     * @param shortLinkName the requested short link name, or null to generate one
+     */
+    public CreateLinkRequest(String longLink, String shortLinkName) {
+        this(longLink, shortLinkName, false);
+    }
 }
@@ -0,0 +1,21 @@
+package com.linkurlshorter.urlshortener.link.response;
+
+import com.linkurlshorter.urlshortener.link.dto.BatchLinkResultDto;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A response class representing the result of a batch link creation request.
+ * It contains one {@link BatchLinkResultDto} per requested link, in the order of the request,
+ * along with an optional error message.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchCreateLinkResponse {
+    private List<BatchLinkResultDto> links;
+    private String error;
+}
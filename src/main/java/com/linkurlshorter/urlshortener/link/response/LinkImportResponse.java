@@ -0,0 +1,21 @@
+package com.linkurlshorter.urlshortener.link.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A response class representing the result of a link import.
+ * It contains the number of records read, links imported, records skipped because the short link was taken or
+ * the owner unknown, and invalid records, along with an optional error message.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class LinkImportResponse {
+    private long read;
+    private long imported;
+    private long skipped;
+    private long invalid;
+    private String error;
+}
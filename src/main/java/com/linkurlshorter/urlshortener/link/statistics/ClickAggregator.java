@@ -0,0 +1,182 @@
+package com.linkurlshorter.urlshortener.link.statistics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind aggregator of link redirects.
+ *
+ * <p>Redirects are counted in memory, one {@link LongAdder} per short link, so concurrent redirects of the same
+ * link neither contend on a lock nor lose increments, and a redirect does not make any network call. The counts
+ * are flushed on a fixed delay, and once more on shutdown, as atomic batches of increments to the
+ * {@link RedisClickCounters} shared by all nodes, which the {@link ClickReconciler} moves to the database.
+ * A failed batch is put back and retried on the next flush. Redis applies a batch as a whole or not at all, but a
+ * batch whose reply was lost may have been applied, so clicks are counted at least once. When a link is renamed,
+ * the clicks of its old short link are moved to the new one, both the ones in memory and the ones in Redis.
+ *
+ * <p>The number of clicks waiting to be flushed is published as the {@code link.clicks.pending} gauge, the
+ * batches put back after a failure as the {@code link.clicks.restored} counter and the flush duration as the
+ * {@code link.clicks.flush} timer.
+ */
+@Slf4j
+@Component
+public class ClickAggregator implements MeterBinder {
+
+    private final RedisClickCounters redisClickCounters;
+    private final int batchSize;
+    private final ConcurrentMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final List<Map.Entry<String, LongAdder>> retiredCounters = new ArrayList<>();
+    private final LongAdder restoredBatches = new LongAdder();
+    private final LongAdder flushCount = new LongAdder();
+    private final LongAdder flushTimeNanos = new LongAdder();
+
+    /**
+     * Creates the aggregator.
+     *
+     * @param redisClickCounters the shared counters the aggregated clicks are written to
+     * @param batchSize          the maximum number of links incremented in a single transaction
+     */
+    public ClickAggregator(RedisClickCounters redisClickCounters,
+                           @Value("${link.clicks.flush-batch-size:500}") int batchSize) {
+        this.redisClickCounters = redisClickCounters;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Records a single redirect of the provided short link.
+     *
+     * @param shortLink the short link that was used
+     */
+    public void record(String shortLink) {
+        counters.computeIfAbsent(shortLink, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Writes the clicks recorded since the previous flush to the shared counters.
+     */
+    @Scheduled(fixedDelayString = "${link.clicks.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        long start = System.nanoTime();
+        List<Map.Entry<String, Long>> clicks = new ArrayList<>(drain().entrySet());
+        for (int from = 0; from < clicks.size(); from += batchSize) {
+            List<Map.Entry<String, Long>> batch = clicks.subList(from, Math.min(from + batchSize, clicks.size()));
+            try {
+                redisClickCounters.incrementAll(batch);
+            } catch (RuntimeException e) {
+                log.warn("Failed to flush link statistics, {} links will be retried", clicks.size() - from, e);
+                clicks.subList(from, clicks.size()).forEach(click -> restore(click.getKey(), click.getValue()));
+                restoredBatches.increment();
+                break;
+            }
+        }
+        flushCount.increment();
+        flushTimeNanos.add(System.nanoTime() - start);
+    }
+
+    /**
+     * Moves the clicks of a renamed link that have not been written to the database yet to its new short link.
+     * Called once the rename is committed, so the clicks still recorded under the old short link by a redirect in
+     * progress go to the new one as well.
+     *
+     * @param shortLink    the old short link
+     * @param newShortLink the new short link
+     */
+    public synchronized void move(String shortLink, String newShortLink) {
+        LongAdder counter = counters.remove(shortLink);
+        if (counter != null) {
+            restore(newShortLink, counter.sumThenReset());
+            retiredCounters.add(Map.entry(newShortLink, counter));
+        }
+        retiredCounters.replaceAll(retired -> retired.getKey().equals(shortLink)
+                ? Map.entry(newShortLink, retired.getValue())
+                : retired);
+        try {
+            redisClickCounters.move(shortLink, newShortLink);
+        } catch (RuntimeException e) {
+            log.warn("Failed to move the clicks of short link {} to {}", shortLink, newShortLink, e);
+        }
+    }
+
+    /**
+     * Flushes the remaining clicks when the application shuts down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * Returns the number of recorded clicks that have not been flushed yet.
+     *
+     * @return the number of pending clicks
+     */
+    public long pendingClicks() {
+        return counters.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("link.clicks.pending", this, ClickAggregator::pendingClicks)
+                .description("Link redirects recorded but not yet written to Redis")
+                .register(registry);
+        FunctionCounter.builder("link.clicks.restored", restoredBatches, LongAdder::sum)
+                .description("Batches of link redirects put back after a failed write to Redis")
+                .register(registry);
+        FunctionTimer.builder("link.clicks.flush", this,
+                        aggregator -> aggregator.flushCount.sum(),
+                        aggregator -> aggregator.flushTimeNanos.sum(),
+                        TimeUnit.NANOSECONDS)
+                .description("Time spent writing aggregated link redirects to Redis")
+                .register(registry);
+    }
+
+    /**
+     * Takes the recorded clicks out of the counters.
+     *
+     * <p>Counters without clicks since the previous flush are removed from the map. A thread may still hold
+     * a removed counter for a moment, so removed counters are drained once more on the next flush.
+     *
+     * @return the short links paired with the number of clicks recorded since the previous flush
+     */
+    private Map<String, Long> drain() {
+        Map<String, Long> clicks = new HashMap<>();
+        retiredCounters.forEach(retired -> addClicks(clicks, retired.getKey(), retired.getValue().sumThenReset()));
+        retiredCounters.clear();
+        counters.forEach((shortLink, counter) -> {
+            long count = counter.sumThenReset();
+            if (count > 0) {
+                addClicks(clicks, shortLink, count);
+            } else if (counters.remove(shortLink, counter)) {
+                retiredCounters.add(Map.entry(shortLink, counter));
+            }
+        });
+        return clicks;
+    }
+
+    private void restore(String shortLink, long count) {
+        counters.computeIfAbsent(shortLink, key -> new LongAdder()).add(count);
+    }
+
+    private static void addClicks(Map<String, Long> clicks, String shortLink, long count) {
+        if (count > 0) {
+            clicks.merge(shortLink, count, Long::sum);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.linkurlshorter.urlshortener.link.statistics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.params.SetParams;
+import redis.clients.jedis.resps.ScanResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.linkurlshorter.urlshortener.link.statistics.RedisClickCounters.CLICKS_KEY;
+import static com.linkurlshorter.urlshortener.link.statistics.RedisClickCounters.DRAINING_KEY;
+import static com.linkurlshorter.urlshortener.link.statistics.RedisClickCounters.LOCK_KEY;
+
+/**
+ * Scheduled job moving the click counts accumulated in Redis into the {@code links.statistics} column.
+ *
+ * <p>Only the node holding the reconciliation lock does the work. It atomically renames the counters hash,
+ * so clicks recorded in the meantime go to a fresh hash, and then writes the renamed hash to the database
+ * in batches through {@link ClickStatisticsRepository}. Every batch is removed from Redis only after it has been
+ * committed, and a hash left behind by an interrupted run is finished first on the next run, so no counts are
+ * lost. If a node dies between a commit and the removal, that batch is applied once more.
+ *
+ * <p>The counters are only renamed if no hash is being drained ({@code RENAMENX}), so a node never replaces a
+ * hash another node is still draining. The lock is renewed before every batch, so a long drain keeps it, and a
+ * node that finds its lock expired, e.g. after a long pause, stops draining and leaves the rest to the node that
+ * holds the lock now.
+ *
+ * <p>Clicks are counted by short link. A renamed link has its pending counters moved to the new short link, but
+ * clicks counted under the old short link after that, e.g. by a node that has not flushed them yet, match no link
+ * any more. They are dropped and published as the {@code link.clicks.orphaned} counter.
+ *
+ * <p>The number of reconciled clicks is published as the {@code link.clicks.reconciled} counter and the run
+ * duration as the {@code link.clicks.reconcile} timer.
+ *
+ * @see RedisClickCounters
+ */
+@Slf4j
+@Component
+public class ClickReconciler implements MeterBinder {
+
+    private static final int LINK_LIFETIME_IN_MONTHS = 1;
+    private static final String RELEASE_LOCK_SCRIPT =
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end";
+    private static final String RENEW_LOCK_SCRIPT =
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) "
+                    + "else return 0 end";
+
+    private final JedisPool jedisPool;
+    private final ClickStatisticsRepository clickStatisticsRepository;
+    private final int batchSize;
+    private final long lockTtlMillis;
+    private final LongAdder reconciledClicks = new LongAdder();
+    private final LongAdder orphanedClicks = new LongAdder();
+    private final LongAdder runCount = new LongAdder();
+    private final LongAdder runTimeNanos = new LongAdder();
+
+    /**
+     * Creates the reconciler.
+     *
+     * @param jedisPool                 the pool of Redis connections
+     * @param clickStatisticsRepository the repository the clicks are written to
+     * @param batchSize                 the maximum number of links updated in a single JDBC batch
+     * @param lockTtlMillis             the time after which the lock of a node that died is released
+     */
+    public ClickReconciler(JedisPool jedisPool,
+                           ClickStatisticsRepository clickStatisticsRepository,
+                           @Value("${link.clicks.reconcile-batch-size:500}") int batchSize,
+                           @Value("${link.clicks.reconcile-lock-ttl-ms:60000}") long lockTtlMillis) {
+        this.jedisPool = jedisPool;
+        this.clickStatisticsRepository = clickStatisticsRepository;
+        this.batchSize = batchSize;
+        this.lockTtlMillis = lockTtlMillis;
+    }
+
+    /**
+     * Writes the click counts accumulated in Redis to the database, if no other node is doing it already.
+     */
+    @Scheduled(fixedDelayString = "${link.clicks.reconcile-interval-ms:30000}")
+    public void reconcile() {
+        long start = System.nanoTime();
+        String token = UUID.randomUUID().toString();
+        try (Jedis jedis = jedisPool.getResource()) {
+            if (jedis.set(LOCK_KEY, token, SetParams.setParams().nx().px(lockTtlMillis)) == null) {
+                return;
+            }
+            try {
+                if (jedis.exists(DRAINING_KEY) || renameCounters(jedis)) {
+                    drain(jedis, token);
+                }
+            } finally {
+                jedis.eval(RELEASE_LOCK_SCRIPT, List.of(LOCK_KEY), List.of(token));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to reconcile link statistics, remaining clicks will be retried", e);
+        } finally {
+            runCount.increment();
+            runTimeNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("link.clicks.reconciled", reconciledClicks, LongAdder::sum)
+                .description("Link redirects moved from Redis to the database")
+                .register(registry);
+        FunctionCounter.builder("link.clicks.orphaned", orphanedClicks, LongAdder::sum)
+                .description("Link redirects dropped because their short link matched no link any more")
+                .register(registry);
+        FunctionTimer.builder("link.clicks.reconcile", this,
+                        reconciler -> reconciler.runCount.sum(),
+                        reconciler -> reconciler.runTimeNanos.sum(),
+                        TimeUnit.NANOSECONDS)
+                .description("Time spent moving link redirects from Redis to the database")
+                .register(registry);
+    }
+
+    private boolean renameCounters(Jedis jedis) {
+        if (!jedis.exists(CLICKS_KEY)) {
+            return false;
+        }
+        return jedis.renamenx(CLICKS_KEY, DRAINING_KEY) == 1;
+    }
+
+    private void drain(Jedis jedis, String token) {
+        ScanParams scanParams = new ScanParams().count(batchSize);
+        String cursor = ScanParams.SCAN_POINTER_START;
+        do {
+            if (!renewLock(jedis, token)) {
+                log.warn("Lost the lock while reconciling link statistics, leaving the remaining clicks to its holder");
+                return;
+            }
+            ScanResult<Map.Entry<String, String>> scanResult = jedis.hscan(DRAINING_KEY, cursor, scanParams);
+            List<Map.Entry<String, String>> counters = scanResult.getResult();
+            if (!counters.isEmpty()) {
+                List<Map.Entry<String, Long>> clicks = counters.stream()
+                        .map(counter -> Map.entry(counter.getKey(), Long.parseLong(counter.getValue())))
+                        .toList();
+                Set<String> unmatched = Set.copyOf(clickStatisticsRepository.incrementStatistics(clicks,
+                        LocalDateTime.now().plusMonths(LINK_LIFETIME_IN_MONTHS)));
+                jedis.hdel(DRAINING_KEY, clicks.stream().map(Map.Entry::getKey).toArray(String[]::new));
+                clicks.forEach(click -> (unmatched.contains(click.getKey()) ? orphanedClicks : reconciledClicks)
+                        .add(click.getValue()));
+                if (!unmatched.isEmpty()) {
+                    log.warn("Dropped the clicks of {} short links that match no link", unmatched.size());
+                }
+            }
+            cursor = scanResult.getCursor();
+        } while (!ScanParams.SCAN_POINTER_START.equals(cursor));
+    }
+
+    private boolean renewLock(Jedis jedis, String token) {
+        Object renewed = jedis.eval(RENEW_LOCK_SCRIPT, List.of(LOCK_KEY),
+                List.of(token, String.valueOf(lockTtlMillis)));
+        return Long.valueOf(1L).equals(renewed);
+    }
+}
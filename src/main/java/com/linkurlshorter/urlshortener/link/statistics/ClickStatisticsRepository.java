@@ -0,0 +1,60 @@
+package com.linkurlshorter.urlshortener.link.statistics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Repository applying aggregated link usage statistics to the database.
+ *
+ * <p>Uses JDBC batching, so a whole batch of links is updated in a single round trip. The increments are
+ * performed by the database ({@code statistics = statistics + n}), so they never overwrite concurrent updates.
+ * Only active links have their expiration time moved, so clicks counted before a link was deactivated or deleted
+ * do not bring it back to life. Short links that no longer match a link, because the link was renamed after its
+ * clicks were counted, are reported back to the caller.
+ *
+ * @see ClickAggregator
+ */
+@Repository
+@RequiredArgsConstructor
+public class ClickStatisticsRepository {
+
+    private static final String INCREMENT_STATISTICS_SQL =
+            "UPDATE links SET statistics = statistics + ?, "
+                    + "expiration_time = CASE WHEN status = 'ACTIVE' THEN ? ELSE expiration_time END "
+                    + "WHERE short_link = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Increments the usage statistics of the provided links and moves the expiration time of the active ones
+     * in a single JDBC batch.
+     *
+     * @param clicks         the short links paired with the number of clicks to add
+     * @param expirationTime the new expiration time of the active links
+     * @return the short links that matched no link, whose clicks were not applied
+     */
+    @Transactional
+    public List<String> incrementStatistics(List<Map.Entry<String, Long>> clicks, LocalDateTime expirationTime) {
+        Timestamp expiration = Timestamp.valueOf(expirationTime);
+        int[][] counts = jdbcTemplate.batchUpdate(INCREMENT_STATISTICS_SQL, clicks, clicks.size(), (ps, click) -> {
+            ps.setLong(1, click.getValue());
+            ps.setTimestamp(2, expiration);
+            ps.setString(3, click.getKey());
+        });
+        List<String> unmatched = new ArrayList<>();
+        for (int i = 0; i < clicks.size(); i++) {
+            if (counts[0][i] == 0) {
+                unmatched.add(clicks.get(i).getKey());
+            }
+        }
+        return unmatched;
+    }
+}
@@ -0,0 +1,76 @@
+package com.linkurlshorter.urlshortener.link.statistics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Transaction;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Atomic click counters kept in Redis, shared by all application nodes.
+ *
+ * <p>Counts are stored in the {@value #CLICKS_KEY} hash, one field per short link, and incremented with
+ * {@code HINCRBY}, so increments coming from different nodes never overwrite each other. Short links are
+ * alphanumeric, so the counter keys, which contain a colon, never collide with the cached links.
+ * The counts are moved to the database by the {@link ClickReconciler}. When a link is renamed, its pending count
+ * is moved to the new short link with a script, so no increment of another node falls in between.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisClickCounters {
+
+    /**
+     * Hash the clicks are counted in.
+     */
+    static final String CLICKS_KEY = "link:clicks";
+
+    /**
+     * Hash holding the clicks that are being written to the database by the reconciler.
+     */
+    static final String DRAINING_KEY = "link:clicks:draining";
+
+    /**
+     * Key of the lock that makes sure only one node reconciles the clicks at a time.
+     */
+    static final String LOCK_KEY = "link:clicks:lock";
+
+    private static final String MOVE_SCRIPT = "local count = redis.call('hget', KEYS[1], ARGV[1]) "
+            + "if count then redis.call('hdel', KEYS[1], ARGV[1]) redis.call('hincrby', KEYS[1], ARGV[2], count) end "
+            + "return count";
+
+    private final JedisPool jedisPool;
+
+    /**
+     * Adds the provided clicks to the shared counters in a single {@code MULTI}/{@code EXEC} round trip.
+     *
+     * <p>Redis applies either all of the increments or none of them, so a failed call never leaves the clicks
+     * partially counted. The only failure after which the clicks may have been counted anyway is a connection lost
+     * after {@code EXEC} ran but before its reply arrived; a retry then counts them twice, so clicks are counted at
+     * least once.
+     *
+     * @param clicks the short links paired with the number of clicks to add
+     */
+    public void incrementAll(List<Map.Entry<String, Long>> clicks) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            Transaction transaction = jedis.multi();
+            clicks.forEach(click -> transaction.hincrBy(CLICKS_KEY, click.getKey(), click.getValue()));
+            transaction.exec();
+        }
+    }
+
+    /**
+     * Moves the pending count of a short link to the new short link of the renamed link. Counts that are being
+     * written to the database already are left to the {@link ClickReconciler}.
+     *
+     * @param shortLink    the old short link
+     * @param newShortLink the new short link
+     */
+    public void move(String shortLink, String newShortLink) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            jedis.eval(MOVE_SCRIPT, List.of(CLICKS_KEY), List.of(shortLink, newShortLink));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.linkurlshorter.urlshortener.link.transfer;
+
+import com.linkurlshorter.urlshortener.link.model.LinkStatus;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads and writes {@link LinkRecord}s as CSV lines.
+ *
+ * <p>Fields are separated by commas and quoted with double quotes when they contain a comma, a double quote or a
+ * line break, as described by RFC 4180, which is also the CSV format of the PostgreSQL {@code COPY} command.
+ * A record has to fit on a single line when it is read, so quoted line breaks are not supported.
+ */
+public final class LinkCsv {
+
+    /**
+     * The header line of the CSV format, naming the fields in the order they are written.
+     */
+    public static final String HEADER =
+            "short_link,long_link,user_email,created_time,expiration_time,statistics,status";
+
+    private static final int FIELDS = 7;
+
+    private LinkCsv() {
+    }
+
+    /**
+     * Writes the record as a CSV line, without the line break.
+     *
+     * @param record the record to write
+     * @param out    the destination of the line
+     * @throws IOException if the line cannot be written
+     */
+    public static void write(LinkRecord record, Appendable out) throws IOException {
+        writeField(record.shortLink(), out);
+        out.append(',');
+        writeField(record.longLink(), out);
+        out.append(',');
+        writeField(record.userEmail(), out);
+        out.append(',').append(record.createdTime().toString());
+        out.append(',').append(record.expirationTime().toString());
+        out.append(',').append(Integer.toString(record.statistics()));
+        out.append(',').append(record.status().name());
+    }
+
+    /**
+     * Parses a CSV line into a record.
+     *
+     * @param line the line to parse, without the line break
+     * @return the parsed record
+     * @throws IllegalArgumentException if the line does not hold a record
+     * @throws java.time.format.DateTimeParseException if a time cannot be parsed
+     */
+    public static LinkRecord parse(String line) {
+        List<String> fields = split(line);
+        if (fields.size() != FIELDS) {
+            throw new IllegalArgumentException("Expected " + FIELDS + " fields but found " + fields.size());
+        }
+        return new LinkRecord(
+                fields.get(0),
+                fields.get(1),
+                fields.get(2),
+                LocalDateTime.parse(fields.get(3)),
+                LocalDateTime.parse(fields.get(4)),
+                Integer.parseInt(fields.get(5)),
+                LinkStatus.valueOf(fields.get(6)));
+    }
+
+    private static void writeField(String value, Appendable out) throws IOException {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            out.append(value);
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                out.append('"');
+            }
+            out.append(c);
+        }
+        out.append('"');
+    }
+
+    private static List<String> split(String line) {
+        List<String> fields = new ArrayList<>(FIELDS);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,12 @@
+package com.linkurlshorter.urlshortener.link.transfer;
+
+/**
+ * Outcome of an import of links.
+ *
+ * @param read     the number of records read, the header line and blank lines not included
+ * @param imported the number of links inserted
+ * @param skipped  the number of valid records not inserted because the short link was taken or the owner unknown
+ * @param invalid  the number of records that could not be parsed or were incomplete
+ */
+public record LinkImportResult(long read, long imported, long skipped, long invalid) {
+}
@@ -0,0 +1,48 @@
+package com.linkurlshorter.urlshortener.link.transfer;
+
+import com.linkurlshorter.urlshortener.link.generator.SequenceShortCodeSource;
+import com.linkurlshorter.urlshortener.link.model.LinkStatus;
+
+import java.time.LocalDateTime;
+import java.util.regex.Pattern;
+
+/**
+ * A link as it is exported and imported, with its owner identified by email rather than by identifier, so links
+ * can be moved between databases that share the users but not their identifiers.
+ *
+ * @param shortLink      the short link
+ * @param longLink       the original URL
+ * @param userEmail      the email of the owner of the link
+ * @param createdTime    the creation time of the link
+ * @param expirationTime the expiration time of the link
+ * @param statistics     the usage statistics of the link
+ * @param status         the status of the link
+ */
+public record LinkRecord(
+        String shortLink,
+        String longLink,
+        String userEmail,
+        LocalDateTime createdTime,
+        LocalDateTime expirationTime,
+        int statistics,
+        LinkStatus status
+) {
+    private static final Pattern SHORT_LINK_PATTERN = Pattern.compile("[a-zA-Z0-9]{3,20}");
+    private static final int MAX_LONG_LINK_LENGTH = 1000;
+
+    /**
+     * Checks whether the record can be inserted into the links table. The short link must have the format of the
+     * short links given by users, 3 to 20 letters and digits, and must not be reserved for generated short links.
+     *
+     * @return true if all properties are set and fit their columns, false otherwise
+     * @see SequenceShortCodeSource#isReserved(String)
+     */
+    public boolean isValid() {
+        return shortLink != null && SHORT_LINK_PATTERN.matcher(shortLink).matches()
+                && !SequenceShortCodeSource.isReserved(shortLink)
+                && longLink != null && !longLink.isBlank() && longLink.length() <= MAX_LONG_LINK_LENGTH
+                && userEmail != null && !userEmail.isBlank()
+                && createdTime != null && expirationTime != null
+                && statistics >= 0 && status != null;
+    }
+}
@@ -0,0 +1,78 @@
+package com.linkurlshorter.urlshortener.link.transfer;
+
+import com.linkurlshorter.urlshortener.link.exception.InternalServerLinkException;
+import com.linkurlshorter.urlshortener.link.exception.LinkTransferInProgressException;
+import com.linkurlshorter.urlshortener.link.response.LinkImportResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Controller for exporting and importing all links, available to administrators only.
+ *
+ * @see LinkTransferService
+ */
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Link transfer", description = "The Link export and import API")
+@RequestMapping("/api/V1/admin/links")
+public class LinkTransferController {
+
+    private final LinkTransferService linkTransferService;
+
+    /**
+     * Streams all links to the response, one link per line.
+     *
+     * @param format   the format of the links, CSV or NDJSON
+     * @param response the HTTP response the links are written to
+     * @throws IOException                     if the links cannot be written
+     * @throws LinkTransferInProgressException if another export is running
+     */
+    @GetMapping("/export")
+    @SecurityRequirement(name = "JWT")
+    @Operation(summary = "Export all links")
+    public void exportLinks(@RequestParam(defaultValue = "CSV") LinkTransferFormat format,
+                            HttpServletResponse response) throws IOException {
+        linkTransferService.exportLinks(format, () -> {
+            response.setContentType(format.getMediaType());
+            response.setCharacterEncoding("UTF-8");
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                    ContentDisposition.attachment().filename(format.getFileName()).build().toString());
+            return response.getOutputStream();
+        });
+    }
+
+    /**
+     * Imports the links of the request body, one link per line. Links whose short link already exists or whose
+     * owner is unknown are skipped.
+     *
+     * @param format the format of the links, CSV or NDJSON
+     * @param body   the request body
+     * @return a ResponseEntity containing the numbers of read, imported, skipped and invalid links
+     * @throws IOException                     if the links cannot be read
+     * @throws LinkTransferInProgressException if another import is running
+     * @throws InternalServerLinkException     if a chunk of links cannot be inserted
+     */
+    @PostMapping("/import")
+    @SecurityRequirement(name = "JWT")
+    @Operation(summary = "Import links")
+    public ResponseEntity<LinkImportResponse> importLinks(
+            @RequestParam(defaultValue = "CSV") LinkTransferFormat format, InputStream body) throws IOException {
+        LinkImportResult result = linkTransferService.importLinks(format, body);
+        return ResponseEntity.ok(new LinkImportResponse(result.read(), result.imported(), result.skipped(),
+                result.invalid(), "ok"));
+    }
+}
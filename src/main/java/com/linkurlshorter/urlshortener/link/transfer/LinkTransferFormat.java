@@ -0,0 +1,19 @@
+package com.linkurlshorter.urlshortener.link.transfer;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Formats links are exported and imported in. Both formats hold one link per line.
+ *
+ * @see LinkCsv
+ */
+@Getter
+@RequiredArgsConstructor
+public enum LinkTransferFormat {
+    CSV("text/csv", "links.csv"),
+    NDJSON("application/x-ndjson", "links.ndjson");
+
+    private final String mediaType;
+    private final String fileName;
+}
@@ -0,0 +1,152 @@
+package com.linkurlshorter.urlshortener.link.transfer;
+
+import com.linkurlshorter.urlshortener.link.model.LinkStatus;
+import com.linkurlshorter.urlshortener.link.model.LongLinkHash;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Repository streaming links out of and into the links table.
+ *
+ * <p>Links are exported with a forward-only query fetching {@link #FETCH_SIZE} rows at a time within a read-only
+ * transaction, which makes the PostgreSQL driver use a cursor. Links are imported a chunk at a time. On
+ * PostgreSQL a chunk is loaded with {@code COPY} into a temporary table and moved into the links table with a
+ * single {@code INSERT ... SELECT}; other databases get a JDBC batch of one {@code INSERT ... SELECT} per link.
+ * Either way the owners are looked up by email and links whose short link is taken, whose short link is reserved
+ * for a generated short link or whose owner is unknown are skipped. If the driver does not report the row count of
+ * each statement of a batch ({@link Statement#SUCCESS_NO_INFO}), the inserted links are counted by their
+ * identifiers instead.
+ *
+ * @see LinkTransferService
+ */
+@Repository
+@RequiredArgsConstructor
+public class LinkTransferRepository {
+
+    private static final int FETCH_SIZE = 10_000;
+    private static final String SELECT_LINKS_SQL = "SELECT l.short_link, l.long_link, u.email, l.created_time, "
+            + "l.expiration_time, l.statistics, l.status FROM links l JOIN users u ON u.id = l.user_id";
+    private static final String CREATE_IMPORT_TABLE_SQL = "CREATE TEMPORARY TABLE links_import "
+            + "(short_link VARCHAR(50), long_link VARCHAR(1000), email VARCHAR(255), created_time TIMESTAMP, "
+            + "expiration_time TIMESTAMP, statistics INT, status VARCHAR(50), long_link_hash BIGINT) ON COMMIT DROP";
+    private static final String COPY_SQL = "COPY links_import FROM STDIN WITH (FORMAT csv)";
+    private static final String INSERT_FROM_IMPORT_TABLE_SQL = "INSERT INTO links "
+            + "(id, long_link, long_link_hash, short_link, user_id, created_time, expiration_time, statistics, "
+            + "status) SELECT gen_random_uuid(), i.long_link, i.long_link_hash, i.short_link, u.id, i.created_time, "
+            + "i.expiration_time, i.statistics, i.status FROM links_import i JOIN users u ON u.email = i.email "
+            + "WHERE NOT EXISTS (SELECT 1 FROM short_codes c WHERE c.code = i.short_link) "
+            + "ON CONFLICT DO NOTHING";
+    private static final String INSERT_SQL = "INSERT INTO links "
+            + "(id, long_link, long_link_hash, short_link, user_id, created_time, expiration_time, statistics, "
+            + "status) SELECT CAST(? AS UUID), CAST(? AS VARCHAR(1000)), CAST(? AS BIGINT), CAST(? AS VARCHAR(50)), "
+            + "u.id, CAST(? AS TIMESTAMP), CAST(? AS TIMESTAMP), CAST(? AS INT), CAST(? AS VARCHAR(50)) "
+            + "FROM users u WHERE u.email = ? AND NOT EXISTS (SELECT 1 FROM short_codes WHERE code = ?) "
+            + "ON CONFLICT DO NOTHING";
+    private static final String COUNT_INSERTED_SQL = "SELECT COUNT(*) FROM links WHERE id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Passes every link, deleted ones included, to the consumer.
+     *
+     * @param consumer the consumer of the links
+     */
+    @Transactional(readOnly = true)
+    public void forEachLink(Consumer<LinkRecord> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_LINKS_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> consumer.accept(new LinkRecord(
+                resultSet.getString(1),
+                resultSet.getString(2),
+                resultSet.getString(3),
+                resultSet.getTimestamp(4).toLocalDateTime(),
+                resultSet.getTimestamp(5).toLocalDateTime(),
+                resultSet.getInt(6),
+                LinkStatus.valueOf(resultSet.getString(7)))));
+    }
+
+    /**
+     * Inserts the valid records in a single transaction.
+     *
+     * @param records the records to insert
+     * @return the number of links inserted
+     */
+    @Transactional
+    public int insert(List<LinkRecord> records) {
+        return jdbcTemplate.execute((ConnectionCallback<Integer>) connection ->
+                connection.isWrapperFor(PGConnection.class) ? copy(connection, records) : batchInsert(records));
+    }
+
+    private int copy(Connection connection, List<LinkRecord> records) throws SQLException {
+        StringBuilder csv = new StringBuilder(records.size() * 128);
+        try {
+            for (LinkRecord record : records) {
+                LinkCsv.write(record, csv);
+                csv.append(',').append(LongLinkHash.of(record.longLink())).append('\n');
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_IMPORT_TABLE_SQL);
+            }
+            connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL, new StringReader(csv.toString()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try (Statement statement = connection.createStatement()) {
+            return statement.executeUpdate(INSERT_FROM_IMPORT_TABLE_SQL);
+        }
+    }
+
+    private int batchInsert(List<LinkRecord> records) {
+        List<UUID> ids = records.stream().map(record -> UUID.randomUUID()).toList();
+        Iterator<UUID> nextId = ids.iterator();
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, records, records.size(), (ps, record) -> {
+            ps.setObject(1, nextId.next());
+            ps.setString(2, record.longLink());
+            ps.setLong(3, LongLinkHash.of(record.longLink()));
+            ps.setString(4, record.shortLink());
+            ps.setTimestamp(5, Timestamp.valueOf(record.createdTime()));
+            ps.setTimestamp(6, Timestamp.valueOf(record.expirationTime()));
+            ps.setInt(7, record.statistics());
+            ps.setString(8, record.status().name());
+            ps.setString(9, record.userEmail());
+            ps.setString(10, record.shortLink());
+        });
+        if (Arrays.stream(counts[0]).anyMatch(count -> count == Statement.SUCCESS_NO_INFO)) {
+            String sql = COUNT_INSERTED_SQL.formatted(String.join(",", Collections.nCopies(ids.size(), "?")));
+            Integer inserted = jdbcTemplate.queryForObject(sql, Integer.class, ids.toArray());
+            return Objects.requireNonNullElse(inserted, 0);
+        }
+        int inserted = 0;
+        for (int count : counts[0]) {
+            if (count > 0) {
+                inserted++;
+            }
+        }
+        return inserted;
+    }
+}
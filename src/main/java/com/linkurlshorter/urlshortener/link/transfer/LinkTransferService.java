@@ -0,0 +1,288 @@
+package com.linkurlshorter.urlshortener.link.transfer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkurlshorter.urlshortener.link.cache.ShortLinkBloomFilter;
+import com.linkurlshorter.urlshortener.link.exception.InternalServerLinkException;
+import com.linkurlshorter.urlshortener.link.exception.LinkTransferInProgressException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.util.function.ThrowingSupplier;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Service exporting and importing all links as CSV or NDJSON.
+ *
+ * <p>Both directions stream: an export writes each link to the response as it is read from the database cursor,
+ * and an import reads the request a line at a time and inserts the links in chunks of
+ * {@code link.transfer.import-chunk-size}, each in its own transaction. Memory use therefore does not depend on
+ * the number of links. Imported short links are added to the {@link ShortLinkBloomFilter} before they are
+ * inserted. Links whose short link already exists are skipped, so an interrupted import can simply be repeated.
+ * Only one export and one import run at a time.
+ *
+ * <p>Exported links are published as the {@code link.export.links} counter and imported links as the
+ * {@code link.import.links} counter, tagged with the result {@code imported}, {@code skipped} or
+ * {@code invalid}, so their rates give the throughput. The {@code link.export.running} and
+ * {@code link.import.running} gauges tell whether a transfer is in progress and every
+ * {@value #PROGRESS_INTERVAL} links the progress is logged.
+ */
+@Slf4j
+@Service
+public class LinkTransferService implements MeterBinder {
+
+    private static final int PROGRESS_INTERVAL = 100_000;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final LinkTransferRepository linkTransferRepository;
+    private final ShortLinkBloomFilter shortLinkBloomFilter;
+    private final JedisPool jedisPool;
+    private final ObjectMapper objectMapper;
+    private final int importChunkSize;
+    private final Semaphore exportPermit = new Semaphore(1);
+    private final Semaphore importPermit = new Semaphore(1);
+    private final LongAdder exported = new LongAdder();
+    private final LongAdder imported = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder invalid = new LongAdder();
+
+    /**
+     * Creates the service.
+     *
+     * @param linkTransferRepository the repository reading and writing the links
+     * @param shortLinkBloomFilter   the Bloom filter of existing short links
+     * @param jedisPool              the pool of Redis connections
+     * @param objectMapper           the mapper of NDJSON lines
+     * @param importChunkSize        the number of links inserted in one transaction
+     */
+    public LinkTransferService(LinkTransferRepository linkTransferRepository,
+                               ShortLinkBloomFilter shortLinkBloomFilter,
+                               JedisPool jedisPool,
+                               ObjectMapper objectMapper,
+                               @Value("${link.transfer.import-chunk-size:5000}") int importChunkSize) {
+        this.linkTransferRepository = linkTransferRepository;
+        this.shortLinkBloomFilter = shortLinkBloomFilter;
+        this.jedisPool = jedisPool;
+        this.objectMapper = objectMapper;
+        this.importChunkSize = importChunkSize;
+    }
+
+    /**
+     * Writes all links to the stream.
+     *
+     * @param format      the format to write
+     * @param destination the supplier of the destination of the links, called once the export has started, so
+     *                    nothing is written to it if another export is running
+     * @throws IOException                     if the links cannot be written
+     * @throws LinkTransferInProgressException if another export is running
+     */
+    public void exportLinks(LinkTransferFormat format, ThrowingSupplier<OutputStream> destination)
+            throws IOException {
+        if (!exportPermit.tryAcquire()) {
+            throw new LinkTransferInProgressException();
+        }
+        try {
+            Writer writer = new BufferedWriter(
+                    new OutputStreamWriter(destination.get(), StandardCharsets.UTF_8), BUFFER_SIZE);
+            if (format == LinkTransferFormat.CSV) {
+                writer.write(LinkCsv.HEADER);
+                writer.write('\n');
+            }
+            Progress progress = new Progress("Exported");
+            linkTransferRepository.forEachLink(record -> {
+                try {
+                    write(format, record, writer);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                exported.increment();
+                progress.increment();
+            });
+            writer.flush();
+            log.info("Exported {} links in {} ms", progress.count, progress.elapsedMillis());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            exportPermit.release();
+        }
+    }
+
+    /**
+     * Reads links from the stream and inserts them.
+     *
+     * @param format the format to read
+     * @param in     the source of the links
+     * @return the outcome of the import
+     * @throws IOException                     if the links cannot be read
+     * @throws LinkTransferInProgressException if another import is running
+     * @throws InternalServerLinkException     if a chunk of links cannot be inserted
+     */
+    public LinkImportResult importLinks(LinkTransferFormat format, InputStream in) throws IOException {
+        if (!importPermit.tryAcquire()) {
+            throw new LinkTransferInProgressException();
+        }
+        try {
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(in, StandardCharsets.UTF_8), BUFFER_SIZE);
+            List<LinkRecord> chunk = new ArrayList<>(importChunkSize);
+            Progress progress = new Progress("Read");
+            long insertedLinks = 0;
+            long invalidRecords = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || (progress.count == 0 && isHeader(format, line))) {
+                    continue;
+                }
+                progress.increment();
+                LinkRecord record = parse(format, line);
+                if (record == null) {
+                    invalidRecords++;
+                    invalid.increment();
+                    continue;
+                }
+                chunk.add(record);
+                if (chunk.size() == importChunkSize) {
+                    insertedLinks += insert(chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                insertedLinks += insert(chunk);
+            }
+            long read = progress.count;
+            LinkImportResult result = new LinkImportResult(read, insertedLinks, read - invalidRecords - insertedLinks,
+                    invalidRecords);
+            log.info("Imported {} links in {} ms: {}", insertedLinks, progress.elapsedMillis(), result);
+            return result;
+        } finally {
+            importPermit.release();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("link.export.links", exported, LongAdder::sum)
+                .description("Links written by exports")
+                .register(registry);
+        FunctionCounter.builder("link.import.links", imported, LongAdder::sum)
+                .description("Links read by imports")
+                .tag("result", "imported")
+                .register(registry);
+        FunctionCounter.builder("link.import.links", skipped, LongAdder::sum)
+                .description("Links read by imports")
+                .tag("result", "skipped")
+                .register(registry);
+        FunctionCounter.builder("link.import.links", invalid, LongAdder::sum)
+                .description("Links read by imports")
+                .tag("result", "invalid")
+                .register(registry);
+        Gauge.builder("link.export.running", exportPermit, permit -> 1 - permit.availablePermits())
+                .description("Whether an export is running")
+                .register(registry);
+        Gauge.builder("link.import.running", importPermit, permit -> 1 - permit.availablePermits())
+                .description("Whether an import is running")
+                .register(registry);
+    }
+
+    private void write(LinkTransferFormat format, LinkRecord record, Writer writer) throws IOException {
+        if (format == LinkTransferFormat.CSV) {
+            LinkCsv.write(record, writer);
+        } else {
+            writer.write(objectMapper.writeValueAsString(record));
+        }
+        writer.write('\n');
+    }
+
+    private static boolean isHeader(LinkTransferFormat format, String line) {
+        return format == LinkTransferFormat.CSV && line.strip().equals(LinkCsv.HEADER);
+    }
+
+    /**
+     * Parses the line into a record.
+     *
+     * @return the record, or null if the line does not hold a valid record
+     */
+    private LinkRecord parse(LinkTransferFormat format, String line) {
+        LinkRecord record;
+        try {
+            record = format == LinkTransferFormat.CSV
+                    ? LinkCsv.parse(line)
+                    : objectMapper.readValue(line, LinkRecord.class);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.debug("Skipping invalid link record {}", line, e);
+            return null;
+        }
+        return record.isValid() ? record : null;
+    }
+
+    /**
+     * Inserts a chunk of links and removes their short links from Redis, so that negative entries left by
+     * earlier lookups do not hide the imported links.
+     */
+    private int insert(List<LinkRecord> chunk) {
+        List<String> shortLinks = chunk.stream().map(LinkRecord::shortLink).toList();
+        shortLinkBloomFilter.putAll(shortLinks);
+        int inserted;
+        try {
+            inserted = linkTransferRepository.insert(chunk);
+        } catch (DataAccessException e) {
+            log.error("Failed to import a chunk of {} links", chunk.size(), e);
+            throw new InternalServerLinkException();
+        }
+        imported.add(inserted);
+        skipped.add(chunk.size() - inserted);
+        try (Jedis jedis = jedisPool.getResource()) {
+            jedis.unlink(shortLinks.toArray(String[]::new));
+        } catch (RuntimeException e) {
+            log.warn("Failed to remove {} imported short links from Redis", shortLinks.size(), e);
+        }
+        return inserted;
+    }
+
+    /**
+     * Counts the links of a transfer and logs the progress every {@value #PROGRESS_INTERVAL} links.
+     */
+    private static final class Progress {
+        private final String operation;
+        private final long startNanos = System.nanoTime();
+        private long count;
+
+        private Progress(String operation) {
+            this.operation = operation;
+        }
+
+        private void increment() {
+            count++;
+            if (count % PROGRESS_INTERVAL == 0) {
+                long elapsedMillis = Math.max(1, elapsedMillis());
+                log.info("{} {} links, {} links/s", operation, count, count * 1000 / elapsedMillis);
+            }
+        }
+
+        private long elapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        }
+    }
+}
@@ -1,25 +1,23 @@
 package com.linkurlshorter.urlshortener.link.validation;
 
+import com.linkurlshorter.urlshortener.link.liveness.UrlLivenessChecker;
 import com.linkurlshorter.urlshortener.link.validation.UrlLongFormatValidator;
+import com.linkurlshorter.urlshortener.validation.FormatValidation;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
-import okhttp3.OkHttpClient;
-import okhttp3.Request;
-import okhttp3.Response;
-
-import java.io.IOException;
-import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
 
 /**
  * Implementation {@link ConstraintValidator} of a validator to check the URL format.
- * Validates the URL format using a regular expression.
+ * Validates the URL format with {@link FormatValidation#isValidLongUrl(String)} and checks that the URL is alive with the
+ * {@link UrlLivenessChecker}.
  *
  * @author Vlas Pototskyi
  */
-
+@RequiredArgsConstructor
 public class UrlLongFormatValidatorImpl implements ConstraintValidator<UrlLongFormatValidator, String> {
-    private static final Pattern URL_REGEX = Pattern
-            .compile("https?://[\\w.-]+\\.(?:[a-zA-Z]{2,4})(?:/.*)?");
+    private final UrlLivenessChecker urlLivenessChecker;
+
     /**
      * Checks if the entered string matches the URL format.
      *
@@ -41,7 +39,7 @@ public class UrlLongFormatValidatorImpl implements ConstraintValidator<UrlLongFo
             context.disableDefaultConstraintViolation();
             return false;
         }
-        if (!isUrlActive(url)) {
+        if (urlLivenessChecker.isDead(url)) {
             context.buildConstraintViolationWithTemplate("Url is not active!")
                     .addConstraintViolation();
             return false;
@@ -50,13 +48,13 @@ public class UrlLongFormatValidatorImpl implements ConstraintValidator<UrlLongFo
     }
 
     /**
-     * Validates the URL format using a regular expression.
+     * Validates the URL format.
      *
      * @param url The URL string to be validated.
      * @return true if the URL string matches the standard URL format, false otherwise.
      */
     private static boolean validateUrl(String url) {
-        return url.matches(URL_REGEX.pattern());
+        return FormatValidation.isValidLongUrl(url);
     }
 
         /**
@@ -68,22 +66,4 @@ public class UrlLongFormatValidatorImpl implements ConstraintValidator<UrlLongFo
         private static boolean isUrlNullOrEmpty (String url){
             return url == null || url.isEmpty();
         }
-
-        /**
-         * Checks if the provided URL is active by attempting to establish a connection.
-         *
-         * @param urlStr The URL string to check for activity.
-         * @return {@code true} if the URL is active (responds with a 200 status code), {@code false} otherwise.
-         */
-        private boolean isUrlActive (String urlStr){
-            OkHttpClient client = new OkHttpClient();
-            Request request = new Request.Builder()
-                    .url(urlStr)
-                    .build();
-            try (Response response = client.newCall(request).execute()) {
-                return response.isSuccessful();
-            } catch (IOException e) {
-                return false;
-            }
-        }
-    }
+}
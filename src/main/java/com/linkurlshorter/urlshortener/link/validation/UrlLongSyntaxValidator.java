@@ -0,0 +1,46 @@
+package com.linkurlshorter.urlshortener.link.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation for validating the format of a long URL only.
+ * Unlike {@link UrlLongFormatValidator}, it does not check that the URL is alive, and null or empty URLs are left to
+ * {@link jakarta.validation.constraints.NotBlank}.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Constraint(validatedBy = UrlLongSyntaxValidatorImpl.class)
+public @interface UrlLongSyntaxValidator {
+
+    /**
+     * An error message that will be used if the URL format is incorrect.
+     * <p>
+     * Default: "Not valid format url!"
+     *
+     * @return Error message.
+     */
+    String message() default "Not valid format url!";
+
+    /**
+     * Groups to which this constraint belongs. Default: empty array.
+     *
+     * @return Constraint groups.
+     */
+    Class<?>[] groups() default {};
+
+    /**
+     * Parameters that can be used to configure the constraint.
+     * Default: an empty array.
+     *
+     * @return The parameters of the constraint.
+     */
+    Class<? extends Payload>[] payload() default {};
+}
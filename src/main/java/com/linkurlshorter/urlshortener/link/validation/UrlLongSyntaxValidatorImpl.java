@@ -0,0 +1,25 @@
+package com.linkurlshorter.urlshortener.link.validation;
+
+import com.linkurlshorter.urlshortener.validation.FormatValidation;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Implementation of a validator for checking the format of a long URL with
+ * {@link FormatValidation#isValidLongUrl(String)}, the same check {@link UrlLongFormatValidatorImpl} makes before
+ * checking that the URL is alive.
+ */
+public class UrlLongSyntaxValidatorImpl implements ConstraintValidator<UrlLongSyntaxValidator, String> {
+
+    /**
+     * Checks if the entered string matches the URL format.
+     *
+     * @param url     String to be validated.
+     * @param context Validation context that can be used to collect errors.
+     * @return true if the string is a valid URL, null or empty, false otherwise.
+     */
+    @Override
+    public boolean isValid(String url, ConstraintValidatorContext context) {
+        return url == null || url.isEmpty() || FormatValidation.isValidLongUrl(url);
+    }
+}
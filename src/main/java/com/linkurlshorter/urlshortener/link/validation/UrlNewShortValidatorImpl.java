@@ -1,7 +1,9 @@
 package com.linkurlshorter.urlshortener.link.validation;
 
-import com.linkurlshorter.urlshortener.link.LinkService;
+import com.linkurlshorter.urlshortener.link.generator.SequenceShortCodeSource;
+import com.linkurlshorter.urlshortener.link.generator.ShortLinkGenerator;
 import com.linkurlshorter.urlshortener.link.validation.UrlNewShortValidator;
+import com.linkurlshorter.urlshortener.lookup.EntityLookupContext;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import lombok.RequiredArgsConstructor;
@@ -20,15 +22,18 @@ public class UrlNewShortValidatorImpl implements ConstraintValidator<UrlNewShort
     private static final String LINK_SIZE_BOUNDS_EXCEEDED = "Link size is invalid!";
     private static final String ALREADY_EXISTS_MSG = "This link already exists!";
     private static final String INVALID_SHORT_LINK_FORMAT_MSG = "Invalid short link format!";
+    private static final String RESERVED_MSG = "Short links of 7 letters and digits are reserved for generated links!";
 
-    private final LinkService linkService;
+    private final EntityLookupContext entityLookupContext;
+    private final ShortLinkGenerator shortLinkGenerator;
 
     /**
      * Checks if the short link is unique and active.
      *
      * @param shortLink A string representing the short link to be validated.
      * @param context   The context to be validated.
-     * @return true if the short link is unique, does not exceed size bounds and is alphanumetric only; false otherwise.
+     * @return true if the short link is unique, does not exceed size bounds, is alphanumetric only and is neither
+     * reserved for generated short links nor already reserved as one; false otherwise.
      * @throws NullPointerException if the link is not found in the database.
      */
     @Override
@@ -47,7 +52,13 @@ public class UrlNewShortValidatorImpl implements ConstraintValidator<UrlNewShort
                 return false;
             }
 
-            if (linkService.doesLinkExist(shortLink)) {
+            if (SequenceShortCodeSource.isReserved(shortLink)) {
+                context.buildConstraintViolationWithTemplate(RESERVED_MSG)
+                        .addConstraintViolation();
+                return false;
+            }
+
+            if (shortLinkGenerator.isReserved(shortLink) || entityLookupContext.doesLinkExist(shortLink)) {
                 context.buildConstraintViolationWithTemplate(ALREADY_EXISTS_MSG)
                         .addConstraintViolation();
                 return false;
@@ -1,13 +1,12 @@
 package com.linkurlshorter.urlshortener.link.validation;
 
-import com.linkurlshorter.urlshortener.link.LinkService;
 import com.linkurlshorter.urlshortener.link.validation.UrlShortFormatValidator;
+import com.linkurlshorter.urlshortener.lookup.EntityLookupContext;
+import com.linkurlshorter.urlshortener.validation.FormatValidation;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import lombok.RequiredArgsConstructor;
 
-import java.util.regex.Pattern;
-
 /**
  * Implementation of a validator for checking the format of a short URL.
  * Used to check the format and uniqueness of short URLs.
@@ -16,8 +15,7 @@ import java.util.regex.Pattern;
  */
 @RequiredArgsConstructor
 public class UrlShortFormatValidatorImpl implements ConstraintValidator<UrlShortFormatValidator, String> {
-    private static final Pattern SHORT_URL = Pattern.compile("^[a-zA-Z0-9]+$");
-    private final LinkService linkService;
+    private final EntityLookupContext entityLookupContext;
 
     /**
      * Checks whether the short URL matches the expected format and is unique.
@@ -28,7 +26,7 @@ public class UrlShortFormatValidatorImpl implements ConstraintValidator<UrlShort
      */
     @Override
     public boolean isValid(String shortUrl, ConstraintValidatorContext context) {
-        if (!shortUrl.matches(SHORT_URL.pattern())) {
+        if (!FormatValidation.isValidShortCode(shortUrl)) {
             context.buildConstraintViolationWithTemplate("The following characters are not allowed!")
                     .addConstraintViolation();
             return false;
@@ -37,7 +35,7 @@ public class UrlShortFormatValidatorImpl implements ConstraintValidator<UrlShort
     }
 
     private boolean isExistShortLink(String shortUrl, ConstraintValidatorContext context) {
-        if (linkService.doesLinkExist(shortUrl)) {
+        if (entityLookupContext.doesLinkExist(shortUrl)) {
             context.buildConstraintViolationWithTemplate("This link already exists!")
                     .addConstraintViolation();
             return false;
@@ -1,8 +1,8 @@
 package com.linkurlshorter.urlshortener.link.validation;
 
 import com.linkurlshorter.urlshortener.link.model.Link;
-import com.linkurlshorter.urlshortener.link.LinkService;
 import com.linkurlshorter.urlshortener.link.model.LinkStatus;
+import com.linkurlshorter.urlshortener.lookup.EntityLookupContext;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import lombok.RequiredArgsConstructor;
@@ -15,7 +15,7 @@ import lombok.RequiredArgsConstructor;
  */
 @RequiredArgsConstructor
 public class UrlShortValidatorImpl implements ConstraintValidator<UrlShortValidator, String> {
-    private final LinkService linkService;
+    private final EntityLookupContext entityLookupContext;
 
     /**
      * Checks if the short link is unique and active.
@@ -32,14 +32,14 @@ public class UrlShortValidatorImpl implements ConstraintValidator<UrlShortValida
                     .addConstraintViolation();
             return false;
         }
-        Link link = linkService.findByShortLink(shortLink);
+        Link link = entityLookupContext.findByShortLink(shortLink);
         if (link.getStatus() == LinkStatus.INACTIVE) {
             context.buildConstraintViolationWithTemplate("This link is inactive!")
                     .addConstraintViolation();
             return false;
         }
 
-        if (linkService.doesLinkExist(shortLink)) {
+        if (entityLookupContext.doesLinkExist(shortLink)) {
             context.buildConstraintViolationWithTemplate("This link already exists!")
                     .addConstraintViolation();
             return false;
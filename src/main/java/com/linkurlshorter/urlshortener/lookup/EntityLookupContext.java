@@ -0,0 +1,207 @@
+package com.linkurlshorter.urlshortener.lookup;
+
+import com.linkurlshorter.urlshortener.jwt.JwtPrincipal;
+import com.linkurlshorter.urlshortener.link.LinkService;
+import com.linkurlshorter.urlshortener.link.model.Link;
+import com.linkurlshorter.urlshortener.user.UserService;
+import com.linkurlshorter.urlshortener.user.model.User;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Looks links and the authenticated user up at most once per request.
+ *
+ * <p>The rights check, the handler and the validators of a request often need the same link or user. Within a
+ * request, the first lookup of a short link or of the authenticated user queries the {@link LinkService} or the
+ * {@link UserService} and later lookups return the same entity. Failed lookups are not remembered. Outside a
+ * request, e.g. on a background thread, every lookup queries the services. The ID of a user authenticated with a
+ * JWT token is taken from its {@link JwtPrincipal} without any lookup.
+ *
+ * <p>The queries of each request that looked an entity up are published as the {@code entity.lookup.queries}
+ * distribution summary once the request has completed, lookups answered without a query as the
+ * {@code entity.lookup.memoized} counter.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityLookupContext implements MeterBinder {
+
+    private static final String LOOKUPS_ATTRIBUTE = EntityLookupContext.class.getName() + ".LOOKUPS";
+
+    private final LinkService linkService;
+    private final UserService userService;
+    private final LongAdder memoized = new LongAdder();
+    private volatile DistributionSummary queriesPerRequest;
+
+    /**
+     * Retrieves a link by its short link, querying the {@link LinkService} only for the first lookup of the short
+     * link in the request.
+     *
+     * @param shortLink the short link of the link to retrieve
+     * @return the link
+     * @see LinkService#findByShortLink(String)
+     */
+    public Link findByShortLink(String shortLink) {
+        Lookups lookups = currentLookups();
+        if (Objects.isNull(lookups)) {
+            return linkService.findByShortLink(shortLink);
+        }
+        Link link = lookups.links.get(shortLink);
+        if (Objects.nonNull(link)) {
+            memoized.increment();
+            return link;
+        }
+        lookups.queries++;
+        link = linkService.findByShortLink(shortLink);
+        lookups.links.put(shortLink, link);
+        return link;
+    }
+
+    /**
+     * Tells whether a link with the short link exists. A short link whose link has already been retrieved in the
+     * request exists without a query.
+     *
+     * @param shortLink the short link to check
+     * @return true if a link with the short link exists
+     * @see LinkService#doesLinkExist(String)
+     */
+    public boolean doesLinkExist(String shortLink) {
+        Lookups lookups = currentLookups();
+        if (Objects.isNull(lookups)) {
+            return linkService.doesLinkExist(shortLink);
+        }
+        Boolean exists = lookups.links.containsKey(shortLink) ? Boolean.TRUE : lookups.existingLinks.get(shortLink);
+        if (Objects.nonNull(exists)) {
+            memoized.increment();
+            return exists;
+        }
+        lookups.queries++;
+        exists = linkService.doesLinkExist(shortLink);
+        lookups.existingLinks.put(shortLink, exists);
+        return exists;
+    }
+
+    /**
+     * Retrieves the authenticated user, querying the {@link UserService} only for the first lookup in the request.
+     *
+     * @return the authenticated user
+     * @see UserService#findByEmail(String)
+     */
+    public User currentUser() {
+        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+        Lookups lookups = currentLookups();
+        if (Objects.isNull(lookups)) {
+            return userService.findByEmail(email);
+        }
+        if (Objects.nonNull(lookups.currentUser) && email.equals(lookups.currentUserEmail)) {
+            memoized.increment();
+            return lookups.currentUser;
+        }
+        lookups.queries++;
+        lookups.currentUser = userService.findByEmail(email);
+        lookups.currentUserEmail = email;
+        return lookups.currentUser;
+    }
+
+    /**
+     * Returns the ID of the authenticated user. The ID of a {@link JwtPrincipal} is returned without a query,
+     * the user of any other authentication is looked up as by {@link #currentUser()}.
+     *
+     * @return the ID of the authenticated user
+     */
+    public UUID currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication.getPrincipal() instanceof JwtPrincipal principal) {
+            return principal.id();
+        }
+        return currentUser().getId();
+    }
+
+    /**
+     * Returns the authenticated user to be referenced by other entities, e.g. as the owner of a new link. For a
+     * {@link JwtPrincipal} this is a reference that is not loaded from the database, for any other authentication
+     * the user looked up as by {@link #currentUser()}.
+     *
+     * @return the authenticated user or a reference to it
+     * @see UserService#getReferenceById(UUID)
+     */
+    public User currentUserReference() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication.getPrincipal() instanceof JwtPrincipal principal) {
+            return userService.getReferenceById(principal.id());
+        }
+        return currentUser();
+    }
+
+    /**
+     * Returns the number of lookups that queried the services in the current request.
+     *
+     * @return the number of queries of the current request, 0 outside a request
+     */
+    public int queryCount() {
+        Lookups lookups = currentLookups();
+        return Objects.isNull(lookups) ? 0 : lookups.queries;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        queriesPerRequest = DistributionSummary.builder("entity.lookup.queries")
+                .description("Link and user lookups per request that queried the services")
+                .register(registry);
+        FunctionCounter.builder("entity.lookup.memoized", memoized, LongAdder::sum)
+                .description("Link and user lookups answered from earlier lookups of the same request")
+                .register(registry);
+    }
+
+    /**
+     * Returns the lookups of the current request, creating them on the first lookup of the request.
+     *
+     * @return the lookups of the current request, or null outside a request
+     */
+    private Lookups currentLookups() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (Objects.isNull(attributes)) {
+            return null;
+        }
+        Lookups lookups = (Lookups) attributes.getAttribute(LOOKUPS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (Objects.isNull(lookups)) {
+            Lookups newLookups = new Lookups();
+            attributes.setAttribute(LOOKUPS_ATTRIBUTE, newLookups, RequestAttributes.SCOPE_REQUEST);
+            attributes.registerDestructionCallback(LOOKUPS_ATTRIBUTE, () -> recordQueries(newLookups),
+                    RequestAttributes.SCOPE_REQUEST);
+            lookups = newLookups;
+        }
+        return lookups;
+    }
+
+    private void recordQueries(Lookups lookups) {
+        DistributionSummary summary = queriesPerRequest;
+        if (Objects.nonNull(summary)) {
+            summary.record(lookups.queries);
+        }
+    }
+
+    /**
+     * The entities looked up in one request. A request is handled by one thread at a time.
+     */
+    private static final class Lookups {
+        private final Map<String, Link> links = new HashMap<>();
+        private final Map<String, Boolean> existingLinks = new HashMap<>();
+        private String currentUserEmail;
+        private User currentUser;
+        private int queries;
+    }
+}
@@ -0,0 +1,161 @@
+package com.linkurlshorter.urlshortener.security;
+
+import com.linkurlshorter.urlshortener.security.exception.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Password encoder hashing and verifying passwords on a dedicated, bounded pool of threads.
+ *
+ * <p>Hashing a password with BCrypt takes tens of milliseconds of CPU on purpose. The hashing of the delegate
+ * encoder therefore runs on at most {@code auth.password-hashing.threads} threads, with at most
+ * {@code auth.password-hashing.queue-capacity} passwords waiting for a thread, so a spike of registrations or logins
+ * cannot take the CPU away from the redirects. The calling thread waits for the result for at most
+ * {@code auth.password-hashing.timeout}; passwords that find the queue full or wait longer are rejected with a
+ * {@link PasswordHashingRejectedException}.
+ *
+ * <p>The pool is published under the {@code executor.*} meters tagged with {@code name=password-hashing}, among
+ * them the {@code executor.queued} gauge of waiting passwords. The time passwords wait for a thread is published
+ * as the {@code password.hashing.wait} timer and rejected passwords as the {@code password.hashing.rejected}
+ * counter.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, MeterBinder, DisposableBean {
+
+    private static final String EXECUTOR_NAME = "password-hashing";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final LongAdder waits = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Creates the encoder.
+     *
+     * @param delegate      the encoder hashing and verifying the passwords
+     * @param threads       the number of threads hashing passwords
+     * @param queueCapacity the maximum number of passwords waiting for a thread
+     * @param timeout       the maximum time to wait for a password to be hashed or verified
+     */
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration timeout) {
+        this.delegate = delegate;
+        this.timeout = timeout;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Hashes a password on the hashing threads.
+     *
+     * @param rawPassword the password to hash
+     * @return the hashed password
+     * @throws PasswordHashingRejectedException if too many passwords are waiting to be hashed
+     */
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    /**
+     * Verifies a password against its hash on the hashing threads.
+     *
+     * @param rawPassword     the password to verify
+     * @param encodedPassword the hashed password
+     * @return true if the password matches the hash, false otherwise
+     * @throws PasswordHashingRejectedException if too many passwords are waiting to be verified
+     */
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new ExecutorServiceMetrics(executor, EXECUTOR_NAME, Tags.empty()).bindTo(registry);
+        FunctionTimer.builder("password.hashing.wait", this,
+                        encoder -> encoder.waits.sum(),
+                        encoder -> encoder.waitNanos.sum(),
+                        TimeUnit.NANOSECONDS)
+                .description("Time passwords waited for a hashing thread")
+                .register(registry);
+        FunctionCounter.builder("password.hashing.rejected", rejected, LongAdder::sum)
+                .description("Passwords rejected because too many passwords were waiting to be hashed")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(Callable<T> hashing) {
+        long submitted = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waits.increment();
+                waitNanos.add(System.nanoTime() - submitted);
+                return hashing.call();
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingRejectedException();
+        }
+        try {
+            return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new PasswordHashingRejectedException();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingRejectedException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Failed to hash the password", e.getCause());
+        }
+    }
+
+    /**
+     * Creates the named daemon threads hashing passwords.
+     */
+    private static final class HashingThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, EXECUTOR_NAME + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.linkurlshorter.urlshortener.security;
 
 import com.linkurlshorter.urlshortener.jwt.JwtRequestFilter;
+import com.linkurlshorter.urlshortener.user.model.UserRole;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -12,10 +14,11 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+
 /**
  * Configuration class for Spring Security.
  *
@@ -55,6 +58,8 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(HttpMethod.POST, "/api/V1/auth/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/V1/user/**").authenticated()
+                        .requestMatchers("/actuator/**").hasAuthority(UserRole.ADMIN.name())
+                        .requestMatchers("/api/V1/admin/**").hasAuthority(UserRole.ADMIN.name())
                         .requestMatchers(HttpMethod.GET, "/*").permitAll()
                         .requestMatchers("/api/V1/link/**").authenticated()
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui/**").permitAll()
@@ -86,11 +91,18 @@ public class SecurityConfig {
      * bean using the {@link org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder} implementation.
      * The BCryptPasswordEncoder is a strong password hashing function that incorporates salt and cost parameters
      * to generate secure password hashes, enhancing the security of user authentication processes.
+     * Passwords are hashed on a bounded pool of threads, see {@link BoundedPasswordEncoder}.
      *
+     * @param threads       the number of threads hashing passwords
+     * @param queueCapacity the maximum number of passwords waiting for a thread
+     * @param timeout       the maximum time to wait for a password to be hashed or verified
      * @return the configured PasswordEncoder bean
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${auth.password-hashing.threads:2}") int threads,
+            @Value("${auth.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${auth.password-hashing.timeout:5s}") Duration timeout) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), threads, queueCapacity, timeout);
     }
 }
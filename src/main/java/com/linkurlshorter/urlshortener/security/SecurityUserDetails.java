@@ -1,6 +1,7 @@
 package com.linkurlshorter.urlshortener.security;
 
 import com.linkurlshorter.urlshortener.user.model.User;
+import com.linkurlshorter.urlshortener.user.model.UserRole;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -8,6 +9,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.UUID;
 
 /**
  * Represents a custom implementation of Spring Security's UserDetails interface,
@@ -28,6 +30,24 @@ public class SecurityUserDetails implements UserDetails {
      */
     private final User user;
 
+    /**
+     * Returns the ID of the user.
+     *
+     * @return the ID of the user
+     */
+    public UUID getId() {
+        return user.getId();
+    }
+
+    /**
+     * Returns the role of the user.
+     *
+     * @return the role of the user
+     */
+    public UserRole getRole() {
+        return user.getRole();
+    }
+
     /**
      * Returns the username (email) of the user.
      *
@@ -0,0 +1,12 @@
+package com.linkurlshorter.urlshortener.security.exception;
+
+/**
+ * Exception thrown when a password cannot be hashed or verified because too many passwords are waiting to be.
+ */
+public class PasswordHashingRejectedException extends RuntimeException {
+    private static final String MSG = "Too many authentication requests in progress, try again later";
+
+    public PasswordHashingRejectedException() {
+        super(MSG);
+    }
+}
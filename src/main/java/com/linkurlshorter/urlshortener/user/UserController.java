@@ -1,8 +1,10 @@
 package com.linkurlshorter.urlshortener.user;
 
+import com.linkurlshorter.urlshortener.auth.AuthService;
+import com.linkurlshorter.urlshortener.auth.dto.AuthTokens;
 import com.linkurlshorter.urlshortener.auth.exception.EmailAlreadyTakenException;
-import com.linkurlshorter.urlshortener.jwt.JwtUtil;
-import com.linkurlshorter.urlshortener.security.CustomUserDetailsService;
+import com.linkurlshorter.urlshortener.jwt.JwtPrincipal;
+import com.linkurlshorter.urlshortener.lookup.EntityLookupContext;
 import com.linkurlshorter.urlshortener.user.exception.NoSuchEmailFoundException;
 import com.linkurlshorter.urlshortener.user.model.User;
 import com.linkurlshorter.urlshortener.user.request.ChangeUserEmailRequest;
@@ -17,18 +19,22 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Instant;
+
 /**
  * Controller class for handling user-related operations.
  *
  * <p>
  * This class defines REST endpoints for changing user passwords and email addresses.
+ * Changing either revokes all tokens issued to the user so far, and the response carries a new JWT token and a new
+ * refresh token. The tokens are revoked before the user is updated, so if the revocation fails, the user is left
+ * unchanged and keeps the old tokens; if the update fails after the revocation, the user logs in again.
  * </p>
  *
  * @author Artem Poliakov
@@ -41,14 +47,15 @@ import org.springframework.web.bind.annotation.RestController;
 public class UserController {
     private final UserService userService;
     private final PasswordEncoder passwordEncoder;
-    private final CustomUserDetailsService customUserDetailsService;
-    private final JwtUtil jwtUtil;
+    private final AuthService authService;
+    private final EntityLookupContext entityLookupContext;
 
     /**
-     * Handles POST requests to change a user's password.
+     * Handles POST requests to change a user's password. The new password is hashed before the tokens of the user
+     * are revoked, so a request whose hashing is rejected leaves the user's tokens valid.
      *
      * @param passRequest the request payload containing the new password.
-     * @return a {@link ResponseEntity} indicating the result of the operation.
+     * @return a {@link ResponseEntity} indicating the result of the operation, including new JWT and refresh tokens.
      * @throws NoSuchEmailFoundException if the user's email is not found.
      */
     @PostMapping("/change-password")
@@ -56,16 +63,21 @@ public class UserController {
     @Operation(summary = "Change user password")
     public ResponseEntity<UserModifyingResponse> changePassword(@RequestBody @Valid ChangeUserPasswordRequest passRequest) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        JwtPrincipal principal = currentPrincipal(authentication);
+        String password = passwordEncoder.encode(passRequest.getNewPassword());
+        Instant issuedAt = authService.revokeAllTokens(principal.id());
         int alteredCount = userService.updateByEmailDynamically(
                 User.builder()
-                        .password(passwordEncoder.encode(passRequest.getNewPassword()))
+                        .password(password)
                         .build(),
                 authentication.getName()
         );
         if (alteredCount <= 0) {
             throw new NoSuchEmailFoundException();
         } else {
-            UserModifyingResponse response = new UserModifyingResponse("ok", null);
+            AuthTokens tokens = authService.issueReplacementTokens(principal, issuedAt);
+            UserModifyingResponse response =
+                    new UserModifyingResponse("ok", tokens.accessToken(), tokens.refreshToken());
             return ResponseEntity.ok(response);
         }
     }
@@ -74,7 +86,7 @@ public class UserController {
      * Handles POST requests to change a user's email address.
      *
      * @param emailRequest the request payload containing the new email address.
-     * @return a {@link ResponseEntity} indicating the result of the operation, including a new JWT token.
+     * @return a {@link ResponseEntity} indicating the result of the operation, including new JWT and refresh tokens.
      * @throws NoSuchEmailFoundException if the user's email is not found.
      */
     @PostMapping("/change-email")
@@ -86,6 +98,8 @@ public class UserController {
         if (userService.existsByEmail(newEmail)) {
             throw new EmailAlreadyTakenException(newEmail);
         }
+        JwtPrincipal principal = currentPrincipal(authentication);
+        Instant issuedAt = authService.revokeAllTokens(principal.id());
         int alteredCount = userService.updateByEmailDynamically(
                 User.builder()
                         .email(newEmail)
@@ -95,24 +109,41 @@ public class UserController {
         if (alteredCount <= 0) {
             throw new NoSuchEmailFoundException();
         } else {
-            String refreshedToken = getRefreshedToken(newEmail);
-            UserModifyingResponse response = new UserModifyingResponse("ok", refreshedToken);
+            AuthTokens tokens = getRefreshedTokens(new JwtPrincipal(principal.id(), newEmail, principal.role()),
+                    issuedAt);
+            UserModifyingResponse response =
+                    new UserModifyingResponse("ok", tokens.accessToken(), tokens.refreshToken());
             return ResponseEntity.ok(response);
         }
     }
 
     /**
-     * Generates a new JWT token after successfully updating the user's email address.
+     * Returns the authenticated user as a {@link JwtPrincipal}, looking the user up only if the request was not
+     * authenticated with a JWT token.
      *
-     * @param newEmail The new email address of the user.
-     * @return The newly generated JWT token with updated user details.
+     * @param authentication the authentication of the request
+     * @return the authenticated user
+     * @throws NoSuchEmailFoundException if the user's email is not found.
      */
-    private String getRefreshedToken(String newEmail) {
-        UserDetails userDetails = customUserDetailsService.loadUserByUsername(newEmail);
-        UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
-                userDetails.getUsername(), userDetails.getPassword(), userDetails.getAuthorities());
+    private JwtPrincipal currentPrincipal(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof JwtPrincipal principal) {
+            return principal;
+        }
+        User user = entityLookupContext.currentUser();
+        return new JwtPrincipal(user.getId(), user.getEmail(), user.getRole());
+    }
 
-        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-        return jwtUtil.generateToken(authenticationToken);
+    /**
+     * Authenticates the request with the new email address and issues new tokens for it after successfully updating
+     * the user's email address.
+     *
+     * @param principal the user with the new email address
+     * @param issuedAt  the issue time returned by {@link AuthService#revokeAllTokens(java.util.UUID)}
+     * @return the newly generated tokens with updated user details.
+     */
+    private AuthTokens getRefreshedTokens(JwtPrincipal principal, Instant issuedAt) {
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                principal, null, principal.getAuthorities()));
+        return authService.issueReplacementTokens(principal, issuedAt);
     }
 }
@@ -93,6 +93,21 @@ public class UserService {
         return userRepository.findById(id).orElseThrow(NoUserFoundByIdException::new);
     }
 
+    /**
+     * Returns a reference to the user entity with the given ID without loading it, e.g. to set the owner of a new
+     * link. The user is loaded when a property other than the ID is first read.
+     *
+     * @param id the UUID id of the user
+     * @return the reference to the user entity
+     * @throws NullUserPropertyException if the provided ID is null
+     */
+    public User getReferenceById(UUID id) {
+        if (Objects.isNull(id)) {
+            throw new NullUserPropertyException();
+        }
+        return userRepository.getReferenceById(id);
+    }
+
     /**
      * Finds a user entity by its email.
      *
@@ -9,7 +9,8 @@ import lombok.NoArgsConstructor;
  * Represents a response payload for user data altering operations.
  *
  * <p>
- * This class encapsulates information about operation status.
+ * This class encapsulates information about operation status and the tokens issued to the user in place of the
+ * revoked ones.
  * </p>
  *
  * @author Artem Poliakov
@@ -22,4 +23,5 @@ import lombok.NoArgsConstructor;
 public class UserModifyingResponse {
     private String error;
     private String jwtToken;
+    private String refreshToken;
 }
\ No newline at end of file
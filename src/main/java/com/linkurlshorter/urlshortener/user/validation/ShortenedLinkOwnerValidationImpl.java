@@ -1,25 +1,21 @@
 package com.linkurlshorter.urlshortener.user.validation;
 
-import com.linkurlshorter.urlshortener.link.LinkService;
-import com.linkurlshorter.urlshortener.user.UserService;
+import com.linkurlshorter.urlshortener.lookup.EntityLookupContext;
 import com.linkurlshorter.urlshortener.user.validation.ShortenedLinkOwnerValidation;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.util.Objects;
 import java.util.UUID;
 
 /**
  * Implementation of user ownership verification for a shortened link.
- * The check is performed using the link service {@link LinkService} and the user service {@link UserService}.
+ * The link and the current user are looked up through the {@link EntityLookupContext}.
  */
 @RequiredArgsConstructor
 public class ShortenedLinkOwnerValidationImpl implements ConstraintValidator<ShortenedLinkOwnerValidation, String> {
-    private final LinkService linkService;
-    private final UserService userService;
+    private final EntityLookupContext entityLookupContext;
 
     /**
      * Checks user ownership of the shortened link.
@@ -35,8 +31,8 @@ public class ShortenedLinkOwnerValidationImpl implements ConstraintValidator<Sho
                     .addConstraintViolation();
             return false;
         }
-        UUID currentUserId = getCurrentUserId();
-        UUID linkUserId = linkService.findByShortLink(shortLink).getUser().getId();
+        UUID currentUserId = entityLookupContext.currentUserId();
+        UUID linkUserId = entityLookupContext.findByShortLink(shortLink).getUser().getId();
         if (!Objects.equals(currentUserId, linkUserId)) {
             context.buildConstraintViolationWithTemplate("You cannot do this!")
                     .addConstraintViolation();
@@ -44,15 +40,4 @@ public class ShortenedLinkOwnerValidationImpl implements ConstraintValidator<Sho
         }
         return true;
     }
-
-    /**
-     * Gets the ID of the current user.
-     *
-     * @return The ID of the current user.
-     */
-    private UUID getCurrentUserId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String userEmail = authentication.getName();
-        return userService.findByEmail(userEmail).getId();
-    }
 }
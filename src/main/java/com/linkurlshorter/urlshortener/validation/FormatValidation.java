@@ -0,0 +1,188 @@
+package com.linkurlshorter.urlshortener.validation;
+
+/**
+ * Single-pass scanners for the formats of emails, passwords, long URLs and short codes.
+ *
+ * <p>Every method accepts exactly the strings its documented regular expression matches as a whole, but reads
+ * each character once and allocates nothing, while {@link String#matches(String)} compiles the expression on every
+ * call and the lookaheads of the password expression rescan the password for each required character class.
+ * Character classes are ASCII only, as in the default mode of {@link java.util.regex.Pattern}.
+ */
+public final class FormatValidation {
+
+    private static final int MIN_PASSWORD_LENGTH = 8;
+    private static final int MAX_PASSWORD_LENGTH = 64;
+    private static final int MIN_TOP_LEVEL_DOMAIN_LENGTH = 2;
+    private static final int MAX_URL_TOP_LEVEL_DOMAIN_LENGTH = 4;
+
+    private FormatValidation() {
+    }
+
+    /**
+     * Checks the email against
+     * {@code [A-Za-z0-9]+[._+-]?[A-Za-z0-9]+@[A-Za-z0-9]+[._-]?[A-Za-z0-9]+\.[A-Za-z]{2,}}.
+     *
+     * @param email the email to check
+     * @return true if the email matches, false otherwise or if it is null
+     */
+    public static boolean isValidEmail(String email) {
+        if (email == null) {
+            return false;
+        }
+        int at = email.indexOf('@');
+        if (at < 0 || !isWordWithOptionalSeparator(email, 0, at, true)) {
+            return false;
+        }
+        int dot = email.lastIndexOf('.');
+        return dot > at
+                && isWordWithOptionalSeparator(email, at + 1, dot, false)
+                && isLetters(email, dot + 1, email.length(), MIN_TOP_LEVEL_DOMAIN_LENGTH, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Checks the password against {@code (?=.*\d)(?=.*[a-z])(?=.*[A-Z])[^ ]{8,64}}: 8 to 64 code points without
+     * spaces, with a digit, a lowercase and an uppercase letter before the first line terminator.
+     *
+     * @param password the password to check
+     * @return true if the password matches, false otherwise or if it is null
+     */
+    public static boolean isValidPassword(String password) {
+        if (password == null || password.length() < MIN_PASSWORD_LENGTH
+                || password.length() > 2 * MAX_PASSWORD_LENGTH) {
+            return false;
+        }
+        boolean digit = false;
+        boolean lowercase = false;
+        boolean uppercase = false;
+        boolean lineEnded = false;
+        int codePoints = 0;
+        for (int i = 0; i < password.length(); i++) {
+            char c = password.charAt(i);
+            if (c == ' ') {
+                return false;
+            }
+            if (!Character.isLowSurrogate(c) || i == 0 || !Character.isHighSurrogate(password.charAt(i - 1))) {
+                codePoints++;
+            }
+            if (isLineTerminator(c)) {
+                lineEnded = true;
+            } else if (!lineEnded) {
+                digit |= c >= '0' && c <= '9';
+                lowercase |= c >= 'a' && c <= 'z';
+                uppercase |= c >= 'A' && c <= 'Z';
+            }
+        }
+        return digit && lowercase && uppercase
+                && codePoints >= MIN_PASSWORD_LENGTH && codePoints <= MAX_PASSWORD_LENGTH;
+    }
+
+    /**
+     * Checks the URL against {@code https?://[\w.-]+\.(?:[a-zA-Z]{2,4})(?:/.*)?}.
+     *
+     * @param url the URL to check
+     * @return true if the URL matches, false otherwise or if it is null
+     */
+    public static boolean isValidLongUrl(String url) {
+        if (url == null) {
+            return false;
+        }
+        int hostStart;
+        if (url.startsWith("http://")) {
+            hostStart = 7;
+        } else if (url.startsWith("https://")) {
+            hostStart = 8;
+        } else {
+            return false;
+        }
+        int dot = -1;
+        int hostEnd = hostStart;
+        while (hostEnd < url.length() && url.charAt(hostEnd) != '/') {
+            char c = url.charAt(hostEnd);
+            if (c == '.') {
+                dot = hostEnd;
+            } else if (!isWordCharacter(c) && c != '-') {
+                return false;
+            }
+            hostEnd++;
+        }
+        if (dot <= hostStart
+                || !isLetters(url, dot + 1, hostEnd, MIN_TOP_LEVEL_DOMAIN_LENGTH, MAX_URL_TOP_LEVEL_DOMAIN_LENGTH)) {
+            return false;
+        }
+        for (int i = hostEnd; i < url.length(); i++) {
+            if (isLineTerminator(url.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks the short code against {@code [a-zA-Z0-9]+}.
+     *
+     * @param shortCode the short code to check
+     * @return true if the short code matches, false otherwise or if it is null
+     */
+    public static boolean isValidShortCode(String shortCode) {
+        if (shortCode == null || shortCode.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < shortCode.length(); i++) {
+            if (!isAlphanumeric(shortCode.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks that the range matches {@code [A-Za-z0-9]+[._+-]?[A-Za-z0-9]+}, or
+     * {@code [A-Za-z0-9]+[._-]?[A-Za-z0-9]+} if the plus sign is not allowed.
+     */
+    private static boolean isWordWithOptionalSeparator(String s, int start, int end, boolean plusAllowed) {
+        if (end - start < 2 || !isAlphanumeric(s.charAt(start)) || !isAlphanumeric(s.charAt(end - 1))) {
+            return false;
+        }
+        boolean separator = false;
+        for (int i = start + 1; i < end - 1; i++) {
+            char c = s.charAt(i);
+            if (isAlphanumeric(c)) {
+                continue;
+            }
+            if (separator || !(c == '.' || c == '_' || c == '-' || (plusAllowed && c == '+'))) {
+                return false;
+            }
+            separator = true;
+        }
+        return true;
+    }
+
+    private static boolean isLetters(String s, int start, int end, int minLength, int maxLength) {
+        int length = end - start;
+        if (length < minLength || length > maxLength) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (!(c >= 'a' && c <= 'z') && !(c >= 'A' && c <= 'Z')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isWordCharacter(char c) {
+        return isAlphanumeric(c) || c == '_';
+    }
+
+    /**
+     * Checks whether the character ends a line for the {@code .} of a regular expression.
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
@@ -0,0 +1,6 @@
+CREATE TABLE short_codes
+(
+    code        VARCHAR(50)                         PRIMARY KEY,
+    node_id     VARCHAR(100)                        NOT NULL,
+    reserved_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
@@ -0,0 +1 @@
+CREATE SEQUENCE short_code_sequence START WITH 0 MINVALUE 0 INCREMENT BY 1000;
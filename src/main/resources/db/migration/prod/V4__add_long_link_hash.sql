@@ -0,0 +1,3 @@
+ALTER TABLE links ADD COLUMN long_link_hash BIGINT;
+
+CREATE INDEX links_user_id_long_link_hash_idx ON links (user_id, long_link_hash);
@@ -1,12 +1,21 @@
 package com.linkurlshorter.urlshortener;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.linkurlshorter.urlshortener.auth.AuthService;
+import com.linkurlshorter.urlshortener.jwt.JwtKeyRing;
 import com.linkurlshorter.urlshortener.jwt.JwtUtil;
+import com.linkurlshorter.urlshortener.jwt.TokenRevocationList;
 import com.linkurlshorter.urlshortener.link.LinkRepository;
 import com.linkurlshorter.urlshortener.link.LinkService;
+import com.linkurlshorter.urlshortener.link.cache.LinkCache;
+import com.linkurlshorter.urlshortener.link.cache.LinkLoadCoalescer;
+import com.linkurlshorter.urlshortener.link.cache.NegativeLinkCache;
+import com.linkurlshorter.urlshortener.link.cache.ShortLinkBloomFilter;
 import com.linkurlshorter.urlshortener.link.dto.LinkInfoDtoMapper;
+import com.linkurlshorter.urlshortener.link.generator.ShortCodeSource;
 import com.linkurlshorter.urlshortener.link.generator.ShortLinkGenerator;
+import com.linkurlshorter.urlshortener.link.statistics.ClickAggregator;
+import com.linkurlshorter.urlshortener.link.statistics.RedisClickCounters;
+import com.linkurlshorter.urlshortener.lookup.EntityLookupContext;
 import com.linkurlshorter.urlshortener.security.CustomUserDetailsService;
 import com.linkurlshorter.urlshortener.user.UserRepository;
 import com.linkurlshorter.urlshortener.user.UserService;
@@ -15,6 +24,8 @@ import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import redis.clients.jedis.JedisPool;
 
+import java.time.Duration;
+
 import static org.mockito.Mockito.mock;
 
 /**
@@ -33,7 +44,8 @@ public class TestConfig {
      */
     @Bean
     public JwtUtil jwtUtil() {
-        return new JwtUtil();
+        return new JwtUtil(new JwtKeyRing("", "", Duration.ofMinutes(35)),
+                new TokenRevocationList(mock(JedisPool.class), Duration.ofMinutes(35)), 100);
     }
 
     /**
@@ -71,11 +83,69 @@ public class TestConfig {
      * Creates a bean for LinkService with a mocked LinkRepository dependency.
      *
      * @param linkRepository LinkRepository mock bean
+     * @param linkCache      LinkCache bean
+     * @param clickAggregator ClickAggregator bean
+     * @param negativeLinkCache NegativeLinkCache bean
+     * @param linkLoadCoalescer LinkLoadCoalescer bean
+     * @param shortLinkBloomFilter ShortLinkBloomFilter mock bean
      * @return LinkService bean with mocked LinkRepository dependency
      */
     @Bean
-    public LinkService linkService(LinkRepository linkRepository, JedisPool jedisPool, ObjectMapper objectMapper) {
-        return new LinkService(linkRepository, jedisPool, objectMapper);
+    public LinkService linkService(LinkRepository linkRepository, JedisPool jedisPool, LinkCache linkCache,
+                                   ClickAggregator clickAggregator, NegativeLinkCache negativeLinkCache,
+                                   LinkLoadCoalescer linkLoadCoalescer, ShortLinkBloomFilter shortLinkBloomFilter) {
+        return new LinkService(linkRepository, jedisPool, linkCache, clickAggregator, negativeLinkCache,
+                linkLoadCoalescer, shortLinkBloomFilter);
+    }
+
+    /**
+     * Creates a mock bean for ShortLinkBloomFilter.
+     *
+     * @return ShortLinkBloomFilter mock bean
+     */
+    @Bean
+    public ShortLinkBloomFilter shortLinkBloomFilter() {
+        return mock(ShortLinkBloomFilter.class);
+    }
+
+    /**
+     * Creates a bean for LinkCache.
+     *
+     * @return LinkCache bean
+     */
+    @Bean
+    public LinkCache linkCache() {
+        return new LinkCache(10_000, Duration.ofSeconds(60));
+    }
+
+    /**
+     * Creates a bean for NegativeLinkCache.
+     *
+     * @return NegativeLinkCache bean
+     */
+    @Bean
+    public NegativeLinkCache negativeLinkCache() {
+        return new NegativeLinkCache(Duration.ofSeconds(30));
+    }
+
+    /**
+     * Creates a bean for LinkLoadCoalescer.
+     *
+     * @return LinkLoadCoalescer bean
+     */
+    @Bean
+    public LinkLoadCoalescer linkLoadCoalescer() {
+        return new LinkLoadCoalescer(Duration.ofSeconds(2));
+    }
+
+    /**
+     * Creates a bean for ClickAggregator with a mocked RedisClickCounters dependency.
+     *
+     * @return ClickAggregator bean with mocked RedisClickCounters dependency
+     */
+    @Bean
+    public ClickAggregator clickAggregator() {
+        return new ClickAggregator(mock(RedisClickCounters.class), 500);
     }
 
     /**
@@ -89,6 +159,18 @@ public class TestConfig {
         return new UserService(userRepository);
     }
 
+    /**
+     * Creates a bean for EntityLookupContext.
+     *
+     * @param linkService LinkService bean
+     * @param userService UserService bean
+     * @return EntityLookupContext bean
+     */
+    @Bean
+    public EntityLookupContext entityLookupContext(LinkService linkService, UserService userService) {
+        return new EntityLookupContext(linkService, userService);
+    }
+
     /**
      * Creates a mock bean for LinkRepository.
      *
@@ -120,14 +202,24 @@ public class TestConfig {
     }
 
     /**
-     * Creates a bean for ShortLinkGenerator with a mocked LinkService dependency.
+     * Creates a bean for ShortLinkGenerator with a mocked ShortCodeSource dependency.
+     *
+     * @param shortCodeSource ShortCodeSource mock bean
+     * @return ShortLinkGenerator bean with mocked ShortCodeSource dependency
+     */
+    @Bean
+    public ShortLinkGenerator shortLinkGenerator(ShortCodeSource shortCodeSource) {
+        return new ShortLinkGenerator(shortCodeSource);
+    }
+
+    /**
+     * Creates a mock bean for ShortCodeSource.
      *
-     * @param linkService LinkService mock bean
-     * @return ShortLinkGenerator bean with mocked LinkService dependency
+     * @return ShortCodeSource mock bean
      */
     @Bean
-    public ShortLinkGenerator shortLinkGenerator(LinkService linkService) {
-        return new ShortLinkGenerator(linkService);
+    public ShortCodeSource shortCodeSource() {
+        return mock(ShortCodeSource.class);
     }
 
     /**
@@ -10,6 +10,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.Rollback;
@@ -43,6 +44,8 @@ class AuthControllerIntegrationTest {
 
     @Autowired
     private MockMvc mockMvc;
+    @MockBean
+    private RefreshTokenService refreshTokenService;
     private final String baseUrl = "/api/V1/auth/";
     private AuthRequest authRequest;
     private final ObjectMapper objectMapper = new ObjectMapper();
@@ -3,18 +3,29 @@ package com.linkurlshorter.urlshortener.auth;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.linkurlshorter.urlshortener.TestConfig;
 import com.linkurlshorter.urlshortener.auth.dto.AuthRequest;
+import com.linkurlshorter.urlshortener.auth.dto.AuthTokens;
+import com.linkurlshorter.urlshortener.auth.dto.RefreshTokenRequest;
 import com.linkurlshorter.urlshortener.auth.exception.EmailAlreadyTakenException;
+import com.linkurlshorter.urlshortener.auth.exception.InvalidRefreshTokenException;
+import com.linkurlshorter.urlshortener.jwt.JwtPrincipal;
+import com.linkurlshorter.urlshortener.jwt.JwtUtil;
 import com.linkurlshorter.urlshortener.security.SecurityConfig;
+import com.linkurlshorter.urlshortener.user.model.UserRole;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.util.UUID;
+
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -35,6 +46,9 @@ class AuthControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private JwtUtil jwtUtil;
+
     @MockBean
     private AuthService authService;
 
@@ -44,14 +58,15 @@ class AuthControllerTest {
     @Test
     void registrationSuccessfulTest() throws Exception {
         AuthRequest request = new AuthRequest("test@email.com", "Password1");
-        when(authService.registerUser(request)).thenReturn(String.valueOf(request));
+        when(authService.registerUser(request)).thenReturn(new AuthTokens(String.valueOf(request), "REFRESH"));
 
         ResultActions resultActions = mockMvc.perform(post("/api/V1/auth/register")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)));
 
         resultActions.andExpect(jsonPath("$.message").value("User registered successfully!"))
-                .andExpect(jsonPath("$.jwtToken").exists());
+                .andExpect(jsonPath("$.jwtToken").exists())
+                .andExpect(jsonPath("$.refreshToken").value("REFRESH"));
     }
 
     /**
@@ -76,7 +91,7 @@ class AuthControllerTest {
     @Test
     void loginSuccessfulTest() throws Exception {
         AuthRequest request = new AuthRequest("test2@email.com", "Password1");
-        when(authService.loginUser(request)).thenReturn(String.valueOf(request));
+        when(authService.loginUser(request)).thenReturn(new AuthTokens(String.valueOf(request), "REFRESH"));
 
         ResultActions resultActions = mockMvc.perform(post("/api/V1/auth/login")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -84,7 +99,8 @@ class AuthControllerTest {
 
         resultActions.andExpect(status().isOk())
                 .andExpect(jsonPath("$.message").value("User logged in successfully!"))
-                .andExpect(jsonPath("$.jwtToken").exists());
+                .andExpect(jsonPath("$.jwtToken").exists())
+                .andExpect(jsonPath("$.refreshToken").value("REFRESH"));
     }
 
     /**
@@ -101,4 +117,83 @@ class AuthControllerTest {
 
         resultActions.andExpect(status().isUnauthorized());
     }
+
+    /**
+     * Test case for the {@link AuthController#refresh(RefreshTokenRequest)} method.
+     */
+    @Test
+    void refreshSuccessfulTest() throws Exception {
+        when(authService.refreshTokens("OLD_REFRESH")).thenReturn(new AuthTokens("JWT", "NEW_REFRESH"));
+
+        ResultActions resultActions = mockMvc.perform(post("/api/V1/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequest("OLD_REFRESH"))));
+
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Tokens refreshed successfully!"))
+                .andExpect(jsonPath("$.jwtToken").value("JWT"))
+                .andExpect(jsonPath("$.refreshToken").value("NEW_REFRESH"));
+    }
+
+    /**
+     * Test case for the {@link AuthController#refresh(RefreshTokenRequest)} method when the refresh token is
+     * invalid.
+     */
+    @Test
+    void refreshFailedTest() throws Exception {
+        when(authService.refreshTokens("INVALID")).thenThrow(InvalidRefreshTokenException.class);
+
+        ResultActions resultActions = mockMvc.perform(post("/api/V1/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequest("INVALID"))));
+
+        resultActions.andExpect(status().isUnauthorized());
+    }
+
+    /**
+     * Test case for the {@link AuthController#refresh(RefreshTokenRequest)} method when the refresh token is
+     * missing.
+     */
+    @Test
+    void refreshBlankTokenTest() throws Exception {
+        ResultActions resultActions = mockMvc.perform(post("/api/V1/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequest(""))));
+
+        resultActions.andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Test case for the {@link AuthController#logout(RefreshTokenRequest, String)} method.
+     */
+    @Test
+    void logoutTest() throws Exception {
+        ResultActions resultActions = mockMvc.perform(post("/api/V1/auth/logout")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequest("REFRESH"))));
+
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("User logged out successfully!"));
+        verify(authService).logoutUser("REFRESH", null);
+    }
+
+    /**
+     * Test case for the {@link AuthController#logout(RefreshTokenRequest, String)} method when the request carries
+     * a JWT token.
+     */
+    @Test
+    void logoutWithJwtTokenTest() throws Exception {
+        JwtPrincipal principal = new JwtPrincipal(
+                UUID.fromString("84991c79-f6a9-4b7b-b1b4-0d66c0b92c81"), "test@email.com", UserRole.USER);
+        String jwtToken = jwtUtil.generateToken(UsernamePasswordAuthenticationToken.authenticated(
+                principal, null, principal.getAuthorities()));
+
+        mockMvc.perform(post("/api/V1/auth/logout")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest("REFRESH"))))
+                .andExpect(status().isOk());
+
+        verify(authService).logoutUser("REFRESH", jwtToken);
+    }
 }
@@ -1,12 +1,19 @@
 package com.linkurlshorter.urlshortener.auth;
 
 import com.linkurlshorter.urlshortener.auth.dto.AuthRequest;
+import com.linkurlshorter.urlshortener.auth.dto.AuthTokens;
 import com.linkurlshorter.urlshortener.auth.exception.EmailAlreadyTakenException;
+import com.linkurlshorter.urlshortener.auth.exception.InvalidRefreshTokenException;
+import com.linkurlshorter.urlshortener.jwt.JwtPrincipal;
 import com.linkurlshorter.urlshortener.jwt.JwtUtil;
+import com.linkurlshorter.urlshortener.jwt.TokenRevocationList;
+import com.linkurlshorter.urlshortener.security.SecurityUserDetails;
 import com.linkurlshorter.urlshortener.user.UserRepository;
 import com.linkurlshorter.urlshortener.user.model.User;
+import com.linkurlshorter.urlshortener.user.model.UserRole;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -15,12 +22,18 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Instant;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -36,6 +49,12 @@ class AuthServiceTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
     @Mock
     private UserRepository userRepository;
 
@@ -53,12 +72,44 @@ class AuthServiceTest {
         AuthRequest authRequest = new AuthRequest("test@example.com", "password");
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.empty());
         when(passwordEncoder.encode(anyString())).thenReturn("ENCRYPTED_PASSWORD");
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(jwtUtil.generateToken(any())).thenReturn("JWT");
+        when(refreshTokenService.issue(any(JwtPrincipal.class))).thenReturn("REFRESH");
+
+        AuthTokens tokens = authService.registerUser(authRequest);
 
-        String token = authService.registerUser(authRequest);
+        assertThat(tokens).isEqualTo(new AuthTokens("JWT", "REFRESH"));
+    }
 
-        assertThat(token).isNotNull()
-                .isEqualTo("JWT");
+    /**
+     * Test case for the {@link AuthService#registerUser(AuthRequest)} method issuing the token for the saved user
+     * without authenticating the user again.
+     */
+    @Test
+    void registrationIssuesTokenForSavedUserTest() {
+        AuthRequest authRequest = new AuthRequest("test@example.com", "password");
+        User savedUser = User.builder()
+                .id(UUID.fromString("84991c79-f6a9-4b7b-b1b4-0d66c0b92c81"))
+                .email("test@example.com")
+                .password("ENCRYPTED_PASSWORD")
+                .role(UserRole.USER)
+                .build();
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.empty());
+        when(passwordEncoder.encode("password")).thenReturn("ENCRYPTED_PASSWORD");
+        when(userRepository.save(any(User.class))).thenReturn(savedUser);
+        ArgumentCaptor<Authentication> authenticationCaptor = ArgumentCaptor.forClass(Authentication.class);
+        when(jwtUtil.generateToken(authenticationCaptor.capture())).thenReturn("JWT");
+        when(refreshTokenService.issue(new JwtPrincipal(savedUser.getId(), "test@example.com", UserRole.USER)))
+                .thenReturn("REFRESH");
+
+        authService.registerUser(authRequest);
+
+        Authentication authentication = authenticationCaptor.getValue();
+        assertThat(authentication.isAuthenticated()).isTrue();
+        assertThat(authentication.getName()).isEqualTo("test@example.com");
+        assertThat(((SecurityUserDetails) authentication.getPrincipal()).getId()).isEqualTo(savedUser.getId());
+        verify(passwordEncoder, times(1)).encode("password");
+        verifyNoInteractions(authenticationManager);
     }
 
     /**
@@ -80,14 +131,110 @@ class AuthServiceTest {
     @Test
     void loginTest() {
         AuthRequest authRequest = new AuthRequest("test@example.com", "password");
-        Authentication authentication = new UsernamePasswordAuthenticationToken(authRequest.getEmail(), authRequest.getPassword());
+        SecurityUserDetails userDetails = new SecurityUserDetails(User.builder()
+                .id(UUID.fromString("84991c79-f6a9-4b7b-b1b4-0d66c0b92c81"))
+                .email(authRequest.getEmail())
+                .password("ENCRYPTED_PASSWORD")
+                .role(UserRole.USER)
+                .build());
+        Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, authRequest.getPassword());
         String expectedToken = "SAMPLE_JWT";
 
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class))).thenReturn(authentication);
         when(jwtUtil.generateToken(authentication)).thenReturn(expectedToken);
+        when(refreshTokenService.issue(new JwtPrincipal(userDetails.getId(), "test@example.com", UserRole.USER)))
+                .thenReturn("SAMPLE_REFRESH");
+
+        AuthTokens actualTokens = authService.loginUser(authRequest);
+
+        assertThat(actualTokens.accessToken()).isEqualTo(expectedToken);
+        assertThat(actualTokens.refreshToken()).isEqualTo("SAMPLE_REFRESH");
+    }
+
+    /**
+     * Test case for the {@link AuthService#refreshTokens(String)} method.
+     */
+    @Test
+    void refreshTokensTest() {
+        JwtPrincipal principal = new JwtPrincipal(
+                UUID.fromString("84991c79-f6a9-4b7b-b1b4-0d66c0b92c81"), "test@example.com", UserRole.USER);
+        when(refreshTokenService.rotate("OLD_REFRESH"))
+                .thenReturn(new RefreshTokenService.RotatedRefreshToken(principal, "NEW_REFRESH"));
+        ArgumentCaptor<Authentication> authenticationCaptor = ArgumentCaptor.forClass(Authentication.class);
+        when(jwtUtil.generateToken(authenticationCaptor.capture())).thenReturn("JWT");
+
+        AuthTokens tokens = authService.refreshTokens("OLD_REFRESH");
+
+        assertThat(tokens).isEqualTo(new AuthTokens("JWT", "NEW_REFRESH"));
+        assertThat(authenticationCaptor.getValue().getPrincipal()).isEqualTo(principal);
+        verifyNoInteractions(authenticationManager, passwordEncoder, userRepository);
+    }
+
+    /**
+     * Test case for the {@link AuthService#refreshTokens(String)} method when the refresh token is invalid.
+     */
+    @Test
+    void refreshTokensInvalidTest() {
+        when(refreshTokenService.rotate("INVALID")).thenThrow(InvalidRefreshTokenException.class);
 
-        String actualToken = authService.loginUser(authRequest);
+        assertThatThrownBy(() -> authService.refreshTokens("INVALID"))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+        verifyNoInteractions(jwtUtil);
+    }
+
+    /**
+     * Test case for the {@link AuthService#logoutUser(String, String)} method.
+     */
+    @Test
+    void logoutTest() {
+        authService.logoutUser("REFRESH", "JWT");
+
+        verify(refreshTokenService, times(1)).revoke("REFRESH");
+        verify(jwtUtil, times(1)).revokeToken("JWT");
+    }
+
+    /**
+     * Test case for the {@link AuthService#logoutUser(String, String)} method when the request carried no JWT token.
+     */
+    @Test
+    void logoutWithoutJwtTokenTest() {
+        authService.logoutUser("REFRESH", null);
 
-        assertThat(expectedToken).isEqualTo(actualToken);
+        verify(refreshTokenService, times(1)).revoke("REFRESH");
+        verifyNoInteractions(jwtUtil);
+    }
+
+    /**
+     * Test case for the {@link AuthService#revokeAllTokens(UUID)} method.
+     */
+    @Test
+    void revokeAllTokensTest() {
+        UUID userId = UUID.fromString("84991c79-f6a9-4b7b-b1b4-0d66c0b92c81");
+        Instant issuedAt = Instant.ofEpochSecond(1_700_000_000L);
+        when(tokenRevocationList.revokeUser(userId)).thenReturn(issuedAt);
+
+        assertThat(authService.revokeAllTokens(userId)).isEqualTo(issuedAt);
+
+        verify(tokenRevocationList, times(1)).revokeUser(userId);
+        verify(refreshTokenService, times(1)).revokeAll(userId);
+    }
+
+    /**
+     * Test case for the {@link AuthService#issueReplacementTokens(JwtPrincipal, Instant)} method.
+     */
+    @Test
+    void issueReplacementTokensTest() {
+        JwtPrincipal principal = new JwtPrincipal(
+                UUID.fromString("84991c79-f6a9-4b7b-b1b4-0d66c0b92c81"), "test@example.com", UserRole.USER);
+        Instant issuedAt = Instant.ofEpochSecond(1_700_000_000L);
+        when(refreshTokenService.issue(principal)).thenReturn("NEW_REFRESH");
+        ArgumentCaptor<Authentication> authenticationCaptor = ArgumentCaptor.forClass(Authentication.class);
+        when(jwtUtil.generateToken(authenticationCaptor.capture(), eq(issuedAt))).thenReturn("JWT");
+
+        AuthTokens tokens = authService.issueReplacementTokens(principal, issuedAt);
+
+        assertThat(tokens).isEqualTo(new AuthTokens("JWT", "NEW_REFRESH"));
+        assertThat(authenticationCaptor.getValue().getPrincipal()).isEqualTo(principal);
+        verifyNoInteractions(authenticationManager, passwordEncoder, userRepository);
     }
 }
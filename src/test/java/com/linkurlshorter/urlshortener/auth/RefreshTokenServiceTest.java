@@ -0,0 +1,174 @@
+package com.linkurlshorter.urlshortener.auth;
+
+import com.linkurlshorter.urlshortener.auth.exception.InvalidRefreshTokenException;
+import com.linkurlshorter.urlshortener.jwt.JwtPrincipal;
+import com.linkurlshorter.urlshortener.user.model.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Pipeline;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link RefreshTokenService} class.
+ */
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+    private static final UUID USER_ID = UUID.fromString("84991c79-f6a9-4b7b-b1b4-0d66c0b92c81");
+    private static final long TTL_SECONDS = Duration.ofDays(14).toSeconds();
+
+    @Mock
+    private JedisPool jedisPool;
+
+    @Mock
+    private Jedis jedis;
+
+    @Mock
+    private Pipeline pipeline;
+
+    private RefreshTokenService refreshTokenService;
+    private JwtPrincipal principal;
+
+    /**
+     * Set up method to initialize test data before each test method.
+     */
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(jedisPool, Duration.ofDays(14));
+        principal = new JwtPrincipal(USER_ID, "test@example.com", UserRole.USER);
+        when(jedisPool.getResource()).thenReturn(jedis);
+    }
+
+    /**
+     * Test case for the {@link RefreshTokenService#issue(JwtPrincipal)} method.
+     */
+    @Test
+    void issueTest() {
+        when(jedis.pipelined()).thenReturn(pipeline);
+
+        String refreshToken = refreshTokenService.issue(principal);
+
+        assertThat(refreshToken).hasSizeGreaterThanOrEqualTo(43).doesNotContain("=");
+        ArgumentCaptor<String> tokenKey = ArgumentCaptor.forClass(String.class);
+        verify(pipeline).hset(tokenKey.capture(), eq(Map.of(
+                "uid", USER_ID.toString(), "email", "test@example.com", "role", "USER")));
+        assertThat(tokenKey.getValue()).startsWith(RefreshTokenService.TOKEN_KEY_PREFIX).doesNotContain(refreshToken);
+        verify(pipeline).expire(tokenKey.getValue(), TTL_SECONDS);
+        verify(pipeline).sadd(RefreshTokenService.USER_KEY_PREFIX + USER_ID,
+                tokenKey.getValue().substring(RefreshTokenService.TOKEN_KEY_PREFIX.length()));
+        verify(pipeline).sync();
+    }
+
+    /**
+     * Test case for the {@link RefreshTokenService#issue(JwtPrincipal)} method issuing two tokens.
+     */
+    @Test
+    void issueUniqueTest() {
+        when(jedis.pipelined()).thenReturn(pipeline);
+
+        assertThat(refreshTokenService.issue(principal)).isNotEqualTo(refreshTokenService.issue(principal));
+    }
+
+    /**
+     * Test case for the {@link RefreshTokenService#rotate(String)} method.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void rotateTest() {
+        when(jedis.eval(anyString(), anyList(), anyList()))
+                .thenReturn(List.of("uid", USER_ID.toString(), "email", "test@example.com", "role", "USER"));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        refreshTokenService.bindTo(registry);
+
+        RefreshTokenService.RotatedRefreshToken rotated = refreshTokenService.rotate("OLD_REFRESH");
+
+        assertThat(rotated.principal()).isEqualTo(principal);
+        assertThat(rotated.refreshToken()).isNotEqualTo("OLD_REFRESH");
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<String>> args = ArgumentCaptor.forClass(List.class);
+        verify(jedis).eval(anyString(), keys.capture(), args.capture());
+        String newDigest = args.getValue().get(3);
+        assertThat(keys.getValue()).hasSize(3).last().isEqualTo(RefreshTokenService.TOKEN_KEY_PREFIX + newDigest);
+        assertThat(newDigest).isNotEqualTo(args.getValue().get(2));
+        verify(jedis, never()).pipelined();
+        assertThat(registry.get("auth.refresh.rotated").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("auth.refresh.issued").functionCounter().count()).isEqualTo(1);
+    }
+
+    /**
+     * Test case for the {@link RefreshTokenService#rotate(String)} method when the token is unknown or expired.
+     */
+    @Test
+    void rotateUnknownTest() {
+        when(jedis.eval(anyString(), anyList(), anyList())).thenReturn(List.of());
+
+        assertThatThrownBy(() -> refreshTokenService.rotate("UNKNOWN"))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+        verify(jedis, never()).pipelined();
+    }
+
+    /**
+     * Test case for the {@link RefreshTokenService#rotate(String)} method when the token has been used already.
+     */
+    @Test
+    void rotateReusedTest() {
+        when(jedis.eval(anyString(), anyList(), anyList())).thenReturn(List.of("reused", USER_ID.toString()), 1L);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        refreshTokenService.bindTo(registry);
+
+        assertThatThrownBy(() -> refreshTokenService.rotate("USED"))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+
+        verify(jedis).eval(anyString(), eq(List.of(RefreshTokenService.USER_KEY_PREFIX + USER_ID)),
+                eq(List.of(RefreshTokenService.TOKEN_KEY_PREFIX)));
+        assertThat(registry.get("auth.refresh.reused").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("auth.refresh.rejected").functionCounter().count()).isEqualTo(1);
+    }
+
+    /**
+     * Test case for the {@link RefreshTokenService#revoke(String)} method.
+     */
+    @Test
+    void revokeTest() {
+        when(jedis.hget(startsWith(RefreshTokenService.TOKEN_KEY_PREFIX), eq("uid"))).thenReturn(USER_ID.toString());
+        when(jedis.pipelined()).thenReturn(pipeline);
+
+        refreshTokenService.revoke("REFRESH");
+
+        verify(pipeline).del(startsWith(RefreshTokenService.TOKEN_KEY_PREFIX));
+        verify(pipeline).srem(eq(RefreshTokenService.USER_KEY_PREFIX + USER_ID), anyString());
+        verify(pipeline).sync();
+    }
+
+    /**
+     * Test case for the {@link RefreshTokenService#revokeAll(UUID)} method.
+     */
+    @Test
+    void revokeAllTest() {
+        refreshTokenService.revokeAll(USER_ID);
+
+        verify(jedis).eval(anyString(), eq(List.of(RefreshTokenService.USER_KEY_PREFIX + USER_ID)),
+                eq(List.of(RefreshTokenService.TOKEN_KEY_PREFIX)));
+        verify(jedis, never()).pipelined();
+    }
+}
@@ -0,0 +1,225 @@
+package com.linkurlshorter.urlshortener.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.InvalidKeyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link JwtKeyRing} class.
+ */
+@ExtendWith(MockitoExtension.class)
+class JwtKeyRingTest {
+    private static final Instant NOW = Instant.parse("2026-10-01T10:00:00Z");
+    private static final Duration GRACE_PERIOD = Duration.ofMinutes(30);
+
+    @Mock
+    private Clock clock;
+
+    @TempDir
+    private Path directory;
+
+    private SecretKey firstKey;
+    private SecretKey secondKey;
+
+    /**
+     * Set up method to generate the keys before each test method.
+     */
+    @BeforeEach
+    void setUp() {
+        firstKey = Jwts.SIG.HS256.key().build();
+        secondKey = Jwts.SIG.HS256.key().build();
+    }
+
+    /**
+     * Test case for the {@link JwtKeyRing#signingKey()} method.
+     */
+    @Test
+    void signingKeyTest() {
+        when(clock.instant()).thenReturn(NOW);
+        JwtKeyRing keyRing = new JwtKeyRing("k1:" + encode(firstKey), "", GRACE_PERIOD, clock);
+
+        JwtKeyRing.SigningKey signingKey = keyRing.signingKey();
+
+        assertThat(signingKey.id()).isEqualTo("k1");
+        assertThat(signingKey.key().getEncoded()).isEqualTo(firstKey.getEncoded());
+    }
+
+    /**
+     * Test case for the {@link JwtKeyRing#signingKey()} method before and after the next key is activated.
+     */
+    @Test
+    void signingKeyRotationTest() {
+        when(clock.instant()).thenReturn(NOW);
+        JwtKeyRing keyRing = new JwtKeyRing(rotatingKeys(), "", GRACE_PERIOD, clock);
+
+        assertThat(keyRing.signingKey().id()).isEqualTo("k1");
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(60));
+
+        assertThat(keyRing.signingKey().id()).isEqualTo("k2");
+    }
+
+    /**
+     * Test case for the {@link JwtKeyRing#signingKey()} method when no key is configured.
+     */
+    @Test
+    void signingKeyGeneratedTest() {
+        JwtKeyRing keyRing = new JwtKeyRing("", "", GRACE_PERIOD, clock);
+        when(clock.instant()).thenReturn(NOW);
+
+        assertThat(keyRing.signingKey().id()).startsWith("generated-");
+    }
+
+    /**
+     * Test case for the {@link JwtKeyRing#isAccepted(String)} method during the rotation to the next key.
+     */
+    @Test
+    void isAcceptedRotationTest() {
+        when(clock.instant()).thenReturn(NOW);
+        JwtKeyRing keyRing = new JwtKeyRing(rotatingKeys(), "", GRACE_PERIOD, clock);
+
+        assertThat(keyRing.isAccepted("k1")).isTrue();
+        assertThat(keyRing.isAccepted("k2")).isTrue();
+        assertThat(keyRing.isAccepted("k3")).isFalse();
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(60).plus(GRACE_PERIOD));
+
+        assertThat(keyRing.isAccepted("k1")).isFalse();
+        assertThat(keyRing.isAccepted("k2")).isTrue();
+    }
+
+    /**
+     * Test case for the {@link JwtKeyRing#locate} method when tokens signed by another node with the same keys are
+     * verified.
+     */
+    @Test
+    void locateTest() {
+        when(clock.instant()).thenReturn(NOW);
+        JwtKeyRing signingNode = new JwtKeyRing(rotatingKeys(), "", GRACE_PERIOD, clock);
+        JwtKeyRing verifyingNode = new JwtKeyRing(rotatingKeys(), "", GRACE_PERIOD, clock);
+
+        String token = token(signingNode.signingKey(), signingNode.signingKey().id());
+
+        assertThat(Jwts.parser().keyLocator(verifyingNode).build().parseSignedClaims(token).getPayload().getSubject())
+                .isEqualTo("test@example.com");
+    }
+
+    /**
+     * Test case for the {@link JwtKeyRing#locate} method when the token has no key ID or an unknown key ID.
+     */
+    @Test
+    void locateUnknownKeyTest() {
+        JwtKeyRing keyRing = new JwtKeyRing("k1:" + encode(firstKey), "", GRACE_PERIOD, clock);
+        JwtKeyRing.SigningKey signingKey = new JwtKeyRing.SigningKey("k1", firstKey);
+
+        assertThatThrownBy(() -> Jwts.parser().keyLocator(keyRing).build().parseSignedClaims(token(signingKey, "k2")))
+                .isInstanceOf(InvalidKeyException.class);
+        assertThatThrownBy(() -> Jwts.parser().keyLocator(keyRing).build().parseSignedClaims(token(signingKey, null)))
+                .isInstanceOf(InvalidKeyException.class);
+    }
+
+    /**
+     * Test case for the {@link JwtKeyRing} constructor when a key is invalid.
+     */
+    @Test
+    void invalidKeysTest() {
+        String shortSecret = Base64.getEncoder().encodeToString(new byte[16]);
+
+        assertThatThrownBy(() -> new JwtKeyRing("k1", "", GRACE_PERIOD, clock))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new JwtKeyRing("k1:" + shortSecret, "", GRACE_PERIOD, clock))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new JwtKeyRing("k1:" + encode(firstKey) + ":tomorrow", "", GRACE_PERIOD, clock))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new JwtKeyRing("k1:" + encode(firstKey) + ",k1:" + encode(secondKey), "",
+                GRACE_PERIOD, clock))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Test case for the {@link JwtKeyRing#reload()} method when a key is added to the keys file.
+     */
+    @Test
+    void reloadTest() throws IOException {
+        Path keysFile = Files.writeString(directory.resolve("jwt-keys"),
+                "# signing keys\nk1:" + encode(firstKey) + "\n");
+        JwtKeyRing keyRing = new JwtKeyRing("", keysFile.toString(), GRACE_PERIOD, clock);
+        when(clock.instant()).thenReturn(NOW);
+        assertThat(keyRing.isAccepted("k2")).isFalse();
+
+        Files.writeString(keysFile, rotatingKeys().replace(',', '\n'));
+        keyRing.reload();
+
+        assertThat(keyRing.isAccepted("k2")).isTrue();
+    }
+
+    /**
+     * Test case for the {@link JwtKeyRing#reload()} method when the keys file has become invalid.
+     */
+    @Test
+    void reloadInvalidTest() throws IOException {
+        Path keysFile = Files.writeString(directory.resolve("jwt-keys"), "k1:" + encode(firstKey));
+        JwtKeyRing keyRing = new JwtKeyRing("", keysFile.toString(), GRACE_PERIOD, clock);
+        when(clock.instant()).thenReturn(NOW);
+
+        Files.writeString(keysFile, "k1:invalid");
+        keyRing.reload();
+
+        assertThat(keyRing.isAccepted("k1")).isTrue();
+    }
+
+    /**
+     * Test case for the {@link JwtKeyRing#bindTo} method.
+     */
+    @Test
+    void bindToTest() {
+        when(clock.instant()).thenReturn(NOW);
+        JwtKeyRing keyRing = new JwtKeyRing(rotatingKeys(), "", GRACE_PERIOD, clock);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        keyRing.bindTo(registry);
+
+        assertThatThrownBy(() -> Jwts.parser().keyLocator(keyRing).build()
+                .parseSignedClaims(token(new JwtKeyRing.SigningKey("k3", firstKey), "k3")))
+                .isInstanceOf(InvalidKeyException.class);
+
+        assertThat(registry.get("jwt.keys").gauge().value()).isEqualTo(2);
+        assertThat(registry.get("jwt.keys.rejected").functionCounter().count()).isEqualTo(1);
+    }
+
+    private String rotatingKeys() {
+        return "k1:" + encode(firstKey) + ",k2:" + encode(secondKey) + ":" + NOW.plusSeconds(60);
+    }
+
+    private static String encode(SecretKey key) {
+        return Base64.getEncoder().encodeToString(key.getEncoded());
+    }
+
+    private static String token(JwtKeyRing.SigningKey signingKey, String keyId) {
+        return Jwts.builder()
+                .header().keyId(keyId).and()
+                .subject("test@example.com")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(signingKey.key())
+                .compact();
+    }
+}
@@ -1,20 +1,23 @@
 package com.linkurlshorter.urlshortener.jwt;
 
-import com.linkurlshorter.urlshortener.security.CustomUserDetailsService;
+import com.linkurlshorter.urlshortener.user.model.UserRole;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -25,28 +28,32 @@ class JwtRequestFilterTest {
     @Mock
     private JwtUtil jwtUtil;
 
-    @Mock
-    private CustomUserDetailsService customUserDetailsService;
-
     @InjectMocks
     private JwtRequestFilter jwtRequestFilter;
 
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
     @Test
     void doFilterInternal_ValidToken_ShouldAuthenticateUser() throws Exception {
         HttpServletRequest request = mock(HttpServletRequest.class);
         HttpServletResponse response = mock(HttpServletResponse.class);
         FilterChain filterChain = mock(FilterChain.class);
         String token = "Bearer valid_token";
-        String email = "test@example.com";
-        UserDetails userDetails = User.withUsername(email).password("Password1").roles("USER").build();
+        JwtPrincipal principal = new JwtPrincipal(UUID.fromString("84991c79-f6a9-4b7b-b1b4-0d66c0b92c81"),
+                "test@example.com", UserRole.USER);
 
         when(request.getHeader("Authorization")).thenReturn(token);
-        when(jwtUtil.getEmailFromToken(token.substring(7))).thenReturn(email);
-        when(customUserDetailsService.loadUserByUsername(email)).thenReturn(userDetails);
+        when(jwtUtil.getPrincipalFromToken(token.substring(7))).thenReturn(principal);
 
         jwtRequestFilter.doFilterInternal(request, response, filterChain);
 
-        verify(customUserDetailsService, times(1)).loadUserByUsername(email);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication.getPrincipal()).isEqualTo(principal);
+        assertThat(authentication.getName()).isEqualTo("test@example.com");
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("USER");
         verify(filterChain, times(1)).doFilter(any(), any());
     }
 
@@ -58,11 +65,11 @@ class JwtRequestFilterTest {
         String token = "Bearer invalid_token";
 
         when(request.getHeader("Authorization")).thenReturn(token);
-        when(jwtUtil.getEmailFromToken(token.substring(7))).thenReturn(null);
+        when(jwtUtil.getPrincipalFromToken(token.substring(7))).thenReturn(null);
 
         jwtRequestFilter.doFilterInternal(request, response, filterChain);
 
-        verify(customUserDetailsService, never()).loadUserByUsername(any());
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
         verify(filterChain, times(1)).doFilter(any(), any());
     }
 }
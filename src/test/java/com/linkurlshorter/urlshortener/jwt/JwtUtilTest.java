@@ -1,19 +1,45 @@
 package com.linkurlshorter.urlshortener.jwt;
 
+import com.linkurlshorter.urlshortener.security.SecurityUserDetails;
+import com.linkurlshorter.urlshortener.user.model.User;
+import com.linkurlshorter.urlshortener.user.model.UserRole;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.InvalidKeyException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 class JwtUtilTest {
+    private static final UUID USER_ID = UUID.fromString("84991c79-f6a9-4b7b-b1b4-0d66c0b92c81");
+
+    private TokenRevocationList revocationList;
     private JwtUtil jwtUtil;
     private Authentication authentication;
 
     @BeforeEach
     void setUp() {
-        jwtUtil = new JwtUtil();
+        revocationList = mock(TokenRevocationList.class);
+        jwtUtil = new JwtUtil(new JwtKeyRing("", "", Duration.ofMinutes(35)), revocationList, 100);
         authentication = new UsernamePasswordAuthenticationToken("test@example.com", null);
     }
 
@@ -23,6 +49,42 @@ class JwtUtilTest {
         assertThat(token).isNotNull();
     }
 
+    @Test
+    void generateTokenIssuedAtTest() {
+        Instant issuedAt = Instant.now().plusSeconds(1).truncatedTo(ChronoUnit.SECONDS);
+        JwtPrincipal principal = new JwtPrincipal(USER_ID, "test@example.com", UserRole.USER);
+        String token = jwtUtil.generateToken(UsernamePasswordAuthenticationToken.authenticated(
+                principal, null, principal.getAuthorities()), issuedAt);
+
+        assertThat(jwtUtil.getPrincipalFromToken(token)).isEqualTo(principal);
+        verify(revocationList).isRevoked(eq(USER_ID), anyString(), eq(Date.from(issuedAt)));
+    }
+
+    @Test
+    void generateTokenAfterRevocationTest() {
+        Instant watermark = Instant.now().plusSeconds(1).truncatedTo(ChronoUnit.SECONDS);
+        when(revocationList.watermark(USER_ID)).thenReturn(Optional.of(watermark));
+        JwtPrincipal principal = new JwtPrincipal(USER_ID, "test@example.com", UserRole.USER);
+        String token = jwtUtil.generateToken(UsernamePasswordAuthenticationToken.authenticated(
+                principal, null, principal.getAuthorities()));
+
+        assertThat(jwtUtil.getPrincipalFromToken(token)).isEqualTo(principal);
+        verify(revocationList).isRevoked(eq(USER_ID), anyString(), eq(Date.from(watermark)));
+    }
+
+    @Test
+    void generateTokenAfterPastRevocationTest() {
+        Instant before = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        when(revocationList.watermark(USER_ID)).thenReturn(Optional.of(before.minusSeconds(60)));
+        JwtPrincipal principal = new JwtPrincipal(USER_ID, "test@example.com", UserRole.USER);
+        String token = jwtUtil.generateToken(UsernamePasswordAuthenticationToken.authenticated(
+                principal, null, principal.getAuthorities()));
+
+        assertThat(jwtUtil.getPrincipalFromToken(token)).isEqualTo(principal);
+        verify(revocationList).isRevoked(eq(USER_ID), anyString(),
+                argThat(issuedAt -> !issuedAt.toInstant().isBefore(before)));
+    }
+
     @Test
     void getEmailFromTokenTest() {
         String email = authentication.getName();
@@ -31,4 +93,71 @@ class JwtUtilTest {
         String extractedEmail = jwtUtil.getEmailFromToken(token);
         assertThat(extractedEmail).isNotNull().isEqualTo(email);
     }
+
+    @Test
+    void getPrincipalFromTokenTest() {
+        User user = User.builder()
+                .id(USER_ID)
+                .email("test@example.com")
+                .password("Password1")
+                .role(UserRole.ADMIN)
+                .build();
+        SecurityUserDetails userDetails = new SecurityUserDetails(user);
+        String token = jwtUtil.generateToken(new UsernamePasswordAuthenticationToken(
+                userDetails, null, userDetails.getAuthorities()));
+
+        JwtPrincipal principal = jwtUtil.getPrincipalFromToken(token);
+        assertThat(principal).isEqualTo(new JwtPrincipal(user.getId(), "test@example.com", UserRole.ADMIN));
+    }
+
+    @Test
+    void getPrincipalFromTokenWithoutUserClaimsTest() {
+        String token = jwtUtil.generateToken(authentication);
+
+        assertThat(jwtUtil.getPrincipalFromToken(token)).isNull();
+    }
+
+    @Test
+    void getEmailFromTokenOtherNodeTest() {
+        String keys = "k1:" + Base64.getEncoder().encodeToString(Jwts.SIG.HS256.key().build().getEncoded());
+        JwtUtil issuingNode = new JwtUtil(new JwtKeyRing(keys, "", Duration.ofMinutes(35)),
+                mock(TokenRevocationList.class), 100);
+        JwtUtil verifyingNode = new JwtUtil(new JwtKeyRing(keys, "", Duration.ofMinutes(35)),
+                mock(TokenRevocationList.class), 100);
+
+        String token = issuingNode.generateToken(authentication);
+
+        assertThat(verifyingNode.getEmailFromToken(token)).isEqualTo("test@example.com");
+        assertThatThrownBy(() -> jwtUtil.getEmailFromToken(token)).isInstanceOf(InvalidKeyException.class);
+    }
+
+    @Test
+    void getPrincipalFromRevokedTokenTest() {
+        String token = generateUserToken();
+        when(revocationList.isRevoked(eq(USER_ID), anyString(), any(Date.class))).thenReturn(true);
+
+        assertThat(jwtUtil.getPrincipalFromToken(token)).isNull();
+    }
+
+    @Test
+    void revokeTokenTest() {
+        String token = generateUserToken();
+
+        jwtUtil.revokeToken(token);
+
+        verify(revocationList).revokeToken(anyString());
+    }
+
+    @Test
+    void revokeInvalidTokenTest() {
+        jwtUtil.revokeToken("invalid.token.value");
+
+        verifyNoInteractions(revocationList);
+    }
+
+    private String generateUserToken() {
+        JwtPrincipal principal = new JwtPrincipal(USER_ID, "test@example.com", UserRole.USER);
+        return jwtUtil.generateToken(UsernamePasswordAuthenticationToken.authenticated(
+                principal, null, principal.getAuthorities()));
+    }
 }
@@ -0,0 +1,166 @@
+package com.linkurlshorter.urlshortener.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.InvalidKeyException;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link JwtVerifier} class.
+ */
+class JwtVerifierTest {
+    private static final Instant NOW = Instant.parse("2026-10-01T10:00:00Z");
+
+    private SecretKey key;
+    private JwtVerifier jwtVerifier;
+
+    /**
+     * Set up method to initialize the verifier before each test method.
+     */
+    @BeforeEach
+    void setUp() {
+        key = Jwts.SIG.HS256.key().build();
+        jwtVerifier = new JwtVerifier(
+                new JwtKeyRing("k1:" + encode(key), "", Duration.ofMinutes(30), Clock.systemUTC()), 100);
+    }
+
+    /**
+     * Test case for the {@link JwtVerifier#verify(String)} method.
+     */
+    @Test
+    void verifyTest() {
+        String token = token(key, 60_000);
+
+        Claims claims = jwtVerifier.verify(token);
+
+        assertThat(claims.getSubject()).isEqualTo("test@example.com");
+    }
+
+    /**
+     * Test case for the {@link JwtVerifier#verify(String)} method when the token is verified twice.
+     */
+    @Test
+    void verifyCachedTest() {
+        String token = token(key, 60_000);
+
+        Claims claims = jwtVerifier.verify(token);
+
+        assertThat(jwtVerifier.verify(token)).isSameAs(claims);
+        assertThat(jwtVerifier.hitRatio()).isEqualTo(0.5);
+    }
+
+    /**
+     * Test case for the {@link JwtVerifier#verify(String)} method when the token is signed with another key.
+     */
+    @Test
+    void verifyInvalidSignatureTest() {
+        String token = token(Jwts.SIG.HS256.key().build(), 60_000);
+
+        assertThatThrownBy(() -> jwtVerifier.verify(token)).isInstanceOf(SignatureException.class);
+        assertThatThrownBy(() -> jwtVerifier.verify(token)).isInstanceOf(SignatureException.class);
+    }
+
+    /**
+     * Test case for the {@link JwtVerifier#verify(String)} method when the token is signed with an unknown key.
+     */
+    @Test
+    void verifyUnknownKeyTest() {
+        String token = token(key, "k2", 60_000);
+
+        assertThatThrownBy(() -> jwtVerifier.verify(token)).isInstanceOf(InvalidKeyException.class);
+    }
+
+    /**
+     * Test case for the {@link JwtVerifier#verify(String)} method when the token has been verified before its key
+     * was retired.
+     */
+    @Test
+    void verifyRetiredKeyTest() {
+        Clock clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW);
+        String keys = "k1:" + encode(key) + ",k2:" + encode(Jwts.SIG.HS256.key().build()) + ":" + NOW.plusSeconds(60);
+        JwtKeyRing keyRing = new JwtKeyRing(keys, "", Duration.ofMinutes(30), clock);
+        jwtVerifier = new JwtVerifier(keyRing, 100);
+        String token = token(key, 60 * 60_000);
+        jwtVerifier.verify(token);
+
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(32)));
+
+        assertThatThrownBy(() -> jwtVerifier.verify(token)).isInstanceOf(InvalidKeyException.class);
+    }
+
+    /**
+     * Test case for the {@link JwtVerifier#verify(String)} method when the token has expired.
+     */
+    @Test
+    void verifyExpiredTest() {
+        String token = token(key, -1_000);
+
+        assertThatThrownBy(() -> jwtVerifier.verify(token)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    /**
+     * Test case for the {@link JwtVerifier#verify(String)} method when the token expires right after it has been
+     * verified.
+     */
+    @Test
+    void verifyExpiringTest() throws InterruptedException {
+        String token = token(key, 1_500);
+        jwtVerifier.verify(token);
+
+        Thread.sleep(1_600);
+
+        assertThatThrownBy(() -> jwtVerifier.verify(token)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    /**
+     * Test case for the {@link JwtVerifier#bindTo} method.
+     */
+    @Test
+    void bindToTest() {
+        String token = token(key, 60_000);
+        jwtVerifier.verify(token);
+        jwtVerifier.verify(token);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        jwtVerifier.bindTo(registry);
+
+        assertThat(registry.get("jwt.verification").functionTimer().count()).isEqualTo(1);
+        assertThat(registry.get("cache.gets").tag("cache", "jwt-verified-tokens").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    private static String encode(SecretKey secretKey) {
+        return Base64.getEncoder().encodeToString(secretKey.getEncoded());
+    }
+
+    private static String token(SecretKey signingKey, long expiresInMillis) {
+        return token(signingKey, "k1", expiresInMillis);
+    }
+
+    private static String token(SecretKey signingKey, String keyId, long expiresInMillis) {
+        return Jwts.builder()
+                .header().keyId(keyId).and()
+                .subject("test@example.com")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + expiresInMillis))
+                .signWith(signingKey)
+                .compact();
+    }
+}
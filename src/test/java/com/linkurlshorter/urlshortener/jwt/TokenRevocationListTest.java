@@ -0,0 +1,201 @@
+package com.linkurlshorter.urlshortener.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.resps.ScanResult;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link TokenRevocationList} class.
+ */
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationListTest {
+    private static final UUID USER_ID = UUID.fromString("84991c79-f6a9-4b7b-b1b4-0d66c0b92c81");
+    private static final UUID OTHER_USER_ID = UUID.fromString("a1f6b0f4-0c47-4d3e-9a4e-2a6f1d1b9c55");
+    private static final long RETENTION_SECONDS = Duration.ofMinutes(35).toSeconds();
+
+    @Mock
+    private JedisPool jedisPool;
+
+    @Mock
+    private Jedis jedis;
+
+    @Mock
+    private Pipeline pipeline;
+
+    private TokenRevocationList revocationList;
+    private SimpleMeterRegistry registry;
+
+    /**
+     * Set up method to initialize test data before each test method.
+     */
+    @BeforeEach
+    void setUp() {
+        revocationList = new TokenRevocationList(jedisPool, Duration.ofMinutes(35));
+        registry = new SimpleMeterRegistry();
+        revocationList.bindTo(registry);
+    }
+
+    /**
+     * Test case for the {@link TokenRevocationList#revokeUser(UUID)} method.
+     */
+    @Test
+    void revokeUserTest() {
+        when(jedisPool.getResource()).thenReturn(jedis);
+        when(jedis.pipelined()).thenReturn(pipeline);
+
+        Date before = new Date();
+
+        Instant issuedAt = revocationList.revokeUser(USER_ID);
+
+        verify(pipeline).setex(TokenRevocationList.USER_KEY_PREFIX + USER_ID, RETENTION_SECONDS,
+                String.valueOf(issuedAt.getEpochSecond()));
+        verify(pipeline).publish(eq(TokenRevocationList.CHANNEL), startsWith("user " + USER_ID + " "));
+        verify(pipeline).sync();
+        assertThat(issuedAt).isAfter(before.toInstant()).isEqualTo(issuedAt.truncatedTo(ChronoUnit.SECONDS));
+        assertThat(revocationList.isRevoked(USER_ID, "jti", secondsAgo(10))).isTrue();
+        assertThat(revocationList.isRevoked(USER_ID, "jti", before)).isTrue();
+        assertThat(revocationList.isRevoked(USER_ID, "jti", Date.from(issuedAt))).isFalse();
+        assertThat(revocationList.isRevoked(OTHER_USER_ID, "jti", secondsAgo(10))).isFalse();
+        assertThat(registry.get("jwt.revocation.revoked").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("jwt.revocation.rejected").functionCounter().count()).isEqualTo(2);
+    }
+
+    /**
+     * Test case for the {@link TokenRevocationList#watermark(UUID)} method.
+     */
+    @Test
+    void watermarkTest() {
+        when(jedisPool.getResource()).thenReturn(jedis);
+        when(jedis.pipelined()).thenReturn(pipeline);
+
+        Instant issuedAt = revocationList.revokeUser(USER_ID);
+
+        assertThat(revocationList.watermark(USER_ID)).contains(issuedAt);
+        assertThat(revocationList.watermark(OTHER_USER_ID)).isEmpty();
+    }
+
+    /**
+     * Test case for the {@link TokenRevocationList#revokeToken(String)} method.
+     */
+    @Test
+    void revokeTokenTest() {
+        when(jedisPool.getResource()).thenReturn(jedis);
+        when(jedis.pipelined()).thenReturn(pipeline);
+
+        revocationList.revokeToken("jti-1");
+
+        verify(pipeline).setex(TokenRevocationList.TOKEN_KEY_PREFIX + "jti-1", RETENTION_SECONDS, "1");
+        verify(pipeline).publish(eq(TokenRevocationList.CHANNEL), startsWith("token jti-1 "));
+        assertThat(revocationList.isRevoked(USER_ID, "jti-1", new Date())).isTrue();
+        assertThat(revocationList.isRevoked(USER_ID, "jti-2", new Date())).isFalse();
+    }
+
+    /**
+     * Test case for the {@link TokenRevocationList#isRevoked(UUID, String, Date)} method when nothing has been
+     * revoked.
+     */
+    @Test
+    void isRevokedWithoutRevocationsTest() {
+        assertThat(revocationList.isRevoked(USER_ID, "jti", secondsAgo(10))).isFalse();
+        assertThat(revocationList.isRevoked(USER_ID, null, null)).isFalse();
+    }
+
+    /**
+     * Test case for the {@link TokenRevocationList#onMessage(String)} method receiving the revocation of a user
+     * published by another node.
+     */
+    @Test
+    void onMessageUserTest() {
+        long watermark = System.currentTimeMillis() / 1000;
+
+        revocationList.onMessage("user " + USER_ID + " " + watermark + " " + (System.currentTimeMillis() - 50));
+
+        assertThat(revocationList.isRevoked(USER_ID, "jti", secondsAgo(10))).isTrue();
+        assertThat(revocationList.isRevoked(USER_ID, null, null)).isTrue();
+        assertThat(registry.get("jwt.revocation.propagation").timer().count()).isEqualTo(1);
+    }
+
+    /**
+     * Test case for the {@link TokenRevocationList#onMessage(String)} method keeping the latest watermark of a user.
+     */
+    @Test
+    void onMessageOlderWatermarkTest() {
+        long watermark = System.currentTimeMillis() / 1000;
+        revocationList.onMessage("user " + USER_ID + " " + watermark + " " + System.currentTimeMillis());
+
+        revocationList.onMessage("user " + USER_ID + " " + (watermark - 60) + " " + System.currentTimeMillis());
+
+        assertThat(revocationList.isRevoked(USER_ID, "jti", secondsAgo(10))).isTrue();
+    }
+
+    /**
+     * Test case for the {@link TokenRevocationList#onMessage(String)} method receiving the revocation of a token
+     * published by another node.
+     */
+    @Test
+    void onMessageTokenTest() {
+        revocationList.onMessage("token jti-1 " + System.currentTimeMillis());
+
+        assertThat(revocationList.isRevoked(USER_ID, "jti-1", new Date())).isTrue();
+        assertThat(registry.get("jwt.revocation.propagation").timer().count()).isEqualTo(1);
+    }
+
+    /**
+     * Test case for the {@link TokenRevocationList#onMessage(String)} method receiving a malformed message.
+     */
+    @Test
+    void onMessageMalformedTest() {
+        revocationList.onMessage("user not-a-uuid 1 2");
+        revocationList.onMessage("unknown");
+
+        assertThat(revocationList.isRevoked(USER_ID, "jti", secondsAgo(10))).isFalse();
+        assertThat(registry.get("jwt.revocation.propagation").timer().count()).isZero();
+    }
+
+    /**
+     * Test case for the {@link TokenRevocationList#reload()} method.
+     */
+    @Test
+    void reloadTest() {
+        long watermark = System.currentTimeMillis() / 1000;
+        when(jedisPool.getResource()).thenReturn(jedis);
+        when(jedis.scan(eq(ScanParams.SCAN_POINTER_START), any(ScanParams.class)))
+                .thenReturn(new ScanResult<>(ScanParams.SCAN_POINTER_START,
+                        List.of(TokenRevocationList.USER_KEY_PREFIX + USER_ID)))
+                .thenReturn(new ScanResult<>(ScanParams.SCAN_POINTER_START,
+                        List.of(TokenRevocationList.TOKEN_KEY_PREFIX + "jti-1")));
+        when(jedis.mget(TokenRevocationList.USER_KEY_PREFIX + USER_ID)).thenReturn(List.of(String.valueOf(watermark)));
+
+        revocationList.reload();
+
+        assertThat(revocationList.isRevoked(USER_ID, "jti", secondsAgo(10))).isTrue();
+        assertThat(revocationList.isRevoked(OTHER_USER_ID, "jti-1", new Date())).isTrue();
+        assertThat(revocationList.isRevoked(OTHER_USER_ID, "jti-2", new Date())).isFalse();
+    }
+
+    private static Date secondsAgo(long seconds) {
+        return new Date(System.currentTimeMillis() - seconds * 1000);
+    }
+}
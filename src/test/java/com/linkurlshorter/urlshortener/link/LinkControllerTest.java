@@ -2,9 +2,18 @@ package com.linkurlshorter.urlshortener.link;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.linkurlshorter.urlshortener.TestConfig;
+import com.linkurlshorter.urlshortener.jwt.JwtPrincipal;
+import com.linkurlshorter.urlshortener.link.batch.LinkBatchService;
+import com.linkurlshorter.urlshortener.link.dto.BatchLinkResultDto;
 import com.linkurlshorter.urlshortener.link.dto.LinkStatisticsDto;
+import com.linkurlshorter.urlshortener.link.exception.InternalServerLinkException;
+import com.linkurlshorter.urlshortener.link.exception.LinkBatchRejectedException;
+import com.linkurlshorter.urlshortener.link.generator.ShortCodeSource;
+import com.linkurlshorter.urlshortener.link.liveness.UrlLivenessChecker;
 import com.linkurlshorter.urlshortener.link.model.Link;
 import com.linkurlshorter.urlshortener.link.model.LinkStatus;
+import com.linkurlshorter.urlshortener.link.request.BatchCreateLinkRequest;
+import com.linkurlshorter.urlshortener.link.request.BatchLinkItem;
 import com.linkurlshorter.urlshortener.link.request.CreateLinkRequest;
 import com.linkurlshorter.urlshortener.link.request.EditLinkContentRequest;
 import com.linkurlshorter.urlshortener.security.SecurityConfig;
@@ -18,6 +27,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
@@ -25,11 +35,20 @@ import org.springframework.test.web.servlet.ResultActions;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -56,6 +75,15 @@ class LinkControllerTest {
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private ShortCodeSource shortCodeSource;
+
+    @MockBean
+    private LinkBatchService linkBatchService;
+
+    @MockBean
+    private UrlLivenessChecker urlLivenessChecker;
+
 
     private User user;
     private Link link;
@@ -93,7 +121,7 @@ class LinkControllerTest {
         when(userService.findByEmail(any())).thenReturn(user);
         when(linkService.save(any())).thenReturn(link);
 
-        CreateLinkRequest request = new CreateLinkRequest("https://www.example.com", "example");
+        CreateLinkRequest request = new CreateLinkRequest("https://www.example.com", "example1");
 
         ResultActions resultActions = mockMvc.perform(post("/api/V1/link/create")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -101,7 +129,63 @@ class LinkControllerTest {
 
         resultActions.andExpect(status().isOk())
                 .andExpect(jsonPath("$.error").value("ok"))
-                .andExpect(jsonPath("$.shortLink").value("example"));
+                .andExpect(jsonPath("$.shortLink").value("example1"));
+        verify(urlLivenessChecker).whenDead(eq("https://www.example.com"), any());
+        verify(shortCodeSource, never()).markUsed(anyCollection());
+    }
+
+    /**
+     * Test case for the {@link LinkController#createLink(CreateLinkRequest)} method when the short link is reserved
+     * for generated short links.
+     */
+    @Test
+    @WithMockUser
+    void createLinkReservedShortLinkTest() throws Exception {
+        CreateLinkRequest request = new CreateLinkRequest("https://www.example.com", "abc1234");
+
+        ResultActions resultActions = mockMvc.perform(post("/api/V1/link/create")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+
+        resultActions.andExpect(status().isBadRequest());
+        verify(linkService, never()).save(any());
+    }
+
+    /**
+     * Test case for the {@link LinkController#createLink(CreateLinkRequest)} method when the short link is a code
+     * reserved by the pool of generated short links.
+     */
+    @Test
+    @WithMockUser
+    void createLinkReservedCodeTest() throws Exception {
+        when(shortCodeSource.findReserved(List.of("qK8fW2xZ"))).thenReturn(Set.of("qK8fW2xZ"));
+
+        CreateLinkRequest request = new CreateLinkRequest("https://www.example.com", "qK8fW2xZ");
+
+        ResultActions resultActions = mockMvc.perform(post("/api/V1/link/create")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+
+        resultActions.andExpect(status().isBadRequest());
+        verify(linkService, never()).save(any());
+    }
+
+    /**
+     * Test case for the {@link LinkController#createLink(CreateLinkRequest)} method when the long link is dead.
+     */
+    @Test
+    @WithMockUser
+    void createLinkDeadLongLinkTest() throws Exception {
+        when(urlLivenessChecker.isDead("https://www.example.com")).thenReturn(true);
+
+        CreateLinkRequest request = new CreateLinkRequest("https://www.example.com", "example1");
+
+        ResultActions resultActions = mockMvc.perform(post("/api/V1/link/create")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+
+        resultActions.andExpect(status().isBadRequest());
+        verify(linkService, never()).save(any());
     }
 
     /**
@@ -111,6 +195,7 @@ class LinkControllerTest {
     @WithMockUser
     void createLinkNotProvidedShortLinkTest() throws Exception {
         when(userService.findByEmail(any())).thenReturn(user);
+        when(shortCodeSource.next()).thenReturn("qK8fW2xZ");
         when(linkService.save(any())).thenReturn(link);
 
         CreateLinkRequest request = new CreateLinkRequest("https://www.example.com", null);
@@ -121,7 +206,54 @@ class LinkControllerTest {
 
         resultActions.andExpect(status().isOk())
                 .andExpect(jsonPath("$.error").value("ok"))
-                .andExpect(jsonPath("$.shortLink").exists());
+                .andExpect(jsonPath("$.shortLink").value("qK8fW2xZ"));
+        verify(linkService, never()).doesLinkExist(any());
+        verify(shortCodeSource).markUsed(List.of("qK8fW2xZ"));
+    }
+
+    /**
+     * Test case for the {@link LinkController#createLink(CreateLinkRequest)} method when deduplication is
+     * requested and the user already has an active link to the long link.
+     */
+    @Test
+    @WithMockUser
+    void createLinkDeduplicatedTest() throws Exception {
+        when(userService.findByEmail(any())).thenReturn(user);
+        when(linkService.findActiveShortLink(user.getId(), "https://www.example.com"))
+                .thenReturn(Optional.of("shortLink1"));
+
+        CreateLinkRequest request = new CreateLinkRequest("https://www.example.com", null, true);
+
+        ResultActions resultActions = mockMvc.perform(post("/api/V1/link/create")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.error").value("ok"))
+                .andExpect(jsonPath("$.shortLink").value("shortLink1"));
+        verify(linkService, never()).save(any());
+    }
+
+    /**
+     * Test case for the {@link LinkController#createLink(CreateLinkRequest)} method when deduplication is
+     * requested and the user has no active link to the long link.
+     */
+    @Test
+    @WithMockUser
+    void createLinkDeduplicatedNotFoundTest() throws Exception {
+        when(userService.findByEmail(any())).thenReturn(user);
+        when(linkService.findActiveShortLink(user.getId(), "https://www.example.com")).thenReturn(Optional.empty());
+        when(shortCodeSource.next()).thenReturn("qK8fW2xZ");
+        when(linkService.save(any())).thenReturn(link);
+
+        CreateLinkRequest request = new CreateLinkRequest("https://www.example.com", null, true);
+
+        ResultActions resultActions = mockMvc.perform(post("/api/V1/link/create")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.shortLink").value("qK8fW2xZ"));
     }
 
     /**
@@ -131,7 +263,7 @@ class LinkControllerTest {
     @Test
     @WithMockUser
     void createLinkFailedTest() throws Exception {
-        CreateLinkRequest request = new CreateLinkRequest("https://www.example.com", "example");
+        CreateLinkRequest request = new CreateLinkRequest("https://www.example.com", "example1");
 
         when(userService.findByEmail(any())).thenReturn(user);
         when(linkService.save(any())).thenThrow(new RuntimeException("Short link already exists"));
@@ -151,7 +283,7 @@ class LinkControllerTest {
     @WithMockUser
     void createLinkInternalErrorTest() throws Exception {
         when(userService.findByEmail(any())).thenReturn(user);
-        when(linkService.doesLinkExist(any())).thenReturn(true);
+        when(shortCodeSource.next()).thenThrow(new InternalServerLinkException());
 
         CreateLinkRequest request = new CreateLinkRequest("https://www.example.com", null);
 
@@ -162,6 +294,67 @@ class LinkControllerTest {
         resultActions.andExpect(status().isInternalServerError());
     }
 
+    /**
+     * Test case for the {@link LinkController#createLinks(BatchCreateLinkRequest)} method.
+     */
+    @Test
+    @WithMockUser
+    void createLinksTest() throws Exception {
+        when(userService.findByEmail(any())).thenReturn(user);
+        when(linkBatchService.createAll(any(), anyList(), any())).thenReturn(List.of(
+                new BatchLinkResultDto("https://www.example.com", "qK8fW2xZ", "ok"),
+                new BatchLinkResultDto("not-a-url", null, "Not valid format url!")));
+
+        BatchCreateLinkRequest request = new BatchCreateLinkRequest(List.of(
+                new BatchLinkItem("https://www.example.com", null),
+                new BatchLinkItem("not-a-url", null)));
+
+        ResultActions resultActions = mockMvc.perform(post("/api/V1/link/create-batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.error").value("ok"))
+                .andExpect(jsonPath("$.links[0].shortLink").value("qK8fW2xZ"))
+                .andExpect(jsonPath("$.links[1].error").value("Not valid format url!"));
+    }
+
+    /**
+     * Test case for the {@link LinkController#createLinks(BatchCreateLinkRequest)} method without links.
+     */
+    @Test
+    @WithMockUser
+    void createLinksEmptyTest() throws Exception {
+        BatchCreateLinkRequest request = new BatchCreateLinkRequest(List.of());
+
+        ResultActions resultActions = mockMvc.perform(post("/api/V1/link/create-batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+
+        resultActions.andExpect(status().isBadRequest());
+        verify(linkBatchService, never()).createAll(any(), anyList(), any());
+    }
+
+    /**
+     * Test case for the {@link LinkController#createLinks(BatchCreateLinkRequest)} method when too many batches
+     * are being created.
+     */
+    @Test
+    @WithMockUser
+    void createLinksRejectedTest() throws Exception {
+        when(userService.findByEmail(any())).thenReturn(user);
+        when(linkBatchService.createAll(any(), anyList(), any())).thenThrow(new LinkBatchRejectedException());
+
+        BatchCreateLinkRequest request = new BatchCreateLinkRequest(List.of(
+                new BatchLinkItem("https://www.example.com", null)));
+
+        ResultActions resultActions = mockMvc.perform(post("/api/V1/link/create-batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+
+        resultActions.andExpect(status().isTooManyRequests());
+    }
+
     /**
      * Test case for the {@link LinkController#deleteLink(String)} method.
      */
@@ -222,6 +415,8 @@ class LinkControllerTest {
 
         resultActions.andExpect(status().isOk())
                 .andExpect(jsonPath("$.error").value("ok"));
+        verify(linkService, times(1)).findByShortLink(link.getShortLink());
+        verify(userService, times(1)).findByEmail(any());
     }
 
     /**
@@ -402,6 +597,25 @@ class LinkControllerTest {
                 .andExpect(jsonPath("$.linkDtoList.length()").value(userLinks.size()));
     }
 
+    /**
+     * Test case for the {@link LinkController#getAllLinksForUser()} method when the user is authenticated with a
+     * JWT token.
+     */
+    @Test
+    void getAllLinksForUserJwtPrincipalTest() throws Exception {
+        JwtPrincipal principal = new JwtPrincipal(user.getId(), user.getEmail(), user.getRole());
+        when(linkService.findAllByUserId(user.getId())).thenReturn(List.of(link));
+
+        ResultActions resultActions = mockMvc.perform(get("/api/V1/link/all-links-info")
+                .with(authentication(UsernamePasswordAuthenticationToken
+                        .authenticated(principal, null, principal.getAuthorities())))
+                .contentType(MediaType.APPLICATION_JSON));
+
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.linkDtoList.length()").value(1));
+        verify(userService, never()).findByEmail(any());
+    }
+
     /**
      * Test case for the {@link LinkController#getLinksStatsForUser()} method.
      */
@@ -2,6 +2,7 @@ package com.linkurlshorter.urlshortener.link;
 
 import com.linkurlshorter.urlshortener.link.model.Link;
 import com.linkurlshorter.urlshortener.link.model.LinkStatus;
+import com.linkurlshorter.urlshortener.link.model.LongLinkHash;
 import com.linkurlshorter.urlshortener.user.model.User;
 import com.linkurlshorter.urlshortener.user.model.UserRole;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,6 +11,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.PageRequest;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
@@ -106,4 +108,24 @@ class LinkRepositoryTest {
         linkRepository.deleteById(link.getId());
         assertThat(linkRepository.findById(link.getId())).isEmpty();
     }
-}
\ No newline at end of file
+
+    /**
+     * Test to verify the {@link LinkRepository#findActiveShortLinks} method.
+     * It ensures that the short link of an active link is found by the hash of its long link.
+     */
+    @Test
+    void thatFindActiveShortLinksWorksCorrectly() {
+        String longLink = "https://www.example.com/page";
+        linkRepository.save(Link.builder()
+                .longLink(longLink)
+                .shortLink("short-link-new")
+                .user(link.getUser())
+                .expirationTime(LocalDateTime.now().plusDays(30))
+                .build());
+
+        List<String> shortLinks = linkRepository.findActiveShortLinks(link.getUser().getId(),
+                LongLinkHash.of(longLink), longLink, LocalDateTime.now(), PageRequest.of(0, 1));
+
+        assertThat(shortLinks).containsExactly("short-link-new");
+    }
+}
@@ -1,7 +1,11 @@
 package com.linkurlshorter.urlshortener.link;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkurlshorter.urlshortener.link.cache.CachedLink;
+import com.linkurlshorter.urlshortener.link.cache.CachedLinkCodec;
+import com.linkurlshorter.urlshortener.link.cache.LinkCache;
+import com.linkurlshorter.urlshortener.link.cache.LinkLoadCoalescer;
+import com.linkurlshorter.urlshortener.link.cache.NegativeLinkCache;
+import com.linkurlshorter.urlshortener.link.cache.ShortLinkBloomFilter;
 import com.linkurlshorter.urlshortener.link.dto.LinkStatisticsDto;
 import com.linkurlshorter.urlshortener.link.exception.DeletedLinkException;
 import com.linkurlshorter.urlshortener.link.exception.InactiveLinkException;
@@ -9,18 +13,27 @@ import com.linkurlshorter.urlshortener.link.exception.NoLinkFoundByShortLinkExce
 import com.linkurlshorter.urlshortener.link.exception.NullLinkPropertyException;
 import com.linkurlshorter.urlshortener.link.model.Link;
 import com.linkurlshorter.urlshortener.link.model.LinkStatus;
+import com.linkurlshorter.urlshortener.link.model.LongLinkHash;
+import com.linkurlshorter.urlshortener.link.statistics.ClickAggregator;
 import com.linkurlshorter.urlshortener.user.model.User;
 import com.linkurlshorter.urlshortener.user.model.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.exceptions.JedisConnectionException;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -30,8 +43,11 @@ import java.util.UUID;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.anyString;
-import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -56,7 +72,19 @@ class LinkServiceTest {
     private Jedis jedis;
 
     @Mock
-    private ObjectMapper mapper;
+    private LinkCache linkCache;
+
+    @Mock
+    private ClickAggregator clickAggregator;
+
+    @Mock
+    private NegativeLinkCache negativeLinkCache;
+
+    @Mock
+    private ShortLinkBloomFilter shortLinkBloomFilter;
+
+    @Spy
+    private LinkLoadCoalescer linkLoadCoalescer = new LinkLoadCoalescer(Duration.ofSeconds(2));
 
     private Link link;
 
@@ -87,11 +115,46 @@ class LinkServiceTest {
      */
     @Test
     void saveSuccessfulTest() {
+        when(jedisPool.getResource()).thenReturn(jedis);
         when(linkRepository.save(any(Link.class))).thenReturn(link);
         Link savedLink = linkService.save(link);
 
         assertThat(savedLink).isNotNull().isEqualTo(link);
         verify(linkRepository, times(1)).save(link);
+        verify(jedis, times(1)).set(link.getShortLink().getBytes(StandardCharsets.UTF_8),
+                CachedLinkCodec.encode(CachedLink.of(link)));
+        verify(linkCache, times(1)).put(link.getShortLink(), CachedLink.of(link));
+        verify(shortLinkBloomFilter, times(1)).put(link.getShortLink());
+    }
+
+    /**
+     * Test case for the {@link LinkService#save(Link)} method when the link cannot be written through to Redis.
+     */
+    @Test
+    void saveRedisUnavailableTest() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        linkService.bindTo(registry);
+        when(linkRepository.save(any(Link.class))).thenReturn(link);
+        when(jedisPool.getResource()).thenThrow(new JedisConnectionException("Connection refused"));
+
+        Link savedLink = linkService.save(link);
+
+        assertThat(savedLink).isEqualTo(link);
+        verify(linkCache, times(1)).put(link.getShortLink(), CachedLink.of(link));
+        assertThat(registry.get("link.cache.write-through.failed").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    /**
+     * Test case for the {@link LinkService#save(Link)} method when the short link cannot be added to the Bloom
+     * filter.
+     */
+    @Test
+    void saveBloomFilterUnavailableTest() {
+        doThrow(new JedisConnectionException("Connection refused"))
+                .when(shortLinkBloomFilter).put(link.getShortLink());
+
+        assertThatThrownBy(() -> linkService.save(link)).isInstanceOf(JedisConnectionException.class);
+        verify(linkRepository, never()).save(any(Link.class));
     }
 
     /**
@@ -146,35 +209,136 @@ class LinkServiceTest {
         linkService.updateRedisShortLink(shortLink, newShortLink);
 
         verify(jedis, times(1)).rename(shortLink, newShortLink);
+        verify(shortLinkBloomFilter, times(1)).put(newShortLink);
+        verify(clickAggregator, times(1)).move(shortLink, newShortLink);
+    }
+
+    /**
+     * Test case for the {@link LinkService#updateRedisShortLink(String, String)} method when the short link
+     * is not cached in Redis.
+     */
+    @Test
+    void updateRedisShortLinkNotCachedTest() {
+        String shortLink = link.getShortLink();
+        String newShortLink = "short-link-2";
+
+        when(jedisPool.getResource()).thenReturn(jedis);
+        when(jedis.exists(anyString())).thenReturn(false);
+        linkService.updateRedisShortLink(shortLink, newShortLink);
+
+        verify(jedis, never()).rename(anyString(), anyString());
+        verify(jedis, times(1)).unlink(newShortLink);
     }
 
     /**
      * Test case for the {@link LinkService#updateRedisLink(String, Link)} method.
      */
     @Test
-    void updateRedisLinkTest() throws JsonProcessingException {
+    void updateRedisLinkTest() {
         String shortLink = link.getShortLink();
 
         when(jedisPool.getResource()).thenReturn(jedis);
-        when(jedis.exists(anyString())).thenReturn(true);
         linkService.updateRedisLink(shortLink, link);
 
-        verify(jedis, times(1)).set(shortLink, mapper.writeValueAsString(link));
+        verify(jedis, times(1)).set(shortLink.getBytes(StandardCharsets.UTF_8),
+                CachedLinkCodec.encode(CachedLink.of(link)));
+        verify(linkCache, times(1)).put(shortLink, CachedLink.of(link));
     }
 
     /**
      * Test case for the {@link LinkService#getLongLinkFromShortLink(String)} method.
      */
     @Test
-    void getLongLinkFromShortLinkTest() throws JsonProcessingException {
+    void getLongLinkFromShortLinkTest() {
+        link.setExpirationTime(LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.MILLIS));
         when(jedisPool.getResource()).thenReturn(jedis);
-        when(jedis.exists(anyString())).thenReturn(true);
-        when(jedis.get(anyString())).thenReturn("{}");
-        when(mapper.readValue(anyString(), eq(Link.class))).thenReturn(link);
+        when(jedis.get(any(byte[].class))).thenReturn(CachedLinkCodec.encode(CachedLink.of(link)));
+
+        String actualLongLink = linkService.getLongLinkFromShortLink(link.getShortLink());
+
+        assertThat(actualLongLink).isEqualTo(link.getLongLink());
+        verify(linkCache, times(1)).put(link.getShortLink(), CachedLink.of(link));
+        verify(clickAggregator, times(1)).record(link.getShortLink());
+    }
+
+    /**
+     * Test case for the {@link LinkService#getLongLinkFromShortLink(String)} method when the link
+     * is present in the in-process cache.
+     */
+    @Test
+    void getLongLinkFromShortLinkInProcessCacheTest() {
+        link.setExpirationTime(LocalDateTime.now().plusDays(1));
+        when(linkCache.get(link.getShortLink())).thenReturn(CachedLink.of(link));
 
         String actualLongLink = linkService.getLongLinkFromShortLink(link.getShortLink());
 
         assertThat(actualLongLink).isEqualTo(link.getLongLink());
+        verify(jedisPool, never()).getResource();
+        verify(clickAggregator, times(1)).record(link.getShortLink());
+    }
+
+    /**
+     * Test case for the {@link LinkService#getLongLinkFromShortLink(String)} method when the link
+     * is neither cached in Redis nor present in the database.
+     */
+    @Test
+    void getLongLinkFromShortLinkNotFoundTest() {
+        when(jedisPool.getResource()).thenReturn(jedis);
+        when(shortLinkBloomFilter.mightContain(jedis, link.getShortLink())).thenReturn(true);
+        when(linkRepository.findByShortLink(link.getShortLink())).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> linkService.getLongLinkFromShortLink(link.getShortLink()))
+                .isInstanceOf(NoLinkFoundByShortLinkException.class);
+        verify(negativeLinkCache, times(1)).recordDatabaseLookup();
+        verify(negativeLinkCache, times(1)).putNotFound(jedis, link.getShortLink());
+        verify(shortLinkBloomFilter, times(1)).recordFalsePositive();
+    }
+
+    /**
+     * Test case for the {@link LinkService#getLongLinkFromShortLink(String)} method when the short link
+     * is not contained in the Bloom filter.
+     */
+    @Test
+    void getLongLinkFromShortLinkNotInBloomFilterTest() {
+        when(jedisPool.getResource()).thenReturn(jedis);
+        when(shortLinkBloomFilter.mightContain(jedis, link.getShortLink())).thenReturn(false);
+
+        assertThatThrownBy(() -> linkService.getLongLinkFromShortLink(link.getShortLink()))
+                .isInstanceOf(NoLinkFoundByShortLinkException.class);
+        verify(linkRepository, never()).findByShortLink(anyString());
+        verify(negativeLinkCache, times(1)).putNotFound(jedis, link.getShortLink());
+    }
+
+    /**
+     * Test case for the {@link LinkService#getLongLinkFromShortLink(String)} method when the link
+     * has been deleted and is not cached in Redis.
+     */
+    @Test
+    void getLongLinkFromShortLinkDeletedTest() {
+        link.setStatus(LinkStatus.DELETED);
+        when(jedisPool.getResource()).thenReturn(jedis);
+        when(shortLinkBloomFilter.mightContain(jedis, link.getShortLink())).thenReturn(true);
+        when(linkRepository.findByShortLink(link.getShortLink())).thenReturn(Optional.of(link));
+
+        assertThatThrownBy(() -> linkService.getLongLinkFromShortLink(link.getShortLink()))
+                .isInstanceOf(DeletedLinkException.class);
+        verify(negativeLinkCache, times(1)).putDeleted(jedis, link.getShortLink());
+    }
+
+    /**
+     * Test case for the {@link LinkService#getLongLinkFromShortLink(String)} method when the short link
+     * is cached in Redis as a negative entry.
+     */
+    @Test
+    void getLongLinkFromShortLinkNegativeCacheTest() {
+        when(jedisPool.getResource()).thenReturn(jedis);
+        when(jedis.get(any(byte[].class))).thenReturn("!not-found".getBytes(StandardCharsets.US_ASCII));
+        doThrow(new NoLinkFoundByShortLinkException()).when(negativeLinkCache).rejectIfNegative(any(byte[].class));
+
+        assertThatThrownBy(() -> linkService.getLongLinkFromShortLink(link.getShortLink()))
+                .isInstanceOf(NoLinkFoundByShortLinkException.class);
+        verify(linkRepository, never()).findByShortLink(anyString());
+        verify(negativeLinkCache, never()).recordDatabaseLookup();
     }
 
     /**
@@ -182,12 +346,10 @@ class LinkServiceTest {
      * is inactive.
      */
     @Test
-    void getLongLinkFromShortLinkInactiveTest() throws JsonProcessingException {
+    void getLongLinkFromShortLinkInactiveTest() {
         link.setStatus(LinkStatus.INACTIVE);
         when(jedisPool.getResource()).thenReturn(jedis);
-        when(jedis.exists(anyString())).thenReturn(true);
-        when(jedis.get(anyString())).thenReturn("{}");
-        when(mapper.readValue(anyString(), eq(Link.class))).thenReturn(link);
+        when(jedis.get(any(byte[].class))).thenReturn(CachedLinkCodec.encode(CachedLink.of(link)));
 
         assertThatThrownBy(() -> linkService.getLongLinkFromShortLink(link.getShortLink()))
                 .isInstanceOf(InactiveLinkException.class);
@@ -198,15 +360,34 @@ class LinkServiceTest {
      * has passed.
      */
     @Test
-    void getLongLinkFromShortLinkExpiredTest() throws JsonProcessingException {
+    void getLongLinkFromShortLinkExpiredTest() {
         link.setExpirationTime(LocalDateTime.now().minusDays(1));
         when(jedisPool.getResource()).thenReturn(jedis);
-        when(jedis.exists(anyString())).thenReturn(true);
-        when(jedis.get(anyString())).thenReturn("{}");
-        when(mapper.readValue(anyString(), eq(Link.class))).thenReturn(link);
+        when(jedis.get(any(byte[].class))).thenReturn(CachedLinkCodec.encode(CachedLink.of(link)));
+        when(linkRepository.findByShortLink(link.getShortLink())).thenReturn(Optional.of(link));
 
         assertThatThrownBy(() -> linkService.getLongLinkFromShortLink(link.getShortLink()))
                 .isInstanceOf(InactiveLinkException.class);
+        verify(linkRepository, times(1)).save(link);
+    }
+
+    /**
+     * Test case for the {@link LinkService#getLongLinkFromShortLink(String)} method when the cached
+     * expiration time has passed, but the link has been used since and is still active in the database.
+     */
+    @Test
+    void getLongLinkFromShortLinkStaleExpirationTest() {
+        CachedLink staleLink = new CachedLink(link.getLongLink(), LinkStatus.ACTIVE,
+                LocalDateTime.now().minusDays(1), link.getStatistics());
+        link.setExpirationTime(LocalDateTime.now().plusDays(1));
+        when(linkCache.get(link.getShortLink())).thenReturn(staleLink);
+        when(jedisPool.getResource()).thenReturn(jedis);
+        when(linkRepository.findByShortLink(link.getShortLink())).thenReturn(Optional.of(link));
+
+        String actualLongLink = linkService.getLongLinkFromShortLink(link.getShortLink());
+
+        assertThat(actualLongLink).isEqualTo(link.getLongLink());
+        verify(linkCache, times(1)).put(link.getShortLink(), CachedLink.of(link));
     }
 
     /**
@@ -318,6 +499,7 @@ class LinkServiceTest {
         when(linkRepository.findByShortLink(link.getShortLink())).thenReturn(Optional.of(link));
         linkService.deleteByShortLink(link.getShortLink());
         assertThat(LinkStatus.DELETED).isEqualTo(link.getStatus());
+        verify(negativeLinkCache, times(1)).putDeleted(jedis, link.getShortLink());
     }
 
     /**
@@ -329,4 +511,100 @@ class LinkServiceTest {
         assertThatThrownBy(() -> linkService.deleteByShortLink(null))
                 .isInstanceOf(NullLinkPropertyException.class);
     }
+
+    /**
+     * Test case for the {@link LinkService#deactivateByShortLink(String)} method.
+     */
+    @Test
+    void deactivateByShortLinkTest() {
+        link.setExpirationTime(LocalDateTime.now().plusDays(1));
+        when(linkRepository.findByShortLink(link.getShortLink())).thenReturn(Optional.of(link));
+        when(jedisPool.getResource()).thenReturn(jedis);
+
+        linkService.deactivateByShortLink(link.getShortLink());
+
+        assertThat(link.getStatus()).isEqualTo(LinkStatus.INACTIVE);
+        verify(linkRepository, times(1)).save(link);
+        verify(jedis, times(1)).set(link.getShortLink().getBytes(StandardCharsets.UTF_8),
+                CachedLinkCodec.encode(CachedLink.of(link)));
+        verify(linkCache, times(1)).put(link.getShortLink(), CachedLink.of(link));
+    }
+
+    /**
+     * Test case for the {@link LinkService#deactivateByShortLink(String)} method when the link is already
+     * inactive.
+     */
+    @Test
+    void deactivateByShortLinkInactiveTest() {
+        link.setStatus(LinkStatus.INACTIVE);
+        link.setExpirationTime(LocalDateTime.now().plusDays(1));
+        when(linkRepository.findByShortLink(link.getShortLink())).thenReturn(Optional.of(link));
+
+        linkService.deactivateByShortLink(link.getShortLink());
+
+        verify(linkRepository, never()).save(any(Link.class));
+    }
+
+    /**
+     * Test case for the {@link LinkService#doesLinkExist(String)} method when the link exists.
+     */
+    @Test
+    void doesLinkExistTest() {
+        when(shortLinkBloomFilter.mightContain(link.getShortLink())).thenReturn(true);
+        when(linkRepository.existsByShortLink(link.getShortLink())).thenReturn(true);
+
+        assertThat(linkService.doesLinkExist(link.getShortLink())).isTrue();
+        verify(shortLinkBloomFilter, never()).recordFalsePositive();
+    }
+
+    /**
+     * Test case for the {@link LinkService#doesLinkExist(String)} method when the short link is not contained
+     * in the Bloom filter.
+     */
+    @Test
+    void doesLinkExistNotInBloomFilterTest() {
+        when(shortLinkBloomFilter.mightContain(link.getShortLink())).thenReturn(false);
+
+        assertThat(linkService.doesLinkExist(link.getShortLink())).isFalse();
+        verify(linkRepository, never()).existsByShortLink(anyString());
+    }
+
+    /**
+     * Test case for the {@link LinkService#doesLinkExist(String)} method when the Bloom filter reports
+     * a false positive.
+     */
+    @Test
+    void doesLinkExistFalsePositiveTest() {
+        when(shortLinkBloomFilter.mightContain(link.getShortLink())).thenReturn(true);
+        when(linkRepository.existsByShortLink(link.getShortLink())).thenReturn(false);
+
+        assertThat(linkService.doesLinkExist(link.getShortLink())).isFalse();
+        verify(shortLinkBloomFilter, times(1)).recordFalsePositive();
+    }
+
+    /**
+     * Test case for the {@link LinkService#findActiveShortLink(UUID, String)} method.
+     */
+    @Test
+    void findActiveShortLinkTest() {
+        when(linkRepository.findActiveShortLinks(eq(link.getUser().getId()), eq(LongLinkHash.of(link.getLongLink())),
+                eq(link.getLongLink()), any(LocalDateTime.class), eq(PageRequest.of(0, 1))))
+                .thenReturn(List.of(link.getShortLink()));
+
+        assertThat(linkService.findActiveShortLink(link.getUser().getId(), link.getLongLink()))
+                .isEqualTo(Optional.of(link.getShortLink()));
+    }
+
+    /**
+     * Test case for the {@link LinkService#findActiveShortLink(UUID, String)} method when the user has no active
+     * link to the long link.
+     */
+    @Test
+    void findActiveShortLinkNotFoundTest() {
+        when(linkRepository.findActiveShortLinks(any(), anyLong(), any(), any(), any()))
+                .thenReturn(List.of());
+
+        assertThat(linkService.findActiveShortLink(link.getUser().getId(), link.getLongLink()))
+                .isEqualTo(Optional.empty());
+    }
 }
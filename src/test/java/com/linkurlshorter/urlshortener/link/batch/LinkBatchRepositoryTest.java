@@ -0,0 +1,88 @@
+package com.linkurlshorter.urlshortener.link.batch;
+
+import com.linkurlshorter.urlshortener.link.model.Link;
+import com.linkurlshorter.urlshortener.user.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link LinkBatchRepository} class.
+ */
+@ExtendWith(MockitoExtension.class)
+class LinkBatchRepositoryTest {
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private LinkBatchRepository linkBatchRepository;
+    private List<Link> links;
+
+    /**
+     * Set up method to initialize test data before each test method.
+     */
+    @BeforeEach
+    void setUp() {
+        linkBatchRepository = new LinkBatchRepository(jdbcTemplate);
+        User user = User.builder().id(UUID.fromString("84991c79-f6a9-4b7b-b1b4-0d66c0b92c81")).build();
+        LocalDateTime now = LocalDateTime.now();
+        links = List.of(link(user, "qK8fW2xZ", now), link(user, "example1", now));
+    }
+
+    /**
+     * Test case for the {@link LinkBatchRepository#insert(List)} method.
+     */
+    @Test
+    void insertTest() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any())).thenReturn(new int[][]{{1, 0}});
+
+        boolean[] inserted = linkBatchRepository.insert(links);
+
+        assertThat(inserted).containsExactly(true, false);
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(UUID.class), any(Object[].class));
+    }
+
+    /**
+     * Test case for the {@link LinkBatchRepository#insert(List)} method when the driver does not report the row
+     * counts of the batch.
+     */
+    @Test
+    void insertWithoutRowCountsTest() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any()))
+                .thenReturn(new int[][]{{Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO}});
+        when(jdbcTemplate.queryForList(anyString(), eq(UUID.class), any(Object[].class)))
+                .thenReturn(List.of(links.get(1).getId()));
+
+        boolean[] inserted = linkBatchRepository.insert(links);
+
+        assertThat(inserted).containsExactly(false, true);
+    }
+
+    private static Link link(User user, String shortLink, LocalDateTime now) {
+        return Link.builder()
+                .id(UUID.randomUUID())
+                .longLink("https://www.example.com")
+                .shortLink(shortLink)
+                .user(user)
+                .createdTime(now)
+                .expirationTime(now.plusDays(30))
+                .build();
+    }
+}
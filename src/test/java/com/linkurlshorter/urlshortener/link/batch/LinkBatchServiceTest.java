@@ -0,0 +1,257 @@
+package com.linkurlshorter.urlshortener.link.batch;
+
+import com.linkurlshorter.urlshortener.link.cache.ShortLinkBloomFilter;
+import com.linkurlshorter.urlshortener.link.dto.BatchLinkResultDto;
+import com.linkurlshorter.urlshortener.link.exception.LinkBatchRejectedException;
+import com.linkurlshorter.urlshortener.link.exception.LinkBatchTooLargeException;
+import com.linkurlshorter.urlshortener.link.generator.ShortLinkGenerator;
+import com.linkurlshorter.urlshortener.link.model.Link;
+import com.linkurlshorter.urlshortener.link.request.BatchLinkItem;
+import com.linkurlshorter.urlshortener.user.model.User;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link LinkBatchService} class.
+ */
+@ExtendWith(MockitoExtension.class)
+class LinkBatchServiceTest {
+    private static ValidatorFactory validatorFactory;
+
+    @Mock
+    private LinkBatchRepository linkBatchRepository;
+
+    @Mock
+    private ShortLinkGenerator shortLinkGenerator;
+
+    @Mock
+    private ShortLinkBloomFilter shortLinkBloomFilter;
+
+    @Mock
+    private JedisPool jedisPool;
+
+    @Mock
+    private Jedis jedis;
+
+    private LinkBatchService linkBatchService;
+    private User user;
+    private LocalDateTime expirationTime;
+
+    /**
+     * Creates the validator shared by the test methods.
+     */
+    @BeforeAll
+    static void setUpValidator() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+    }
+
+    /**
+     * Closes the validator after all test methods.
+     */
+    @AfterAll
+    static void tearDownValidator() {
+        validatorFactory.close();
+    }
+
+    /**
+     * Set up method to initialize test data before each test method.
+     */
+    @BeforeEach
+    void setUp() {
+        Validator validator = validatorFactory.getValidator();
+        linkBatchService = new LinkBatchService(linkBatchRepository, shortLinkGenerator, shortLinkBloomFilter,
+                jedisPool, validator, 10, 2, 1);
+        user = User.builder()
+                .id(UUID.fromString("84991c79-f6a9-4b7b-b1b4-0d66c0b92c81"))
+                .email("test1@gmail.com")
+                .build();
+        expirationTime = LocalDateTime.now().plusDays(30);
+    }
+
+    /**
+     * Test case for the {@link LinkBatchService#createAll} method.
+     */
+    @Test
+    void createAllTest() {
+        when(shortLinkGenerator.generate()).thenReturn("qK8fW2xZ", "bR3tY7uP");
+        when(linkBatchRepository.insert(anyList())).thenAnswer(invocation -> inserted(invocation.getArgument(0)));
+        when(jedisPool.getResource()).thenReturn(jedis);
+        List<BatchLinkItem> items = List.of(
+                new BatchLinkItem("https://www.youtube.com", null),
+                new BatchLinkItem("https://www.example.com", "example1"),
+                new BatchLinkItem("https://www.google.com", null));
+
+        List<BatchLinkResultDto> results = linkBatchService.createAll(user, items, expirationTime);
+
+        assertThat(results).extracting(BatchLinkResultDto::getShortLink)
+                .containsExactly("qK8fW2xZ", "example1", "bR3tY7uP");
+        assertThat(results).extracting(BatchLinkResultDto::getError).containsOnly(LinkBatchService.OK);
+        verify(shortLinkBloomFilter, times(1)).putAll(List.of("qK8fW2xZ", "example1", "bR3tY7uP"));
+        verify(linkBatchRepository, times(2)).insert(anyList());
+        verify(jedis, times(1)).unlink("qK8fW2xZ", "example1");
+        verify(jedis, times(1)).unlink(new String[]{"bR3tY7uP"});
+        verify(shortLinkGenerator, times(1)).markUsed(List.of("qK8fW2xZ"));
+        verify(shortLinkGenerator, times(1)).markUsed(List.of("bR3tY7uP"));
+    }
+
+    /**
+     * Test case for the {@link LinkBatchService#createAll} method with invalid links.
+     */
+    @Test
+    void createAllInvalidTest() {
+        when(linkBatchRepository.insert(anyList())).thenAnswer(invocation -> inserted(invocation.getArgument(0)));
+        when(jedisPool.getResource()).thenReturn(jedis);
+        List<BatchLinkItem> items = Arrays.asList(
+                new BatchLinkItem("not-a-url", null),
+                new BatchLinkItem("https://www.example.com", "ex"),
+                null,
+                new BatchLinkItem("https://www.example.com", "abc1234"),
+                new BatchLinkItem("https://www.youtube.com", "youtube1"));
+
+        List<BatchLinkResultDto> results = linkBatchService.createAll(user, items, expirationTime);
+
+        assertThat(results).extracting(BatchLinkResultDto::getError).containsExactly(
+                "Not valid format url!", "Invalid short link format!", "Url must not be null or empty!",
+                "Short links of 7 letters and digits are reserved for generated links!", LinkBatchService.OK);
+        assertThat(results).extracting(BatchLinkResultDto::getShortLink)
+                .containsExactly(null, null, null, null, "youtube1");
+        verify(shortLinkGenerator, never()).generate();
+        verify(shortLinkGenerator, never()).markUsed(anyList());
+    }
+
+    /**
+     * Test case for the {@link LinkBatchService#createAll} method when a short link is reserved for a generated
+     * short link.
+     */
+    @Test
+    void createAllReservedTest() {
+        when(shortLinkGenerator.findReserved(List.of("qK8fW2xZ"))).thenReturn(Set.of("qK8fW2xZ"));
+        List<BatchLinkItem> items = List.of(new BatchLinkItem("https://www.example.com", "qK8fW2xZ"));
+
+        List<BatchLinkResultDto> results = linkBatchService.createAll(user, items, expirationTime);
+
+        assertThat(results.get(0).getError()).isEqualTo(LinkBatchService.ALREADY_EXISTS_MSG);
+        assertThat(results.get(0).getShortLink()).isNull();
+        verify(linkBatchRepository, never()).insert(anyList());
+    }
+
+    /**
+     * Test case for the {@link LinkBatchService#createAll} method when a short link is already taken.
+     */
+    @Test
+    void createAllAlreadyExistsTest() {
+        when(linkBatchRepository.insert(anyList())).thenReturn(new boolean[]{false});
+        List<BatchLinkItem> items = List.of(new BatchLinkItem("https://www.example.com", "example1"));
+
+        List<BatchLinkResultDto> results = linkBatchService.createAll(user, items, expirationTime);
+
+        assertThat(results.get(0).getError()).isEqualTo(LinkBatchService.ALREADY_EXISTS_MSG);
+        assertThat(results.get(0).getShortLink()).isNull();
+        verifyNoInteractions(jedisPool);
+    }
+
+    /**
+     * Test case for the {@link LinkBatchService#createAll} method when a chunk cannot be inserted.
+     */
+    @Test
+    void createAllInsertFailedTest() {
+        when(linkBatchRepository.insert(anyList()))
+                .thenThrow(new DataAccessResourceFailureException("Connection refused"))
+                .thenAnswer(invocation -> inserted(invocation.getArgument(0)));
+        when(jedisPool.getResource()).thenReturn(jedis);
+        List<BatchLinkItem> items = List.of(
+                new BatchLinkItem("https://www.youtube.com", "youtube1"),
+                new BatchLinkItem("https://www.example.com", "example1"),
+                new BatchLinkItem("https://www.google.com", "google"));
+
+        List<BatchLinkResultDto> results = linkBatchService.createAll(user, items, expirationTime);
+
+        assertThat(results).extracting(BatchLinkResultDto::getError).containsExactly(
+                "Unexpected server error occurred", "Unexpected server error occurred", LinkBatchService.OK);
+    }
+
+    /**
+     * Test case for the {@link LinkBatchService#createAll} method when the batch is too large.
+     */
+    @Test
+    void createAllTooLargeTest() {
+        List<BatchLinkItem> items = IntStream.range(0, 11)
+                .mapToObj(i -> new BatchLinkItem("https://www.example.com", null))
+                .toList();
+
+        assertThatThrownBy(() -> linkBatchService.createAll(user, items, expirationTime))
+                .isInstanceOf(LinkBatchTooLargeException.class);
+        verify(linkBatchRepository, never()).insert(any());
+    }
+
+    /**
+     * Test case for the {@link LinkBatchService#createAll} method when the maximum number of batches is being
+     * created.
+     */
+    @Test
+    void createAllRejectedTest() throws Exception {
+        CountDownLatch insertStarted = new CountDownLatch(1);
+        CountDownLatch insertReleased = new CountDownLatch(1);
+        when(linkBatchRepository.insert(anyList())).thenAnswer(invocation -> {
+            insertStarted.countDown();
+            insertReleased.await();
+            return inserted(invocation.getArgument(0));
+        });
+        when(jedisPool.getResource()).thenReturn(jedis);
+        List<BatchLinkItem> items = List.of(new BatchLinkItem("https://www.example.com", "example1"));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<List<BatchLinkResultDto>> running = executor.submit(
+                    () -> linkBatchService.createAll(user, items, expirationTime));
+            assertThat(insertStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> linkBatchService.createAll(user, items, expirationTime))
+                    .isInstanceOf(LinkBatchRejectedException.class);
+
+            insertReleased.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).hasSize(1);
+        } finally {
+            insertReleased.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static boolean[] inserted(List<Link> links) {
+        boolean[] inserted = new boolean[links.size()];
+        Arrays.fill(inserted, true);
+        return inserted;
+    }
+}
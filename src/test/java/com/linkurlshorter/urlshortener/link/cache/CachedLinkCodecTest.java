@@ -0,0 +1,90 @@
+package com.linkurlshorter.urlshortener.link.cache;
+
+import com.linkurlshorter.urlshortener.link.model.LinkStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link CachedLinkCodec} class.
+ */
+class CachedLinkCodecTest {
+
+    /**
+     * Test case for the {@link CachedLinkCodec#encode(CachedLink)} and {@link CachedLinkCodec#decode(byte[])}
+     * methods with every link status.
+     */
+    @ParameterizedTest
+    @EnumSource(LinkStatus.class)
+    void roundTripTest(LinkStatus status) {
+        CachedLink cachedLink = new CachedLink("https://www.youtube.com/watch?v=dQw4w9WgXcQ", status,
+                LocalDateTime.of(2024, 5, 16, 8, 0, 0, 123_000_000), 100);
+
+        assertThat(CachedLinkCodec.decode(CachedLinkCodec.encode(cachedLink))).isEqualTo(cachedLink);
+    }
+
+    /**
+     * Test case for the {@link CachedLinkCodec#encode(CachedLink)} and {@link CachedLinkCodec#decode(byte[])}
+     * methods with a long link containing non-ASCII characters.
+     */
+    @Test
+    void roundTripNonAsciiLinkTest() {
+        String longLink = "https://uk.wikipedia.org/wiki/\u041a\u0438\u0457\u0432"; // Kyiv
+        CachedLink cachedLink = new CachedLink(longLink, LinkStatus.ACTIVE,
+                LocalDateTime.of(2024, 5, 16, 8, 0), Integer.MAX_VALUE);
+
+        assertThat(CachedLinkCodec.decode(CachedLinkCodec.encode(cachedLink))).isEqualTo(cachedLink);
+    }
+
+    /**
+     * Test case for the {@link CachedLinkCodec#encode(CachedLink)} method checking the size of the encoded value.
+     */
+    @Test
+    void encodedSizeTest() {
+        String longLink = "https://www.youtube.com";
+        CachedLink cachedLink = new CachedLink(longLink, LinkStatus.ACTIVE, LocalDateTime.of(2024, 5, 16, 8, 0), 0);
+
+        byte[] encoded = CachedLinkCodec.encode(cachedLink);
+
+        assertThat(encoded).hasSize(14 + longLink.length());
+        assertThat(encoded[0]).isEqualTo(CachedLinkCodec.VERSION);
+    }
+
+    /**
+     * Test case for the {@link CachedLinkCodec#decode(byte[])} method with a value written as JSON by an older
+     * version of the application.
+     */
+    @Test
+    void decodeJsonValueTest() {
+        byte[] json = "{\"longLink\":\"https://www.youtube.com\",\"status\":\"ACTIVE\"}"
+                .getBytes(StandardCharsets.UTF_8);
+
+        assertThat(CachedLinkCodec.decode(json)).isNull();
+    }
+
+    /**
+     * Test case for the {@link CachedLinkCodec#decode(byte[])} method with a truncated value.
+     */
+    @Test
+    void decodeTruncatedValueTest() {
+        assertThat(CachedLinkCodec.decode(new byte[]{CachedLinkCodec.VERSION, 0})).isNull();
+    }
+
+    /**
+     * Test case for the {@link CachedLinkCodec#decode(byte[])} method with an unknown status.
+     */
+    @Test
+    void decodeUnknownStatusTest() {
+        CachedLink cachedLink = new CachedLink("https://www.youtube.com", LinkStatus.ACTIVE,
+                LocalDateTime.of(2024, 5, 16, 8, 0), 0);
+        byte[] encoded = CachedLinkCodec.encode(cachedLink);
+        encoded[1] = 42;
+
+        assertThat(CachedLinkCodec.decode(encoded)).isNull();
+    }
+}
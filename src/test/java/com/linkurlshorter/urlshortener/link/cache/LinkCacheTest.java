@@ -0,0 +1,59 @@
+package com.linkurlshorter.urlshortener.link.cache;
+
+import com.linkurlshorter.urlshortener.link.model.LinkStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link LinkCache} class.
+ */
+class LinkCacheTest {
+    private LinkCache linkCache;
+    private CachedLink cachedLink;
+
+    /**
+     * Set up method to initialize test data before each test method.
+     */
+    @BeforeEach
+    void setUp() {
+        linkCache = new LinkCache(100, Duration.ofMinutes(1));
+        cachedLink = new CachedLink("https://www.youtube.com", LinkStatus.ACTIVE,
+                LocalDateTime.now().plusDays(1), 0);
+    }
+
+    /**
+     * Test case for the {@link LinkCache#get(String)} method when the link has been cached.
+     */
+    @Test
+    void getCachedLinkTest() {
+        linkCache.put("short-link-1", cachedLink);
+
+        assertThat(linkCache.get("short-link-1")).isEqualTo(cachedLink);
+        assertThat(linkCache.stats().hitCount()).isEqualTo(1);
+    }
+
+    /**
+     * Test case for the {@link LinkCache#get(String)} method when the link has not been cached.
+     */
+    @Test
+    void getMissingLinkTest() {
+        assertThat(linkCache.get("short-link-1")).isNull();
+        assertThat(linkCache.stats().missCount()).isEqualTo(1);
+    }
+
+    /**
+     * Test case for the {@link LinkCache#invalidate(String)} method.
+     */
+    @Test
+    void invalidateTest() {
+        linkCache.put("short-link-1", cachedLink);
+        linkCache.invalidate("short-link-1");
+
+        assertThat(linkCache.get("short-link-1")).isNull();
+    }
+}
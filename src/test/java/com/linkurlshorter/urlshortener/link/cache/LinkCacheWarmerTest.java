@@ -0,0 +1,159 @@
+package com.linkurlshorter.urlshortener.link.cache;
+
+import com.linkurlshorter.urlshortener.link.model.LinkStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.params.SetParams;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link LinkCacheWarmer} class.
+ */
+@ExtendWith(MockitoExtension.class)
+class LinkCacheWarmerTest {
+    private static final CachedLink HOT_LINK = new CachedLink("https://www.youtube.com", LinkStatus.ACTIVE,
+            LocalDateTime.of(2030, 5, 16, 8, 0), 1000);
+    private static final CachedLink WARM_LINK = new CachedLink("https://www.google.com", LinkStatus.ACTIVE,
+            LocalDateTime.of(2030, 5, 16, 8, 0), 10);
+
+    @Mock
+    private HotLinkRepository hotLinkRepository;
+
+    @Mock
+    private JedisPool jedisPool;
+
+    @Mock
+    private Jedis jedis;
+
+    @Mock
+    private Pipeline pipeline;
+
+    private LinkCache linkCache;
+    private NegativeLinkCache negativeLinkCache;
+    private LinkCacheWarmer linkCacheWarmer;
+
+    /**
+     * Set up method to initialize test data before each test method.
+     */
+    @BeforeEach
+    void setUp() {
+        linkCache = new LinkCache(100, Duration.ofSeconds(60));
+        negativeLinkCache = new NegativeLinkCache(Duration.ofSeconds(30));
+        linkCacheWarmer = new LinkCacheWarmer(hotLinkRepository, jedisPool, linkCache, negativeLinkCache, 2);
+    }
+
+    /**
+     * Test case for the {@link LinkCacheWarmer#warmUp()} method.
+     */
+    @Test
+    void warmUpTest() {
+        mostClicked();
+        when(jedisPool.getResource()).thenReturn(jedis);
+        when(jedis.pipelined()).thenReturn(pipeline);
+
+        linkCacheWarmer.warmUp();
+
+        assertThat(linkCache.get("hot")).isEqualTo(HOT_LINK);
+        assertThat(linkCache.get("warm")).isEqualTo(WARM_LINK);
+        verify(pipeline, times(1)).set(aryEq("hot".getBytes(StandardCharsets.UTF_8)),
+                aryEq(CachedLinkCodec.encode(HOT_LINK)), any(SetParams.class));
+        verify(pipeline, times(1)).set(aryEq("warm".getBytes(StandardCharsets.UTF_8)),
+                aryEq(CachedLinkCodec.encode(WARM_LINK)), any(SetParams.class));
+        verify(pipeline, times(1)).sync();
+    }
+
+    /**
+     * Test case for the {@link LinkCacheWarmer#warmUp()} method when the warm-up is disabled.
+     */
+    @Test
+    void warmUpDisabledTest() {
+        linkCacheWarmer = new LinkCacheWarmer(hotLinkRepository, jedisPool, linkCache, negativeLinkCache, 0);
+
+        linkCacheWarmer.warmUp();
+
+        verifyNoInteractions(hotLinkRepository, jedisPool);
+    }
+
+    /**
+     * Test case for the {@link LinkCacheWarmer#warmUp()} method when Redis cannot be reached.
+     */
+    @Test
+    void warmUpRedisUnavailableTest() {
+        mostClicked();
+        when(jedisPool.getResource()).thenThrow(new JedisConnectionException("Connection refused"));
+
+        linkCacheWarmer.warmUp();
+
+        assertThat(linkCache.get("hot")).isEqualTo(HOT_LINK);
+    }
+
+    /**
+     * Test case for the {@link LinkCacheWarmer#hitRatioSinceWarmup()} method.
+     */
+    @Test
+    void hitRatioSinceWarmupTest() {
+        mostClicked();
+        when(jedisPool.getResource()).thenReturn(jedis);
+        when(jedis.pipelined()).thenReturn(pipeline);
+        linkCache.get("before-warmup");
+        assertThat(linkCacheWarmer.hitRatioSinceWarmup()).isNaN();
+
+        linkCacheWarmer.warmUp();
+        assertThat(linkCacheWarmer.hitRatioSinceWarmup()).isNaN();
+        linkCache.get("hot");
+        linkCache.get("warm");
+        linkCache.get("cached-in-redis");
+        linkCache.get("cold");
+        negativeLinkCache.recordDatabaseLookup();
+
+        assertThat(linkCacheWarmer.hitRatioSinceWarmup()).isEqualTo(0.75);
+    }
+
+    /**
+     * Test case for the {@link LinkCacheWarmer#bindTo} method.
+     */
+    @Test
+    void bindToTest() {
+        mostClicked();
+        when(jedisPool.getResource()).thenReturn(jedis);
+        when(jedis.pipelined()).thenReturn(pipeline);
+        linkCacheWarmer.warmUp();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        linkCacheWarmer.bindTo(registry);
+
+        assertThat(registry.get("link.cache.warmup.links").gauge().value()).isEqualTo(2);
+        assertThat(registry.get("link.cache.warmup.duration").timeGauge().value()).isPositive();
+    }
+
+    private void mostClicked() {
+        doAnswer(invocation -> {
+            BiConsumer<String, CachedLink> consumer = invocation.getArgument(2);
+            consumer.accept("hot", HOT_LINK);
+            consumer.accept("warm", WARM_LINK);
+            return null;
+        }).when(hotLinkRepository).forEachMostClicked(eq(2), any(LocalDateTime.class), any());
+    }
+}
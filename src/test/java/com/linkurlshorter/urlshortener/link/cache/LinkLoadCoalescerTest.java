@@ -0,0 +1,163 @@
+package com.linkurlshorter.urlshortener.link.cache;
+
+import com.linkurlshorter.urlshortener.link.exception.InternalServerLinkException;
+import com.linkurlshorter.urlshortener.link.exception.NoLinkFoundByShortLinkException;
+import com.linkurlshorter.urlshortener.link.model.LinkStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link LinkLoadCoalescer} class.
+ */
+class LinkLoadCoalescerTest {
+    private static final int WAITERS = 8;
+
+    private ExecutorService executor;
+    private CachedLink cachedLink;
+    private CountDownLatch loadStarted;
+    private CountDownLatch loadReleased;
+    private AtomicInteger loaderCalls;
+
+    /**
+     * Set up method to initialize test data before each test method.
+     */
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(WAITERS + 1);
+        cachedLink = new CachedLink("https://www.youtube.com", LinkStatus.ACTIVE,
+                LocalDateTime.now().plusDays(1), 0);
+        loadStarted = new CountDownLatch(1);
+        loadReleased = new CountDownLatch(1);
+        loaderCalls = new AtomicInteger();
+    }
+
+    /**
+     * Shuts the executor down after each test method.
+     */
+    @AfterEach
+    void tearDown() {
+        loadReleased.countDown();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Test case for the {@link LinkLoadCoalescer#load(String, Function)} method when concurrent callers miss
+     * the same short link.
+     */
+    @Test
+    void loadCoalescedTest() throws Exception {
+        LinkLoadCoalescer coalescer = new LinkLoadCoalescer(Duration.ofSeconds(5));
+        Function<String, CachedLink> loader = blockingLoader(() -> cachedLink);
+
+        List<Future<CachedLink>> results = startConcurrentLoads(coalescer, loader);
+        loadReleased.countDown();
+
+        for (Future<CachedLink> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(cachedLink);
+        }
+        assertThat(loaderCalls.get()).isEqualTo(1);
+        assertThat(coalescer.waitingCallers()).isZero();
+    }
+
+    /**
+     * Test case for the {@link LinkLoadCoalescer#load(String, Function)} method when the load fails.
+     */
+    @Test
+    void loadFailedTest() throws Exception {
+        LinkLoadCoalescer coalescer = new LinkLoadCoalescer(Duration.ofSeconds(5));
+        Function<String, CachedLink> loader = blockingLoader(() -> {
+            throw new NoLinkFoundByShortLinkException();
+        });
+
+        List<Future<CachedLink>> results = startConcurrentLoads(coalescer, loader);
+        loadReleased.countDown();
+
+        for (Future<CachedLink> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(NoLinkFoundByShortLinkException.class);
+        }
+        assertThat(loaderCalls.get()).isEqualTo(1);
+    }
+
+    /**
+     * Test case for the {@link LinkLoadCoalescer#load(String, Function)} method when the load in flight
+     * does not finish in time.
+     */
+    @Test
+    void loadTimeoutTest() throws Exception {
+        LinkLoadCoalescer coalescer = new LinkLoadCoalescer(Duration.ofMillis(50));
+        Function<String, CachedLink> loader = blockingLoader(() -> cachedLink);
+        executor.submit(() -> coalescer.load("short-link-1", loader));
+        assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> coalescer.load("short-link-1", loader))
+                .isInstanceOf(InternalServerLinkException.class);
+        assertThat(coalescer.waitingCallers()).isZero();
+    }
+
+    /**
+     * Test case for the {@link LinkLoadCoalescer#load(String, Function)} method with consecutive loads.
+     */
+    @Test
+    void loadSequentialTest() {
+        LinkLoadCoalescer coalescer = new LinkLoadCoalescer(Duration.ofSeconds(5));
+        Function<String, CachedLink> loader = shortLink -> {
+            loaderCalls.incrementAndGet();
+            return cachedLink;
+        };
+
+        coalescer.load("short-link-1", loader);
+        coalescer.load("short-link-1", loader);
+
+        assertThat(loaderCalls.get()).isEqualTo(2);
+    }
+
+    private Function<String, CachedLink> blockingLoader(Supplier<CachedLink> result) {
+        return shortLink -> {
+            loaderCalls.incrementAndGet();
+            loadStarted.countDown();
+            try {
+                loadReleased.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return result.get();
+        };
+    }
+
+    private List<Future<CachedLink>> startConcurrentLoads(LinkLoadCoalescer coalescer,
+                                                          Function<String, CachedLink> loader)
+            throws InterruptedException {
+        List<Future<CachedLink>> results = new ArrayList<>();
+        results.add(executor.submit(() -> coalescer.load("short-link-1", loader)));
+        assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < WAITERS; i++) {
+            results.add(executor.submit(() -> coalescer.load("short-link-1", loader)));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalescer.waitingCallers() < WAITERS && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(coalescer.waitingCallers()).isEqualTo(WAITERS);
+        return results;
+    }
+}
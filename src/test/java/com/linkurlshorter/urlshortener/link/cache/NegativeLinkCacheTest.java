@@ -0,0 +1,84 @@
+package com.linkurlshorter.urlshortener.link.cache;
+
+import com.linkurlshorter.urlshortener.link.exception.DeletedLinkException;
+import com.linkurlshorter.urlshortener.link.exception.NoLinkFoundByShortLinkException;
+import com.linkurlshorter.urlshortener.link.model.LinkStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.params.SetParams;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link NegativeLinkCache} class.
+ */
+@ExtendWith(MockitoExtension.class)
+class NegativeLinkCacheTest {
+    @Mock
+    private Jedis jedis;
+
+    private NegativeLinkCache negativeLinkCache;
+
+    /**
+     * Set up method to initialize test data before each test method.
+     */
+    @BeforeEach
+    void setUp() {
+        negativeLinkCache = new NegativeLinkCache(Duration.ofSeconds(30));
+    }
+
+    /**
+     * Test case for the {@link NegativeLinkCache#putNotFound(Jedis, String)} method.
+     */
+    @Test
+    void putNotFoundTest() {
+        negativeLinkCache.putNotFound(jedis, "short-link-1");
+
+        assertThatThrownBy(() -> negativeLinkCache.rejectIfNegative(storedMarker()))
+                .isInstanceOf(NoLinkFoundByShortLinkException.class);
+    }
+
+    /**
+     * Test case for the {@link NegativeLinkCache#putDeleted(Jedis, String)} method.
+     */
+    @Test
+    void putDeletedTest() {
+        negativeLinkCache.putDeleted(jedis, "short-link-1");
+
+        assertThatThrownBy(() -> negativeLinkCache.rejectIfNegative(storedMarker()))
+                .isInstanceOf(DeletedLinkException.class);
+    }
+
+    /**
+     * Test case for the {@link NegativeLinkCache#rejectIfNegative(byte[])} method when an encoded link
+     * is cached.
+     */
+    @Test
+    void rejectIfNegativeLinkCachedTest() {
+        CachedLink cachedLink = new CachedLink("https://www.youtube.com", LinkStatus.ACTIVE,
+                LocalDateTime.now().plusDays(1), 0);
+
+        assertThatCode(() -> negativeLinkCache.rejectIfNegative(CachedLinkCodec.encode(cachedLink)))
+                .doesNotThrowAnyException();
+    }
+
+    private byte[] storedMarker() {
+        ArgumentCaptor<byte[]> captor = ArgumentCaptor.forClass(byte[].class);
+        verify(jedis).set(eq("short-link-1".getBytes(StandardCharsets.UTF_8)), captor.capture(),
+                any(SetParams.class));
+        return captor.getValue();
+    }
+}
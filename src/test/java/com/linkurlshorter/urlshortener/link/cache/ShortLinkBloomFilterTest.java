@@ -0,0 +1,223 @@
+package com.linkurlshorter.urlshortener.link.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.args.BitOP;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ShortLinkBloomFilter} class.
+ */
+@ExtendWith(MockitoExtension.class)
+class ShortLinkBloomFilterTest {
+    private static final List<String> SHORT_LINKS = List.of("short-link-1", "short-link-2", "qK8fW2xZ");
+
+    @Mock
+    private JedisPool jedisPool;
+
+    @Mock
+    private Jedis jedis;
+
+    @Mock
+    private ShortLinkScanRepository shortLinkScanRepository;
+
+    private ShortLinkBloomFilter shortLinkBloomFilter;
+    private byte[] bitmap;
+    private byte[] rebuiltBitmap;
+
+    /**
+     * Set up method to initialize test data before each test method.
+     */
+    @BeforeEach
+    void setUp() {
+        shortLinkBloomFilter = new ShortLinkBloomFilter(jedisPool, shortLinkScanRepository, 1000, 0.01,
+                DataSize.ofMegabytes(1));
+        bitmap = new byte[0];
+    }
+
+    /**
+     * Test case for the {@link ShortLinkBloomFilter#mightContain(String)} method after the filter has been
+     * rebuilt.
+     */
+    @Test
+    void mightContainTest() {
+        List<String> shortLinks = IntStream.range(0, 1000).mapToObj(i -> "short-link-" + i).toList();
+        stubRedis();
+        scan(shortLinks);
+
+        shortLinkBloomFilter.rebuild();
+
+        assertThat(shortLinks).allMatch(shortLinkBloomFilter::mightContain);
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> shortLinkBloomFilter.mightContain("unknown-" + i))
+                .count();
+        assertThat(falsePositives).isLessThan(200);
+    }
+
+    /**
+     * Test case for the {@link ShortLinkBloomFilter#put(String)} method.
+     */
+    @Test
+    void putTest() {
+        stubRedis();
+        scan(List.of());
+        shortLinkBloomFilter.rebuild();
+
+        shortLinkBloomFilter.put("new-short-link");
+
+        assertThat(shortLinkBloomFilter.mightContain("new-short-link")).isTrue();
+    }
+
+    /**
+     * Test case for the {@link ShortLinkBloomFilter#put(String)} method when short links are added during
+     * the rebuild.
+     */
+    @Test
+    void putDuringRebuildTest() {
+        stubRedis();
+        doAnswer(invocation -> {
+            shortLinkBloomFilter.put("new-short-link");
+            invocation.<Consumer<String>>getArgument(0).accept("short-link-1");
+            return null;
+        }).when(shortLinkScanRepository).forEachShortLink(any());
+
+        shortLinkBloomFilter.rebuild();
+
+        assertThat(shortLinkBloomFilter.mightContain("new-short-link")).isTrue();
+        assertThat(shortLinkBloomFilter.mightContain("short-link-1")).isTrue();
+    }
+
+    /**
+     * Test case for the {@link ShortLinkBloomFilter#mightContain(String)} method before the filter has been
+     * rebuilt.
+     */
+    @Test
+    void mightContainNotRebuiltTest() {
+        stubRedis();
+
+        shortLinkBloomFilter.put("short-link-1");
+
+        assertThat(shortLinkBloomFilter.mightContain("unknown")).isTrue();
+    }
+
+    /**
+     * Test case for the {@link ShortLinkBloomFilter#mightContain(String)} method when Redis cannot be reached.
+     */
+    @Test
+    void mightContainRedisUnavailableTest() {
+        when(jedisPool.getResource()).thenThrow(new JedisConnectionException("Connection refused"));
+
+        assertThat(shortLinkBloomFilter.mightContain("unknown")).isTrue();
+    }
+
+    /**
+     * Test case for the {@link ShortLinkBloomFilter#put(String)} method when Redis cannot be reached.
+     */
+    @Test
+    void putRedisUnavailableTest() {
+        when(jedisPool.getResource()).thenThrow(new JedisConnectionException("Connection refused"));
+
+        assertThatThrownBy(() -> shortLinkBloomFilter.put("short-link-1"))
+                .isInstanceOf(JedisConnectionException.class);
+    }
+
+    /**
+     * Test case for the {@link ShortLinkBloomFilter#putAll(java.util.Collection)} method when Redis cannot be
+     * reached.
+     */
+    @Test
+    void putAllRedisUnavailableTest() {
+        when(jedisPool.getResource()).thenThrow(new JedisConnectionException("Connection refused"));
+
+        assertThatThrownBy(() -> shortLinkBloomFilter.putAll(SHORT_LINKS))
+                .isInstanceOf(JedisConnectionException.class);
+    }
+
+    /**
+     * Test case for the {@link ShortLinkBloomFilter#bindTo} method.
+     */
+    @Test
+    void bindToTest() {
+        stubRedis();
+        scan(SHORT_LINKS);
+        shortLinkBloomFilter.rebuild();
+        shortLinkBloomFilter.mightContain("unknown");
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        shortLinkBloomFilter.bindTo(registry);
+
+        assertThat(registry.get("link.bloom.size").gauge().value()).isEqualTo(1198);
+        assertThat(registry.get("link.bloom.false-positive-rate").gauge().value()).isBetween(0.0, 1e-6);
+    }
+
+    private void scan(List<String> shortLinks) {
+        doAnswer(invocation -> {
+            shortLinks.forEach(invocation.<Consumer<String>>getArgument(0));
+            return null;
+        }).when(shortLinkScanRepository).forEachShortLink(any());
+    }
+
+    /**
+     * Makes the mocked connection keep the shared bitmap in {@link #bitmap}.
+     */
+    private void stubRedis() {
+        lenient().when(jedisPool.getResource()).thenReturn(jedis);
+        lenient().when(jedis.bitfield(anyString(), any(String[].class)))
+                .thenAnswer(invocation -> bitfield((String[]) invocation.getRawArguments()[1]));
+        lenient().when(jedis.set(any(byte[].class), any(byte[].class))).thenAnswer(invocation -> {
+            rebuiltBitmap = invocation.getArgument(1);
+            return "OK";
+        });
+        lenient().when(jedis.bitop(any(BitOP.class), anyString(), any(String[].class))).thenAnswer(invocation -> {
+            bitmap = Arrays.copyOf(bitmap, Math.max(bitmap.length, rebuiltBitmap.length));
+            for (int i = 0; i < rebuiltBitmap.length; i++) {
+                bitmap[i] |= rebuiltBitmap[i];
+            }
+            return (long) bitmap.length;
+        });
+        lenient().when(jedis.bitcount(anyString())).thenAnswer(invocation -> {
+            long count = 0;
+            for (byte value : bitmap) {
+                count += Integer.bitCount(value & 0xFF);
+            }
+            return count;
+        });
+    }
+
+    private List<Long> bitfield(String[] arguments) {
+        List<Long> results = new ArrayList<>();
+        for (int i = 0; i < arguments.length; i += 3) {
+            long offset = Long.parseLong(arguments[i + 2]);
+            int index = (int) (offset >>> 3);
+            int mask = 0x80 >>> (offset & 7);
+            results.add(index < bitmap.length && (bitmap[index] & mask) != 0 ? 1L : 0L);
+            if ("SET".equals(arguments[i])) {
+                bitmap = Arrays.copyOf(bitmap, Math.max(bitmap.length, index + 1));
+                bitmap[index] |= (byte) mask;
+                i++;
+            }
+        }
+        return results;
+    }
+}
@@ -0,0 +1,41 @@
+package com.linkurlshorter.urlshortener.link.generator;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link Base62} class.
+ */
+class Base62Test {
+
+    /**
+     * Test case for the {@link Base62#encode(long, int)} method.
+     */
+    @Test
+    void encodeTest() {
+        assertThat(Base62.encode(0, 7)).isEqualTo("0000000");
+        assertThat(Base62.encode(61, 7)).isEqualTo("000000z");
+        assertThat(Base62.encode(62, 7)).isEqualTo("0000010");
+        assertThat(Base62.encode(Base62.capacity(7) - 1, 7)).isEqualTo("zzzzzzz");
+    }
+
+    /**
+     * Test case for the {@link Base62#encode(long, int)} method when the value does not fit in the width.
+     */
+    @Test
+    void encodeOutOfRangeTest() {
+        assertThatThrownBy(() -> Base62.encode(Base62.capacity(2), 2)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Base62.encode(-1, 2)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Test case for the {@link Base62#capacity(int)} method.
+     */
+    @Test
+    void capacityTest() {
+        assertThat(Base62.capacity(1)).isEqualTo(62);
+        assertThat(Base62.capacity(7)).isEqualTo(3_521_614_606_208L);
+    }
+}
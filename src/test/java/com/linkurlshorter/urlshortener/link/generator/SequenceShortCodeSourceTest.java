@@ -0,0 +1,113 @@
+package com.linkurlshorter.urlshortener.link.generator;
+
+import com.linkurlshorter.urlshortener.link.exception.InternalServerLinkException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link SequenceShortCodeSource} class.
+ */
+@ExtendWith(MockitoExtension.class)
+class SequenceShortCodeSourceTest {
+    @Mock
+    private ShortCodeSequenceRepository shortCodeSequenceRepository;
+
+    /**
+     * Test case for the {@link SequenceShortCodeSource#next()} method without scrambling.
+     */
+    @Test
+    void nextTest() {
+        SequenceShortCodeSource source = new SequenceShortCodeSource(shortCodeSequenceRepository, false, 0);
+        when(shortCodeSequenceRepository.nextRangeStart()).thenReturn(62L);
+        when(shortCodeSequenceRepository.findUsed(anyList())).thenReturn(Set.of());
+
+        assertThat(source.next()).isEqualTo("0000010");
+        assertThat(source.next()).isEqualTo("0000011");
+        verify(shortCodeSequenceRepository, times(1)).nextRangeStart();
+        verify(shortCodeSequenceRepository, times(1)).findUsed(anyList());
+    }
+
+    /**
+     * Test case for the {@link SequenceShortCodeSource#next()} method when codes of the leased range are already
+     * used by links.
+     */
+    @Test
+    void nextSkipsUsedCodesTest() {
+        SequenceShortCodeSource source = new SequenceShortCodeSource(shortCodeSequenceRepository, false, 0);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        source.bindTo(registry);
+        when(shortCodeSequenceRepository.nextRangeStart()).thenReturn(62L);
+        when(shortCodeSequenceRepository.findUsed(anyList())).thenReturn(Set.of("0000010", "0000012"));
+
+        assertThat(source.next()).isEqualTo("0000011");
+        assertThat(source.next()).isEqualTo("0000013");
+        assertThat(registry.get("link.codes.rejected").functionCounter().count()).isEqualTo(2);
+    }
+
+    /**
+     * Test case for the {@link SequenceShortCodeSource#next()} method when the leased range is used up.
+     */
+    @Test
+    void nextLeasesNewRangeTest() {
+        SequenceShortCodeSource source = new SequenceShortCodeSource(shortCodeSequenceRepository, true, 42);
+        when(shortCodeSequenceRepository.nextRangeStart()).thenReturn(0L, 5000L);
+        when(shortCodeSequenceRepository.findUsed(anyList())).thenReturn(Set.of());
+
+        Set<String> codes = new HashSet<>();
+        for (int i = 0; i <= ShortCodeSequenceRepository.RANGE_SIZE; i++) {
+            codes.add(source.next());
+        }
+
+        assertThat(codes).hasSize(ShortCodeSequenceRepository.RANGE_SIZE + 1)
+                .allMatch(code -> code.matches("[A-Za-z0-9]{7}"));
+        verify(shortCodeSequenceRepository, times(2)).nextRangeStart();
+    }
+
+    /**
+     * Test case for the {@link SequenceShortCodeSource#next()} method when the sequence cannot be read.
+     */
+    @Test
+    void nextFailedTest() {
+        SequenceShortCodeSource source = new SequenceShortCodeSource(shortCodeSequenceRepository, true, 42);
+        when(shortCodeSequenceRepository.nextRangeStart()).thenThrow(new QueryTimeoutException("timeout"));
+
+        assertThatThrownBy(source::next).isInstanceOf(InternalServerLinkException.class);
+    }
+
+    /**
+     * Test case for the {@link SequenceShortCodeSource} constructor with the default scramble key.
+     */
+    @Test
+    void defaultScrambleKeyTest() {
+        assertThatThrownBy(() -> new SequenceShortCodeSource(shortCodeSequenceRepository, true, 0))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(new SequenceShortCodeSource(shortCodeSequenceRepository, false, 0)).isNotNull();
+    }
+
+    /**
+     * Test case for the {@link SequenceShortCodeSource#isReserved(String)} method.
+     */
+    @Test
+    void isReservedTest() {
+        assertThat(SequenceShortCodeSource.isReserved("abc1234")).isTrue();
+        assertThat(SequenceShortCodeSource.isReserved("0000010")).isTrue();
+        assertThat(SequenceShortCodeSource.isReserved("abc123")).isFalse();
+        assertThat(SequenceShortCodeSource.isReserved("abc12345")).isFalse();
+        assertThat(SequenceShortCodeSource.isReserved("abc-123")).isFalse();
+        assertThat(SequenceShortCodeSource.isReserved(null)).isFalse();
+    }
+}
@@ -0,0 +1,204 @@
+package com.linkurlshorter.urlshortener.link.generator;
+
+import com.linkurlshorter.urlshortener.link.exception.InternalServerLinkException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ShortCodePool} class.
+ */
+@ExtendWith(MockitoExtension.class)
+class ShortCodePoolTest {
+    private static final String NODE_ID = "node-1";
+
+    @Mock
+    private ShortCodeRepository shortCodeRepository;
+
+    private ShortCodePool shortCodePool;
+
+    /**
+     * Set up method to initialize test data before each test method.
+     */
+    @BeforeEach
+    void setUp() {
+        shortCodePool = new ShortCodePool(shortCodeRepository, 4, 2, Duration.ofMillis(50), Duration.ofHours(1),
+                NODE_ID);
+    }
+
+    /**
+     * Test case for the {@link ShortCodePool#refillIfNeeded()} method.
+     */
+    @Test
+    void refillTest() {
+        when(shortCodeRepository.reserve(anyList(), eq(NODE_ID))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        shortCodePool.refillIfNeeded();
+
+        assertThat(shortCodePool.available()).isEqualTo(4);
+    }
+
+    /**
+     * Test case for the {@link ShortCodePool#refillIfNeeded()} method when the pool is above the refill level.
+     */
+    @Test
+    void refillNotNeededTest() {
+        when(shortCodeRepository.reserve(anyList(), eq(NODE_ID))).thenAnswer(invocation -> invocation.getArgument(0));
+        shortCodePool.refillIfNeeded();
+
+        shortCodePool.refillIfNeeded();
+
+        verify(shortCodeRepository, times(1)).reserve(anyList(), eq(NODE_ID));
+    }
+
+    /**
+     * Test case for the {@link ShortCodePool#next()} method.
+     */
+    @Test
+    void takeTest() {
+        when(shortCodeRepository.reserve(anyList(), eq(NODE_ID))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Set<String> codes = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            codes.add(shortCodePool.next());
+        }
+
+        assertThat(codes).hasSize(4).allMatch(code -> code.matches("[A-Za-z0-9]{8}"));
+        verify(shortCodeRepository, times(1)).reserve(anyList(), eq(NODE_ID));
+    }
+
+    /**
+     * Test case for the {@link ShortCodePool#next()} method when codes are already taken by other nodes or links.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void takeRejectedCodesTest() {
+        when(shortCodeRepository.reserve(anyList(), eq(NODE_ID)))
+                .thenAnswer(invocation -> ((List<String>) invocation.getArgument(0)).subList(0, 1));
+
+        String code = shortCodePool.next();
+
+        assertThat(code).hasSize(8);
+        assertThat(shortCodePool.available()).isZero();
+    }
+
+    /**
+     * Test case for the {@link ShortCodePool#next()} method when no codes can be reserved.
+     */
+    @Test
+    void takeExhaustedTest() {
+        when(shortCodeRepository.reserve(anyList(), eq(NODE_ID))).thenThrow(new RuntimeException("Database is down"));
+
+        assertThatThrownBy(() -> shortCodePool.next()).isInstanceOf(InternalServerLinkException.class);
+    }
+
+    /**
+     * Test case for the {@link ShortCodePool#shutdown()} method.
+     */
+    @Test
+    void shutdownTest() {
+        when(shortCodeRepository.reserve(anyList(), eq(NODE_ID))).thenAnswer(invocation -> invocation.getArgument(0));
+        shortCodePool.refillIfNeeded();
+        String taken = shortCodePool.next();
+
+        shortCodePool.shutdown();
+
+        verify(shortCodeRepository, times(1)).release(
+                argThat(codes -> codes.size() == 3 && !codes.contains(taken)),
+                eq(NODE_ID));
+        assertThat(shortCodePool.available()).isZero();
+    }
+
+    /**
+     * Test case for the {@link ShortCodePool#shutdown()} method when the pool is empty.
+     */
+    @Test
+    void shutdownEmptyTest() {
+        shortCodePool.shutdown();
+
+        verify(shortCodeRepository, never()).release(anyList(), eq(NODE_ID));
+    }
+
+    /**
+     * Test case for the {@link ShortCodePool#renewReservations()} method.
+     */
+    @Test
+    void renewReservationsTest() {
+        when(shortCodeRepository.reserve(anyList(), eq(NODE_ID))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(shortCodeRepository.deleteStale(any())).thenReturn(3);
+        shortCodePool.refillIfNeeded();
+        String taken = shortCodePool.next();
+
+        shortCodePool.renewReservations();
+
+        verify(shortCodeRepository, times(1)).renew(
+                argThat(codes -> codes.size() == 3 && !codes.contains(taken)),
+                eq(NODE_ID));
+        verify(shortCodeRepository, times(1)).deleteStale(
+                argThat(reservedBefore -> reservedBefore.isBefore(LocalDateTime.now().minusMinutes(59))));
+    }
+
+    /**
+     * Test case for the {@link ShortCodePool#renewReservations()} method when the pool is empty.
+     */
+    @Test
+    void renewReservationsEmptyTest() {
+        shortCodePool.renewReservations();
+
+        verify(shortCodeRepository, never()).renew(anyList(), eq(NODE_ID));
+        verify(shortCodeRepository, times(1)).deleteStale(any());
+    }
+
+    /**
+     * Test case for the {@link ShortCodePool#findReserved(java.util.Collection)} method.
+     */
+    @Test
+    void findReservedTest() {
+        when(shortCodeRepository.findReserved(List.of("qK8fW2xZ", "bR3tY7uP"))).thenReturn(Set.of("qK8fW2xZ"));
+
+        Set<String> reserved = shortCodePool.findReserved(List.of("qK8fW2xZ", "example", "bR3tY7uP", "abc-1234"));
+
+        assertThat(reserved).containsExactly("qK8fW2xZ");
+    }
+
+    /**
+     * Test case for the {@link ShortCodePool#findReserved(java.util.Collection)} method when no name has the format
+     * of a code.
+     */
+    @Test
+    void findReservedNoCodesTest() {
+        Set<String> reserved = shortCodePool.findReserved(List.of("example", "abc-1234"));
+
+        assertThat(reserved).isEmpty();
+        verify(shortCodeRepository, never()).findReserved(any());
+    }
+
+    /**
+     * Test case for the {@link ShortCodePool#markUsed(java.util.Collection)} method.
+     */
+    @Test
+    void markUsedTest() {
+        shortCodePool.markUsed(List.of("qK8fW2xZ"));
+
+        verify(shortCodeRepository, times(1)).release(List.of("qK8fW2xZ"), NODE_ID);
+    }
+}
@@ -0,0 +1,56 @@
+package com.linkurlshorter.urlshortener.link.generator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link ShortCodeScrambler} class.
+ */
+class ShortCodeScramblerTest {
+
+    /**
+     * Test case for the {@link ShortCodeScrambler#scramble(long)} method over a whole small domain.
+     */
+    @Test
+    void scrambleIsPermutationTest() {
+        long domain = Base62.capacity(3);
+        ShortCodeScrambler scrambler = new ShortCodeScrambler(42, domain);
+
+        Set<Long> scrambled = new HashSet<>();
+        LongStream.range(0, domain).forEach(value -> scrambled.add(scrambler.scramble(value)));
+
+        assertThat(scrambled).hasSize((int) domain).allMatch(value -> value >= 0 && value < domain);
+    }
+
+    /**
+     * Test case for the {@link ShortCodeScrambler#scramble(long)} method with consecutive values.
+     */
+    @Test
+    void scrambleConsecutiveValuesTest() {
+        ShortCodeScrambler scrambler = new ShortCodeScrambler(42, Base62.capacity(7));
+
+        long first = scrambler.scramble(1000);
+        long second = scrambler.scramble(1001);
+
+        assertThat(Math.abs(second - first)).isGreaterThan(1000);
+        assertThat(scrambler.scramble(1000)).isEqualTo(first);
+    }
+
+    /**
+     * Test case for the {@link ShortCodeScrambler#scramble(long)} method with different keys.
+     */
+    @Test
+    void scrambleDependsOnKeyTest() {
+        long domain = Base62.capacity(7);
+
+        long withFirstKey = new ShortCodeScrambler(1, domain).scramble(1000);
+        long withSecondKey = new ShortCodeScrambler(2, domain).scramble(1000);
+
+        assertThat(withFirstKey).isNotEqualTo(withSecondKey);
+    }
+}
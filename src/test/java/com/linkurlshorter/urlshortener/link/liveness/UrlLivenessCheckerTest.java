@@ -0,0 +1,278 @@
+package com.linkurlshorter.urlshortener.link.liveness;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link UrlLivenessChecker} class.
+ *
+ * <p>The long links are served by a local HTTP server.
+ */
+class UrlLivenessCheckerTest {
+    private static final Duration TIMEOUT = Duration.ofMillis(500);
+    private static final Duration TRANSIENT_TTL = Duration.ofMillis(200);
+    private static final String CALLBACK_THREAD = "liveness-callback";
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private ExecutorService callbackExecutor;
+    private OkHttpClient httpClient;
+    private AtomicInteger requests;
+    private String baseUrl;
+
+    /**
+     * Set up method to start the local HTTP server before each test method.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        requests = new AtomicInteger();
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/alive", exchange -> {
+            requests.incrementAndGet();
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.createContext("/dead", exchange -> {
+            requests.incrementAndGet();
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        server.createContext("/unavailable", exchange -> {
+            requests.incrementAndGet();
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+        });
+        server.createContext("/slow", exchange -> {
+            requests.incrementAndGet();
+            try {
+                Thread.sleep(TIMEOUT.multipliedBy(4).toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        callbackExecutor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, CALLBACK_THREAD));
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+        httpClient = new OkHttpClient.Builder()
+                .callTimeout(TIMEOUT.multipliedBy(2))
+                .build();
+    }
+
+    /**
+     * Tear down method to stop the local HTTP server after each test method.
+     */
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+        callbackExecutor.shutdownNow();
+        httpClient.dispatcher().executorService().shutdownNow();
+    }
+
+    /**
+     * Test case for the {@link UrlLivenessChecker#isDead(String)} method when the long link is alive.
+     */
+    @Test
+    void isDeadAliveTest() {
+        UrlLivenessChecker checker = checker(LivenessCheckMode.BLOCKING, 10);
+
+        assertThat(checker.isDead(baseUrl + "/alive")).isFalse();
+    }
+
+    /**
+     * Test case for the {@link UrlLivenessChecker#isDead(String)} method when the long link answers with an
+     * error status.
+     */
+    @Test
+    void isDeadDeadTest() {
+        UrlLivenessChecker checker = checker(LivenessCheckMode.BLOCKING, 10);
+
+        assertThat(checker.isDead(baseUrl + "/dead")).isTrue();
+    }
+
+    /**
+     * Test case for the {@link UrlLivenessChecker#isDead(String)} method when the long link is checked twice.
+     */
+    @Test
+    void isDeadCachedTest() {
+        UrlLivenessChecker checker = checker(LivenessCheckMode.BLOCKING, 10);
+
+        checker.isDead(baseUrl + "/alive");
+        checker.isDead(baseUrl + "/alive");
+
+        assertThat(requests).hasValue(1);
+    }
+
+    /**
+     * Test case for the {@link UrlLivenessChecker#isDead(String)} method when the long link answers with an error
+     * that may be temporary and is checked again after the transient TTL.
+     */
+    @Test
+    void isDeadTransientFailureTest() throws InterruptedException {
+        UrlLivenessChecker checker = checker(LivenessCheckMode.BLOCKING, 10);
+
+        assertThat(checker.isDead(baseUrl + "/unavailable")).isTrue();
+        assertThat(checker.isDead(baseUrl + "/dead")).isTrue();
+        Thread.sleep(TRANSIENT_TTL.multipliedBy(2).toMillis());
+        assertThat(checker.isDead(baseUrl + "/unavailable")).isTrue();
+        assertThat(checker.isDead(baseUrl + "/dead")).isTrue();
+
+        assertThat(requests).hasValue(3);
+    }
+
+    /**
+     * Test case for the {@link UrlLivenessChecker#isDead(String)} method when the long link does not answer in
+     * time.
+     */
+    @Test
+    void isDeadTimeoutTest() {
+        UrlLivenessChecker checker = checker(LivenessCheckMode.BLOCKING, 10);
+
+        assertThat(checker.isDead(baseUrl + "/slow")).isTrue();
+    }
+
+    /**
+     * Test case for the {@link UrlLivenessChecker#isDead(String)} method when the host of the long link refuses
+     * connections.
+     */
+    @Test
+    void isDeadUnreachableHostTest() throws IOException {
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+        UrlLivenessChecker checker = checker(LivenessCheckMode.BLOCKING, 10);
+
+        assertThat(checker.isDead("http://localhost:" + closedPort + "/alive")).isTrue();
+        assertThat(checker.check("http://localhost:" + closedPort + "/other")).isCompletedWithValue(false);
+    }
+
+    /**
+     * Test case for the {@link UrlLivenessChecker#isDead(String)} method when too many checks are pending.
+     */
+    @Test
+    void isDeadTooManyPendingTest() {
+        UrlLivenessChecker checker = checker(LivenessCheckMode.BLOCKING, 0);
+
+        assertThat(checker.isDead(baseUrl + "/dead")).isFalse();
+        assertThat(requests).hasValue(0);
+    }
+
+    /**
+     * Test case for the {@link UrlLivenessChecker#isDead(String)} method when the checks are disabled.
+     */
+    @Test
+    void isDeadDisabledTest() {
+        UrlLivenessChecker checker = checker(LivenessCheckMode.DISABLED, 10);
+
+        assertThat(checker.isDead(baseUrl + "/dead")).isFalse();
+        assertThat(requests).hasValue(0);
+    }
+
+    /**
+     * Test case for the {@link UrlLivenessChecker#isDead(String)} method in accept-then-verify mode.
+     */
+    @Test
+    void isDeadAcceptThenVerifyTest() {
+        UrlLivenessChecker checker = checker(LivenessCheckMode.ACCEPT_THEN_VERIFY, 10);
+
+        assertThat(checker.isDead(baseUrl + "/slow")).isFalse();
+        checker.check(baseUrl + "/dead").join();
+        assertThat(checker.isDead(baseUrl + "/dead")).isTrue();
+    }
+
+    /**
+     * Test case for the {@link UrlLivenessChecker#whenDead(String, Runnable)} method in accept-then-verify mode.
+     */
+    @Test
+    void whenDeadAcceptThenVerifyTest() throws InterruptedException {
+        UrlLivenessChecker checker = checker(LivenessCheckMode.ACCEPT_THEN_VERIFY, 10);
+        CountDownLatch deadLinks = new CountDownLatch(1);
+        AtomicInteger aliveLinks = new AtomicInteger();
+
+        checker.whenDead(baseUrl + "/dead", deadLinks::countDown);
+        checker.whenDead(baseUrl + "/alive", aliveLinks::incrementAndGet);
+
+        assertThat(deadLinks.await(5, TimeUnit.SECONDS)).isTrue();
+        checker.check(baseUrl + "/alive").join();
+        assertThat(aliveLinks).hasValue(0);
+    }
+
+    /**
+     * Test case for the {@link UrlLivenessChecker#whenDead(String, Runnable)} method running the action on the
+     * callback executor.
+     */
+    @Test
+    void whenDeadCallbackExecutorTest() throws InterruptedException {
+        UrlLivenessChecker checker = checker(LivenessCheckMode.ACCEPT_THEN_VERIFY, 10);
+        CountDownLatch deadLinks = new CountDownLatch(1);
+        AtomicReference<String> thread = new AtomicReference<>();
+
+        checker.whenDead(baseUrl + "/dead", () -> {
+            thread.set(Thread.currentThread().getName());
+            deadLinks.countDown();
+        });
+
+        assertThat(deadLinks.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(thread).hasValue(CALLBACK_THREAD);
+    }
+
+    /**
+     * Test case for the {@link UrlLivenessChecker#whenDead(String, Runnable)} method in blocking mode.
+     */
+    @Test
+    void whenDeadBlockingTest() {
+        UrlLivenessChecker checker = checker(LivenessCheckMode.BLOCKING, 10);
+        AtomicInteger deadLinks = new AtomicInteger();
+
+        checker.whenDead(baseUrl + "/dead", deadLinks::incrementAndGet);
+
+        assertThat(deadLinks).hasValue(0);
+        assertThat(requests).hasValue(0);
+    }
+
+    /**
+     * Test case for the {@link UrlLivenessChecker#bindTo} method.
+     */
+    @Test
+    void bindToTest() {
+        UrlLivenessChecker checker = checker(LivenessCheckMode.BLOCKING, 10);
+        checker.isDead(baseUrl + "/alive");
+        checker.isDead(baseUrl + "/dead");
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        checker.bindTo(registry);
+
+        assertThat(registry.get("link.liveness.checks").tag("result", "alive").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("link.liveness.checks").tag("result", "dead").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("link.liveness.pending").gauge().value()).isZero();
+    }
+
+    private UrlLivenessChecker checker(LivenessCheckMode mode, int maxPending) {
+        return new UrlLivenessChecker(httpClient, mode, TIMEOUT, Duration.ofMinutes(5), TRANSIENT_TTL, 100,
+                maxPending, callbackExecutor);
+    }
+}
@@ -0,0 +1,29 @@
+package com.linkurlshorter.urlshortener.link.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link LongLinkHash} class.
+ */
+class LongLinkHashTest {
+
+    /**
+     * Test case for the {@link LongLinkHash#of(String)} method, against the value PostgreSQL computes for the
+     * same long link.
+     */
+    @Test
+    void ofTest() {
+        assertThat(LongLinkHash.of("https://www.youtube.com")).isEqualTo(-2795861526757444963L);
+    }
+
+    /**
+     * Test case for the {@link LongLinkHash#of(String)} method with different long links.
+     */
+    @Test
+    void ofDifferentLinksTest() {
+        assertThat(LongLinkHash.of("https://www.youtube.com"))
+                .isNotEqualTo(LongLinkHash.of("https://www.youtube.com/"));
+    }
+}
@@ -0,0 +1,155 @@
+package com.linkurlshorter.urlshortener.link.statistics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link ClickAggregator} class.
+ */
+@ExtendWith(MockitoExtension.class)
+class ClickAggregatorTest {
+    @Mock
+    private RedisClickCounters redisClickCounters;
+
+    private ClickAggregator clickAggregator;
+
+    /**
+     * Set up method to initialize test data before each test method.
+     */
+    @BeforeEach
+    void setUp() {
+        clickAggregator = new ClickAggregator(redisClickCounters, 2);
+    }
+
+    /**
+     * Test case for the {@link ClickAggregator#flush()} method.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void flushTest() {
+        clickAggregator.record("short-link-1");
+        clickAggregator.record("short-link-1");
+        clickAggregator.record("short-link-2");
+        clickAggregator.record("short-link-3");
+
+        clickAggregator.flush();
+
+        ArgumentCaptor<List<Map.Entry<String, Long>>> captor = ArgumentCaptor.forClass(List.class);
+        verify(redisClickCounters, times(2)).incrementAll(captor.capture());
+        assertThat(captor.getAllValues().stream().flatMap(List::stream))
+                .containsExactlyInAnyOrder(Map.entry("short-link-1", 2L), Map.entry("short-link-2", 1L),
+                        Map.entry("short-link-3", 1L));
+        assertThat(clickAggregator.pendingClicks()).isZero();
+    }
+
+    /**
+     * Test case for the {@link ClickAggregator#flush()} method when no clicks have been recorded.
+     */
+    @Test
+    void flushNothingRecordedTest() {
+        clickAggregator.flush();
+
+        verify(redisClickCounters, never()).incrementAll(anyList());
+    }
+
+    /**
+     * Test case for the {@link ClickAggregator#flush()} method when the Redis update fails.
+     */
+    @Test
+    void flushFailedTest() {
+        doThrow(new RuntimeException("Redis is unavailable"))
+                .when(redisClickCounters).incrementAll(anyList());
+        clickAggregator.record("short-link-1");
+        clickAggregator.record("short-link-1");
+
+        clickAggregator.flush();
+
+        assertThat(clickAggregator.pendingClicks()).isEqualTo(2);
+    }
+
+    /**
+     * Test case for the {@link ClickAggregator#bindTo} method after a failed flush.
+     */
+    @Test
+    void bindToFlushFailedTest() {
+        doThrow(new RuntimeException("Redis is unavailable"))
+                .when(redisClickCounters).incrementAll(anyList());
+        clickAggregator.record("short-link-1");
+        clickAggregator.record("short-link-2");
+        clickAggregator.record("short-link-3");
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        clickAggregator.bindTo(registry);
+
+        clickAggregator.flush();
+
+        assertThat(registry.get("link.clicks.restored").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("link.clicks.pending").gauge().value()).isEqualTo(3);
+    }
+
+    /**
+     * Test case for the {@link ClickAggregator#record(String)} method when clicks are recorded concurrently.
+     */
+    @Test
+    void recordConcurrentlyTest() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        IntStream.range(0, 10_000).forEach(i -> executor.execute(() -> clickAggregator.record("short-link-1")));
+        executor.shutdown();
+
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(clickAggregator.pendingClicks()).isEqualTo(10_000);
+    }
+
+    /**
+     * Test case for the {@link ClickAggregator#move(String, String)} method.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void moveTest() {
+        clickAggregator.record("short-link-1");
+        clickAggregator.record("short-link-1");
+        clickAggregator.record("short-link-2");
+
+        clickAggregator.move("short-link-1", "short-link-3");
+        clickAggregator.flush();
+
+        verify(redisClickCounters, times(1)).move("short-link-1", "short-link-3");
+        ArgumentCaptor<List<Map.Entry<String, Long>>> captor = ArgumentCaptor.forClass(List.class);
+        verify(redisClickCounters, times(1)).incrementAll(captor.capture());
+        assertThat(captor.getValue())
+                .containsExactlyInAnyOrder(Map.entry("short-link-3", 2L), Map.entry("short-link-2", 1L));
+    }
+
+    /**
+     * Test case for the {@link ClickAggregator#move(String, String)} method when the Redis update fails.
+     */
+    @Test
+    void moveFailedTest() {
+        doThrow(new RuntimeException("Redis is unavailable"))
+                .when(redisClickCounters).move(anyString(), anyString());
+        clickAggregator.record("short-link-1");
+
+        clickAggregator.move("short-link-1", "short-link-3");
+
+        assertThat(clickAggregator.pendingClicks()).isEqualTo(1);
+    }
+}
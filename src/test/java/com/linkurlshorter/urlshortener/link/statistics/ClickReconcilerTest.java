@@ -0,0 +1,173 @@
+package com.linkurlshorter.urlshortener.link.statistics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.OngoingStubbing;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.params.SetParams;
+import redis.clients.jedis.resps.ScanResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ClickReconciler} class.
+ */
+@ExtendWith(MockitoExtension.class)
+class ClickReconcilerTest {
+    @Mock
+    private JedisPool jedisPool;
+
+    @Mock
+    private Jedis jedis;
+
+    @Mock
+    private ClickStatisticsRepository clickStatisticsRepository;
+
+    private ClickReconciler clickReconciler;
+
+    /**
+     * Set up method to initialize test data before each test method.
+     */
+    @BeforeEach
+    void setUp() {
+        clickReconciler = new ClickReconciler(jedisPool, clickStatisticsRepository, 500, 60_000);
+        when(jedisPool.getResource()).thenReturn(jedis);
+    }
+
+    /**
+     * Test case for the {@link ClickReconciler#reconcile()} method.
+     */
+    @Test
+    void reconcileTest() {
+        when(jedis.set(eq(RedisClickCounters.LOCK_KEY), anyString(), any(SetParams.class))).thenReturn("OK");
+        when(jedis.exists(RedisClickCounters.DRAINING_KEY)).thenReturn(false);
+        when(jedis.exists(RedisClickCounters.CLICKS_KEY)).thenReturn(true);
+        when(jedis.renamenx(RedisClickCounters.CLICKS_KEY, RedisClickCounters.DRAINING_KEY)).thenReturn(1L);
+        whenRenewLock().thenReturn(1L);
+        when(jedis.hscan(eq(RedisClickCounters.DRAINING_KEY), eq(ScanParams.SCAN_POINTER_START), any(ScanParams.class)))
+                .thenReturn(new ScanResult<>(ScanParams.SCAN_POINTER_START,
+                        List.of(Map.entry("short-link-1", "3"), Map.entry("short-link-2", "1"))));
+
+        clickReconciler.reconcile();
+
+        verify(jedis, never()).rename(anyString(), anyString());
+        verify(clickStatisticsRepository, times(1)).incrementStatistics(
+                eq(List.of(Map.entry("short-link-1", 3L), Map.entry("short-link-2", 1L))),
+                any(LocalDateTime.class));
+        verify(jedis, times(1)).hdel(RedisClickCounters.DRAINING_KEY, "short-link-1", "short-link-2");
+        verify(jedis, times(1)).eval(anyString(), eq(List.of(RedisClickCounters.LOCK_KEY)),
+                argThat(args -> args.size() == 2 && args.get(1).equals("60000")));
+        verify(jedis, times(2)).eval(anyString(), eq(List.of(RedisClickCounters.LOCK_KEY)), anyList());
+    }
+
+    /**
+     * Test case for the {@link ClickReconciler#reconcile()} method when a short link matches no link any more.
+     */
+    @Test
+    void reconcileOrphanedTest() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        clickReconciler.bindTo(registry);
+        when(jedis.set(eq(RedisClickCounters.LOCK_KEY), anyString(), any(SetParams.class))).thenReturn("OK");
+        when(jedis.exists(RedisClickCounters.DRAINING_KEY)).thenReturn(true);
+        whenRenewLock().thenReturn(1L);
+        when(jedis.hscan(eq(RedisClickCounters.DRAINING_KEY), eq(ScanParams.SCAN_POINTER_START), any(ScanParams.class)))
+                .thenReturn(new ScanResult<>(ScanParams.SCAN_POINTER_START,
+                        List.of(Map.entry("short-link-1", "3"), Map.entry("short-link-2", "1"))));
+        when(clickStatisticsRepository.incrementStatistics(anyList(), any(LocalDateTime.class)))
+                .thenReturn(List.of("short-link-1"));
+
+        clickReconciler.reconcile();
+
+        verify(jedis, times(1)).hdel(RedisClickCounters.DRAINING_KEY, "short-link-1", "short-link-2");
+        assertThat(registry.get("link.clicks.orphaned").functionCounter().count()).isEqualTo(3);
+        assertThat(registry.get("link.clicks.reconciled").functionCounter().count()).isEqualTo(1);
+    }
+
+    /**
+     * Test case for the {@link ClickReconciler#reconcile()} method when another node started draining the counters
+     * in the meantime.
+     */
+    @Test
+    void reconcileAlreadyDrainingTest() {
+        when(jedis.set(eq(RedisClickCounters.LOCK_KEY), anyString(), any(SetParams.class))).thenReturn("OK");
+        when(jedis.exists(RedisClickCounters.DRAINING_KEY)).thenReturn(false);
+        when(jedis.exists(RedisClickCounters.CLICKS_KEY)).thenReturn(true);
+        when(jedis.renamenx(RedisClickCounters.CLICKS_KEY, RedisClickCounters.DRAINING_KEY)).thenReturn(0L);
+
+        clickReconciler.reconcile();
+
+        verify(jedis, never()).hscan(anyString(), anyString(), any(ScanParams.class));
+        verify(clickStatisticsRepository, never()).incrementStatistics(anyList(), any(LocalDateTime.class));
+    }
+
+    /**
+     * Test case for the {@link ClickReconciler#reconcile()} method when the lock expires while draining.
+     */
+    @Test
+    void reconcileLockLostTest() {
+        when(jedis.set(eq(RedisClickCounters.LOCK_KEY), anyString(), any(SetParams.class))).thenReturn("OK");
+        when(jedis.exists(RedisClickCounters.DRAINING_KEY)).thenReturn(true);
+        whenRenewLock().thenReturn(0L);
+
+        clickReconciler.reconcile();
+
+        verify(jedis, never()).hscan(anyString(), anyString(), any(ScanParams.class));
+        verify(clickStatisticsRepository, never()).incrementStatistics(anyList(), any(LocalDateTime.class));
+    }
+
+    /**
+     * Test case for the {@link ClickReconciler#reconcile()} method when another node holds the lock.
+     */
+    @Test
+    void reconcileLockedTest() {
+        when(jedis.set(eq(RedisClickCounters.LOCK_KEY), anyString(), any(SetParams.class))).thenReturn(null);
+
+        clickReconciler.reconcile();
+
+        verify(jedis, never()).rename(anyString(), anyString());
+        verify(clickStatisticsRepository, never()).incrementStatistics(anyList(), any(LocalDateTime.class));
+    }
+
+    /**
+     * Test case for the {@link ClickReconciler#reconcile()} method when the database update fails.
+     */
+    @Test
+    void reconcileFailedTest() {
+        when(jedis.set(eq(RedisClickCounters.LOCK_KEY), anyString(), any(SetParams.class))).thenReturn("OK");
+        when(jedis.exists(RedisClickCounters.DRAINING_KEY)).thenReturn(true);
+        whenRenewLock().thenReturn(1L);
+        when(jedis.hscan(eq(RedisClickCounters.DRAINING_KEY), eq(ScanParams.SCAN_POINTER_START), any(ScanParams.class)))
+                .thenReturn(new ScanResult<>(ScanParams.SCAN_POINTER_START, List.of(Map.entry("short-link-1", "3"))));
+        doThrow(new RuntimeException("Database is unavailable"))
+                .when(clickStatisticsRepository).incrementStatistics(anyList(), any(LocalDateTime.class));
+
+        clickReconciler.reconcile();
+
+        verify(jedis, never()).hdel(anyString(), any(String[].class));
+        verify(jedis, times(2)).eval(anyString(), eq(List.of(RedisClickCounters.LOCK_KEY)), anyList());
+    }
+
+    private OngoingStubbing<Object> whenRenewLock() {
+        return when(jedis.eval(anyString(), eq(List.of(RedisClickCounters.LOCK_KEY)), anyList()));
+    }
+}
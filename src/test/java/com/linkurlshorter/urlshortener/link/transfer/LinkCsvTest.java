@@ -0,0 +1,67 @@
+package com.linkurlshorter.urlshortener.link.transfer;
+
+import com.linkurlshorter.urlshortener.link.model.LinkStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link LinkCsv} class.
+ */
+class LinkCsvTest {
+    private static final LinkRecord RECORD = new LinkRecord("shortLink1", "https://www.youtube.com",
+            "test1@gmail.com", LocalDateTime.of(2024, 4, 13, 10, 0), LocalDateTime.of(2024, 5, 16, 8, 0, 30),
+            100, LinkStatus.ACTIVE);
+
+    /**
+     * Test case for the {@link LinkCsv#write} method.
+     */
+    @Test
+    void writeTest() throws Exception {
+        StringBuilder line = new StringBuilder();
+
+        LinkCsv.write(RECORD, line);
+
+        assertThat(line).hasToString(
+                "shortLink1,https://www.youtube.com,test1@gmail.com,2024-04-13T10:00,2024-05-16T08:00:30,100,ACTIVE");
+    }
+
+    /**
+     * Test case for the {@link LinkCsv#write} and {@link LinkCsv#parse} methods with fields that have to be
+     * quoted.
+     */
+    @Test
+    void quotedFieldsTest() throws Exception {
+        LinkRecord record = new LinkRecord("shortLink1", "https://www.example.com/?q=\"a,b\"", "test1@gmail.com",
+                RECORD.createdTime(), RECORD.expirationTime(), 0, LinkStatus.DELETED);
+        StringBuilder line = new StringBuilder();
+
+        LinkCsv.write(record, line);
+
+        assertThat(line.toString()).contains("\"https://www.example.com/?q=\"\"a,b\"\"\"");
+        assertThat(LinkCsv.parse(line.toString())).isEqualTo(record);
+    }
+
+    /**
+     * Test case for the {@link LinkCsv#parse} method.
+     */
+    @Test
+    void parseTest() {
+        LinkRecord record = LinkCsv.parse(
+                "shortLink1,https://www.youtube.com,test1@gmail.com,2024-04-13T10:00,2024-05-16T08:00:30,100,ACTIVE");
+
+        assertThat(record).isEqualTo(RECORD);
+    }
+
+    /**
+     * Test case for the {@link LinkCsv#parse} method with a line missing fields.
+     */
+    @Test
+    void parseMissingFieldsTest() {
+        assertThatThrownBy(() -> LinkCsv.parse("shortLink1,https://www.youtube.com"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
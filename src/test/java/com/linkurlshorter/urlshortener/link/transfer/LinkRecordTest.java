@@ -0,0 +1,44 @@
+package com.linkurlshorter.urlshortener.link.transfer;
+
+import com.linkurlshorter.urlshortener.link.model.LinkStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link LinkRecord} class.
+ */
+class LinkRecordTest {
+
+    /**
+     * Test case for the {@link LinkRecord#isValid()} method with a valid record.
+     */
+    @Test
+    void isValidTest() {
+        assertThat(record("shortLink1").isValid()).isTrue();
+        assertThat(record("abc").isValid()).isTrue();
+        assertThat(record("qK8fW2xZ").isValid()).isTrue();
+    }
+
+    /**
+     * Test case for the {@link LinkRecord#isValid()} method with short links that users cannot give to links.
+     *
+     * @param shortLink the invalid short link
+     */
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"  ", "ab", "short-link-1", "short link", "shortLink1shortLink12", "abc1234"})
+    void isValidInvalidShortLinkTest(String shortLink) {
+        assertThat(record(shortLink).isValid()).isFalse();
+    }
+
+    private static LinkRecord record(String shortLink) {
+        return new LinkRecord(shortLink, "https://www.youtube.com", "test1@gmail.com",
+                LocalDateTime.of(2024, 4, 13, 10, 0), LocalDateTime.of(2024, 5, 16, 8, 0), 100, LinkStatus.ACTIVE);
+    }
+}
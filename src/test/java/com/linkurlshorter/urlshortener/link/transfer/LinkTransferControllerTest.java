@@ -0,0 +1,109 @@
+package com.linkurlshorter.urlshortener.link.transfer;
+
+import com.linkurlshorter.urlshortener.TestConfig;
+import com.linkurlshorter.urlshortener.link.exception.LinkTransferInProgressException;
+import com.linkurlshorter.urlshortener.security.SecurityConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.util.function.ThrowingSupplier;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unit tests for {@link LinkTransferController} class.
+ */
+@WebMvcTest(controllers = LinkTransferController.class)
+@Import({SecurityConfig.class, TestConfig.class})
+class LinkTransferControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private LinkTransferService linkTransferService;
+
+    /**
+     * Test case for the {@link LinkTransferController#exportLinks} method.
+     */
+    @Test
+    @WithMockUser(authorities = "ADMIN")
+    void exportLinksTest() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream out = invocation.<ThrowingSupplier<OutputStream>>getArgument(1).get();
+            out.write((LinkCsv.HEADER + "\n").getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(linkTransferService).exportLinks(eq(LinkTransferFormat.CSV), any());
+
+        mockMvc.perform(get("/api/V1/admin/links/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"links.csv\""))
+                .andExpect(content().string(LinkCsv.HEADER + "\n"));
+    }
+
+    /**
+     * Test case for the {@link LinkTransferController#exportLinks} method when another export is running.
+     */
+    @Test
+    @WithMockUser(authorities = "ADMIN")
+    void exportLinksInProgressTest() throws Exception {
+        doThrow(new LinkTransferInProgressException())
+                .when(linkTransferService).exportLinks(eq(LinkTransferFormat.NDJSON), any());
+
+        mockMvc.perform(get("/api/V1/admin/links/export").param("format", "NDJSON"))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    /**
+     * Test case for the {@link LinkTransferController#exportLinks} method when the user is not an administrator.
+     */
+    @Test
+    @WithMockUser(authorities = "USER")
+    void exportLinksForbiddenTest() throws Exception {
+        mockMvc.perform(get("/api/V1/admin/links/export"))
+                .andExpect(status().isForbidden());
+
+        verify(linkTransferService, never()).exportLinks(any(), any());
+    }
+
+    /**
+     * Test case for the {@link LinkTransferController#importLinks} method.
+     */
+    @Test
+    @WithMockUser(authorities = "ADMIN")
+    void importLinksTest() throws Exception {
+        when(linkTransferService.importLinks(eq(LinkTransferFormat.NDJSON), any()))
+                .thenReturn(new LinkImportResult(4, 2, 1, 1));
+
+        mockMvc.perform(post("/api/V1/admin/links/import")
+                        .param("format", "NDJSON")
+                        .contentType("application/x-ndjson")
+                        .content("{}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.read").value(4))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.skipped").value(1))
+                .andExpect(jsonPath("$.invalid").value(1))
+                .andExpect(jsonPath("$.error").value("ok"));
+    }
+}
@@ -0,0 +1,168 @@
+package com.linkurlshorter.urlshortener.link.transfer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.linkurlshorter.urlshortener.link.cache.ShortLinkBloomFilter;
+import com.linkurlshorter.urlshortener.link.exception.InternalServerLinkException;
+import com.linkurlshorter.urlshortener.link.model.LinkStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link LinkTransferService} class.
+ */
+@ExtendWith(MockitoExtension.class)
+class LinkTransferServiceTest {
+    private static final String CSV_LINE =
+            "shortLink1,https://www.youtube.com,test1@gmail.com,2024-04-13T10:00,2024-05-16T08:00,100,ACTIVE";
+
+    @Mock
+    private LinkTransferRepository linkTransferRepository;
+
+    @Mock
+    private ShortLinkBloomFilter shortLinkBloomFilter;
+
+    @Mock
+    private JedisPool jedisPool;
+
+    @Mock
+    private Jedis jedis;
+
+    private LinkTransferService linkTransferService;
+    private LinkRecord record;
+
+    /**
+     * Set up method to initialize test data before each test method.
+     */
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        linkTransferService = new LinkTransferService(linkTransferRepository, shortLinkBloomFilter, jedisPool,
+                objectMapper, 2);
+        record = new LinkRecord("shortLink1", "https://www.youtube.com", "test1@gmail.com",
+                LocalDateTime.of(2024, 4, 13, 10, 0), LocalDateTime.of(2024, 5, 16, 8, 0), 100, LinkStatus.ACTIVE);
+    }
+
+    /**
+     * Test case for the {@link LinkTransferService#exportLinks} method with the CSV format.
+     */
+    @Test
+    void exportCsvTest() throws Exception {
+        scan(List.of(record));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        linkTransferService.exportLinks(LinkTransferFormat.CSV, () -> out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(LinkCsv.HEADER + "\n" + CSV_LINE + "\n");
+    }
+
+    /**
+     * Test case for the {@link LinkTransferService#exportLinks} method with the NDJSON format.
+     */
+    @Test
+    void exportNdjsonTest() throws Exception {
+        scan(List.of(record, record));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        linkTransferService.exportLinks(LinkTransferFormat.NDJSON, () -> out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"shortLink\":\"shortLink1\"", "\"createdTime\":\"2024-04-13T10:00:00\"");
+    }
+
+    /**
+     * Test case for the {@link LinkTransferService#importLinks} method with the CSV format.
+     */
+    @Test
+    void importCsvTest() throws Exception {
+        List<List<LinkRecord>> chunks = new ArrayList<>();
+        when(linkTransferRepository.insert(anyList())).thenAnswer(invocation -> {
+            List<LinkRecord> chunk = invocation.getArgument(0);
+            chunks.add(List.copyOf(chunk));
+            return chunk.size() - 1;
+        });
+        when(jedisPool.getResource()).thenReturn(jedis);
+        String csv = LinkCsv.HEADER + "\n"
+                + CSV_LINE + "\n"
+                + "\n"
+                + CSV_LINE.replace("shortLink1", "shortLink2") + "\n"
+                + "shortLink3,https://www.youtube.com\n"
+                + CSV_LINE.replace("shortLink1", "shortLink4") + "\n";
+
+        LinkImportResult result = linkTransferService.importLinks(LinkTransferFormat.CSV, stream(csv));
+
+        assertThat(result).isEqualTo(new LinkImportResult(4, 1, 2, 1));
+        assertThat(chunks).extracting(List::size).containsExactly(2, 1);
+        verify(shortLinkBloomFilter, times(1)).putAll(List.of("shortLink1", "shortLink2"));
+        verify(shortLinkBloomFilter, times(1)).putAll(List.of("shortLink4"));
+    }
+
+    /**
+     * Test case for the {@link LinkTransferService#importLinks} method with the NDJSON format.
+     */
+    @Test
+    void importNdjsonTest() throws Exception {
+        when(linkTransferRepository.insert(anyList())).thenReturn(1);
+        when(jedisPool.getResource()).thenReturn(jedis);
+        String ndjson = "{\"shortLink\":\"shortLink1\",\"longLink\":\"https://www.youtube.com\","
+                + "\"userEmail\":\"test1@gmail.com\",\"createdTime\":\"2024-04-13T10:00:00\","
+                + "\"expirationTime\":\"2024-05-16T08:00:00\",\"statistics\":100,\"status\":\"ACTIVE\"}\n"
+                + "{\"shortLink\":\"shortLink2\",\"status\":\"UNKNOWN\"}\n"
+                + "{\"shortLink\":\"shortLink3\"}\n";
+
+        LinkImportResult result = linkTransferService.importLinks(LinkTransferFormat.NDJSON, stream(ndjson));
+
+        assertThat(result).isEqualTo(new LinkImportResult(3, 1, 0, 2));
+        verify(linkTransferRepository, times(1)).insert(List.of(record));
+    }
+
+    /**
+     * Test case for the {@link LinkTransferService#importLinks} method when a chunk cannot be inserted.
+     */
+    @Test
+    void importFailedTest() {
+        when(linkTransferRepository.insert(anyList()))
+                .thenThrow(new DataAccessResourceFailureException("Connection refused"));
+
+        assertThatThrownBy(() -> linkTransferService.importLinks(LinkTransferFormat.CSV, stream(CSV_LINE)))
+                .isInstanceOf(InternalServerLinkException.class);
+    }
+
+    private void scan(List<LinkRecord> records) {
+        doAnswer(invocation -> {
+            records.forEach(invocation.<Consumer<LinkRecord>>getArgument(0));
+            return null;
+        }).when(linkTransferRepository).forEachLink(any());
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
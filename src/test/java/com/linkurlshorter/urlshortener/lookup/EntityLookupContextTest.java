@@ -0,0 +1,249 @@
+package com.linkurlshorter.urlshortener.lookup;
+
+import com.linkurlshorter.urlshortener.jwt.JwtPrincipal;
+import com.linkurlshorter.urlshortener.link.LinkService;
+import com.linkurlshorter.urlshortener.link.exception.NoLinkFoundByShortLinkException;
+import com.linkurlshorter.urlshortener.link.model.Link;
+import com.linkurlshorter.urlshortener.link.model.LinkStatus;
+import com.linkurlshorter.urlshortener.user.UserService;
+import com.linkurlshorter.urlshortener.user.model.User;
+import com.linkurlshorter.urlshortener.user.model.UserRole;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link EntityLookupContext} class.
+ */
+@ExtendWith(MockitoExtension.class)
+class EntityLookupContextTest {
+    private static final String EMAIL = "test1@gmail.com";
+
+    @Mock
+    private LinkService linkService;
+
+    @Mock
+    private UserService userService;
+
+    @InjectMocks
+    private EntityLookupContext entityLookupContext;
+
+    private ServletRequestAttributes requestAttributes;
+    private User user;
+    private Link link;
+
+    /**
+     * Set up method to start a request of the authenticated user before each test method.
+     */
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+                .id(UUID.fromString("84991c79-f6a9-4b7b-b1b4-0d66c0b92c81"))
+                .email(EMAIL)
+                .password("Password1")
+                .role(UserRole.USER)
+                .build();
+        link = Link.builder()
+                .id(UUID.fromString("3053e49b-6da3-4389-9d06-23b2d57b6f25"))
+                .longLink("https://www.youtube.com")
+                .shortLink("shortLink1")
+                .user(user)
+                .createdTime(LocalDateTime.of(2024, 4, 13, 10, 0))
+                .expirationTime(LocalDateTime.of(2030, 5, 16, 8, 0))
+                .statistics(100)
+                .status(LinkStatus.ACTIVE)
+                .build();
+        requestAttributes = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(EMAIL, null));
+    }
+
+    /**
+     * Tear down method to end the request after each test method.
+     */
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * Test case for the {@link EntityLookupContext#findByShortLink(String)} method when the link is looked up
+     * twice in a request.
+     */
+    @Test
+    void findByShortLinkMemoizedTest() {
+        when(linkService.findByShortLink("shortLink1")).thenReturn(link);
+
+        assertThat(entityLookupContext.findByShortLink("shortLink1")).isSameAs(link);
+        assertThat(entityLookupContext.findByShortLink("shortLink1")).isSameAs(link);
+
+        verify(linkService, times(1)).findByShortLink("shortLink1");
+        assertThat(entityLookupContext.queryCount()).isEqualTo(1);
+    }
+
+    /**
+     * Test case for the {@link EntityLookupContext#findByShortLink(String)} method when the link is looked up
+     * in two requests.
+     */
+    @Test
+    void findByShortLinkNewRequestTest() {
+        when(linkService.findByShortLink("shortLink1")).thenReturn(link);
+        entityLookupContext.findByShortLink("shortLink1");
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        entityLookupContext.findByShortLink("shortLink1");
+
+        verify(linkService, times(2)).findByShortLink("shortLink1");
+    }
+
+    /**
+     * Test case for the {@link EntityLookupContext#findByShortLink(String)} method when the link is not found.
+     */
+    @Test
+    void findByShortLinkNotFoundTest() {
+        when(linkService.findByShortLink("unknown")).thenThrow(NoLinkFoundByShortLinkException.class);
+
+        assertThatThrownBy(() -> entityLookupContext.findByShortLink("unknown"))
+                .isInstanceOf(NoLinkFoundByShortLinkException.class);
+        assertThatThrownBy(() -> entityLookupContext.findByShortLink("unknown"))
+                .isInstanceOf(NoLinkFoundByShortLinkException.class);
+
+        verify(linkService, times(2)).findByShortLink("unknown");
+    }
+
+    /**
+     * Test case for the {@link EntityLookupContext#findByShortLink(String)} method outside a request.
+     */
+    @Test
+    void findByShortLinkOutsideRequestTest() {
+        RequestContextHolder.resetRequestAttributes();
+        when(linkService.findByShortLink("shortLink1")).thenReturn(link);
+
+        entityLookupContext.findByShortLink("shortLink1");
+        entityLookupContext.findByShortLink("shortLink1");
+
+        verify(linkService, times(2)).findByShortLink("shortLink1");
+        assertThat(entityLookupContext.queryCount()).isZero();
+    }
+
+    /**
+     * Test case for the {@link EntityLookupContext#doesLinkExist(String)} method.
+     */
+    @Test
+    void doesLinkExistTest() {
+        when(linkService.findByShortLink("shortLink1")).thenReturn(link);
+        when(linkService.doesLinkExist("shortLink2")).thenReturn(false);
+        entityLookupContext.findByShortLink("shortLink1");
+
+        assertThat(entityLookupContext.doesLinkExist("shortLink1")).isTrue();
+        assertThat(entityLookupContext.doesLinkExist("shortLink2")).isFalse();
+        assertThat(entityLookupContext.doesLinkExist("shortLink2")).isFalse();
+
+        verify(linkService, never()).doesLinkExist("shortLink1");
+        verify(linkService, times(1)).doesLinkExist("shortLink2");
+        assertThat(entityLookupContext.queryCount()).isEqualTo(2);
+    }
+
+    /**
+     * Test case for the {@link EntityLookupContext#currentUser()} method.
+     */
+    @Test
+    void currentUserTest() {
+        when(userService.findByEmail(EMAIL)).thenReturn(user);
+
+        assertThat(entityLookupContext.currentUser()).isSameAs(user);
+        assertThat(entityLookupContext.currentUser()).isSameAs(user);
+
+        verify(userService, times(1)).findByEmail(EMAIL);
+        assertThat(entityLookupContext.queryCount()).isEqualTo(1);
+    }
+
+    /**
+     * Test case for the {@link EntityLookupContext#currentUserId()} method when the user is authenticated with a
+     * JWT token.
+     */
+    @Test
+    void currentUserIdJwtPrincipalTest() {
+        JwtPrincipal principal = new JwtPrincipal(user.getId(), EMAIL, UserRole.USER);
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
+
+        assertThat(entityLookupContext.currentUserId()).isEqualTo(user.getId());
+
+        verifyNoInteractions(userService);
+        assertThat(entityLookupContext.queryCount()).isZero();
+    }
+
+    /**
+     * Test case for the {@link EntityLookupContext#currentUserId()} method when the user is not authenticated with
+     * a JWT token.
+     */
+    @Test
+    void currentUserIdLookupTest() {
+        when(userService.findByEmail(EMAIL)).thenReturn(user);
+
+        assertThat(entityLookupContext.currentUserId()).isEqualTo(user.getId());
+    }
+
+    /**
+     * Test case for the {@link EntityLookupContext#currentUserReference()} method when the user is authenticated
+     * with a JWT token.
+     */
+    @Test
+    void currentUserReferenceJwtPrincipalTest() {
+        JwtPrincipal principal = new JwtPrincipal(user.getId(), EMAIL, UserRole.USER);
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
+        when(userService.getReferenceById(user.getId())).thenReturn(user);
+
+        assertThat(entityLookupContext.currentUserReference()).isSameAs(user);
+
+        verify(userService, never()).findByEmail(EMAIL);
+    }
+
+    /**
+     * Test case for the {@link EntityLookupContext#bindTo} method.
+     */
+    @Test
+    void bindToTest() {
+        when(linkService.findByShortLink("shortLink1")).thenReturn(link);
+        when(userService.findByEmail(EMAIL)).thenReturn(user);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        entityLookupContext.bindTo(registry);
+
+        entityLookupContext.findByShortLink("shortLink1");
+        entityLookupContext.currentUser();
+        entityLookupContext.findByShortLink("shortLink1");
+        entityLookupContext.currentUser();
+        requestAttributes.requestCompleted();
+
+        DistributionSummary queries = registry.get("entity.lookup.queries").summary();
+        assertThat(queries.count()).isEqualTo(1);
+        assertThat(queries.totalAmount()).isEqualTo(2);
+        assertThat(registry.get("entity.lookup.memoized").functionCounter().count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,149 @@
+package com.linkurlshorter.urlshortener.redirect;
+
+import com.linkurlshorter.urlshortener.link.LinkService;
+import com.linkurlshorter.urlshortener.link.exception.NoLinkFoundByShortLinkException;
+import com.linkurlshorter.urlshortener.link.redirect.RedirectFastPathFilter;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.ModelAndView;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link RedirectFastPathFilter} class.
+ */
+@ExtendWith(MockitoExtension.class)
+class RedirectFastPathFilterTest {
+    @Mock
+    private LinkService linkService;
+
+    @Mock
+    private FilterChain filterChain;
+
+    @Mock
+    private HandlerExceptionResolver handlerExceptionResolver;
+
+    @InjectMocks
+    private RedirectFastPathFilter redirectFastPathFilter;
+
+    /**
+     * Test case for the {@link RedirectFastPathFilter#doFilter} method when the short link is resolved.
+     */
+    @Test
+    void redirectTest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/short-link-1");
+        request.setServletPath("/short-link-1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        when(linkService.getLongLinkFromShortLink("short-link-1")).thenReturn("https://www.youtube.com");
+
+        redirectFastPathFilter.doFilter(request, response, filterChain);
+
+        assertThat(response.getStatus()).isEqualTo(302);
+        assertThat(response.getHeader(HttpHeaders.LOCATION)).isEqualTo("https://www.youtube.com");
+        verify(filterChain, never()).doFilter(any(), any());
+    }
+
+    /**
+     * Test case for the {@link RedirectFastPathFilter#doFilter} method when the short link cannot be resolved.
+     */
+    @Test
+    void redirectNotFoundTest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/unknown");
+        request.setServletPath("/unknown");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        NoLinkFoundByShortLinkException exception = new NoLinkFoundByShortLinkException();
+        when(linkService.getLongLinkFromShortLink("unknown")).thenThrow(exception);
+        when(handlerExceptionResolver.resolveException(request, response, null, exception))
+                .thenReturn(new ModelAndView());
+
+        redirectFastPathFilter.doFilter(request, response, filterChain);
+
+        assertThat(response.getHeader(HttpHeaders.LOCATION)).isNull();
+        verify(linkService, times(1)).getLongLinkFromShortLink("unknown");
+        verify(filterChain, never()).doFilter(any(), any());
+    }
+
+    /**
+     * Test case for the {@link RedirectFastPathFilter#doFilter} method when resolving the short link fails with an
+     * exception the global exception handler does not handle.
+     */
+    @Test
+    void redirectUnhandledExceptionTest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/short-link-1");
+        request.setServletPath("/short-link-1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        IllegalStateException exception = new IllegalStateException("Database unavailable");
+        when(linkService.getLongLinkFromShortLink("short-link-1")).thenThrow(exception);
+
+        assertThatThrownBy(() -> redirectFastPathFilter.doFilter(request, response, filterChain))
+                .isSameAs(exception);
+        verifyNoInteractions(filterChain);
+    }
+
+    /**
+     * Test case for the {@link RedirectFastPathFilter#doFilter} method with reserved paths matching the short link
+     * format.
+     *
+     * @param path the reserved path
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"/h2-console", "/swagger-ui", "/actuator", "/error"})
+    void reservedPathTest(String path) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        redirectFastPathFilter.doFilter(request, response, filterChain);
+
+        verify(linkService, never()).getLongLinkFromShortLink(anyString());
+        verify(filterChain, times(1)).doFilter(request, response);
+    }
+
+    /**
+     * Test case for the {@link RedirectFastPathFilter#doFilter} method with an API request.
+     */
+    @Test
+    void apiRequestTest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/V1/link/info");
+        request.setServletPath("/api/V1/link/info");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        redirectFastPathFilter.doFilter(request, response, filterChain);
+
+        verify(linkService, never()).getLongLinkFromShortLink(anyString());
+        verify(filterChain, times(1)).doFilter(request, response);
+    }
+
+    /**
+     * Test case for the {@link RedirectFastPathFilter#doFilter} method with a POST request.
+     */
+    @Test
+    void postRequestTest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/short-link-1");
+        request.setServletPath("/short-link-1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        redirectFastPathFilter.doFilter(request, response, filterChain);
+
+        verify(linkService, never()).getLongLinkFromShortLink(anyString());
+        verify(filterChain, times(1)).doFilter(request, response);
+    }
+}
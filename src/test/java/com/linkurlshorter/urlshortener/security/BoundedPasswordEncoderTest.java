@@ -0,0 +1,126 @@
+package com.linkurlshorter.urlshortener.security;
+
+import com.linkurlshorter.urlshortener.security.exception.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link BoundedPasswordEncoder} class.
+ */
+@ExtendWith(MockitoExtension.class)
+class BoundedPasswordEncoderTest {
+    @Mock
+    private PasswordEncoder delegate;
+
+    private BoundedPasswordEncoder encoder;
+
+    /**
+     * Tear down method to stop the hashing threads after each test method.
+     */
+    @AfterEach
+    void tearDown() {
+        encoder.destroy();
+    }
+
+    /**
+     * Test case for the {@link BoundedPasswordEncoder#encode(CharSequence)} method.
+     */
+    @Test
+    void encodeTest() {
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofSeconds(5));
+        when(delegate.encode("password")).thenAnswer(invocation -> Thread.currentThread().getName());
+
+        assertThat(encoder.encode("password")).startsWith("password-hashing-");
+    }
+
+    /**
+     * Test case for the {@link BoundedPasswordEncoder#matches(CharSequence, String)} method.
+     */
+    @Test
+    void matchesTest() {
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofSeconds(5));
+        when(delegate.matches("password", "hash")).thenReturn(true);
+
+        assertThat(encoder.matches("password", "hash")).isTrue();
+    }
+
+    /**
+     * Test case for the {@link BoundedPasswordEncoder#encode(CharSequence)} method when the delegate fails.
+     */
+    @Test
+    void encodeFailedTest() {
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofSeconds(5));
+        when(delegate.encode("password")).thenThrow(new IllegalArgumentException("Invalid password"));
+
+        assertThatThrownBy(() -> encoder.encode("password"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid password");
+    }
+
+    /**
+     * Test case for the {@link BoundedPasswordEncoder#encode(CharSequence)} method when the queue is full.
+     */
+    @Test
+    void encodeQueueFullTest() throws InterruptedException {
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofSeconds(5));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        encoder.bindTo(registry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.encode("password")).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return "hash";
+        });
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("password"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("password"));
+        awaitQueued(registry);
+
+        assertThatThrownBy(() -> encoder.encode("password")).isInstanceOf(PasswordHashingRejectedException.class);
+
+        release.countDown();
+        assertThat(running.join()).isEqualTo("hash");
+        assertThat(queued.join()).isEqualTo("hash");
+        assertThat(registry.get("password.hashing.rejected").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("password.hashing.wait").functionTimer().count()).isEqualTo(2);
+    }
+
+    /**
+     * Test case for the {@link BoundedPasswordEncoder#encode(CharSequence)} method when hashing takes longer than
+     * the timeout.
+     */
+    @Test
+    void encodeTimeoutTest() {
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.encode("password")).thenAnswer(invocation -> {
+            release.await();
+            return "hash";
+        });
+
+        assertThatThrownBy(() -> encoder.encode("password")).isInstanceOf(PasswordHashingRejectedException.class);
+    }
+
+    private static void awaitQueued(SimpleMeterRegistry registry) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.get("executor.queued").tag("name", "password-hashing").gauge().value() < 1) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
@@ -23,6 +23,7 @@ import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
@@ -48,6 +49,9 @@ class UserControllerIntegrationTest {
     @Container
     @ServiceConnection
     static PostgreSQLContainer<?> container = new PostgreSQLContainer<>("postgres:16.0-alpine");
+    @Container
+    @ServiceConnection
+    static GenericContainer<?> redis = new GenericContainer<>("redis:latest").withExposedPorts(6379);
 
     @Autowired
     private MockMvc mockMvc;
@@ -81,7 +85,9 @@ class UserControllerIntegrationTest {
                         .header("Authorization", token)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.error").value("ok"));
+                .andExpect(jsonPath("$.error").value("ok"))
+                .andExpect(jsonPath("$.jwtToken").isNotEmpty())
+                .andExpect(jsonPath("$.refreshToken").isNotEmpty());
     }
 
     /**
@@ -118,7 +124,9 @@ class UserControllerIntegrationTest {
                         .header("Authorization", token)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.error").value("ok"));
+                .andExpect(jsonPath("$.error").value("ok"))
+                .andExpect(jsonPath("$.jwtToken").isNotEmpty())
+                .andExpect(jsonPath("$.refreshToken").isNotEmpty());
     }
 
     /**
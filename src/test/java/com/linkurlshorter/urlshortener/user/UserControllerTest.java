@@ -1,9 +1,12 @@
 package com.linkurlshorter.urlshortener.user;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkurlshorter.urlshortener.auth.AuthService;
+import com.linkurlshorter.urlshortener.auth.dto.AuthTokens;
+import com.linkurlshorter.urlshortener.jwt.JwtPrincipal;
 import com.linkurlshorter.urlshortener.jwt.JwtUtil;
-import com.linkurlshorter.urlshortener.security.CustomUserDetailsService;
-import com.linkurlshorter.urlshortener.security.SecurityUserDetails;
+import com.linkurlshorter.urlshortener.lookup.EntityLookupContext;
+import com.linkurlshorter.urlshortener.security.exception.PasswordHashingRejectedException;
 import com.linkurlshorter.urlshortener.user.model.User;
 import com.linkurlshorter.urlshortener.user.model.UserRole;
 import com.linkurlshorter.urlshortener.user.request.ChangeUserEmailRequest;
@@ -11,22 +14,30 @@ import com.linkurlshorter.urlshortener.user.request.ChangeUserPasswordRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
+import redis.clients.jedis.exceptions.JedisConnectionException;
 
+import java.time.Instant;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -41,6 +52,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @AutoConfigureMockMvc
 @ExtendWith(MockitoExtension.class)
 class UserControllerTest {
+    private static final Instant ISSUED_AT = Instant.ofEpochSecond(1_700_000_000L);
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -54,7 +67,13 @@ class UserControllerTest {
     private JwtUtil jwtUtil;
 
     @MockBean
-    private CustomUserDetailsService customUserDetailsService;
+    private AuthService authService;
+
+    @MockBean
+    private EntityLookupContext entityLookupContext;
+
+    @MockBean
+    private PasswordEncoder passwordEncoder;
 
     private User user;
 
@@ -77,8 +96,11 @@ class UserControllerTest {
     @Test
     @WithMockUser
     void testChangePassword() throws Exception {
-        given(jwtUtil.getEmailFromToken(any(String.class))).willReturn(user.getEmail());
+        given(entityLookupContext.currentUser()).willReturn(user);
+        given(passwordEncoder.encode("newPassword1")).willReturn("hash");
+        given(authService.revokeAllTokens(user.getId())).willReturn(ISSUED_AT);
         given(userService.updateByEmailDynamically(any(User.class), any(String.class))).willReturn(1);
+        given(authService.issueReplacementTokens(any(), any())).willReturn(new AuthTokens("JWT", "refresh"));
 
         ChangeUserPasswordRequest request = new ChangeUserPasswordRequest("newPassword1");
 
@@ -87,7 +109,36 @@ class UserControllerTest {
                 .content(objectMapper.writeValueAsString(request)));
 
         resultActions.andExpect(status().isOk())
-                .andExpect(jsonPath("$.error").value("ok"));
+                .andExpect(jsonPath("$.error").value("ok"))
+                .andExpect(jsonPath("$.jwtToken").value("JWT"))
+                .andExpect(jsonPath("$.refreshToken").value("refresh"));
+        InOrder inOrder = inOrder(passwordEncoder, authService, userService);
+        inOrder.verify(passwordEncoder).encode("newPassword1");
+        inOrder.verify(authService).revokeAllTokens(user.getId());
+        inOrder.verify(userService).updateByEmailDynamically(
+                argThat(update -> "hash".equals(update.getPassword())), any(String.class));
+        inOrder.verify(authService).issueReplacementTokens(
+                new JwtPrincipal(user.getId(), user.getEmail(), UserRole.USER), ISSUED_AT);
+    }
+
+    /**
+     * Test case for the {@link UserController#changePassword(ChangeUserPasswordRequest)} method when hashing the new
+     * password is rejected.
+     */
+    @Test
+    @WithMockUser
+    void changePasswordHashingRejectedTest() throws Exception {
+        ChangeUserPasswordRequest request = new ChangeUserPasswordRequest("newPassword1");
+        given(entityLookupContext.currentUser()).willReturn(user);
+        given(passwordEncoder.encode("newPassword1")).willThrow(new PasswordHashingRejectedException());
+
+        ResultActions resultActions = mockMvc.perform(post("/api/V1/user/change-password")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+
+        resultActions.andExpect(status().isTooManyRequests());
+        verify(authService, never()).revokeAllTokens(any());
+        verify(userService, never()).updateByEmailDynamically(any(User.class), any(String.class));
     }
 
     /**
@@ -98,7 +149,7 @@ class UserControllerTest {
     @WithMockUser
     void changePasswordFailedTest() throws Exception {
         ChangeUserPasswordRequest request = new ChangeUserPasswordRequest("newPassword1");
-        given(jwtUtil.getEmailFromToken(any(String.class))).willReturn("failed@email.com");
+        given(entityLookupContext.currentUser()).willReturn(user);
         given(userService.updateByEmailDynamically(any(User.class), any(String.class))).willReturn(0);
 
         ResultActions resultActions = mockMvc.perform(post("/api/V1/user/change-password")
@@ -106,6 +157,25 @@ class UserControllerTest {
                 .content(objectMapper.writeValueAsString(request)));
 
         resultActions.andExpect(status().isNotFound());
+        verify(authService, never()).issueReplacementTokens(any(), any());
+    }
+
+    /**
+     * Test case for the {@link UserController#changePassword(ChangeUserPasswordRequest)} method when the tokens of
+     * the user cannot be revoked.
+     */
+    @Test
+    @WithMockUser
+    void changePasswordRevocationFailedTest() {
+        ChangeUserPasswordRequest request = new ChangeUserPasswordRequest("newPassword1");
+        given(entityLookupContext.currentUser()).willReturn(user);
+        given(authService.revokeAllTokens(user.getId())).willThrow(new JedisConnectionException("Redis is down"));
+
+        assertThatThrownBy(() -> mockMvc.perform(post("/api/V1/user/change-password")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request))))
+                .hasCauseInstanceOf(JedisConnectionException.class);
+        verify(userService, never()).updateByEmailDynamically(any(User.class), any(String.class));
     }
 
     /**
@@ -114,19 +184,23 @@ class UserControllerTest {
     @Test
     @WithMockUser
     void changeEmailTest() throws Exception {
-        given(jwtUtil.getEmailFromToken(any(String.class))).willReturn(user.getEmail());
+        given(entityLookupContext.currentUser()).willReturn(user);
+        given(authService.revokeAllTokens(user.getId())).willReturn(ISSUED_AT);
         given(userService.updateByEmailDynamically(any(User.class), anyString())).willReturn(1);
+        given(authService.issueReplacementTokens(any(), any())).willReturn(new AuthTokens("JWT", "refresh"));
 
         ChangeUserEmailRequest request = new ChangeUserEmailRequest("newEmail@example.com");
-        UserDetails userDetails = new SecurityUserDetails(user);
-        given(customUserDetailsService.loadUserByUsername(anyString())).willReturn(userDetails);
 
         ResultActions resultActions = mockMvc.perform(post("/api/V1/user/change-email")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)));
 
         resultActions.andExpect(status().isOk())
-                .andExpect(jsonPath("$.error").value("ok"));
+                .andExpect(jsonPath("$.error").value("ok"))
+                .andExpect(jsonPath("$.jwtToken").value("JWT"))
+                .andExpect(jsonPath("$.refreshToken").value("refresh"));
+        verify(authService).issueReplacementTokens(
+                new JwtPrincipal(user.getId(), "newEmail@example.com", UserRole.USER), ISSUED_AT);
     }
 
     /**
@@ -136,17 +210,16 @@ class UserControllerTest {
     @Test
     @WithMockUser
     void changeEmailFailedTest() throws Exception {
-        given(jwtUtil.getEmailFromToken(any(String.class))).willReturn("nonExistent@email.com");
+        given(entityLookupContext.currentUser()).willReturn(user);
         given(userService.updateByEmailDynamically(any(User.class), anyString())).willReturn(0);
 
         ChangeUserEmailRequest request = new ChangeUserEmailRequest("failed@email.com");
-        UserDetails userDetails = new SecurityUserDetails(user);
-        given(customUserDetailsService.loadUserByUsername(anyString())).willReturn(userDetails);
 
         mockMvc.perform(post("/api/V1/user/change-email")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isNotFound());
+        verify(authService, never()).issueReplacementTokens(any(), any());
     }
 
 
@@ -169,5 +242,6 @@ class UserControllerTest {
 
         // Assert
         resultActions.andExpect(status().isBadRequest());
+        verify(authService, never()).revokeAllTokens(any());
     }
 }
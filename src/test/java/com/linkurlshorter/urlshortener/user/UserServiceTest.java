@@ -152,6 +152,25 @@ class UserServiceTest {
                 .isInstanceOf(NoUserFoundByIdException.class);
     }
 
+    /**
+     * Test case for the {@link UserService#getReferenceById(UUID)} method.
+     */
+    @Test
+    void getReferenceByIdTest() {
+        when(userRepository.getReferenceById(user.getId())).thenReturn(user);
+
+        assertThat(userService.getReferenceById(user.getId())).isSameAs(user);
+    }
+
+    /**
+     * Test case for the {@link UserService#getReferenceById(UUID)} method when the id is null.
+     */
+    @Test
+    void getReferenceByIdNullTest() {
+        assertThatThrownBy(() -> userService.getReferenceById(null))
+                .isInstanceOf(NullUserPropertyException.class);
+    }
+
     /**
      * Test case for the {@link UserService#findByEmail(String)} method.
      */
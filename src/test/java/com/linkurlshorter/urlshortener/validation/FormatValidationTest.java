@@ -0,0 +1,130 @@
+package com.linkurlshorter.urlshortener.validation;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link FormatValidation} class.
+ *
+ * <p>The properties check that every scanner accepts exactly the strings the regular expression it replaces
+ * matches, for arbitrary strings and for strings built from the parts of the format.
+ */
+class FormatValidationTest {
+    private static final Pattern EMAIL =
+            Pattern.compile("^[A-Za-z0-9]+[._+-]?[A-Za-z0-9]+@[A-Za-z0-9]+[._-]?[A-Za-z0-9]+\\.[A-Za-z]{2,}$");
+    private static final Pattern PASSWORD = Pattern.compile("^(?=.*\\d)(?=.*[a-z])(?=.*[A-Z])[^ ]{8,64}$");
+    private static final Pattern LONG_URL = Pattern.compile("https?://[\\w.-]+\\.(?:[a-zA-Z]{2,4})(?:/.*)?");
+    private static final Pattern SHORT_CODE = Pattern.compile("^[a-zA-Z0-9]+$");
+    private static final String LINE_TERMINATORS = "\n\r\u0085\u2028\u2029";
+
+    /**
+     * Property of the {@link FormatValidation#isValidEmail(String)} method.
+     */
+    @Property(tries = 10_000)
+    void isValidEmailProperty(@ForAll("emails") String email) {
+        assertThat(FormatValidation.isValidEmail(email)).isEqualTo(EMAIL.matcher(email).matches());
+    }
+
+    /**
+     * Property of the {@link FormatValidation#isValidPassword(String)} method.
+     */
+    @Property(tries = 10_000)
+    void isValidPasswordProperty(@ForAll("passwords") String password) {
+        assertThat(FormatValidation.isValidPassword(password)).isEqualTo(PASSWORD.matcher(password).matches());
+    }
+
+    /**
+     * Property of the {@link FormatValidation#isValidLongUrl(String)} method.
+     */
+    @Property(tries = 10_000)
+    void isValidLongUrlProperty(@ForAll("longUrls") String url) {
+        assertThat(FormatValidation.isValidLongUrl(url)).isEqualTo(LONG_URL.matcher(url).matches());
+    }
+
+    /**
+     * Property of the {@link FormatValidation#isValidShortCode(String)} method.
+     */
+    @Property(tries = 10_000)
+    void isValidShortCodeProperty(@ForAll("shortCodes") String shortCode) {
+        assertThat(FormatValidation.isValidShortCode(shortCode)).isEqualTo(SHORT_CODE.matcher(shortCode).matches());
+    }
+
+    /**
+     * Test case for the scanners with typical values of the create and register requests.
+     */
+    @Example
+    void typicalValuesTest() {
+        assertThat(FormatValidation.isValidEmail("john.doe@example.com")).isTrue();
+        assertThat(FormatValidation.isValidEmail("john..doe@example.com")).isFalse();
+        assertThat(FormatValidation.isValidPassword("Password1")).isTrue();
+        assertThat(FormatValidation.isValidPassword("Pass word1")).isFalse();
+        assertThat(FormatValidation.isValidLongUrl("https://www.example.com/path?query=1")).isTrue();
+        assertThat(FormatValidation.isValidLongUrl("ftp://www.example.com")).isFalse();
+        assertThat(FormatValidation.isValidShortCode("qK8fW2xZ")).isTrue();
+        assertThat(FormatValidation.isValidShortCode("qK8f-W2xZ")).isFalse();
+    }
+
+    /**
+     * Test case for the scanners with null values.
+     */
+    @Example
+    void nullValuesTest() {
+        assertThat(FormatValidation.isValidEmail(null)).isFalse();
+        assertThat(FormatValidation.isValidPassword(null)).isFalse();
+        assertThat(FormatValidation.isValidLongUrl(null)).isFalse();
+        assertThat(FormatValidation.isValidShortCode(null)).isFalse();
+    }
+
+    @Provide
+    Arbitrary<String> emails() {
+        Arbitrary<String> word = Arbitraries.strings().withChars("aZ9").ofMaxLength(4);
+        Arbitrary<String> separator = Arbitraries.strings().withChars("._+-@").ofMaxLength(1);
+        Arbitrary<String> topLevelDomain = Arbitraries.strings().withChars("comZ9._" + LINE_TERMINATORS)
+                .ofMaxLength(5);
+        Arbitrary<String> structured = concat(word, separator, word, Arbitraries.of("@", "", "@@"), word, separator,
+                word, Arbitraries.of(".", "", ".."), topLevelDomain);
+        return Arbitraries.oneOf(structured, Arbitraries.strings().withChars("aZ9._+-@ ").ofMaxLength(20),
+                Arbitraries.strings().all().ofMaxLength(20));
+    }
+
+    @Provide
+    Arbitrary<String> passwords() {
+        Arbitrary<String> head = Arbitraries.strings().withChars("aB1# " + LINE_TERMINATORS).ofMaxLength(10);
+        Arbitrary<String> tail = Arbitraries.strings().withChars("xyzXYZ0\uD83D\uDE00").ofMaxLength(70);
+        return Arbitraries.oneOf(concat(head, tail),
+                Arbitraries.strings().withChars("aB1 x#" + LINE_TERMINATORS).ofMaxLength(70),
+                Arbitraries.strings().all().ofMaxLength(70));
+    }
+
+    @Provide
+    Arbitrary<String> longUrls() {
+        Arbitrary<String> host = Arbitraries.strings().withChars("a_.-9Z").ofMaxLength(8);
+        Arbitrary<String> topLevelDomain = Arbitraries.strings().withChars("comX9").ofMaxLength(6);
+        Arbitrary<String> path = Arbitraries.strings().withChars("/q.?=\u00E9" + LINE_TERMINATORS).ofMaxLength(8);
+        Arbitrary<String> structured = concat(Arbitraries.of("http://", "https://", "HTTP://", "https:/", ""), host,
+                Arbitraries.of(".", "", ".."), topLevelDomain, path);
+        return Arbitraries.oneOf(structured, Arbitraries.strings().withChars("htps:/a.-_9Z\n").ofMaxLength(30),
+                Arbitraries.strings().all().ofMaxLength(30));
+    }
+
+    @Provide
+    Arbitrary<String> shortCodes() {
+        return Arbitraries.oneOf(Arbitraries.strings().withChars("aZ9_-\n\u00E9").ofMaxLength(10),
+                Arbitraries.strings().all().ofMaxLength(10));
+    }
+
+    @SafeVarargs
+    private static Arbitrary<String> concat(Arbitrary<String>... parts) {
+        return Combinators.combine(List.of(parts)).as(strings -> String.join("", strings));
+    }
+}